@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent;
+
+import com.github.maximevw.autolog.agent.advice.AgentMatchers;
+import com.github.maximevw.autolog.agent.advice.MethodInOutAdvice;
+import com.github.maximevw.autolog.agent.advice.MethodInputAdvice;
+import com.github.maximevw.autolog.agent.advice.MethodOutputAdvice;
+import com.github.maximevw.autolog.agent.advice.MethodPerformanceAdvice;
+import com.github.maximevw.autolog.agent.configuration.AgentLoggerManager;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import net.bytebuddy.asm.Advice;
+import org.apiguardian.api.API;
+
+import java.lang.instrument.Instrumentation;
+
+/**
+ * Java agent automatically logging the methods annotated with Autolog annotations (or included in classes annotated
+ * with such annotations), as an alternative to the aspects of the module {@code autolog-aspectj}.
+ * <p>
+ *     The agent rewrites the bytecode of the annotated methods when their classes are loaded: the calls to
+ *     {@link com.github.maximevw.autolog.core.logger.MethodCallLogger} and
+ *     {@link com.github.maximevw.autolog.core.logger.MethodPerformanceLogger} are inlined at the beginning and the end
+ *     of the methods, so there is no join point nor closure allocated at each invocation. The arguments are only
+ *     copied into an array (and the primitive ones boxed) when the input data of the invocation are effectively
+ *     logged: not for the methods disabled in {@link com.github.maximevw.autolog.core.logger.LoggingKillSwitch}, the
+ *     invocations not sampled or when the log level is disabled in all the registered loggers.
+ * </p>
+ * <p>
+ *     To use it, start the application with the JVM argument {@code -javaagent:/path/to/autolog-agent.jar} (the
+ *     module {@code autolog-core} and its dependencies must be available in the class path of the application). The
+ *     instance of {@link com.github.maximevw.autolog.core.logger.LoggerManager} used by the instrumented methods is
+ *     defined with {@link AgentLoggerManager#init(com.github.maximevw.autolog.core.logger.LoggerManager)}.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class AutologAgent {
+
+	private AutologAgent() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Entry point of the agent when it is specified on the command line (JVM argument {@code -javaagent}).
+	 *
+	 * @param arguments			The agent arguments (not used).
+	 * @param instrumentation	The instrumentation provided by the JVM.
+	 */
+	public static void premain(final String arguments, final Instrumentation instrumentation) {
+		install(instrumentation);
+	}
+
+	/**
+	 * Entry point of the agent when it is attached to a running JVM.
+	 *
+	 * @param arguments			The agent arguments (not used).
+	 * @param instrumentation	The instrumentation provided by the JVM.
+	 */
+	public static void agentmain(final String arguments, final Instrumentation instrumentation) {
+		install(instrumentation);
+	}
+
+	/**
+	 * Installs the Autolog instrumentation: the classes loaded from now are instrumented and the already loaded ones
+	 * are retransformed.
+	 *
+	 * @param instrumentation The instrumentation provided by the JVM.
+	 * @return The installed class file transformer, which can be used to remove the instrumentation.
+	 */
+	public static ResettableClassFileTransformer install(final Instrumentation instrumentation) {
+		return new AgentBuilder.Default()
+			.disableClassFormatChanges()
+			.with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+			.type(AgentMatchers.isInstrumentedType())
+			.transform((builder, typeDescription, classLoader, module) -> builder
+				.visit(Advice.to(MethodInOutAdvice.class).on(AgentMatchers.isInOutLogged()))
+				.visit(Advice.to(MethodInputAdvice.class).on(AgentMatchers.isInputLogged()))
+				.visit(Advice.to(MethodOutputAdvice.class).on(AgentMatchers.isOutputLogged()))
+				.visit(Advice.to(MethodPerformanceAdvice.class).on(AgentMatchers.isPerformanceLogged())))
+			.installOn(instrumentation);
+	}
+}
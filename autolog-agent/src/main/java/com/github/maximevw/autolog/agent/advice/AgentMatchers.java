@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import net.bytebuddy.description.annotation.AnnotationSource;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Annotation;
+
+import static net.bytebuddy.matcher.ElementMatchers.declaresMethod;
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.isBridge;
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.isInterface;
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.isNative;
+import static net.bytebuddy.matcher.ElementMatchers.isSynthetic;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+/**
+ * Matchers selecting the types and methods instrumented by the Autolog Java agent.
+ * <p>
+ *     The methods are selected according to the same rules as the Autolog aspects (see
+ *     {@link InstrumentedMethod}).
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class AgentMatchers {
+
+	private AgentMatchers() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Matches the classes annotated with an Autolog annotation or declaring methods annotated with such annotations.
+	 *
+	 * @return The matcher of the types to instrument.
+	 */
+	public static ElementMatcher.Junction<TypeDescription> isInstrumentedType() {
+		return not(isInterface()).and(not(isSynthetic()))
+			.and(isAnnotatedWithAutologAnnotation().or(declaresMethod(isAnnotatedWithAutologAnnotation())));
+	}
+
+	/**
+	 * Matches the methods for which the input and output data are logged according to the annotation
+	 * {@link AutoLogMethodInOut}.
+	 *
+	 * @return The matcher of the methods for which the input and output data are logged with
+	 * 		   {@link AutoLogMethodInOut}.
+	 */
+	public static ElementMatcher.Junction<MethodDescription> isInOutLogged() {
+		return isInstrumentableMethod()
+			.and(isAnnotatedWith(AutoLogMethodInOut.class)
+				.or(isDeclaredByClassAnnotatedWith(AutoLogMethodInOut.class)
+					.and(not(isAnnotatedWith(AutoLogMethodInput.class)))
+					.and(not(isAnnotatedWith(AutoLogMethodOutput.class)))));
+	}
+
+	/**
+	 * Matches the methods for which the input data are logged, except the ones matched by {@link #isInOutLogged()}.
+	 *
+	 * @return The matcher of the methods for which the input data are logged, but not with
+	 * 		   {@link AutoLogMethodInOut}.
+	 */
+	public static ElementMatcher.Junction<MethodDescription> isInputLogged() {
+		return isInstrumentableMethod()
+			.and(not(isInOutLogged()))
+			.and(isAnnotatedWith(AutoLogMethodInput.class)
+				.or(isDeclaredByClassAnnotatedWith(AutoLogMethodInOut.class)
+					.and(not(isAnnotatedWith(AutoLogMethodOutput.class))))
+				.or(isDeclaredByClassAnnotatedWith(AutoLogMethodInput.class)));
+	}
+
+	/**
+	 * Matches the methods for which the output data are logged, except the ones matched by {@link #isInOutLogged()}.
+	 *
+	 * @return The matcher of the methods for which the output data are logged, but not with
+	 * 		   {@link AutoLogMethodInOut}.
+	 */
+	public static ElementMatcher.Junction<MethodDescription> isOutputLogged() {
+		return isInstrumentableMethod()
+			.and(not(isInOutLogged()))
+			.and(isAnnotatedWith(AutoLogMethodOutput.class)
+				.or(isDeclaredByClassAnnotatedWith(AutoLogMethodInOut.class)
+					.and(not(isAnnotatedWith(AutoLogMethodInput.class))))
+				.or(isDeclaredByClassAnnotatedWith(AutoLogMethodOutput.class)));
+	}
+
+	/**
+	 * Matches the methods for which the performance is monitored.
+	 *
+	 * @return The matcher of the methods for which the performance is monitored.
+	 */
+	public static ElementMatcher.Junction<MethodDescription> isPerformanceLogged() {
+		return isInstrumentableMethod()
+			.and(isAnnotatedWith(AutoLogPerformance.class)
+				.or(isDeclaredByClassAnnotatedWith(AutoLogPerformance.class)));
+	}
+
+	private static <T extends AnnotationSource> ElementMatcher.Junction<T> isAnnotatedWithAutologAnnotation() {
+		return isAnnotatedWith(AutoLogMethodInOut.class)
+			.or(isAnnotatedWith(AutoLogMethodInput.class))
+			.or(isAnnotatedWith(AutoLogMethodOutput.class))
+			.or(isAnnotatedWith(AutoLogPerformance.class));
+	}
+
+	private static ElementMatcher.Junction<MethodDescription> isInstrumentableMethod() {
+		return isMethod().and(not(isAbstract())).and(not(isNative())).and(not(isSynthetic())).and(not(isBridge()));
+	}
+
+	private static ElementMatcher.Junction<MethodDescription> isDeclaredByClassAnnotatedWith(
+		final Class<? extends Annotation> annotationType) {
+		return isDeclaredBy(isAnnotatedWith(annotationType));
+	}
+}
@@ -0,0 +1,320 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import com.github.maximevw.autolog.agent.configuration.AgentLoggerManager;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodPerformanceLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
+import com.github.maximevw.autolog.core.logger.LoggingUtils;
+import com.github.maximevw.autolog.core.logger.MethodCallLogger;
+import com.github.maximevw.autolog.core.logger.MethodPerformanceLogEntry;
+import com.github.maximevw.autolog.core.logger.performance.AdditionalDataProvider;
+import com.github.maximevw.autolog.core.logger.performance.PerformanceTimer;
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * Entry points called by the code inlined by the Autolog Java agent in the instrumented methods.
+ * <p>
+ *     The inlined code only passes constants (the declaring class of the method and its signature) to identify the
+ *     executed method: the description of the instrumented methods of a class, including their logging
+ *     configurations, is built on the first call of one of them and cached per class (using a {@link ClassValue}), so
+ *     it does not prevent the classes from being unloaded.
+ * </p>
+ * <p>
+ *     The logging of a method disabled at runtime with {@link LoggingKillSwitch} is skipped before processing its
+ *     arguments, output or performance timer.
+ * </p>
+ * <p>
+ *     The sampling decision of an invocation (see {@link InvocationSampler}) is taken when entering the method, so the
+ *     invocations not sampled skip the processing of their arguments, output or performance timer too.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class AgentMethodDispatcher {
+
+	private static final LoggingKillSwitch KILL_SWITCH = LoggingKillSwitch.getInstance();
+
+	private static final ClassValue<Map<String, InstrumentedMethod>> INSTRUMENTED_METHODS = new ClassValue<>() {
+		@Override
+		protected Map<String, InstrumentedMethod> computeValue(final Class<?> type) {
+			return InstrumentedMethod.describeAll(type);
+		}
+	};
+
+	private AgentMethodDispatcher() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Decides whether the input data of an instrumented method must be logged, before retrieving its arguments: the
+	 * input data are not logged if the method is disabled in {@link LoggingKillSwitch} or if the log event would be
+	 * discarded by all the registered loggers.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @return {@code true} if the input data of the method must be logged, {@code false} otherwise.
+	 */
+	public static boolean isInputLogged(final Class<?> type, final String signature) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		return instrumentedMethod != null && instrumentedMethod.getInputConfiguration() != null
+			&& !KILL_SWITCH.isDisabled(instrumentedMethod.getMethod(), instrumentedMethod.getInputAnnotationType())
+			&& AgentLoggerManager.getInstance().getMethodCallLogger()
+				.isInputLogged(instrumentedMethod.getInputConfiguration(), instrumentedMethod.getMethod());
+	}
+
+	/**
+	 * Logs the input data of an instrumented method.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @param arguments	The arguments of the invoked method.
+	 */
+	public static void logInput(final Class<?> type, final String signature, final Object[] arguments) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod != null && instrumentedMethod.getInputConfiguration() != null
+			&& !KILL_SWITCH.isDisabled(instrumentedMethod.getMethod(), instrumentedMethod.getInputAnnotationType())) {
+			AgentLoggerManager.getInstance().getMethodCallLogger()
+				.logMethodInput(instrumentedMethod.getInputConfiguration(), instrumentedMethod.getMethod(), arguments);
+		}
+	}
+
+	/**
+	 * Decides whether the invocation of an instrumented method annotated with
+	 * {@link com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut} must be logged, before retrieving its
+	 * arguments.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @return The sampling weight of the invocation to pass to
+	 * 		   {@link #logSampledInput(Class, String, Object[], double)} and
+	 * 		   {@link #logSampledOutput(Class, String, Object, Throwable, double)}:
+	 * 		   {@link InvocationSampler#NOT_SAMPLED} if the invocation must not be logged.
+	 */
+	public static double sampleInvocation(final Class<?> type, final String signature) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod == null || instrumentedMethod.getInputConfiguration() == null
+			|| KILL_SWITCH.isDisabled(instrumentedMethod.getMethod(), instrumentedMethod.getInputAnnotationType())) {
+			return InvocationSampler.NOT_SAMPLED;
+		}
+		return instrumentedMethod.getInOutSampler().sample();
+	}
+
+	/**
+	 * Logs the input data of a sampled invocation of an instrumented method annotated with
+	 * {@link com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut}.
+	 *
+	 * @param type				The declaring class of the invoked method.
+	 * @param signature			The signature of the invoked method (name followed by the descriptor).
+	 * @param arguments			The arguments of the invoked method.
+	 * @param samplingWeight	The sampling weight returned by {@link #sampleInvocation(Class, String)}.
+	 */
+	public static void logSampledInput(final Class<?> type, final String signature, final Object[] arguments,
+									   final double samplingWeight) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod == null || instrumentedMethod.getInputConfiguration() == null) {
+			return;
+		}
+		AgentLoggerManager.getInstance().getMethodCallLogger()
+			.logMethodInput(instrumentedMethod.getInputConfiguration(), instrumentedMethod.getMethod(), arguments,
+				toLoggedSamplingWeight(instrumentedMethod, samplingWeight));
+	}
+
+	/**
+	 * Logs the output data or the thrown exception of an instrumented method annotated with
+	 * {@link com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut}, unless its invocation is not sampled.
+	 *
+	 * @param type				The declaring class of the invoked method.
+	 * @param signature			The signature of the invoked method (name followed by the descriptor).
+	 * @param output			The value returned by the invoked method ({@code null} if the method returns
+	 *                          {@code void} or throws an exception).
+	 * @param throwable			The exception thrown by the invoked method or {@code null} if it ends normally.
+	 * @param samplingWeight	The sampling weight returned by {@link #sampleInvocation(Class, String)}.
+	 */
+	public static void logSampledOutput(final Class<?> type, final String signature, final Object output,
+										final Throwable throwable, final double samplingWeight) {
+		if (samplingWeight == InvocationSampler.NOT_SAMPLED) {
+			return;
+		}
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod != null) {
+			logOutput(instrumentedMethod, output, throwable,
+				toLoggedSamplingWeight(instrumentedMethod, samplingWeight));
+		}
+	}
+
+	/**
+	 * Gets the sampling weight of an invocation as written in the log events.
+	 *
+	 * @param instrumentedMethod	The invoked method.
+	 * @param samplingWeight		The sampling weight returned by {@link #sampleInvocation(Class, String)}.
+	 * @return The sampling weight of the invocation or {@code null} if the invocations of the method are not sampled.
+	 */
+	private static Double toLoggedSamplingWeight(final InstrumentedMethod instrumentedMethod,
+												 final double samplingWeight) {
+		if (instrumentedMethod.getInOutSampler() == InvocationSampler.ALWAYS) {
+			return null;
+		}
+		return samplingWeight;
+	}
+
+	/**
+	 * Logs the output data or the thrown exception of an instrumented method.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @param output	The value returned by the invoked method ({@code null} if the method returns {@code void} or
+	 *                  throws an exception).
+	 * @param throwable	The exception thrown by the invoked method or {@code null} if it ends normally.
+	 */
+	public static void logOutput(final Class<?> type, final String signature, final Object output,
+								 final Throwable throwable) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod != null) {
+			logOutput(instrumentedMethod, output, throwable, null);
+		}
+	}
+
+	/**
+	 * Logs the output data or the thrown exception of an instrumented method.
+	 *
+	 * @param instrumentedMethod	The invoked method.
+	 * @param output				The value returned by the invoked method.
+	 * @param throwable				The exception thrown by the invoked method or {@code null} if it ends normally.
+	 * @param samplingWeight		The sampling weight of the invocation or {@code null} if it is not sampled.
+	 */
+	private static void logOutput(final InstrumentedMethod instrumentedMethod, final Object output,
+								  final Throwable throwable, final Double samplingWeight) {
+		if (instrumentedMethod.getOutputConfiguration() == null
+			|| KILL_SWITCH.isDisabled(instrumentedMethod.getMethod(), instrumentedMethod.getOutputAnnotationType())) {
+			return;
+		}
+
+		final MethodOutputLoggingConfiguration configuration = instrumentedMethod.getOutputConfiguration();
+		final MethodCallLogger methodCallLogger = AgentLoggerManager.getInstance().getMethodCallLogger();
+		if (throwable == null) {
+			methodCallLogger.logMethodOutput(configuration, instrumentedMethod.getMethod(), output, samplingWeight);
+		} else if (configuration.isThrowableLogged()) {
+			methodCallLogger.logThrowable(configuration, instrumentedMethod.getMethod(), throwable, samplingWeight);
+		}
+	}
+
+	/**
+	 * Starts the performance timer of an instrumented method.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @return The running performance timer or {@code null} if the performance of the method is not monitored or if
+	 * 		   the invocation is not sampled.
+	 */
+	public static PerformanceTimer startTimer(final Class<?> type, final String signature) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (instrumentedMethod == null || instrumentedMethod.getPerformanceConfiguration() == null
+			|| KILL_SWITCH.isDisabled(instrumentedMethod.getMethod(), AutoLogPerformance.class)) {
+			return null;
+		}
+
+		final InvocationSampler sampler = instrumentedMethod.getPerformanceSampler();
+		Double samplingWeight = null;
+		if (sampler != InvocationSampler.ALWAYS) {
+			samplingWeight = sampler.sample();
+			if (samplingWeight == InvocationSampler.NOT_SAMPLED) {
+				return null;
+			}
+		}
+		final PerformanceTimer performanceTimer = AgentLoggerManager.getInstance().getMethodPerformanceLogger()
+			.start(instrumentedMethod.getPerformanceConfiguration(), instrumentedMethod.getMethod());
+		performanceTimer.getPerformanceLogEntry().setSamplingWeight(samplingWeight);
+		return performanceTimer;
+	}
+
+	/**
+	 * Stops the performance timer of an instrumented method and logs the performance information.
+	 *
+	 * @param type				The declaring class of the invoked method.
+	 * @param signature			The signature of the invoked method (name followed by the descriptor).
+	 * @param target			The instance on which the method is invoked ({@code null} for a static method).
+	 * @param performanceTimer	The performance timer started for the invocation (can be {@code null}).
+	 * @param throwable			The exception thrown by the invoked method or {@code null} if it ends normally.
+	 */
+	public static void stopTimer(final Class<?> type, final String signature, final Object target,
+								 final PerformanceTimer performanceTimer, final Throwable throwable) {
+		final InstrumentedMethod instrumentedMethod = INSTRUMENTED_METHODS.get(type).get(signature);
+		if (performanceTimer == null || instrumentedMethod == null
+			|| instrumentedMethod.getPerformanceConfiguration() == null) {
+			return;
+		}
+
+		final MethodPerformanceLoggingConfiguration configuration = instrumentedMethod.getPerformanceConfiguration();
+		if (throwable != null) {
+			performanceTimer.getPerformanceLogEntry().setFailed(true);
+		}
+		// Update data of the performance timer if the method set some additional data during its execution.
+		if (instrumentedMethod.getAdditionalDataProvider() != null) {
+			performanceTimer.setPerformanceLogEntry(retrieveAdditionalData(instrumentedMethod, target,
+				performanceTimer.getPerformanceLogEntry()));
+		}
+		// Stop the performance timer for the method and log performance.
+		AgentLoggerManager.getInstance().getMethodPerformanceLogger().stopAndLog(configuration, performanceTimer);
+	}
+
+	/**
+	 * Retrieves additional data related to the execution of the monitored method from the
+	 * {@link AdditionalDataProvider} defined in its performance logging configuration and enriches an existing
+	 * {@link MethodPerformanceLogEntry} with them.
+	 *
+	 * @param instrumentedMethod	The monitored method.
+	 * @param target				The instance on which the method is invoked ({@code null} for a static method).
+	 * @param performanceLogEntry	The performance log entry to enrich with additional data.
+	 * @return The performance log entry enriched with the additional data related to the execution of the monitored
+	 * 		   method.
+	 */
+	private static MethodPerformanceLogEntry retrieveAdditionalData(final InstrumentedMethod instrumentedMethod,
+																	final Object target,
+																	final MethodPerformanceLogEntry
+																		performanceLogEntry) {
+		final MethodPerformanceLogEntry enrichedPerformanceLogEntry = performanceLogEntry.toBuilder().build();
+		final Field additionalDataProviderField = instrumentedMethod.getAdditionalDataProvider();
+
+		try {
+			// Retrieve the additional data from the given provider and enrich the current log entry.
+			final AdditionalDataProvider additionalDataProvider =
+				(AdditionalDataProvider) additionalDataProviderField.get(target);
+			if (additionalDataProvider != null) {
+				enrichedPerformanceLogEntry.addComments(additionalDataProvider.getComments().toArray(new String[0]));
+				enrichedPerformanceLogEntry.setProcessedItems(additionalDataProvider.getProcessedItems());
+			}
+		} catch (final IllegalAccessException | IllegalArgumentException e) {
+			LoggingUtils.report(
+				String.format("Unable to retrieve additional data through provider %s for method %s: %s.",
+					additionalDataProviderField.getName(), instrumentedMethod.getMethod().getName(), e.getMessage()),
+				LogLevel.WARN);
+		}
+
+		return enrichedPerformanceLogEntry;
+	}
+}
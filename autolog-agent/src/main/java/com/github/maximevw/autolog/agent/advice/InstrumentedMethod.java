@@ -0,0 +1,308 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodPerformanceLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggingUtils;
+import com.github.maximevw.autolog.core.logger.performance.AdditionalDataProvider;
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
+import net.bytebuddy.description.method.MethodDescription;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable description of a method instrumented by the Autolog Java agent, gathering the logging configurations
+ * built from the Autolog annotations applied to the method and its declaring class.
+ * <p>
+ *     The configurations are resolved according to the same rules as the Autolog aspects: an annotation on the method
+ *     takes precedence over the same annotation on the class, and the annotation {@link AutoLogMethodInOut} on the
+ *     class only applies to the methods which are not annotated with {@link AutoLogMethodInput} or
+ *     {@link AutoLogMethodOutput}. These rules are also implemented by {@link AgentMatchers} to select the methods to
+ *     instrument.
+ * </p>
+ */
+final class InstrumentedMethod {
+
+	private final Method method;
+	private final MethodInputLoggingConfiguration inputConfiguration;
+	private final Class<? extends Annotation> inputAnnotationType;
+	private final MethodOutputLoggingConfiguration outputConfiguration;
+	private final Class<? extends Annotation> outputAnnotationType;
+	private final InvocationSampler inOutSampler;
+	private final MethodPerformanceLoggingConfiguration performanceConfiguration;
+	private final InvocationSampler performanceSampler;
+	private final Field additionalDataProvider;
+
+	/**
+	 * Builds the description of the given method.
+	 *
+	 * @param method The instrumented method.
+	 */
+	private InstrumentedMethod(final Method method) {
+		this.method = method;
+
+		final Annotation inputAnnotation = resolveInputAnnotation(method);
+		if (inputAnnotation instanceof AutoLogMethodInOut) {
+			this.inputConfiguration = MethodInputLoggingConfiguration.from((AutoLogMethodInOut) inputAnnotation);
+		} else if (inputAnnotation instanceof AutoLogMethodInput) {
+			this.inputConfiguration = MethodInputLoggingConfiguration.from((AutoLogMethodInput) inputAnnotation);
+		} else {
+			this.inputConfiguration = null;
+		}
+		this.inputAnnotationType = annotationType(inputAnnotation);
+
+		final Annotation outputAnnotation = resolveOutputAnnotation(method);
+		// The input and output logging configurations built from the same AutoLogMethodInOut share the same rate
+		// limit.
+		if (outputAnnotation == inputAnnotation && this.inputConfiguration != null) {
+			this.outputConfiguration = MethodOutputLoggingConfiguration.from((AutoLogMethodInOut) outputAnnotation,
+				this.inputConfiguration);
+		} else if (outputAnnotation instanceof AutoLogMethodInOut) {
+			this.outputConfiguration = MethodOutputLoggingConfiguration.from((AutoLogMethodInOut) outputAnnotation);
+		} else if (outputAnnotation instanceof AutoLogMethodOutput) {
+			this.outputConfiguration = MethodOutputLoggingConfiguration.from((AutoLogMethodOutput) outputAnnotation);
+		} else {
+			this.outputConfiguration = null;
+		}
+		this.outputAnnotationType = annotationType(outputAnnotation);
+		// The input and output logging configurations built from AutoLogMethodInOut share the same sampling.
+		if (this.inputConfiguration != null && inputAnnotation instanceof AutoLogMethodInOut) {
+			this.inOutSampler = InvocationSampler.of(this.inputConfiguration.getSampling());
+		} else {
+			this.inOutSampler = InvocationSampler.ALWAYS;
+		}
+
+		AutoLogPerformance performance = method.getAnnotation(AutoLogPerformance.class);
+		if (performance == null) {
+			performance = method.getDeclaringClass().getAnnotation(AutoLogPerformance.class);
+		}
+		if (performance != null) {
+			this.performanceConfiguration = MethodPerformanceLoggingConfiguration.from(performance);
+			this.performanceSampler = InvocationSampler.of(this.performanceConfiguration.getSampling());
+			this.additionalDataProvider =
+				findAdditionalDataProvider(method, this.performanceConfiguration.getAdditionalDataProvider());
+		} else {
+			this.performanceConfiguration = null;
+			this.performanceSampler = InvocationSampler.ALWAYS;
+			this.additionalDataProvider = null;
+		}
+	}
+
+	/**
+	 * Resolves the annotation defining the input logging configuration of the given method.
+	 *
+	 * @param method The instrumented method.
+	 * @return The annotation {@link AutoLogMethodInOut} or {@link AutoLogMethodInput} applying to the method or
+	 * 		   {@code null} if its input data are not logged.
+	 */
+	private static Annotation resolveInputAnnotation(final Method method) {
+		final Class<?> declaringClass = method.getDeclaringClass();
+		if (method.isAnnotationPresent(AutoLogMethodInOut.class)) {
+			return method.getAnnotation(AutoLogMethodInOut.class);
+		} else if (method.isAnnotationPresent(AutoLogMethodInput.class)) {
+			return method.getAnnotation(AutoLogMethodInput.class);
+		} else if (declaringClass.isAnnotationPresent(AutoLogMethodInOut.class)
+			&& !method.isAnnotationPresent(AutoLogMethodOutput.class)) {
+			return declaringClass.getAnnotation(AutoLogMethodInOut.class);
+		}
+		return declaringClass.getAnnotation(AutoLogMethodInput.class);
+	}
+
+	/**
+	 * Resolves the annotation defining the output logging configuration of the given method.
+	 *
+	 * @param method The instrumented method.
+	 * @return The annotation {@link AutoLogMethodInOut} or {@link AutoLogMethodOutput} applying to the method or
+	 * 		   {@code null} if its output data are not logged.
+	 */
+	private static Annotation resolveOutputAnnotation(final Method method) {
+		final Class<?> declaringClass = method.getDeclaringClass();
+		if (method.isAnnotationPresent(AutoLogMethodInOut.class)) {
+			return method.getAnnotation(AutoLogMethodInOut.class);
+		} else if (method.isAnnotationPresent(AutoLogMethodOutput.class)) {
+			return method.getAnnotation(AutoLogMethodOutput.class);
+		} else if (declaringClass.isAnnotationPresent(AutoLogMethodInOut.class)
+			&& !method.isAnnotationPresent(AutoLogMethodInput.class)) {
+			return declaringClass.getAnnotation(AutoLogMethodInOut.class);
+		}
+		return declaringClass.getAnnotation(AutoLogMethodOutput.class);
+	}
+
+	private static Class<? extends Annotation> annotationType(final Annotation annotation) {
+		if (annotation == null) {
+			return null;
+		}
+		return annotation.annotationType();
+	}
+
+	/**
+	 * Describes the methods declared in the given class having at least one logging configuration.
+	 *
+	 * @param type The class declaring the instrumented methods.
+	 * @return The descriptions of the instrumented methods indexed by their signatures, i.e. the name of the method
+	 * 		   followed by its descriptor (for example {@code myMethod(Ljava/lang/String;)V}).
+	 */
+	static Map<String, InstrumentedMethod> describeAll(final Class<?> type) {
+		final Map<String, InstrumentedMethod> instrumentedMethods = new HashMap<>();
+		for (final Method declaredMethod : type.getDeclaredMethods()) {
+			if (declaredMethod.isSynthetic() || declaredMethod.isBridge()) {
+				continue;
+			}
+			final InstrumentedMethod instrumentedMethod = new InstrumentedMethod(declaredMethod);
+			if (instrumentedMethod.inputConfiguration != null || instrumentedMethod.outputConfiguration != null
+				|| instrumentedMethod.performanceConfiguration != null) {
+				final MethodDescription methodDescription = new MethodDescription.ForLoadedMethod(declaredMethod);
+				instrumentedMethods.put(declaredMethod.getName() + methodDescription.getDescriptor(),
+					instrumentedMethod);
+			}
+		}
+		return instrumentedMethods;
+	}
+
+	/**
+	 * Gets the instrumented method.
+	 *
+	 * @return The instrumented method.
+	 */
+	Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Gets the input logging configuration of the method.
+	 *
+	 * @return The input logging configuration or {@code null} if the input data of the method are not logged.
+	 */
+	MethodInputLoggingConfiguration getInputConfiguration() {
+		return this.inputConfiguration;
+	}
+
+	/**
+	 * Gets the type of the annotation from which the input logging configuration of the method is built.
+	 *
+	 * @return The type of annotation or {@code null} if the input data of the method are not logged.
+	 */
+	Class<? extends Annotation> getInputAnnotationType() {
+		return this.inputAnnotationType;
+	}
+
+	/**
+	 * Gets the output logging configuration of the method.
+	 *
+	 * @return The output logging configuration or {@code null} if the output data of the method are not logged.
+	 */
+	MethodOutputLoggingConfiguration getOutputConfiguration() {
+		return this.outputConfiguration;
+	}
+
+	/**
+	 * Gets the type of the annotation from which the output logging configuration of the method is built.
+	 *
+	 * @return The type of annotation or {@code null} if the output data of the method are not logged.
+	 */
+	Class<? extends Annotation> getOutputAnnotationType() {
+		return this.outputAnnotationType;
+	}
+
+	/**
+	 * Gets the sampler of the invocations of the method for which the input and output data are logged according to
+	 * the annotation {@link AutoLogMethodInOut}.
+	 *
+	 * @return The sampler ({@link InvocationSampler#ALWAYS} if the invocations are not sampled).
+	 */
+	InvocationSampler getInOutSampler() {
+		return this.inOutSampler;
+	}
+
+	/**
+	 * Gets the performance logging configuration of the method.
+	 *
+	 * @return The performance logging configuration or {@code null} if the performance of the method is not logged.
+	 */
+	MethodPerformanceLoggingConfiguration getPerformanceConfiguration() {
+		return this.performanceConfiguration;
+	}
+
+	/**
+	 * Gets the sampler of the invocations of the method for which the performance is monitored.
+	 *
+	 * @return The sampler ({@link InvocationSampler#ALWAYS} if the invocations are not sampled).
+	 */
+	InvocationSampler getPerformanceSampler() {
+		return this.performanceSampler;
+	}
+
+	/**
+	 * Gets the field of the declaring class of the method referencing the {@link AdditionalDataProvider} defined in
+	 * the performance logging configuration.
+	 *
+	 * @return The accessible field referencing the additional data provider or {@code null} if no valid provider is
+	 * 		   defined.
+	 */
+	Field getAdditionalDataProvider() {
+		return this.additionalDataProvider;
+	}
+
+	/**
+	 * Finds the field referencing the given additional data provider in the declaring class of the given method.
+	 *
+	 * @param method						The instrumented method.
+	 * @param additionalDataProviderName	The name of the field referencing the additional data provider.
+	 * @return The accessible field referencing the additional data provider or {@code null} if it is not defined or
+	 * 		   invalid.
+	 */
+	private static Field findAdditionalDataProvider(final Method method, final String additionalDataProviderName) {
+		if (StringUtils.isBlank(additionalDataProviderName)) {
+			return null;
+		}
+
+		try {
+			final Field additionalDataProviderField =
+				method.getDeclaringClass().getDeclaredField(additionalDataProviderName);
+			// The given variable must be assignable from type AdditionalDataProvider and readable from the method.
+			if (additionalDataProviderField.getType().isAssignableFrom(AdditionalDataProvider.class)
+				&& (Modifier.isStatic(additionalDataProviderField.getModifiers())
+				|| !Modifier.isStatic(method.getModifiers()))) {
+				// Ensure the field is accessible.
+				additionalDataProviderField.setAccessible(true);
+				return additionalDataProviderField;
+			}
+		} catch (final NoSuchFieldException | SecurityException e) {
+			LoggingUtils.report(
+				String.format("Unable to retrieve additional data through provider %s for method %s: %s.",
+					additionalDataProviderName, method.getName(), e.getMessage()), LogLevel.WARN);
+		}
+		return null;
+	}
+}
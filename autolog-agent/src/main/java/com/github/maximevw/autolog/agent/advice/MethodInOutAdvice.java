@@ -0,0 +1,80 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import org.apiguardian.api.API;
+
+/**
+ * Advice inlined by the Autolog Java agent at the beginning and the end of the methods for which the input and output
+ * data are logged according to the annotation {@link com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut}.
+ * <p>
+ *     The sampling decision taken when entering the method is passed to the code inlined at the end of the method, so
+ *     the input and output data of an invocation are either both logged or both skipped.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class MethodInOutAdvice {
+
+	private MethodInOutAdvice() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Logs the input data of the invoked method if the invocation is sampled.
+	 * <p>
+	 *     The array of arguments is built (and the primitive arguments boxed) by the inlined code where the parameter
+	 *     {@code arguments} is read, so it is only read once the invocation is sampled and its input data are logged.
+	 * </p>
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @param arguments	The arguments of the invoked method.
+	 * @return The sampling weight of the invocation ({@link InvocationSampler#NOT_SAMPLED} if it is not logged).
+	 */
+	@Advice.OnMethodEnter(suppress = Throwable.class)
+	static double enter(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature,
+						@Advice.AllArguments final Object[] arguments) {
+		final double samplingWeight = AgentMethodDispatcher.sampleInvocation(type, signature);
+		if (samplingWeight != InvocationSampler.NOT_SAMPLED && AgentMethodDispatcher.isInputLogged(type, signature)) {
+			AgentMethodDispatcher.logSampledInput(type, signature, arguments, samplingWeight);
+		}
+		return samplingWeight;
+	}
+
+	/**
+	 * Logs the output data or the thrown exception of the invoked method if the invocation is sampled.
+	 *
+	 * @param type				The declaring class of the invoked method.
+	 * @param signature			The signature of the invoked method (name followed by the descriptor).
+	 * @param output			The value returned by the invoked method.
+	 * @param throwable			The exception thrown by the invoked method or {@code null} if it ends normally.
+	 * @param samplingWeight	The sampling weight of the invocation returned when entering the method.
+	 */
+	@Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+	static void exit(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature,
+					 @Advice.Return(typing = Assigner.Typing.DYNAMIC) final Object output,
+					 @Advice.Thrown final Throwable throwable, @Advice.Enter final double samplingWeight) {
+		AgentMethodDispatcher.logSampledOutput(type, signature, output, throwable, samplingWeight);
+	}
+}
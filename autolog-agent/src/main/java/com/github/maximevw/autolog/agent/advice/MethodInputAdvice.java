@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import net.bytebuddy.asm.Advice;
+import org.apiguardian.api.API;
+
+/**
+ * Advice inlined by the Autolog Java agent at the beginning of the methods for which the input data are logged.
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class MethodInputAdvice {
+
+	private MethodInputAdvice() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Logs the input data of the invoked method.
+	 * <p>
+	 *     The array of arguments is built (and the primitive arguments boxed) by the inlined code where the parameter
+	 *     {@code arguments} is read, so it is only read once it is known that the input data are logged.
+	 * </p>
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @param arguments	The arguments of the invoked method.
+	 */
+	@Advice.OnMethodEnter(suppress = Throwable.class)
+	static void enter(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature,
+					  @Advice.AllArguments final Object[] arguments) {
+		if (AgentMethodDispatcher.isInputLogged(type, signature)) {
+			AgentMethodDispatcher.logInput(type, signature, arguments);
+		}
+	}
+}
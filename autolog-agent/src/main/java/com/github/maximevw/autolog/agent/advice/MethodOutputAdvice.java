@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import org.apiguardian.api.API;
+
+/**
+ * Advice inlined by the Autolog Java agent at the end of the methods for which the output data are logged.
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class MethodOutputAdvice {
+
+	private MethodOutputAdvice() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Logs the output data or the thrown exception of the invoked method.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @param output	The value returned by the invoked method.
+	 * @param throwable	The exception thrown by the invoked method or {@code null} if it ends normally.
+	 */
+	@Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+	static void exit(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature,
+					 @Advice.Return(typing = Assigner.Typing.DYNAMIC) final Object output,
+					 @Advice.Thrown final Throwable throwable) {
+		AgentMethodDispatcher.logOutput(type, signature, output, throwable);
+	}
+}
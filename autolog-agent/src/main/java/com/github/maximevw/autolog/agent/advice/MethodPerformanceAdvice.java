@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.advice;
+
+import com.github.maximevw.autolog.core.logger.performance.PerformanceTimer;
+import net.bytebuddy.asm.Advice;
+import org.apiguardian.api.API;
+
+/**
+ * Advice inlined by the Autolog Java agent around the methods for which the performance is monitored.
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.agent.*")
+public final class MethodPerformanceAdvice {
+
+	private MethodPerformanceAdvice() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Starts the performance timer of the invoked method.
+	 *
+	 * @param type		The declaring class of the invoked method.
+	 * @param signature	The signature of the invoked method (name followed by the descriptor).
+	 * @return The running performance timer.
+	 */
+	@Advice.OnMethodEnter(suppress = Throwable.class)
+	static PerformanceTimer enter(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature) {
+		return AgentMethodDispatcher.startTimer(type, signature);
+	}
+
+	/**
+	 * Stops the performance timer of the invoked method and logs the performance information.
+	 *
+	 * @param type				The declaring class of the invoked method.
+	 * @param signature			The signature of the invoked method (name followed by the descriptor).
+	 * @param target			The instance on which the method is invoked ({@code null} for a static method).
+	 * @param performanceTimer	The performance timer started when entering the method.
+	 * @param throwable			The exception thrown by the invoked method or {@code null} if it ends normally.
+	 */
+	@Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+	static void exit(@Advice.Origin final Class<?> type, @Advice.Origin("#m#d") final String signature,
+					 @Advice.This(optional = true) final Object target,
+					 @Advice.Enter final PerformanceTimer performanceTimer, @Advice.Thrown final Throwable throwable) {
+		AgentMethodDispatcher.stopTimer(type, signature, target, performanceTimer, throwable);
+	}
+}
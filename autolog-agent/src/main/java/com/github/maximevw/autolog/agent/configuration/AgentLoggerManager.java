@@ -0,0 +1,100 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent.configuration;
+
+import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.MethodCallLogger;
+import com.github.maximevw.autolog.core.logger.MethodPerformanceLogger;
+import com.github.maximevw.autolog.core.logger.adapters.SystemOutAdapter;
+import org.apiguardian.api.API;
+
+/**
+ * This class is a singleton providing a {@link LoggerManager} instance used by the methods instrumented by the Autolog
+ * Java agent.
+ *
+ * @see LoggerManager
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class AgentLoggerManager {
+
+	private volatile LoggerManager loggerManager;
+	private volatile MethodCallLogger methodCallLogger;
+	private volatile MethodPerformanceLogger methodPerformanceLogger;
+
+	private AgentLoggerManager() {
+		// Private constructor to force usage of singleton instance via the method getInstance().
+		// By default, at least register standard output in the default logger manager.
+		final LoggerManager defaultLoggerManager = new LoggerManager();
+		defaultLoggerManager.register(SystemOutAdapter.getInstance());
+		init(defaultLoggerManager);
+	}
+
+	/**
+	 * Gets an instance of AgentLoggerManager.
+	 *
+	 * @return A singleton instance of AgentLoggerManager.
+	 */
+	public static AgentLoggerManager getInstance() {
+		return AgentLoggerManager.AgentLoggerManagerInstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Defines the instance of {@link LoggerManager} provided by the AgentLoggerManager singleton.
+	 *
+	 * @param loggerManager The logger manager.
+	 */
+	public void init(final LoggerManager loggerManager) {
+		this.methodCallLogger = new MethodCallLogger(loggerManager);
+		this.methodPerformanceLogger = new MethodPerformanceLogger(loggerManager);
+		this.loggerManager = loggerManager;
+	}
+
+	/**
+	 * Gets the {@link LoggerManager} instance to use for logging.
+	 *
+	 * @return The {@link LoggerManager} instance to use for logging.
+	 */
+	public LoggerManager getLoggerManager() {
+		return this.loggerManager;
+	}
+
+	/**
+	 * Gets the {@link MethodCallLogger} using the current {@link LoggerManager} instance.
+	 *
+	 * @return The {@link MethodCallLogger} instance used by the instrumented methods.
+	 */
+	public MethodCallLogger getMethodCallLogger() {
+		return this.methodCallLogger;
+	}
+
+	/**
+	 * Gets the {@link MethodPerformanceLogger} using the current {@link LoggerManager} instance.
+	 *
+	 * @return The {@link MethodPerformanceLogger} instance used by the instrumented methods.
+	 */
+	public MethodPerformanceLogger getMethodPerformanceLogger() {
+		return this.methodPerformanceLogger;
+	}
+
+	private static class AgentLoggerManagerInstanceHolder {
+		private static final AgentLoggerManager INSTANCE = new AgentLoggerManager();
+	}
+}
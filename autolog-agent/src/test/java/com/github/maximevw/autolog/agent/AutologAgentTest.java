@@ -0,0 +1,291 @@
+/*-
+ * #%L
+ * Autolog Java agent module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent;
+
+import com.github.maximevw.autolog.agent.configuration.AgentLoggerManager;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import com.github.maximevw.autolog.core.annotations.RateLimit;
+import com.github.maximevw.autolog.core.annotations.Sampling;
+import com.github.maximevw.autolog.core.configuration.SamplingMode;
+import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
+import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
+import com.github.maximevw.autolog.core.logger.performance.AdditionalDataProvider;
+import com.google.common.collect.ImmutableSet;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.org.lidalia.slf4jext.Level;
+import uk.org.lidalia.slf4jtest.LoggingEvent;
+import uk.org.lidalia.slf4jtest.TestLogger;
+import uk.org.lidalia.slf4jtest.TestLoggerFactory;
+
+import java.lang.instrument.Instrumentation;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the Java agent {@link AutologAgent}.
+ */
+class AutologAgentTest {
+
+	private static Instrumentation instrumentation;
+	private static ResettableClassFileTransformer transformer;
+	private static TestLogger logger;
+
+	/**
+	 * Installs the agent before running the tests.
+	 */
+	@BeforeAll
+	static void init() {
+		logger = TestLoggerFactory.getTestLogger("Autolog");
+		AgentLoggerManager.getInstance().init(new LoggerManager().register(Slf4jAdapter.getInstance()));
+		instrumentation = ByteBuddyAgent.install();
+		transformer = AutologAgent.install(instrumentation);
+	}
+
+	/**
+	 * Removes the instrumentation after running the tests.
+	 */
+	@AfterAll
+	static void tearDown() {
+		transformer.reset(instrumentation, AgentBuilder.RedefinitionStrategy.RETRANSFORMATION);
+	}
+
+	/**
+	 * Resets the logger before each new test case.
+	 */
+	@BeforeEach
+	void reset() {
+		logger.clear();
+	}
+
+	/**
+	 * Verifies that the input data, output data and performance of a method included in annotated class are logged.
+	 */
+	@Test
+	void givenMethodInAnnotatedClass_whenInvoke_logsInputOutputAndPerformance() {
+		assertThat(new InstrumentedTestClass().greet("Autolog"), is("Hello Autolog"));
+
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("message", is("Entering method {}({})")),
+			hasProperty("arguments", hasItem("InstrumentedTestClass.greet")),
+			hasProperty("arguments", hasItem("name=Autolog"))
+		)));
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("message", is("Exiting method {} returning {}")),
+			hasProperty("arguments", hasItem("InstrumentedTestClass.greet")),
+			hasProperty("arguments", hasItem("Hello Autolog"))
+		)));
+		assertThat(logger.getLoggingEvents(), hasItem(
+			hasProperty("message", startsWith("Method InstrumentedTestClass.greet executed in"))
+		));
+	}
+
+	/**
+	 * Verifies that the annotations on a method take precedence over the annotations on its declaring class.
+	 */
+	@Test
+	void givenMethodAnnotatedWithAutoLogMethodInput_whenInvoke_onlyLogsInputData() {
+		new InstrumentedTestClass().inputOnly(42);
+
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("message", is("Entering method {}({})")),
+			hasProperty("arguments", hasItem("InstrumentedTestClass.inputOnly")),
+			hasProperty("arguments", hasItem("value=42"))
+		)));
+		assertThat(logger.getLoggingEvents(), not(hasItem(
+			hasProperty("message", startsWith("Exiting"))
+		)));
+	}
+
+	/**
+	 * Verifies that the input data of an instrumented method are not logged when the log level is disabled in all the
+	 * registered loggers.
+	 */
+	@Test
+	void givenDisabledLogLevel_whenInvoke_logsNothing() {
+		final Set<Level> enabledLevels = logger.getEnabledLevels();
+		logger.setEnabledLevels(Level.WARN, Level.ERROR);
+		try {
+			new InstrumentedTestClass().inputOnly(42);
+			assertThat(logger.getLoggingEvents(), is(empty()));
+		} finally {
+			logger.setEnabledLevels(ImmutableSet.copyOf(enabledLevels));
+		}
+	}
+
+	/**
+	 * Verifies that nothing is logged for an instrumented class disabled in {@link LoggingKillSwitch}.
+	 */
+	@Test
+	void givenDisabledClass_whenInvoke_logsNothing() {
+		LoggingKillSwitch.getInstance().disableClass(InstrumentedTestClass.class);
+		try {
+			assertThat(new InstrumentedTestClass().greet("Autolog"), is("Hello Autolog"));
+			assertThat(logger.getLoggingEvents(), is(empty()));
+		} finally {
+			LoggingKillSwitch.getInstance().enableAll();
+		}
+	}
+
+	/**
+	 * Verifies that the exception thrown by an instrumented method is logged and rethrown.
+	 */
+	@Test
+	void givenFailingMethod_whenInvoke_logsThrowableAndRethrows() {
+		final InstrumentedTestClass instrumentedTestClass = new InstrumentedTestClass();
+		assertThrows(IllegalStateException.class, instrumentedTestClass::fail);
+
+		assertThat(logger.getLoggingEvents(), hasItem(
+			hasProperty("level", is(Level.ERROR))
+		));
+		assertThat(logger.getLoggingEvents(), hasItem(
+			hasProperty("message", startsWith("Method InstrumentedTestClass.fail failed after"))
+		));
+	}
+
+	/**
+	 * Verifies that only the sampled invocations of an instrumented method are logged, both input and output data being
+	 * logged for each of them.
+	 */
+	@Test
+	void givenSampledMethod_whenInvoke_logsSampledInvocationsOnly() {
+		final InstrumentedTestClass instrumentedTestClass = new InstrumentedTestClass();
+		for (int i = 0; i < 4; i++) {
+			instrumentedTestClass.sampled(i);
+		}
+
+		assertEquals(2, logger.getLoggingEvents().stream()
+			.filter(event -> event.getMessage().startsWith("Entering"))
+			.map(LoggingEvent::getArguments)
+			.filter(arguments -> arguments.contains("InstrumentedTestClass.sampled"))
+			.count());
+		assertEquals(2, logger.getLoggingEvents().stream()
+			.filter(event -> event.getMessage().startsWith("Exiting"))
+			.map(LoggingEvent::getArguments)
+			.filter(arguments -> arguments.contains("InstrumentedTestClass.sampled"))
+			.count());
+	}
+
+	/**
+	 * Verifies that the input and output log events of an instrumented method annotated with
+	 * {@link AutoLogMethodInOut} share the same rate limit.
+	 */
+	@Test
+	void givenRateLimitedMethod_whenInvoke_inputAndOutputShareTheLimit() {
+		final InstrumentedTestClass instrumentedTestClass = new InstrumentedTestClass();
+		for (int i = 0; i < 5; i++) {
+			instrumentedTestClass.rateLimited(i);
+		}
+
+		// The burst of 2 events is shared by the input and output log entries of the first invocation.
+		assertEquals(2, logger.getLoggingEvents().stream()
+			.filter(event -> event.getMessage().startsWith("Entering") || event.getMessage().startsWith("Exiting"))
+			.map(LoggingEvent::getArguments)
+			.filter(arguments -> arguments.contains("InstrumentedTestClass.rateLimited"))
+			.count());
+	}
+
+	/**
+	 * Class instrumented by the agent.
+	 */
+	@AutoLogMethodInOut
+	@AutoLogPerformance(additionalDataProvider = "additionalDataProvider")
+	public static class InstrumentedTestClass {
+
+		private final AdditionalDataProvider additionalDataProvider = new AdditionalDataProvider();
+
+		/**
+		 * Method for testing purpose only.
+		 *
+		 * @return The number of processed items.
+		 */
+		public static int countItems() {
+			return 1;
+		}
+
+		/**
+		 * Method for testing purpose only.
+		 *
+		 * @param name The name.
+		 * @return A greeting message.
+		 */
+		public String greet(final String name) {
+			return "Hello " + name;
+		}
+
+		/**
+		 * Method for testing purpose only.
+		 *
+		 * @param value A value.
+		 */
+		@AutoLogMethodInput
+		public void inputOnly(final int value) {
+			// Do nothing.
+		}
+
+		/**
+		 * Method for testing purpose only.
+		 */
+		@AutoLogMethodInOut(logThrowable = true)
+		public void fail() {
+			additionalDataProvider.setProcessedItems(countItems());
+			throw new IllegalStateException("Failure");
+		}
+
+		/**
+		 * Method for testing purpose only.
+		 *
+		 * @param value A value.
+		 */
+		@AutoLogMethodInOut(sampling = @Sampling(mode = SamplingMode.FIXED_RATE, oneIn = 2))
+		public void sampled(final int value) {
+			// Do nothing.
+		}
+
+		/**
+		 * Method for testing purpose only.
+		 *
+		 * @param value A value.
+		 */
+		@AutoLogMethodInOut(rateLimit = @RateLimit(eventsPerSecond = 1, burst = 2))
+		public void rateLimited(final int value) {
+			// Do nothing.
+		}
+	}
+}
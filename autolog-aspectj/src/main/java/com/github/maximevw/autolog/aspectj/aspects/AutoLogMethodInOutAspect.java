@@ -26,8 +26,12 @@ import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
 import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
 import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.SamplingConfiguration;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
 import com.github.maximevw.autolog.core.logger.MethodCallLogger;
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apiguardian.api.API;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -41,13 +45,42 @@ import java.lang.reflect.Method;
 /**
  * Aspect allowing to automatically log the input and output data of methods annotated with {@link AutoLogMethodInOut},
  * {@link AutoLogMethodInput} and/or {@link AutoLogMethodOutput} or included in classes annotated with such annotations.
+ * <p>
+ *     The logging of a method can be disabled at runtime with {@link LoggingKillSwitch}: in this case, the method is
+ *     directly executed, without retrieving its arguments nor resolving its logging configuration.
+ * </p>
+ * <p>
+ *     The invocations of the methods annotated with {@link AutoLogMethodInOut} can be sampled (see
+ *     {@link AutoLogMethodInOut#sampling()}): the input and output data of an invocation are either both logged (with the
+ *     sampling weight of the invocation) or both skipped, in which case the arguments are not retrieved.
+ * </p>
  */
 @API(status = API.Status.STABLE, since = "1.2.0")
 @Aspect
 public class AutoLogMethodInOutAspect {
 
+	private static final LoggingKillSwitch KILL_SWITCH = LoggingKillSwitch.getInstance();
+
 	private final MethodCallLogger methodCallLogger;
 
+	private final JoinPointConfigurationCache<AutoLogMethodInput, MethodInputLoggingConfiguration> inputConfigurations =
+		new JoinPointConfigurationCache<>(MethodInputLoggingConfiguration::from);
+
+	private final JoinPointConfigurationCache<AutoLogMethodOutput, MethodOutputLoggingConfiguration>
+		outputConfigurations = new JoinPointConfigurationCache<>(MethodOutputLoggingConfiguration::from);
+
+	// The input and output logging configurations built from the same AutoLogMethodInOut share the same rate limit.
+	private final JoinPointConfigurationCache<AutoLogMethodInOut,
+		Pair<MethodInputLoggingConfiguration, MethodOutputLoggingConfiguration>> inOutConfigurations =
+		new JoinPointConfigurationCache<>(annotation -> {
+			final MethodInputLoggingConfiguration inputConfiguration = MethodInputLoggingConfiguration.from(annotation);
+			return Pair.of(inputConfiguration, MethodOutputLoggingConfiguration.from(annotation, inputConfiguration));
+		});
+
+	private final JoinPointConfigurationCache<AutoLogMethodInOut, InvocationSampler> inOutSamplers =
+		new JoinPointConfigurationCache<>(annotation -> InvocationSampler.of(
+			SamplingConfiguration.from(annotation.sampling())));
+
 	/**
 	 * Default constructor.
 	 * <p>
@@ -239,7 +272,11 @@ public class AutoLogMethodInOutAspect {
 	 */
 	private void handleBeforeDataInputLoggableMethod(final JoinPoint jp, final AutoLogMethodInput autoLogMethodInput)
 		throws Throwable {
-		handleAroundDataInOutLoggableMethod(jp, MethodInputLoggingConfiguration.from(autoLogMethodInput), null);
+		final Method method = getMethod(jp);
+		if (KILL_SWITCH.isDisabled(method, AutoLogMethodInput.class)) {
+			return;
+		}
+		handleAroundDataInOutLoggableMethod(jp, inputConfigurations.get(method, autoLogMethodInput), null, null);
 	}
 
 	/**
@@ -253,8 +290,12 @@ public class AutoLogMethodInOutAspect {
 	private Object handleAroundDataOutputLoggableMethod(final ProceedingJoinPoint pjp,
 														final AutoLogMethodOutput autoLogMethodOutput)
 		throws Throwable {
-		return handleAroundDataInOutLoggableMethod(pjp, null,
-			MethodOutputLoggingConfiguration.from(autoLogMethodOutput));
+		final Method method = getMethod(pjp);
+		if (KILL_SWITCH.isDisabled(method, AutoLogMethodOutput.class)) {
+			return pjp.proceed();
+		}
+		return handleAroundDataInOutLoggableMethod(pjp, null, outputConfigurations.get(method, autoLogMethodOutput),
+			null);
 	}
 
 	/**
@@ -268,8 +309,25 @@ public class AutoLogMethodInOutAspect {
 	 */
 	private Object handleAroundDataInOutLoggableMethod(final ProceedingJoinPoint pjp,
 													   final AutoLogMethodInOut autoLogMethodInOut) throws Throwable {
-		return handleAroundDataInOutLoggableMethod(pjp, MethodInputLoggingConfiguration.from(autoLogMethodInOut),
-			MethodOutputLoggingConfiguration.from(autoLogMethodInOut));
+		final Method method = getMethod(pjp);
+		if (KILL_SWITCH.isDisabled(method, AutoLogMethodInOut.class)) {
+			return pjp.proceed();
+		}
+
+		// Decide whether the invocation must be logged when the invocations of the method are sampled.
+		final InvocationSampler sampler = inOutSamplers.get(method, autoLogMethodInOut);
+		Double samplingWeight = null;
+		if (sampler != InvocationSampler.ALWAYS) {
+			samplingWeight = sampler.sample();
+			if (samplingWeight == InvocationSampler.NOT_SAMPLED) {
+				return pjp.proceed();
+			}
+		}
+
+		final Pair<MethodInputLoggingConfiguration, MethodOutputLoggingConfiguration> configurations =
+			inOutConfigurations.get(method, autoLogMethodInOut);
+		return handleAroundDataInOutLoggableMethod(pjp, configurations.getLeft(), configurations.getRight(),
+			samplingWeight);
 	}
 
 	/**
@@ -280,18 +338,21 @@ public class AutoLogMethodInOutAspect {
 	 *                                      annotation. It can be {@code null} if only the output data must be logged.
 	 * @param outputLoggingConfiguration    The method output logging configuration extracted from the handled
 	 *                                      annotation. It can be {@code null} if only the input data must be logged.
+	 * @param samplingWeight				The sampling weight of the invocation or {@code null} if the invocations of
+	 *                                      the method are not sampled.
 	 * @return The execution result of the invoked method or {@code null} if only the input data must be logged and the
 	 *         type of the handled advice is "before execution".
 	 * @throws Throwable when the invoked method throws an exception.
 	 */
 	private Object handleAroundDataInOutLoggableMethod(
 		final JoinPoint jp, final MethodInputLoggingConfiguration inputLoggingConfiguration,
-		final MethodOutputLoggingConfiguration outputLoggingConfiguration) throws Throwable {
-		final Method method = ((MethodSignature) jp.getSignature()).getMethod();
+		final MethodOutputLoggingConfiguration outputLoggingConfiguration, final Double samplingWeight)
+		throws Throwable {
+		final Method method = getMethod(jp);
 
 		// Log input data.
 		if (inputLoggingConfiguration != null) {
-			methodCallLogger.logMethodInput(inputLoggingConfiguration, method, jp.getArgs());
+			methodCallLogger.logMethodInput(inputLoggingConfiguration, method, jp.getArgs(), samplingWeight);
 		}
 
 		if (jp instanceof ProceedingJoinPoint && outputLoggingConfiguration != null) {
@@ -301,17 +362,27 @@ public class AutoLogMethodInOutAspect {
 				output = ((ProceedingJoinPoint) jp).proceed();
 			} catch (final Throwable throwable) {
 				if (outputLoggingConfiguration.isThrowableLogged()) {
-					methodCallLogger.logThrowable(outputLoggingConfiguration, method, throwable);
+					methodCallLogger.logThrowable(outputLoggingConfiguration, method, throwable, samplingWeight);
 				}
 				throw throwable;
 			}
 
 			// Log output data.
-			methodCallLogger.logMethodOutput(outputLoggingConfiguration, method, output);
+			methodCallLogger.logMethodOutput(outputLoggingConfiguration, method, output, samplingWeight);
 
 			return output;
 		}
 
 		return null;
 	}
+
+	/**
+	 * Gets the method executed at the given join point.
+	 *
+	 * @param jp The join point (here the method).
+	 * @return The executed method.
+	 */
+	private static Method getMethod(final JoinPoint jp) {
+		return ((MethodSignature) jp.getSignature()).getMethod();
+	}
 }
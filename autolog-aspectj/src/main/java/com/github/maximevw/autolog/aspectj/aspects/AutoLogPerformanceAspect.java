@@ -23,13 +23,16 @@ package com.github.maximevw.autolog.aspectj.aspects;
 import com.github.maximevw.autolog.aspectj.configuration.AspectJLoggerManager;
 import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
 import com.github.maximevw.autolog.core.configuration.MethodPerformanceLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.SamplingConfiguration;
 import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
 import com.github.maximevw.autolog.core.logger.LoggingUtils;
 import com.github.maximevw.autolog.core.logger.MethodPerformanceLogEntry;
 import com.github.maximevw.autolog.core.logger.MethodPerformanceLogger;
 import com.github.maximevw.autolog.core.logger.performance.AdditionalDataProvider;
 import com.github.maximevw.autolog.core.logger.performance.PerformanceTimer;
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
 import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -43,13 +46,31 @@ import java.lang.reflect.Method;
 /**
  * Aspect allowing to automatically monitor and log the performance information of methods annotated with
  * {@link AutoLogPerformance} or included in classes annotated with such annotations.
+ * <p>
+ *     The monitoring of a method can be disabled at runtime with {@link LoggingKillSwitch}: in this case, the method
+ *     is directly executed, without resolving its performance logging configuration nor starting a timer.
+ * </p>
+ * <p>
+ *     The invocations of a method can also be sampled (see {@link AutoLogPerformance#sampling()}): the invocations not
+ *     sampled are directly executed and the performance information of the sampled ones are logged with their sampling
+ *     weight.
+ * </p>
  */
 @API(status = API.Status.STABLE, since = "1.2.0")
 @Aspect
 public class AutoLogPerformanceAspect {
 
+	private static final LoggingKillSwitch KILL_SWITCH = LoggingKillSwitch.getInstance();
+
 	private final MethodPerformanceLogger methodPerformanceLogger;
 
+	private final JoinPointConfigurationCache<AutoLogPerformance, MethodPerformanceLoggingConfiguration>
+		performanceConfigurations = new JoinPointConfigurationCache<>(MethodPerformanceLoggingConfiguration::from);
+
+	private final JoinPointConfigurationCache<AutoLogPerformance, InvocationSampler> performanceSamplers =
+		new JoinPointConfigurationCache<>(annotation -> InvocationSampler.of(
+			SamplingConfiguration.from(annotation.sampling())));
+
 	/**
 	 * Default constructor.
 	 * <p>
@@ -86,8 +107,7 @@ public class AutoLogPerformanceAspect {
 	public Object aroundPerformanceLoggableClassAndMethod(final ProceedingJoinPoint pjp,
 														  final AutoLogPerformance annotationPerformance)
 		throws Throwable {
-		return handleAroundPerformanceLoggableMethod(pjp,
-			MethodPerformanceLoggingConfiguration.from(annotationPerformance));
+		return handleAroundPerformanceLoggableMethod(pjp, annotationPerformance);
 	}
 
 	/**
@@ -104,8 +124,7 @@ public class AutoLogPerformanceAspect {
 		argNames = "annotationPerformance")
 	public Object aroundPerformanceLoggableClass(final ProceedingJoinPoint pjp,
 												 final AutoLogPerformance annotationPerformance) throws Throwable {
-		return handleAroundPerformanceLoggableMethod(pjp,
-			MethodPerformanceLoggingConfiguration.from(annotationPerformance));
+		return handleAroundPerformanceLoggableMethod(pjp, annotationPerformance);
 	}
 
 	/**
@@ -122,23 +141,57 @@ public class AutoLogPerformanceAspect {
 		argNames = "annotationPerformance")
 	public Object aroundPerformanceLoggableMethod(final ProceedingJoinPoint pjp,
 												  final AutoLogPerformance annotationPerformance) throws Throwable {
-		return handleAroundPerformanceLoggableMethod(pjp,
-			MethodPerformanceLoggingConfiguration.from(annotationPerformance));
+		return handleAroundPerformanceLoggableMethod(pjp, annotationPerformance);
+	}
+
+	/**
+	 * Handles an advice to log performance data of the invoked method, unless it is disabled in
+	 * {@link LoggingKillSwitch}.
+	 *
+	 * @param pjp            		The proceeding join point (here the method).
+	 * @param annotationPerformance The annotation indicating that the performance information have to be logged for
+	 *                              this method.
+	 * @return The execution result of the invoked method.
+	 * @throws Throwable when the invoked method throws an exception.
+	 */
+	private Object handleAroundPerformanceLoggableMethod(final ProceedingJoinPoint pjp,
+														 final AutoLogPerformance annotationPerformance)
+		throws Throwable {
+		final Method method = getMethod(pjp);
+		if (KILL_SWITCH.isDisabled(method, AutoLogPerformance.class)) {
+			return pjp.proceed();
+		}
+
+		// Decide whether the invocation must be monitored when the invocations of the method are sampled.
+		final InvocationSampler sampler = performanceSamplers.get(method, annotationPerformance);
+		Double samplingWeight = null;
+		if (sampler != InvocationSampler.ALWAYS) {
+			samplingWeight = sampler.sample();
+			if (samplingWeight == InvocationSampler.NOT_SAMPLED) {
+				return pjp.proceed();
+			}
+		}
+
+		return handleAroundPerformanceLoggableMethod(pjp, method,
+			performanceConfigurations.get(method, annotationPerformance), samplingWeight);
 	}
 
 	/**
 	 * Handles an advice to log performance data of the invoked method.
 	 *
 	 * @param pjp								The proceeding join point (here the method).
+	 * @param method							The invoked method.
 	 * @param performanceLoggingConfiguration	The performance configuration extracted from the handled annotation.
+	 * @param samplingWeight					The sampling weight of the invocation or {@code null} if the invocations
+	 *                                          of the method are not sampled.
 	 * @return The execution result of the invoked method.
 	 * @throws Throwable when the invoked method throws an exception.
 	 */
-	private Object handleAroundPerformanceLoggableMethod(final ProceedingJoinPoint pjp,
+	private Object handleAroundPerformanceLoggableMethod(final ProceedingJoinPoint pjp, final Method method,
 														 final MethodPerformanceLoggingConfiguration
-															 performanceLoggingConfiguration) throws Throwable {
+															 performanceLoggingConfiguration,
+														 final Double samplingWeight) throws Throwable {
 		// Start the performance timer for the method.
-		final Method method = ((MethodSignature) pjp.getSignature()).getMethod();
 		final PerformanceTimer performanceTimer = methodPerformanceLogger.start(performanceLoggingConfiguration,
 			method);
 
@@ -157,6 +210,7 @@ public class AutoLogPerformanceAspect {
 			}
 
 			// Stop the performance timer for the method and log performance.
+			performanceTimer.getPerformanceLogEntry().setSamplingWeight(samplingWeight);
 			methodPerformanceLogger.stopAndLog(performanceLoggingConfiguration, performanceTimer);
 		}
 
@@ -205,4 +259,14 @@ public class AutoLogPerformanceAspect {
 
 		return enrichedPerformanceLogEntry;
 	}
+
+	/**
+	 * Gets the method executed at the given join point.
+	 *
+	 * @param pjp The proceeding join point (here the method).
+	 * @return The executed method.
+	 */
+	private static Method getMethod(final ProceedingJoinPoint pjp) {
+		return ((MethodSignature) pjp.getSignature()).getMethod();
+	}
 }
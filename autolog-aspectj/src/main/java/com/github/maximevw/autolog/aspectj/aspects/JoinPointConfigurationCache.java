@@ -0,0 +1,103 @@
+/*-
+ * #%L
+ * Autolog Spring integration module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.aspectj.aspects;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of the logging configurations built from the annotations handled by the aspects, for each advised method.
+ * <p>
+ *     The values of the annotations never change for a given join point, so the configuration is built once on the
+ *     first execution of the join point and reused by the next ones. The cached configurations are indexed by method
+ *     rather than by {@link org.aspectj.lang.JoinPoint.StaticPart}, since Spring AOP creates a new static part for
+ *     each invocation. They are stored per declaring class of the methods (using a {@link ClassValue}), so they do not
+ *     prevent the classes from being unloaded.
+ * </p>
+ * <p>
+ *     <i>Note:</i> The cached configurations are shared by all the executions of the method, so they must not be
+ *     modified.
+ * </p>
+ *
+ * @param <A> The type of annotation handled by the aspect.
+ * @param <C> The type of configuration built from the annotation.
+ */
+final class JoinPointConfigurationCache<A extends Annotation, C> {
+
+	private final Function<A, C> configurationFactory;
+
+	private final ClassValue<Map<Method, CachedConfiguration<A, C>>> configurationsByClass =
+		new ClassValue<>() {
+			@Override
+			protected Map<Method, CachedConfiguration<A, C>> computeValue(final Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param configurationFactory The function building the configuration from the annotation.
+	 */
+	JoinPointConfigurationCache(final Function<A, C> configurationFactory) {
+		this.configurationFactory = configurationFactory;
+	}
+
+	/**
+	 * Gets the configuration built from the given annotation for the given method.
+	 *
+	 * @param method		The advised method.
+	 * @param annotation	The annotation handled by the advice.
+	 * @return The configuration built from the annotation.
+	 */
+	C get(final Method method, final A annotation) {
+		final Map<Method, CachedConfiguration<A, C>> configurations =
+			this.configurationsByClass.get(method.getDeclaringClass());
+		CachedConfiguration<A, C> cachedConfiguration = configurations.get(method);
+		// Several advices handling different annotations of the same type may apply to the same method (for
+		// example, at class and method levels): the configuration is cached for the last annotation only.
+		if (cachedConfiguration == null || cachedConfiguration.annotation != annotation) {
+			cachedConfiguration = new CachedConfiguration<>(annotation, this.configurationFactory.apply(annotation));
+			configurations.put(method, cachedConfiguration);
+		}
+		return cachedConfiguration.configuration;
+	}
+
+	/**
+	 * Configuration built from an annotation.
+	 *
+	 * @param <A> The type of annotation.
+	 * @param <C> The type of configuration.
+	 */
+	private static final class CachedConfiguration<A, C> {
+
+		private final A annotation;
+		private final C configuration;
+
+		CachedConfiguration(final A annotation, final C configuration) {
+			this.annotation = annotation;
+			this.configuration = configuration;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*-
+ * #%L
+ * Autolog AspectJ integration module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.aspectj.aspects;
+
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import com.github.maximevw.autolog.core.configuration.MethodPerformanceLoggingConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the class {@link JoinPointConfigurationCache}.
+ */
+class JoinPointConfigurationCacheTest {
+
+	/**
+	 * Verifies that the configuration is built once per method and annotation.
+	 *
+	 * @throws NoSuchMethodException if the test methods cannot be found.
+	 */
+	@Test
+	void givenJoinPoint_whenGetConfiguration_buildsConfigurationOnce() throws NoSuchMethodException {
+		final AtomicInteger builtConfigurations = new AtomicInteger();
+		final JoinPointConfigurationCache<AutoLogPerformance, MethodPerformanceLoggingConfiguration> sut =
+			new JoinPointConfigurationCache<>(annotation -> {
+				builtConfigurations.incrementAndGet();
+				return MethodPerformanceLoggingConfiguration.from(annotation);
+			});
+		final Method firstMethod = TestClass.class.getMethod("firstMethod");
+		final Method secondMethod = TestClass.class.getMethod("secondMethod");
+		final AutoLogPerformance firstAnnotation = firstMethod.getAnnotation(AutoLogPerformance.class);
+		final AutoLogPerformance secondAnnotation = secondMethod.getAnnotation(AutoLogPerformance.class);
+
+		final MethodPerformanceLoggingConfiguration configuration = sut.get(firstMethod, firstAnnotation);
+		assertThat(configuration.getName(), is("first"));
+		// Another instance of the same method (as provided by Spring AOP for each invocation).
+		assertThat(sut.get(TestClass.class.getMethod("firstMethod"), firstAnnotation), sameInstance(configuration));
+		assertThat(builtConfigurations.get(), is(1));
+
+		assertThat(sut.get(secondMethod, secondAnnotation).getName(), is("second"));
+		assertThat(builtConfigurations.get(), is(2));
+
+		// Another annotation applying to the same method.
+		assertThat(sut.get(firstMethod, secondAnnotation), not(sameInstance(configuration)));
+		assertThat(builtConfigurations.get(), is(3));
+	}
+
+	/**
+	 * Class used for testing purpose.
+	 */
+	public static class TestClass {
+
+		/**
+		 * Method used for testing purpose.
+		 */
+		@AutoLogPerformance(name = "first")
+		public void firstMethod() {
+			// Do nothing.
+		}
+
+		/**
+		 * Method used for testing purpose.
+		 */
+		@AutoLogPerformance(name = "second")
+		public void secondMethod() {
+			// Do nothing.
+		}
+	}
+
+}
@@ -0,0 +1,325 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.agent;
+
+import com.github.maximevw.autolog.agent.configuration.AgentLoggerManager;
+import com.github.maximevw.autolog.aspectj.configuration.AspectJLoggerManager;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggerInterface;
+import com.github.maximevw.autolog.core.logger.LoggerManager;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import org.aspectj.weaver.loadtime.ClassPreProcessorAgentAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the instrumentation of the methods annotated with Autolog annotations by the Autolog Java agent
+ * ({@link AutologAgent}) and by AspectJ load-time weaving (with the aspects of the module {@code autolog-aspectj}).
+ * <p>
+ *     The benchmarks {@code *Call} measure the overhead of an invocation of an instrumented method, the benchmarks
+ *     {@code *Startup} measure the cost of the loading (including the instrumentation) and the first invocation of an
+ *     annotated class in a new class loader. The benchmarks {@code baseline*} use a class without annotations nor
+ *     instrumentation. Each benchmark runs in its own JVM, so only one instrumentation is installed at a time.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+	private static final String MONITORED_SERVICE = "com.github.maximevw.autolog.agent.MonitoredGreetingService";
+	private static final String PLAIN_SERVICE = "com.github.maximevw.autolog.agent.PlainGreetingService";
+	private static final String NAME = "Autolog";
+
+	/**
+	 * Whether the log events generated by the instrumented methods are enabled (and so formatted) or discarded.
+	 */
+	@Param({"false", "true"})
+	private boolean loggingEnabled;
+
+	/**
+	 * Invokes a method without instrumentation.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 2)
+	@Measurement(iterations = 5, time = 2)
+	public String baselineCall(final BaselineState state) {
+		return state.service.greet(NAME);
+	}
+
+	/**
+	 * Invokes a method instrumented by the Autolog Java agent.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 2)
+	@Measurement(iterations = 5, time = 2)
+	public String agentCall(final AgentState state) {
+		return state.service.greet(NAME);
+	}
+
+	/**
+	 * Invokes a method woven by AspectJ.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 2)
+	@Measurement(iterations = 5, time = 2)
+	public String aspectjCall(final AspectJState state) {
+		return state.service.greet(NAME);
+	}
+
+	/**
+	 * Loads a class without instrumentation in a new class loader and invokes one of its methods.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 * @throws ReflectiveOperationException if the class cannot be loaded.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public String baselineStartup(final BaselineState state) throws ReflectiveOperationException {
+		return newService(new IsolatingClassLoader(PLAIN_SERVICE), PLAIN_SERVICE).greet(NAME);
+	}
+
+	/**
+	 * Loads a class instrumented by the Autolog Java agent in a new class loader and invokes one of its methods.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 * @throws ReflectiveOperationException if the class cannot be loaded.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public String agentStartup(final AgentState state) throws ReflectiveOperationException {
+		return newService(new IsolatingClassLoader(MONITORED_SERVICE), MONITORED_SERVICE).greet(NAME);
+	}
+
+	/**
+	 * Loads a class woven by AspectJ in a new class loader and invokes one of its methods.
+	 *
+	 * @param state The benchmark state.
+	 * @return The result of the invoked method.
+	 * @throws ReflectiveOperationException if the class cannot be loaded.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 50)
+	public String aspectjStartup(final AspectJState state) throws ReflectiveOperationException {
+		return newService(new IsolatingClassLoader(MONITORED_SERVICE), MONITORED_SERVICE).greet(NAME);
+	}
+
+	/**
+	 * Builds a logger manager with a single logger discarding the log events.
+	 *
+	 * @return The logger manager.
+	 */
+	LoggerManager buildLoggerManager() {
+		return new LoggerManager().register(new DiscardingLogger(loggingEnabled));
+	}
+
+	/**
+	 * Instantiates a service from the given class loader.
+	 *
+	 * @param classLoader	The class loader.
+	 * @param className		The name of the implementation of {@link GreetingService}.
+	 * @return The service instance.
+	 * @throws ReflectiveOperationException if the class cannot be loaded or instantiated.
+	 */
+	static GreetingService newService(final ClassLoader classLoader, final String className)
+		throws ReflectiveOperationException {
+		return (GreetingService) Class.forName(className, true, classLoader).getConstructor().newInstance();
+	}
+
+	/**
+	 * State providing a service without instrumentation.
+	 */
+	@State(Scope.Benchmark)
+	public static class BaselineState {
+
+		private GreetingService service;
+
+		/**
+		 * Instantiates the service.
+		 *
+		 * @throws ReflectiveOperationException if the service cannot be instantiated.
+		 */
+		@Setup
+		public void setUp() throws ReflectiveOperationException {
+			service = newService(InstrumentationBenchmark.class.getClassLoader(), PLAIN_SERVICE);
+		}
+	}
+
+	/**
+	 * State installing the Autolog Java agent and providing an instrumented service.
+	 */
+	@State(Scope.Benchmark)
+	public static class AgentState {
+
+		private GreetingService service;
+
+		/**
+		 * Installs the agent and instantiates the service.
+		 *
+		 * @param benchmark The benchmark.
+		 * @throws ReflectiveOperationException if the service cannot be instantiated.
+		 */
+		@Setup
+		public void setUp(final InstrumentationBenchmark benchmark) throws ReflectiveOperationException {
+			AgentLoggerManager.getInstance().init(benchmark.buildLoggerManager());
+			AutologAgent.install(ByteBuddyAgent.install());
+			service = newService(InstrumentationBenchmark.class.getClassLoader(), MONITORED_SERVICE);
+		}
+	}
+
+	/**
+	 * State registering the AspectJ load-time weaver and providing a woven service.
+	 */
+	@State(Scope.Benchmark)
+	public static class AspectJState {
+
+		private GreetingService service;
+
+		/**
+		 * Registers the weaver and instantiates the service.
+		 *
+		 * @param benchmark The benchmark.
+		 * @throws ReflectiveOperationException if the service cannot be instantiated.
+		 */
+		@Setup
+		public void setUp(final InstrumentationBenchmark benchmark) throws ReflectiveOperationException {
+			AspectJLoggerManager.getInstance().init(benchmark.buildLoggerManager());
+			ByteBuddyAgent.install().addTransformer(new ClassPreProcessorAgentAdapter());
+			service = newService(InstrumentationBenchmark.class.getClassLoader(), MONITORED_SERVICE);
+		}
+	}
+
+	/**
+	 * Class loader defining its own copy of a given class, the other classes being loaded by its parent.
+	 */
+	static class IsolatingClassLoader extends ClassLoader {
+
+		private final String isolatedClassName;
+
+		IsolatingClassLoader(final String isolatedClassName) {
+			super(InstrumentationBenchmark.class.getClassLoader());
+			this.isolatedClassName = isolatedClassName;
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (!isolatedClassName.equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loadedClass = findLoadedClass(name);
+				if (loadedClass == null) {
+					loadedClass = findClass(name);
+				}
+				return loadedClass;
+			}
+		}
+
+		@Override
+		protected Class<?> findClass(final String name) throws ClassNotFoundException {
+			try (InputStream inputStream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+				if (inputStream == null) {
+					throw new ClassNotFoundException(name);
+				}
+				final byte[] bytes = inputStream.readAllBytes();
+				return defineClass(name, bytes, 0, bytes.length);
+			} catch (final IOException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+	/**
+	 * Implementation of {@link LoggerInterface} discarding all the log events.
+	 */
+	static class DiscardingLogger implements LoggerInterface {
+
+		private final boolean enabled;
+		private volatile String lastFormat;
+
+		DiscardingLogger(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Override
+		public boolean isEnabled(final String topic, final LogLevel level) {
+			return enabled;
+		}
+
+		@Override
+		public void trace(final String topic, final String format, final Object... arguments) {
+			lastFormat = format;
+		}
+
+		@Override
+		public void debug(final String topic, final String format, final Object... arguments) {
+			lastFormat = format;
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Object... arguments) {
+			lastFormat = format;
+		}
+
+		@Override
+		public void warn(final String topic, final String format, final Object... arguments) {
+			lastFormat = format;
+		}
+
+		@Override
+		public void error(final String topic, final String format, final Object... arguments) {
+			lastFormat = format;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.MethodPerformanceLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.performance.PerformanceTimer;
+import com.github.maximevw.autolog.core.logger.performance.PerformanceTimerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost of the resolution of the API endpoint (path and HTTP method) corresponding to a method
+ * of a Spring Web controller, when a performance timer is started with
+ * {@link MethodPerformanceLoggingConfiguration#isApiEndpointsAutoConfigured()} enabled.
+ * <p>
+ *     The benchmark {@link #uncachedResolution(Blackhole)} reproduces the former implementation (resolving the API
+ *     endpoint from the annotations on each invocation) as a baseline.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiEndpointBenchmark {
+
+	private Method controllerMethod;
+	private MethodPerformanceLogger methodPerformanceLogger;
+	private MethodPerformanceLoggingConfiguration configuration;
+
+	/**
+	 * Initializes the monitored controller method and a {@link MethodPerformanceLogger} without registered logger.
+	 *
+	 * @throws NoSuchMethodException if the controller method cannot be found.
+	 */
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		controllerMethod = BenchmarkController.class.getMethod("getItem", String.class);
+		methodPerformanceLogger = new MethodPerformanceLogger(new LoggerManager());
+		configuration = MethodPerformanceLoggingConfiguration.builder().build();
+	}
+
+	/**
+	 * Resolves the API endpoint from the annotations of the controller method.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 */
+	@Benchmark
+	public void uncachedResolution(final Blackhole blackhole) {
+		blackhole.consume(LoggingUtils.retrieveApiPath(controllerMethod, configuration.getName(),
+			configuration.isClassNameDisplayed()));
+		blackhole.consume(LoggingUtils.retrieveHttpMethod(controllerMethod));
+	}
+
+	/**
+	 * Gets the cached API endpoint of the controller method.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 */
+	@Benchmark
+	public void cachedResolution(final Blackhole blackhole) {
+		final MethodDescriptor.ApiEndpoint apiEndpoint = MethodDescriptor.of(controllerMethod).getApiEndpoint();
+		blackhole.consume(apiEndpoint.getPath());
+		blackhole.consume(apiEndpoint.getHttpMethod());
+	}
+
+	/**
+	 * Starts a performance timer for the controller method, as done for each request by the aspects.
+	 *
+	 * @return The started performance timer.
+	 */
+	@Benchmark
+	public PerformanceTimer startTimer() {
+		final PerformanceTimer performanceTimer = methodPerformanceLogger.start(configuration, controllerMethod);
+		// Remove the timer from the current thread to avoid an ever-growing chain of parent timers.
+		PerformanceTimerContext.removeCurrent();
+		return performanceTimer;
+	}
+
+	/**
+	 * Spring Web controller used for benchmarking purpose.
+	 */
+	@RestController
+	@RequestMapping("/api/items")
+	public static class BenchmarkController {
+
+		/**
+		 * Endpoint used for benchmarking purpose.
+		 *
+		 * @param id The item identifier.
+		 * @return The item.
+		 */
+		@GetMapping("/{id}")
+		public String getItem(@PathVariable final String id) {
+			return id;
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.LoggerManagerBenchmark.BlackholeAdapter;
+import com.github.maximevw.autolog.core.logger.async.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost of logging for the calling threads, with a synchronous dispatch or an asynchronous
+ * dispatch of the log events using the different wait strategies.
+ * <p>
+ *     The registered adapter simulates a slow logger (e.g. a JDBC insert) by consuming CPU tokens for each event, and
+ *     the benchmarked method simulates the business work done between two log events in the same way. At the end of
+ *     each trial, the statistics of the asynchronous dispatch (throughput and hand-off latency) are printed.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class AsyncDispatchBenchmark {
+
+	private static final String TOPIC = "Benchmark";
+	private static final String MESSAGE = "Entering {} with arguments: {}";
+	private static final Object[] ARGUMENTS = {"BenchmarkClass.benchmarkMethod", "arg0=value, arg1=1"};
+
+	@Param({"SYNC", "BUSY_SPIN", "YIELD", "PARK"})
+	private String dispatchMode;
+
+	@Param({"0", "500"})
+	private long adapterCostInTokens;
+
+	@Param("1000")
+	private long businessCostInTokens;
+
+	private LoggerManager loggerManager;
+
+	/**
+	 * Initializes a {@link LoggerManager} with a single adapter consuming the log events in a {@link Blackhole}, and
+	 * starts the asynchronous dispatch if required.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 */
+	@Setup
+	public void setUp(final Blackhole blackhole) {
+		loggerManager = new LoggerManager();
+		loggerManager.register(new BlackholeAdapter(blackhole) {
+			@Override
+			public void info(final String topic, final String format, final Object... arguments) {
+				Blackhole.consumeCPU(adapterCostInTokens);
+				super.info(topic, format, arguments);
+			}
+		});
+		if (!"SYNC".equals(dispatchMode)) {
+			loggerManager.startAsyncDispatch(AsyncLoggingConfiguration.builder()
+				.waitStrategy(WaitStrategy.valueOf(dispatchMode))
+				.build());
+		}
+	}
+
+	/**
+	 * Stops the asynchronous dispatch and prints its statistics.
+	 */
+	@TearDown
+	public void tearDown() {
+		loggerManager.getAsyncDispatchStatistics().ifPresent(statistics ->
+			System.out.println(System.lineSeparator() + statistics));
+		loggerManager.stopAsyncDispatch();
+	}
+
+	/**
+	 * Simulates some business work then logs a message through {@link LoggerManager}.
+	 */
+	@Benchmark
+	public void log() {
+		Blackhole.consumeCPU(businessCostInTokens);
+		loggerManager.logWithLevel(LogLevel.INFO, TOPIC, MESSAGE, null, ARGUMENTS);
+	}
+}
@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost and the allocations of the logging of the input and output data of a method by
+ * {@link MethodCallLogger}, with and without the garbage-free mode (see {@link LoggerManager#setGarbageFree(boolean)}).
+ * <p>
+ *     The allocations are measured with the GC profiler of JMH:
+ *     <code>java -jar autolog-benchmarks/target/benchmarks.jar GarbageFreeLoggingBenchmark -prof gc</code>. In
+ *     garbage-free mode, the normalized allocation rate ({@code gc.alloc.rate.norm}) is expected to be 0 B/op for
+ *     these primitive and string arguments.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GarbageFreeLoggingBenchmark {
+
+	/**
+	 * The values of the arguments of the logged method, boxed once (the boxing is done by the caller of Autolog).
+	 */
+	private static final Object[] ARGUMENTS = {42, 123_456_789L, "benchmark", true};
+
+	private static final String OUTPUT_VALUE = "result";
+
+	@Param({"false", "true"})
+	private boolean garbageFree;
+
+	private MethodCallLogger methodCallLogger;
+	private MethodInputLoggingConfiguration inputConfiguration;
+	private MethodOutputLoggingConfiguration outputConfiguration;
+	private Method inputMethod;
+	private Method outputMethod;
+	private Method voidMethod;
+
+	/**
+	 * Initializes a {@link MethodCallLogger} with a single adapter consuming the log events in a {@link Blackhole}.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 * @throws NoSuchMethodException if the logged methods cannot be found.
+	 */
+	@Setup
+	public void setUp(final Blackhole blackhole) throws NoSuchMethodException {
+		final LoggerManager loggerManager = new LoggerManager()
+			.register(new LoggerManagerBenchmark.BlackholeAdapter(blackhole))
+			.setGarbageFree(garbageFree);
+		methodCallLogger = new MethodCallLogger(loggerManager);
+		inputConfiguration = MethodInputLoggingConfiguration.builder().build();
+		// The output value is not pretty-formatted (as with @AutoLogMethodInOut by default): the serialization in JSON
+		// or XML always allocates.
+		outputConfiguration = MethodOutputLoggingConfiguration.builder().prettyFormat(null).build();
+		inputMethod = LoggedService.class.getMethod("process", int.class, long.class, String.class, boolean.class);
+		outputMethod = LoggedService.class.getMethod("describe");
+		voidMethod = LoggedService.class.getMethod("reset");
+	}
+
+	/**
+	 * Logs the input data of a method having primitive and string arguments.
+	 */
+	@Benchmark
+	public void logMethodInput() {
+		methodCallLogger.logMethodInput(inputConfiguration, inputMethod, ARGUMENTS);
+	}
+
+	/**
+	 * Logs the output value of a method returning a string.
+	 */
+	@Benchmark
+	public void logMethodOutput() {
+		methodCallLogger.logMethodOutput(outputConfiguration, outputMethod, OUTPUT_VALUE);
+	}
+
+	/**
+	 * Logs the end of the invocation of a method returning {@code void}.
+	 */
+	@Benchmark
+	public void logVoidMethodOutput() {
+		methodCallLogger.logMethodOutput(outputConfiguration, voidMethod, null);
+	}
+
+	/**
+	 * Service whose methods are logged in the benchmarks.
+	 */
+	public static class LoggedService {
+
+		/**
+		 * Method having primitive and string arguments.
+		 *
+		 * @param count		An integer argument.
+		 * @param id		A long argument.
+		 * @param name		A string argument.
+		 * @param enabled	A boolean argument.
+		 */
+		public void process(final int count, final long id, final String name, final boolean enabled) {
+			// Method for benchmarking purpose only.
+		}
+
+		/**
+		 * Method returning a string.
+		 *
+		 * @return A string.
+		 */
+		public String describe() {
+			return OUTPUT_VALUE;
+		}
+
+		/**
+		 * Method returning {@code void}.
+		 */
+		public void reset() {
+			// Method for benchmarking purpose only.
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost of the dispatching of a log event by {@link LoggerManager} to the registered
+ * implementations of {@link LoggerInterface}.
+ * <p>
+ *     The benchmark {@link #reflectiveDispatch(Blackhole)} reproduces the former implementation of
+ *     {@link LoggerManager#logWithLevel(LogLevel, String, String, Map, Object...)} (looking up and invoking the
+ *     logging method by reflection for each event) as a baseline.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerManagerBenchmark {
+
+	private static final String TOPIC = "Benchmark";
+	private static final String MESSAGE = "Entering {} with arguments: {}";
+	private static final Object[] ARGUMENTS = {"BenchmarkClass.benchmarkMethod", "arg0=value, arg1=1"};
+	private static final Map<String, String> CONTEXTUAL_DATA = Map.of("invokedMethod", "benchmarkMethod");
+
+	@Param({"INFO", "DEBUG"})
+	private LogLevel logLevel;
+
+	@Param({"false", "true"})
+	private boolean withContextualData;
+
+	private LoggerManager loggerManager;
+	private BlackholeAdapter adapter;
+
+	/**
+	 * Initializes a {@link LoggerManager} with a single adapter consuming the log events in a {@link Blackhole}.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 */
+	@Setup
+	public void setUp(final Blackhole blackhole) {
+		adapter = new BlackholeAdapter(blackhole);
+		loggerManager = new LoggerManager();
+		loggerManager.register(adapter);
+	}
+
+	/**
+	 * Dispatches a log event through {@link LoggerManager}.
+	 */
+	@Benchmark
+	public void directDispatch() {
+		loggerManager.logWithLevel(logLevel, TOPIC, MESSAGE, contextualData(), ARGUMENTS);
+	}
+
+	/**
+	 * Dispatches a log event by looking up and invoking the logging method by reflection.
+	 *
+	 * @param blackhole The JMH blackhole.
+	 * @throws ReflectiveOperationException if the logging method cannot be invoked.
+	 */
+	@Benchmark
+	public void reflectiveDispatch(final Blackhole blackhole) throws ReflectiveOperationException {
+		final String logMethodName = logLevel.name().toLowerCase();
+		final Map<String, String> contextualData = contextualData();
+		try {
+			final Method logMethod;
+			if (contextualData == null) {
+				logMethod = adapter.getClass().getMethod(logMethodName, String.class, String.class, Object[].class);
+				logMethod.invoke(adapter, TOPIC, MESSAGE, ARGUMENTS);
+			} else {
+				logMethod = adapter.getClass().getMethod(logMethodName, String.class, String.class, Map.class,
+					Object[].class);
+				logMethod.invoke(adapter, TOPIC, MESSAGE, contextualData, ARGUMENTS);
+			}
+		} catch (final InvocationTargetException e) {
+			blackhole.consume(e);
+		}
+	}
+
+	private Map<String, String> contextualData() {
+		if (withContextualData) {
+			return CONTEXTUAL_DATA;
+		}
+		return null;
+	}
+
+	/**
+	 * Implementation of {@link LoggerInterface} consuming all the log events in a {@link Blackhole}.
+	 */
+	public static class BlackholeAdapter implements LoggerInterface {
+
+		private final Blackhole blackhole;
+
+		BlackholeAdapter(final Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void trace(final String topic, final String format, final Object... arguments) {
+			consume(topic, format, null, arguments);
+		}
+
+		@Override
+		public void trace(final String topic, final String format, final Map<String, String> contextualData,
+						  final Object... arguments) {
+			consume(topic, format, contextualData, arguments);
+		}
+
+		@Override
+		public void debug(final String topic, final String format, final Object... arguments) {
+			consume(topic, format, null, arguments);
+		}
+
+		@Override
+		public void debug(final String topic, final String format, final Map<String, String> contextualData,
+						  final Object... arguments) {
+			consume(topic, format, contextualData, arguments);
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Object... arguments) {
+			consume(topic, format, null, arguments);
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Map<String, String> contextualData,
+						 final Object... arguments) {
+			consume(topic, format, contextualData, arguments);
+		}
+
+		@Override
+		public void warn(final String topic, final String format, final Object... arguments) {
+			consume(topic, format, null, arguments);
+		}
+
+		@Override
+		public void warn(final String topic, final String format, final Map<String, String> contextualData,
+						 final Object... arguments) {
+			consume(topic, format, contextualData, arguments);
+		}
+
+		@Override
+		public void error(final String topic, final String format, final Object... arguments) {
+			consume(topic, format, null, arguments);
+		}
+
+		@Override
+		public void error(final String topic, final String format, final Map<String, String> contextualData,
+						  final Object... arguments) {
+			consume(topic, format, contextualData, arguments);
+		}
+
+		private void consume(final String topic, final String format, final Map<String, String> contextualData,
+							 final Object... arguments) {
+			blackhole.consume(topic);
+			blackhole.consume(format);
+			blackhole.consume(contextualData);
+			blackhole.consume(arguments);
+		}
+	}
+
+}
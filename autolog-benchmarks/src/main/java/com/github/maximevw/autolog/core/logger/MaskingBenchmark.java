@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost of the masking of the arguments annotated with {@link Mask}, applied through the
+ * {@link MaskPlan} compiled once per annotation and held by the {@link MethodDescriptor} of the logged method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskingBenchmark {
+
+	@Param({"4970 1012 3456 7890", "john.doe@example.com"})
+	private String value;
+
+	private MaskPlan cardNumberMaskPlan;
+	private MaskPlan emailMaskPlan;
+
+	/**
+	 * Compiles the {@link Mask} annotations of the parameters of {@link #pay(String, String)}.
+	 *
+	 * @throws NoSuchMethodException if the method {@link #pay(String, String)} is not defined.
+	 */
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		final Method method = MaskingBenchmark.class.getMethod("pay", String.class, String.class);
+		cardNumberMaskPlan = MaskPlan.of(method.getParameters()[0].getAnnotation(Mask.class));
+		emailMaskPlan = MaskPlan.of(method.getParameters()[1].getAnnotation(Mask.class));
+	}
+
+	/**
+	 * Masks the value with preserved ranges and characters.
+	 *
+	 * @return The masked value.
+	 */
+	@Benchmark
+	public Object maskWithPreservedRanges() {
+		return cardNumberMaskPlan.mask(value);
+	}
+
+	/**
+	 * Masks the value with preserved characters only.
+	 *
+	 * @return The masked value.
+	 */
+	@Benchmark
+	public Object maskWithPreservedCharacters() {
+		return emailMaskPlan.mask(value);
+	}
+
+	/**
+	 * Method declaring the masked parameters used in the benchmarks.
+	 *
+	 * @param cardNumber	The masked card number.
+	 * @param email			The masked email.
+	 */
+	public void pay(@Mask(preservedCharacters = "0:4, :4, [ ]") final String cardNumber,
+					@Mask(preservedCharacters = "0:1, [@.]") final String email) {
+		// Nothing to do: only used to declare the masked parameters.
+	}
+}
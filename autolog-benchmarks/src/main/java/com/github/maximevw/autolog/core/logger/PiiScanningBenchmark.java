@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * Autolog benchmarks module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.PiiScanningConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks measuring the cost of the redaction of the personal and sensitive data in rendered payloads by
+ * {@link PiiScanner}, compared to the application of one regular expression per type of data.
+ * <p>
+ *     The payloads are made of JSON records containing an email address, a card number, an IBAN and a bearer token.
+ *     Each benchmark first copies the payload into a reused builder (like the rendering does): the benchmark
+ *     {@link #copyOnly()} measures this copy alone.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PiiScanningBenchmark {
+
+	private static final String RECORD = "{\"id\":12345,\"name\":\"John Doe\",\"email\":\"john.doe@example.com\","
+		+ "\"card\":\"4111 1111 1111 1111\",\"iban\":\"DE89370400440532013000\","
+		+ "\"auth\":\"Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIn0.sig\",\"note\":\"Lorem ipsum dolor sit amet, "
+		+ "consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.\"}";
+
+	private static final Pattern[] REGEX_RULES = {
+		Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}"),
+		Pattern.compile("\\b(?:\\d[ -]?){13,19}\\b"),
+		Pattern.compile("\\b[A-Z]{2}\\d{2}(?: ?[A-Z0-9]){11,30}\\b"),
+		Pattern.compile("(?i)bearer\\s+[^\\s\",;]+")
+	};
+
+	@Param({"100", "10240", "1048576"})
+	private int payloadSize;
+
+	private String payload;
+	private StringBuilder builder;
+	private PiiScanner scanner;
+
+	/**
+	 * Builds the payload of the requested size and the scanner with the default detections.
+	 */
+	@Setup
+	public void setUp() {
+		final StringBuilder payloadBuilder = new StringBuilder(payloadSize + RECORD.length());
+		while (payloadBuilder.length() < payloadSize) {
+			payloadBuilder.append(RECORD).append('\n');
+		}
+		payload = payloadBuilder.substring(0, payloadSize);
+		builder = new StringBuilder(payloadSize);
+		scanner = new PiiScanner(PiiScanningConfiguration.builder().build());
+	}
+
+	/**
+	 * Copies the payload into the reused builder (baseline).
+	 *
+	 * @return The builder.
+	 */
+	@Benchmark
+	public StringBuilder copyOnly() {
+		builder.setLength(0);
+		return builder.append(payload);
+	}
+
+	/**
+	 * Copies the payload into the reused builder and redacts it in a single pass with {@link PiiScanner}.
+	 *
+	 * @return The builder.
+	 */
+	@Benchmark
+	public StringBuilder singlePassScan() {
+		builder.setLength(0);
+		builder.append(payload);
+		scanner.scan(builder, 0);
+		return builder;
+	}
+
+	/**
+	 * Redacts the payload by applying a pre-compiled regular expression per type of data, without any validation of
+	 * the card numbers or IBANs.
+	 *
+	 * @return The redacted payload.
+	 */
+	@Benchmark
+	public String regexReplaceAll() {
+		String redacted = payload;
+		for (final Pattern rule : REGEX_RULES) {
+			redacted = rule.matcher(redacted).replaceAll("***");
+		}
+		return redacted;
+	}
+
+}
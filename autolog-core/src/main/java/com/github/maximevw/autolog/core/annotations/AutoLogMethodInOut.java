@@ -327,4 +327,20 @@ public @interface AutoLogMethodInOut {
 	 */
 	@API(status = API.Status.STABLE, since = "1.2.0")
 	boolean callerClassAsTopic() default false;
+
+	/**
+	 * @return The sampling of the invocations of the method: when an invocation is not sampled, nothing is logged for
+	 * 		   it. By default, all the invocations are logged.
+	 * @see Sampling
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	Sampling sampling() default @Sampling;
+
+	/**
+	 * @return The maximal rate of the log events generated for the method: the log events exceeding this rate are
+	 * 		   suppressed and counted in a periodic summary. By default, the rate is not limited.
+	 * @see RateLimit
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	RateLimit rateLimit() default @RateLimit;
 }
@@ -234,4 +234,12 @@ public @interface AutoLogMethodInput {
 	 */
 	@API(status = API.Status.STABLE, since = "1.2.0")
 	boolean callerClassAsTopic() default false;
+
+	/**
+	 * @return The maximal rate of the log events generated for the method: the log events exceeding this rate are
+	 * 		   suppressed and counted in a periodic summary. By default, the rate is not limited.
+	 * @see RateLimit
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	RateLimit rateLimit() default @RateLimit;
 }
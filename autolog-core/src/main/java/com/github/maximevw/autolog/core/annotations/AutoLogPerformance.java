@@ -302,6 +302,9 @@ public @interface AutoLogPerformance {
 	 *         <li><b>{@code httpMethod}</b> ({@code String}) containing the HTTP method (if applicable);</li>
 	 *         <li><b>{@code executionTime}</b> ({@code String}) containing the execution time of the invoked method in
 	 *         a human-readable format;</li>
+	 *         <li><b>{@code executionTimeInMs}</b>, <b>{@code executionTimeInUs}</b> and
+	 *         <b>{@code executionTimeInNs}</b> ({@code long}) containing the execution time of the invoked method in
+	 *         milliseconds, microseconds and nanoseconds;</li>
 	 *         <li><b>{@code processedItems}</b> ({@code Integer}) containing the number of items processed by the
 	 *         invoked method, only if an {@link AdditionalDataProvider} is provided in the context;</li>
 	 *         <li><b>{@code averageExecutionTimeByItem}</b> ({@code String}) containing the average execution time by
@@ -319,4 +322,20 @@ public @interface AutoLogPerformance {
 	 */
 	@API(status = API.Status.STABLE, since = "1.2.0")
 	String messageTemplate() default DEFAULT_VELOCITY_TEMPLATE_NAME;
+
+	/**
+	 * @return The sampling of the invocations of the method: when an invocation is not sampled, nothing is logged for
+	 * 		   it. By default, all the invocations are logged.
+	 * @see Sampling
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	Sampling sampling() default @Sampling;
+
+	/**
+	 * @return The maximal rate of the log events generated for the method: the log events exceeding this rate are
+	 * 		   suppressed and counted in a periodic summary. By default, the rate is not limited.
+	 * @see RateLimit
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	RateLimit rateLimit() default @RateLimit;
 }
@@ -33,14 +33,24 @@ import java.lang.annotation.Target;
  * This annotation identifies a method argument to mask when it is automatically logged thanks to the annotations
  * {@link AutoLogMethodInput} or {@link AutoLogMethodInOut}.
  * <p>
- *     <i>Note:</i> This annotation can only be applied to {@link String} and numeric arguments (classes inherited from
- *     {@link Number}).
+ *     Since version 1.3.0, it can also be applied to a field of a class: the value of the field is then masked each
+ *     time an instance of this class is logged using the JSON or XML format (see
+ *     {@link AutoLogMethodInOut#prettify()}), including when this instance is nested in another logged object.
+ * </p>
+ * <p>
+ *     Since version 1.3.0, it can also be applied to a method: its output value is then masked when it is automatically
+ *     logged thanks to the annotations {@link AutoLogMethodOutput} or {@link AutoLogMethodInOut}. When applied to a
+ *     getter, the corresponding property is masked like an annotated field.
+ * </p>
+ * <p>
+ *     <i>Note:</i> This annotation can only be applied to {@link String} and numeric arguments, output values or fields
+ *     (classes inherited from {@link Number}).
  * </p>
  */
 @API(status = API.Status.STABLE, since = "1.1.0")
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD})
 public @interface Mask {
 
 	/**
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.annotations;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation defines the maximal rate of the log events generated for a method automatically logged. It can only
+ * be used as the value of the parameter {@code rateLimit} of the annotations {@link AutoLogMethodInOut},
+ * {@link AutoLogMethodInput}, {@link AutoLogMethodOutput} and {@link AutoLogPerformance}.
+ * <p>
+ *     The rate is limited with a token bucket: up to {@link #burst()} events can be logged at once, then the events are
+ *     logged at most at the rate {@link #eventsPerSecond()}. The events exceeding the limit are suppressed and their
+ *     number is periodically reported (see {@link com.github.maximevw.autolog.core.logger.LogRateLimiter}).
+ * </p>
+ * <p>
+ *     When used in {@link AutoLogMethodInOut}, the limit applies to all the events generated for the annotated method:
+ *     the input and output (or throwable) events share the same bucket.
+ * </p>
+ *
+ * <h1>Example</h1>
+ * <p>
+ *     For example, to log at most 10 exceptions per second thrown by a method:
+ *     <pre>
+ *         {@literal @}AutoLogMethodOutput(logThrowable = true, rateLimit = {@literal @}RateLimit(eventsPerSecond = 10))
+ *         public String myMethod(final String arg0) {
+ *             // ...
+ *         }
+ *     </pre>
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface RateLimit {
+
+	/**
+	 * @return The maximal number of log events per second. If lower than or equal to 0, the rate is not limited. By
+	 * 		   default: 0.
+	 */
+	int eventsPerSecond() default 0;
+
+	/**
+	 * @return The maximal number of log events which can be logged at once. If lower than or equal to 0, the value of
+	 * 		   {@link #eventsPerSecond()} is used. By default: 0.
+	 */
+	int burst() default 0;
+}
@@ -0,0 +1,76 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.annotations;
+
+import com.github.maximevw.autolog.core.configuration.SamplingMode;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation defines the sampling of the invocations of the methods automatically logged. It can only be used as
+ * the value of the parameters {@link AutoLogMethodInOut#sampling()} and {@link AutoLogPerformance#sampling()}.
+ *
+ * <h1>Example</h1>
+ * <p>
+ *     For example, to log the performance of one invocation out of 100:
+ *     <pre>
+ *         {@literal @}AutoLogPerformance(sampling = {@literal @}Sampling(mode = SamplingMode.FIXED_RATE, oneIn = 100))
+ *         public String myMethod(final String arg0) {
+ *             // ...
+ *         }
+ *     </pre>
+ * </p>
+ *
+ * @see SamplingMode
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface Sampling {
+
+	/**
+	 * @return The sampling mode. By default: {@link SamplingMode#NONE} (all the invocations are logged).
+	 */
+	SamplingMode mode() default SamplingMode.NONE;
+
+	/**
+	 * @return The number of invocations from which a single one is logged, when the mode is
+	 * 		   {@link SamplingMode#FIXED_RATE}. It must be greater than or equal to 1. By default: 1.
+	 */
+	int oneIn() default 1;
+
+	/**
+	 * @return The probability to log an invocation, when the mode is {@link SamplingMode#PROBABILISTIC}. It must be
+	 * 		   greater than 0 and lower than or equal to 1. By default: 1.
+	 */
+	double probability() default 1;
+
+	/**
+	 * @return The maximal number of invocations logged per second, when the mode is {@link SamplingMode#ADAPTIVE}. It
+	 * 		   must be greater than or equal to 1. By default: {@link Integer#MAX_VALUE}.
+	 */
+	int maxEventsPerSecond() default Integer.MAX_VALUE;
+}
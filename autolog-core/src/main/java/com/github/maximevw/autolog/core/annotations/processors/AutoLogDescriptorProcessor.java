@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.annotations.processors;
+
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import org.apiguardian.api.API;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor generating, for each type using the annotations {@link AutoLogMethodInOut},
+ * {@link AutoLogMethodInput}, {@link AutoLogMethodOutput} or {@link AutoLogPerformance} (on the type itself or on its
+ * methods), a descriptor class containing the names of the parameters of the methods declared in this type.
+ * <p>
+ *     The generated descriptor of a type {@code com.example.MyClass} is the class
+ *     {@code com.example.MyClass$AutologDescriptor} exposing a static field {@value #PARAMETERS_NAMES_FIELD} of type
+ *     {@code Map<String, String[]>}: the keys are the signatures of the methods (for example
+ *     {@code myMethod(java.lang.String,int[])}) and the values the names of their parameters.
+ * </p>
+ * <p>
+ *     The descriptors are used at runtime to log the names of the arguments when the application is not compiled with
+ *     the argument {@code -parameters}.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0")
+@SupportedAnnotationTypes({
+	"com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut",
+	"com.github.maximevw.autolog.core.annotations.AutoLogMethodInput",
+	"com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput",
+	"com.github.maximevw.autolog.core.annotations.AutoLogPerformance"
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_11)
+public class AutoLogDescriptorProcessor extends AbstractProcessor {
+
+	/**
+	 * Suffix appended to the binary name of a type to get the name of its generated descriptor class.
+	 */
+	public static final String DESCRIPTOR_CLASS_SUFFIX = "$AutologDescriptor";
+
+	/**
+	 * Name of the static field of the generated descriptor class containing the parameters names by method signature.
+	 */
+	public static final String PARAMETERS_NAMES_FIELD = "PARAMETERS_NAMES";
+
+	/**
+	 * The binary names of the types for which a descriptor has already been generated.
+	 */
+	private final Set<String> describedTypes = new HashSet<>();
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		final Set<TypeElement> annotatedTypes = new LinkedHashSet<>();
+		annotations.forEach(typeElement ->
+			roundEnv.getElementsAnnotatedWith(typeElement).forEach(element -> {
+				if (element.getKind().isClass() || element.getKind().isInterface()) {
+					annotatedTypes.add((TypeElement) element);
+				} else if (element.getKind() == ElementKind.METHOD) {
+					annotatedTypes.add((TypeElement) element.getEnclosingElement());
+				}
+			}));
+
+		annotatedTypes.forEach(this::generateDescriptor);
+
+		return false;
+	}
+
+	/**
+	 * Generates the descriptor class of the given type.
+	 *
+	 * @param type The type for which the descriptor is generated.
+	 */
+	private void generateDescriptor(final TypeElement type) {
+		final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		if (!describedTypes.add(binaryName)) {
+			return;
+		}
+
+		final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		final String descriptorClassName;
+		if (packageName.isEmpty()) {
+			descriptorClassName = binaryName + DESCRIPTOR_CLASS_SUFFIX;
+		} else {
+			descriptorClassName = binaryName.substring(packageName.length() + 1) + DESCRIPTOR_CLASS_SUFFIX;
+		}
+
+		final List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+			.filter(method -> !method.getParameters().isEmpty())
+			.collect(Collectors.toList());
+
+		try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+			.createSourceFile(binaryName + DESCRIPTOR_CLASS_SUFFIX, type).openWriter())) {
+			if (!packageName.isEmpty()) {
+				writer.printf("package %s;%n%n", packageName);
+			}
+			writer.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+			writer.printf("public final class %s {%n%n", descriptorClassName);
+			writer.printf("\tpublic static final java.util.Map<String, String[]> %s = java.util.Map.ofEntries(",
+				PARAMETERS_NAMES_FIELD);
+			writer.print(methods.stream()
+				.map(method -> String.format("%n\t\tjava.util.Map.entry(\"%s\", new String[] {%s})",
+					getSignature(method), method.getParameters().stream()
+						.map(parameter -> String.format("\"%s\"", parameter.getSimpleName()))
+						.collect(Collectors.joining(", "))))
+				.collect(Collectors.joining(",")));
+			writer.printf(");%n%n");
+			writer.printf("\tprivate %s() {%n\t}%n}%n", descriptorClassName);
+		} catch (final IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				String.format("Unable to generate Autolog descriptor for type %s: %s", binaryName, e.getMessage()),
+				type);
+		}
+	}
+
+	/**
+	 * Gets the signature of a method as used as key in the generated descriptors: the method name followed by the
+	 * comma-separated canonical names of the erased types of its parameters, between parentheses.
+	 *
+	 * @param method The method.
+	 * @return The signature of the method.
+	 */
+	private String getSignature(final ExecutableElement method) {
+		return method.getSimpleName() + method.getParameters().stream()
+			.map(VariableElement::asType)
+			.map(this::getTypeName)
+			.collect(Collectors.joining(",", "(", ")"));
+	}
+
+	/**
+	 * Gets the canonical name of the erased type of a parameter, as returned at runtime by
+	 * {@link Class#getCanonicalName()}.
+	 * <p>
+	 *     The name is built from the elements of the type rather than from {@link TypeMirror#toString()}, which
+	 *     includes the type annotations (for example {@code @NotNull java.lang.String}).
+	 * </p>
+	 *
+	 * @param type The type of the parameter.
+	 * @return The canonical name of the erased type.
+	 */
+	private String getTypeName(final TypeMirror type) {
+		final TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type);
+		if (erasedType.getKind() == TypeKind.ARRAY) {
+			return getTypeName(((ArrayType) erasedType).getComponentType()) + "[]";
+		} else if (erasedType.getKind() == TypeKind.DECLARED) {
+			return ((TypeElement) ((DeclaredType) erasedType).asElement()).getQualifiedName().toString();
+		} else if (erasedType.getKind().isPrimitive()) {
+			return erasedType.getKind().name().toLowerCase(Locale.ROOT);
+		}
+		return erasedType.toString();
+	}
+
+}
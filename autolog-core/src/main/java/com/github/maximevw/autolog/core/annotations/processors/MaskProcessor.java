@@ -32,6 +32,8 @@ import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
@@ -43,7 +45,7 @@ import java.util.Set;
  *     It checks:
  *     <ul>
  *         <li>if the annotation is applied to a {@link String} or numeric (i.e. inherited from {@link Number})
- *         argument.</li>
+ *         argument, method output or field.</li>
  *         <li>if the value of {@link Mask#preservedCharacters()} is valid.</li>
  *         <li>if the value of {@link Mask#fixedLength()} is equal to 0 when the value of
  *         {@link Mask#preservedCharacters()} is different of {@link Mask#FULL_MASK} (or equivalent values).</li>
@@ -74,15 +76,18 @@ public class MaskProcessor extends AbstractProcessor {
 	}
 
 	/**
-	 * Checks whether the type of the argument to which the annotation is applied is {@link String} or a numeric one
-	 * (i.e. inherited from {@link Number}).
+	 * Checks whether the type of the argument (or output value, or field) to which the annotation is applied is
+	 * {@link String} or a numeric one (i.e. inherited from {@link Number}).
 	 *
 	 * @param element   The processed element.
 	 * @param messager	The messager of the annotation processor.
 	 */
 	private static void checkMaskedArgumentType(final Element element, final Messager messager) {
 		final Mask maskAnnotation = element.getAnnotation(Mask.class);
-		final TypeMirror elementType = element.asType();
+		TypeMirror elementType = element.asType();
+		if (element.getKind() == ElementKind.METHOD) {
+			elementType = ((ExecutableElement) element).getReturnType();
+		}
 		Class<?> elementClass = null;
 		try {
 			if (elementType.getKind().isPrimitive()) {
@@ -92,15 +97,15 @@ public class MaskProcessor extends AbstractProcessor {
 			}
 		} catch (final ClassNotFoundException e) {
 			messager.printMessage(Diagnostic.Kind.WARNING,
-				String.format("Unable to process @Mask on method argument %s due to ClassNotFoundException: %s",
-					element.getSimpleName(), e.getMessage()));
+				String.format("Unable to process @Mask on %s due to ClassNotFoundException: %s",
+					describeElement(element), e.getMessage()));
 		}
 
 		if (maskAnnotation != null && elementClass != null
 			&& !(String.class.isAssignableFrom(elementClass) || Number.class.isAssignableFrom(elementClass))) {
 			messager.printMessage(Diagnostic.Kind.WARNING,
-				String.format("@Mask is applied to a method argument %s which is neither a String nor a numeric value. "
-					+ "It will be ignored.", element.getSimpleName()), element);
+				String.format("@Mask is applied to a %s which is neither a String nor a numeric value. "
+					+ "It will be ignored.", describeElement(element)), element);
 		}
 	}
 
@@ -115,8 +120,8 @@ public class MaskProcessor extends AbstractProcessor {
 		final Mask maskAnnotation = element.getAnnotation(Mask.class);
 		if (maskAnnotation != null && !maskAnnotation.preservedCharacters().matches(PRESERVED_CHARS_REGEX)) {
 			messager.printMessage(Diagnostic.Kind.ERROR,
-				String.format("Parameter 'preservedCharacters' of @Mask on method argument %s is invalid. Please check "
-					+ "the format of the expression.", element.getSimpleName()), element);
+				String.format("Parameter 'preservedCharacters' of @Mask on %s is invalid. Please check "
+					+ "the format of the expression.", describeElement(element)), element);
 		}
 	}
 
@@ -132,12 +137,28 @@ public class MaskProcessor extends AbstractProcessor {
 		if (maskAnnotation != null && maskAnnotation.fixedLength() > 0
 			&& !isFullMask(maskAnnotation.preservedCharacters())) {
 			messager.printMessage(Diagnostic.Kind.WARNING,
-				String.format("Parameter 'fixedLength' of @Mask on method argument %s should be equal to 0 since the "
-					+ "parameter 'preservedCharacters' is not a full mask expression.", element.getSimpleName()),
+				String.format("Parameter 'fixedLength' of @Mask on %s should be equal to 0 since the "
+					+ "parameter 'preservedCharacters' is not a full mask expression.", describeElement(element)),
 				element);
 		}
 	}
 
+	/**
+	 * Describes the element to which the annotation is applied in the compilation messages.
+	 *
+	 * @param element The processed element.
+	 * @return The description of the element: "field", "method output" or "method argument" followed by its name.
+	 */
+	private static String describeElement(final Element element) {
+		if (element.getKind() == ElementKind.FIELD) {
+			return "field " + element.getSimpleName();
+		}
+		if (element.getKind() == ElementKind.METHOD) {
+			return "method output " + element.getSimpleName();
+		}
+		return "method argument " + element.getSimpleName();
+	}
+
 	/**
 	 * Checks whether the given expression is equivalent to {@link Mask#FULL_MASK}.
 	 *
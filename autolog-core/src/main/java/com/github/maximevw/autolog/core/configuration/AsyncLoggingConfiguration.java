@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggerInterface;
+import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.async.DispatchHealth;
+import com.github.maximevw.autolog.core.logger.async.OverflowPolicy;
+import com.github.maximevw.autolog.core.logger.async.WaitStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration for the asynchronous dispatch of the log events by {@link LoggerManager}.
+ *
+ * @see LoggerManager#startAsyncDispatch(AsyncLoggingConfiguration)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AsyncLoggingConfiguration {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+	private static final long DEFAULT_SHUTDOWN_TIMEOUT_IN_MS = 5000L;
+	private static final long DEFAULT_DISPATCH_TIMEOUT_IN_MS = 1000L;
+
+	/**
+	 * The number of log events the ring buffer can hold. It is rounded up to the next power of two. By default: 8192.
+	 */
+	@Builder.Default
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * The number of consumer threads dispatching the log events to the registered loggers. By default: 1.
+	 * <p>
+	 *     <i>Note:</i> Using more than one consumer thread does not preserve the order of the log events.
+	 * </p>
+	 */
+	@Builder.Default
+	private int consumerThreads = 1;
+
+	/**
+	 * The strategy used by the threads waiting for the ring buffer. By default: {@link WaitStrategy#PARK}.
+	 */
+	@Builder.Default
+	private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+	/**
+	 * The maximal number of log events a consumer thread drains from the ring buffer at once. By default: 256.
+	 */
+	@Builder.Default
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	/**
+	 * The maximal time (in milliseconds) to wait for the consumer threads to dispatch the pending log events when
+	 * the asynchronous dispatch is stopped. By default: 5000 ms.
+	 */
+	@Builder.Default
+	private long shutdownTimeoutInMs = DEFAULT_SHUTDOWN_TIMEOUT_IN_MS;
+
+	/**
+	 * The policy applied when a log event is published while the ring buffer is full. By default:
+	 * {@link OverflowPolicy#BLOCK}.
+	 */
+	@Builder.Default
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	/**
+	 * The highest level of the log events which can be dropped when the overflow policy is
+	 * {@link OverflowPolicy#DROP_BY_LEVEL}. By default: {@code DEBUG}, so the {@code TRACE} and {@code DEBUG} events
+	 * are dropped while the publishing threads wait for a free slot for the events of higher levels.
+	 */
+	@Builder.Default
+	private LogLevel maxDroppableLevel = LogLevel.DEBUG;
+
+	/**
+	 * The maximal time (in milliseconds) a publishing thread waits for a free slot in the ring buffer before dropping
+	 * the log event, when the overflow policy is {@link OverflowPolicy#BLOCK} or {@link OverflowPolicy#DROP_BY_LEVEL}.
+	 * By default: 0, meaning that the publishing thread waits without time limit.
+	 */
+	private long maxBlockingTimeInMs;
+
+	/**
+	 * Whether each registered {@link LoggerInterface} gets its own ring buffer and consumer threads (bulkhead), so a
+	 * slow logger cannot delay the dispatch of the log events to the other ones. By default: {@code false}, all the
+	 * registered loggers share the same ring buffer.
+	 * <p>
+	 *     When the loggers are isolated, all the other parameters of this configuration apply to each logger
+	 *     independently.
+	 * </p>
+	 */
+	private boolean loggersIsolated;
+
+	/**
+	 * The maximal time (in milliseconds) the dispatch of a log event may take before the dispatcher is considered
+	 * as {@link DispatchHealth#DEGRADED}. By default: 1000 ms. A value of 0 disables the health tracking.
+	 */
+	@Builder.Default
+	private long dispatchTimeoutInMs = DEFAULT_DISPATCH_TIMEOUT_IN_MS;
+}
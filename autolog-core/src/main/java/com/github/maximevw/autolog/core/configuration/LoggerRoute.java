@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggerInterface;
+import com.github.maximevw.autolog.core.logger.LoggerManager;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration of a route restricting the registered loggers receiving the log events of some topics and levels.
+ * <p>
+ *     The topic pattern can be:
+ *     <ul>
+ *         <li>a logger name (for example {@code com.acme.batch.Job}): the route applies to this topic only;</li>
+ *         <li>a logger name followed by {@code .*} (for example {@code com.acme.batch.*}): the route applies to the
+ *         topic {@code com.acme.batch} and all the topics starting with {@code com.acme.batch.};</li>
+ *         <li>{@code *}: the route applies to all the topics.</li>
+ *     </ul>
+ *     When several routes match the topic and the level of a log event, the most specific topic pattern wins (an
+ *     exact logger name is more specific than any wildcard pattern, and a longer wildcard pattern is more specific
+ *     than a shorter one). The loggers of the routes having the same topic pattern are combined. The log events not
+ *     matched by any route are dispatched to all the registered loggers.
+ * </p>
+ *
+ * @see LoggerManager#addRoute(LoggerRoute)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LoggerRoute {
+
+	/**
+	 * The pattern of the topics (logger names) the route applies to. By default: {@code *} (all the topics).
+	 */
+	@Builder.Default
+	private String topicPattern = "*";
+
+	/**
+	 * The levels of the log events the route applies to. By default: all the levels.
+	 */
+	@Builder.Default
+	private Set<LogLevel> levels = EnumSet.allOf(LogLevel.class);
+
+	/**
+	 * The types of the registered loggers receiving the log events matched by the route. The registered loggers which
+	 * are instances of one of these types receive the log events. By default: none, so the matched log events are
+	 * discarded.
+	 */
+	@Builder.Default
+	private Set<Class<? extends LoggerInterface>> loggerTypes = new HashSet<>();
+
+}
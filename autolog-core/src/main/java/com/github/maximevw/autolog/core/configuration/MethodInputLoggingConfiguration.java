@@ -180,6 +180,19 @@ public class MethodInputLoggingConfiguration {
 	@Builder.Default
 	private boolean callerClassUsedAsTopic = false;
 
+	/**
+	 * The sampling of the invocations of the method: when an invocation is not sampled, nothing is logged for it. If
+	 * {@code null}, all the invocations are logged.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private SamplingConfiguration sampling;
+
+	/**
+	 * The maximal rate of the log events generated for the method. If {@code null}, the rate is not limited.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private RateLimitConfiguration rateLimit;
+
     /**
      * Builds a new instance of configuration for auto-logging of input data of methods calls based on an annotation
      * {@link AutoLogMethodInOut}.
@@ -203,6 +216,8 @@ public class MethodInputLoggingConfiguration {
 				.dataLoggedInContext(autoLogMethodInOut.logDataInContext())
 				.topic(autoLogMethodInOut.topic())
 				.callerClassUsedAsTopic(autoLogMethodInOut.callerClassAsTopic())
+				.sampling(SamplingConfiguration.from(autoLogMethodInOut.sampling()))
+				.rateLimit(RateLimitConfiguration.from(autoLogMethodInOut.rateLimit()))
                 .build();
     }
 
@@ -227,6 +242,7 @@ public class MethodInputLoggingConfiguration {
 				.dataLoggedInContext(autoLogMethodInput.logDataInContext())
 				.topic(autoLogMethodInput.topic())
 				.callerClassUsedAsTopic(autoLogMethodInput.callerClassAsTopic())
+				.rateLimit(RateLimitConfiguration.from(autoLogMethodInput.rateLimit()))
                 .build();
     }
 }
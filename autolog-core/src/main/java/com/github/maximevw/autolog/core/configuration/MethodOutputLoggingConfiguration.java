@@ -173,6 +173,19 @@ public class MethodOutputLoggingConfiguration {
 	@Builder.Default
 	private boolean callerClassUsedAsTopic = false;
 
+	/**
+	 * The sampling of the invocations of the method: when an invocation is not sampled, nothing is logged for it. If
+	 * {@code null}, all the invocations are logged.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private SamplingConfiguration sampling;
+
+	/**
+	 * The maximal rate of the log events generated for the method. If {@code null}, the rate is not limited.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private RateLimitConfiguration rateLimit;
+
     /**
      * Builds a new instance of configuration for auto-logging of output value of methods calls based on an annotation
      * {@link AutoLogMethodInOut}.
@@ -201,9 +214,33 @@ public class MethodOutputLoggingConfiguration {
 				.dataLoggedInContext(autoLogMethodInOut.logDataInContext())
 				.topic(autoLogMethodInOut.topic())
 				.callerClassUsedAsTopic(autoLogMethodInOut.callerClassAsTopic())
+				.sampling(SamplingConfiguration.from(autoLogMethodInOut.sampling()))
+				.rateLimit(RateLimitConfiguration.from(autoLogMethodInOut.rateLimit()))
                 .build();
     }
 
+	/**
+	 * Builds a new instance of configuration for auto-logging of output value of methods calls based on an annotation
+	 * {@link AutoLogMethodInOut}, sharing the rate limit of the configuration of the input data built from the same
+	 * annotation.
+	 * <p>
+	 *     The rate limit defined in {@link AutoLogMethodInOut} applies to all the log events generated for the
+	 *     annotated method: the input and output (or throwable) events must consume tokens of the same bucket.
+	 * </p>
+	 *
+	 * @param autoLogMethodInOut	An annotation {@link AutoLogMethodInOut}.
+	 * @param inputConfiguration	The configuration of the input data built from the same annotation for the same
+	 *                              method.
+	 * @return A new instance of {@code MethodOutputLoggingConfiguration}.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public static MethodOutputLoggingConfiguration from(final AutoLogMethodInOut autoLogMethodInOut,
+														final MethodInputLoggingConfiguration inputConfiguration) {
+		final MethodOutputLoggingConfiguration outputConfiguration = from(autoLogMethodInOut);
+		outputConfiguration.setRateLimit(inputConfiguration.getRateLimit());
+		return outputConfiguration;
+	}
+
     /**
      * Builds a new instance of configuration for auto-logging of output value of methods calls based on an annotation
      * {@link AutoLogMethodOutput}.
@@ -224,6 +261,7 @@ public class MethodOutputLoggingConfiguration {
 				.dataLoggedInContext(autoLogMethodOutput.logDataInContext())
 				.topic(autoLogMethodOutput.topic())
 				.callerClassUsedAsTopic(autoLogMethodOutput.callerClassAsTopic())
+				.rateLimit(RateLimitConfiguration.from(autoLogMethodOutput.rateLimit()))
                 .build();
     }
 }
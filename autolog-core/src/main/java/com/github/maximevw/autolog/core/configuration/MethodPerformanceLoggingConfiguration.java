@@ -246,6 +246,9 @@ public class MethodPerformanceLoggingConfiguration {
 	 *         <li><b>{@code httpMethod}</b> ({@code String}) containing the HTTP method (if applicable);</li>
 	 *         <li><b>{@code executionTime}</b> ({@code String}) containing the execution time of the invoked method in
 	 *         a human-readable format;</li>
+	 *         <li><b>{@code executionTimeInMs}</b>, <b>{@code executionTimeInUs}</b> and
+	 *         <b>{@code executionTimeInNs}</b> ({@code long}) containing the execution time of the invoked method in
+	 *         milliseconds, microseconds and nanoseconds;</li>
 	 *         <li><b>{@code processedItems}</b> ({@code Integer}) containing the number of items processed by the
 	 *         invoked method, only if an {@link AdditionalDataProvider} is provided in the context;</li>
 	 *         <li><b>{@code averageExecutionTimeByItem}</b> ({@code String}) containing the average execution time by
@@ -265,6 +268,19 @@ public class MethodPerformanceLoggingConfiguration {
 	@Builder.Default
 	private String messageTemplate = AutoLogPerformance.DEFAULT_VELOCITY_TEMPLATE_NAME;
 
+	/**
+	 * The sampling of the invocations of the method: when an invocation is not sampled, nothing is logged for it. If
+	 * {@code null}, all the invocations are logged.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private SamplingConfiguration sampling;
+
+	/**
+	 * The maximal rate of the log events generated for the method. If {@code null}, the rate is not limited.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private RateLimitConfiguration rateLimit;
+
 	/**
 	 * Builds a new instance of configuration for auto-logging of performance data of methods invocations based on an
 	 * annotation {@link AutoLogPerformance}.
@@ -288,6 +304,8 @@ public class MethodPerformanceLoggingConfiguration {
 			.topic(autoLogPerformance.topic())
 			.callerClassUsedAsTopic(autoLogPerformance.callerClassAsTopic())
 			.messageTemplate(autoLogPerformance.messageTemplate())
+			.sampling(SamplingConfiguration.from(autoLogPerformance.sampling()))
+			.rateLimit(RateLimitConfiguration.from(autoLogPerformance.rateLimit()))
 			.build();
 	}
 }
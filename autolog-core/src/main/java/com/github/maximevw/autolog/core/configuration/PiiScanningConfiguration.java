@@ -0,0 +1,92 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.logger.DataRenderer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the scanning of the rendered data (arguments and output values of the methods) redacting the
+ * personal and sensitive data which are not explicitly masked (for example, with
+ * {@link com.github.maximevw.autolog.core.annotations.Mask}).
+ * <p>
+ *     The rendered data are scanned in a single pass, whatever the number of enabled detections: the redacted
+ *     characters are replaced by {@value com.github.maximevw.autolog.core.annotations.Mask#DEFAULT_MASKING_CHAR}, so
+ *     the length of the rendered data is preserved.
+ * </p>
+ *
+ * @see DataRenderer#setPiiScanning(PiiScanningConfiguration)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PiiScanningConfiguration {
+
+	/**
+	 * Whether the payment card numbers (13 to 19 digits, optionally separated by spaces or dashes, and passing the
+	 * Luhn check) are redacted, except their last 4 digits. By default: {@code true}.
+	 */
+	@Builder.Default
+	private boolean cardNumbersRedacted = true;
+
+	/**
+	 * Whether the IBANs (passing the ISO 13616 check digits validation) are redacted, except their last 4 characters.
+	 * By default: {@code true}.
+	 */
+	@Builder.Default
+	private boolean ibansRedacted = true;
+
+	/**
+	 * Whether the local parts of the email addresses are redacted (the domains are preserved). By default:
+	 * {@code true}.
+	 */
+	@Builder.Default
+	private boolean emailsRedacted = true;
+
+	/**
+	 * Whether the bearer tokens (the values following the case-insensitive keyword {@code "Bearer "}) are redacted.
+	 * By default: {@code true}.
+	 */
+	@Builder.Default
+	private boolean bearerTokensRedacted = true;
+
+	/**
+	 * The additional case-insensitive ASCII keywords followed by a secret value to redact (for example:
+	 * {@code "api_key="} or {@code "password="}). The redacted value ends at the first whitespace, quote, comma,
+	 * semicolon, ampersand or closing bracket. By default: none.
+	 */
+	@Builder.Default
+	private List<String> secretKeywords = new ArrayList<>();
+
+}
@@ -0,0 +1,119 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.annotations.RateLimit;
+import com.github.maximevw.autolog.core.logger.TokenBucket;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Configuration of the maximal rate of log events.
+ * <p>
+ *     Each instance holds the token bucket enforcing the limit, created on its first use: all the log events generated
+ *     with the same instance of configuration share the same limit. The logging configurations built from the Autolog
+ *     annotations have their own instances, so the limit applies to each annotated method.
+ * </p>
+ *
+ * @see com.github.maximevw.autolog.core.logger.LogRateLimiter
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RateLimitConfiguration {
+
+	/**
+	 * The maximal number of log events per second. It must be greater than 0.
+	 */
+	private int eventsPerSecond;
+
+	/**
+	 * The maximal number of log events which can be logged at once. If lower than or equal to 0, the value of
+	 * {@link #getEventsPerSecond()} is used.
+	 */
+	private int burst;
+
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	private final transient AtomicReference<TokenBucket> tokenBucket = new AtomicReference<>();
+
+	/**
+	 * Sets the maximal number of log events per second.
+	 *
+	 * @param eventsPerSecond The maximal number of log events per second. It must be greater than 0.
+	 */
+	public void setEventsPerSecond(final int eventsPerSecond) {
+		this.eventsPerSecond = eventsPerSecond;
+		this.tokenBucket.set(null);
+	}
+
+	/**
+	 * Sets the maximal number of log events which can be logged at once.
+	 *
+	 * @param burst The maximal number of log events which can be logged at once. If lower than or equal to 0, the
+	 *              value of {@link #getEventsPerSecond()} is used.
+	 */
+	public void setBurst(final int burst) {
+		this.burst = burst;
+		this.tokenBucket.set(null);
+	}
+
+	/**
+	 * Gets the token bucket enforcing this limit, creating it on the first call.
+	 *
+	 * @return The token bucket.
+	 */
+	@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.core.logger")
+	public TokenBucket getTokenBucket() {
+		TokenBucket current = this.tokenBucket.get();
+		while (current == null) {
+			this.tokenBucket.compareAndSet(null, new TokenBucket(this.eventsPerSecond, this.burst));
+			current = this.tokenBucket.get();
+		}
+		return current;
+	}
+
+	/**
+	 * Builds a new instance of rate limit configuration based on an annotation {@link RateLimit}.
+	 *
+	 * @param rateLimit An annotation {@link RateLimit}.
+	 * @return A new instance of {@code RateLimitConfiguration} or {@code null} if the rate is not limited.
+	 */
+	public static RateLimitConfiguration from(final RateLimit rateLimit) {
+		if (rateLimit.eventsPerSecond() <= 0) {
+			return null;
+		}
+		return RateLimitConfiguration.builder()
+			.eventsPerSecond(rateLimit.eventsPerSecond())
+			.burst(rateLimit.burst())
+			.build();
+	}
+}
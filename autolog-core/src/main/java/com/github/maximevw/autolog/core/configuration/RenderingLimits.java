@@ -0,0 +1,81 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.logger.DataRenderer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the limits applied when rendering the logged data (arguments and output values of the methods).
+ * <p>
+ *     The limits are enforced while the data are rendered: the rendering stops once a limit is reached, so a huge
+ *     value is never fully rendered in memory. The elided parts are replaced by markers (for example:
+ *     {@code ... (499990 more)}). A limit lower than or equal to 0 disables the corresponding check. By default, all
+ *     the limits are disabled, so the rendered data are the same as without limits.
+ * </p>
+ * <p>
+ *     {@link DataRenderer} keeps its own copy of the limits: modifying an instance after passing it to
+ *     {@link DataRenderer#setLimits(RenderingLimits)} has no effect on the rendering.
+ * </p>
+ *
+ * @see DataRenderer#setLimits(RenderingLimits)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RenderingLimits {
+
+	/**
+	 * The maximal number of characters of a rendered value. By default: 0 (unlimited).
+	 */
+	private int maxCharacters;
+
+	/**
+	 * The maximal number of rendered items of a collection, an array or a map (or of rendered properties of an object
+	 * serialized in JSON). By default: 0 (unlimited).
+	 */
+	private int maxCollectionItems;
+
+	/**
+	 * The maximal depth of the nested collections, arrays, maps (or objects serialized in JSON) rendered in a value.
+	 * By default: 0 (unlimited).
+	 */
+	private int maxDepth;
+
+	/**
+	 * Builds the limits disabling all the checks.
+	 *
+	 * @return The limits disabling all the checks.
+	 */
+	public static RenderingLimits unlimited() {
+		return new RenderingLimits(0, 0, 0);
+	}
+}
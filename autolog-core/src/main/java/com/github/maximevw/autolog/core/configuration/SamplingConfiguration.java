@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import com.github.maximevw.autolog.core.annotations.Sampling;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the sampling of the invocations of the methods automatically logged.
+ *
+ * @see SamplingMode
+ * @see com.github.maximevw.autolog.core.logger.sampling.InvocationSampler
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SamplingConfiguration {
+
+	/**
+	 * The sampling mode. By default: {@link SamplingMode#NONE} (all the invocations are logged).
+	 */
+	@Builder.Default
+	private SamplingMode mode = SamplingMode.NONE;
+
+	/**
+	 * The number of invocations from which a single one is logged, when the mode is {@link SamplingMode#FIXED_RATE}.
+	 * It must be greater than or equal to 1. By default: 1.
+	 */
+	@Builder.Default
+	private int oneIn = 1;
+
+	/**
+	 * The probability to log an invocation, when the mode is {@link SamplingMode#PROBABILISTIC}. It must be greater
+	 * than 0 and lower than or equal to 1. By default: 1.
+	 */
+	@Builder.Default
+	private double probability = 1;
+
+	/**
+	 * The maximal number of invocations logged per second, when the mode is {@link SamplingMode#ADAPTIVE}. It must be
+	 * greater than or equal to 1. By default: {@link Integer#MAX_VALUE}.
+	 */
+	@Builder.Default
+	private int maxEventsPerSecond = Integer.MAX_VALUE;
+
+	/**
+	 * Builds a new instance of sampling configuration based on an annotation {@link Sampling}.
+	 *
+	 * @param sampling An annotation {@link Sampling}.
+	 * @return A new instance of {@code SamplingConfiguration}.
+	 */
+	public static SamplingConfiguration from(final Sampling sampling) {
+		return SamplingConfiguration.builder()
+			.mode(sampling.mode())
+			.oneIn(sampling.oneIn())
+			.probability(sampling.probability())
+			.maxEventsPerSecond(sampling.maxEventsPerSecond())
+			.build();
+	}
+}
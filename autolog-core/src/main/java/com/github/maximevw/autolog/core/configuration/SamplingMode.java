@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.configuration;
+
+import org.apiguardian.api.API;
+
+/**
+ * Modes of sampling of the invocations of the methods automatically logged.
+ * <p>
+ *     When an invocation is not sampled, nothing is logged for it: its arguments are not even retrieved. Each logged
+ *     invocation carries a sampling weight, i.e. the number of invocations it represents, so that the counts
+ *     aggregated from the logs stay accurate.
+ * </p>
+ *
+ * @see SamplingConfiguration
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public enum SamplingMode {
+	/**
+	 * All the invocations are logged.
+	 */
+	NONE,
+	/**
+	 * One invocation out of {@link SamplingConfiguration#getOneIn()} is logged, with a sampling weight equal to this
+	 * value.
+	 */
+	FIXED_RATE,
+	/**
+	 * Each invocation is logged with the probability {@link SamplingConfiguration#getProbability()}, drawn with a
+	 * thread-local random number generator, and with a sampling weight equal to the inverse of this probability.
+	 */
+	PROBABILISTIC,
+	/**
+	 * The probability to log an invocation is adjusted every second according to the number of invocations of the
+	 * previous second, so that at most {@link SamplingConfiguration#getMaxEventsPerSecond()} invocations are logged
+	 * per second. The sampling weight is the inverse of the probability applied, plus the weights of the invocations
+	 * dropped since the last logged one to respect the maximal number of invocations per second.
+	 */
+	ADAPTIVE
+}
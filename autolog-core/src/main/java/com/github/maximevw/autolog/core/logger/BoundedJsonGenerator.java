@@ -0,0 +1,546 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Internal {@link JsonGenerator} limiting the number of items of the arrays and objects and the depth of the
+ * serialized data.
+ * <p>
+ *     The items exceeding the maximal number of items of an array (respectively the properties of an object) are
+ *     skipped and replaced by a single item {@code "... (N more)"} (respectively a property
+ *     {@code "...": "(N more)"}) at the end of the array (respectively the object). The arrays and objects deeper than
+ *     the maximal depth are replaced by the strings {@code "[...]"} and {@code "{...}"}.
+ * </p>
+ */
+final class BoundedJsonGenerator extends JsonGeneratorDelegate {
+
+	private static final String ELIDED_ARRAY = "[...]";
+	private static final String ELIDED_OBJECT = "{...}";
+
+	private final int maxItems;
+	private final int maxDepth;
+
+	/**
+	 * The states of the arrays and objects being written (the innermost first).
+	 */
+	private final Deque<Container> containers = new ArrayDeque<>();
+
+	/**
+	 * The number of nested arrays and objects being skipped.
+	 */
+	private int skippedDepth;
+
+	/**
+	 * Whether the value of the last property is skipped.
+	 */
+	private boolean propertyValueSkipped;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param delegate	The generator effectively writing the serialized data.
+	 * @param limits	The limits to apply.
+	 */
+	BoundedJsonGenerator(final JsonGenerator delegate, final RenderingLimits limits) {
+		// The copy methods must not be delegated, so the written values go through this generator.
+		super(delegate, false);
+		this.maxItems = limits.getMaxCollectionItems();
+		this.maxDepth = limits.getMaxDepth();
+	}
+
+	@Override
+	public void writeStartArray() throws IOException {
+		if (startContainer(false)) {
+			delegate.writeStartArray();
+		}
+	}
+
+	@Override
+	public void writeStartArray(final int size) throws IOException {
+		if (startContainer(false)) {
+			delegate.writeStartArray(size);
+		}
+	}
+
+	@Override
+	public void writeStartArray(final Object forValue) throws IOException {
+		if (startContainer(false)) {
+			delegate.writeStartArray(forValue);
+		}
+	}
+
+	@Override
+	public void writeStartArray(final Object forValue, final int size) throws IOException {
+		if (startContainer(false)) {
+			delegate.writeStartArray(forValue, size);
+		}
+	}
+
+	@Override
+	public void writeEndArray() throws IOException {
+		if (endContainer()) {
+			delegate.writeEndArray();
+		}
+	}
+
+	@Override
+	public void writeStartObject() throws IOException {
+		if (startContainer(true)) {
+			delegate.writeStartObject();
+		}
+	}
+
+	@Override
+	public void writeStartObject(final Object forValue) throws IOException {
+		if (startContainer(true)) {
+			delegate.writeStartObject(forValue);
+		}
+	}
+
+	@Override
+	public void writeStartObject(final Object forValue, final int size) throws IOException {
+		if (startContainer(true)) {
+			delegate.writeStartObject(forValue, size);
+		}
+	}
+
+	@Override
+	public void writeEndObject() throws IOException {
+		if (endContainer()) {
+			delegate.writeEndObject();
+		}
+	}
+
+	@Override
+	public void writeFieldName(final String name) throws IOException {
+		if (startProperty()) {
+			delegate.writeFieldName(name);
+		}
+	}
+
+	@Override
+	public void writeFieldName(final SerializableString name) throws IOException {
+		if (startProperty()) {
+			delegate.writeFieldName(name);
+		}
+	}
+
+	@Override
+	public void writeFieldId(final long id) throws IOException {
+		if (startProperty()) {
+			delegate.writeFieldId(id);
+		}
+	}
+
+	@Override
+	public void writeOmittedField(final String fieldName) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeOmittedField(fieldName);
+		}
+	}
+
+	@Override
+	public void writeArray(final int[] array, final int offset, final int length) throws IOException {
+		writeStartArray(array, length);
+		for (int i = offset; i < offset + length; i++) {
+			writeNumber(array[i]);
+		}
+		writeEndArray();
+	}
+
+	@Override
+	public void writeArray(final long[] array, final int offset, final int length) throws IOException {
+		writeStartArray(array, length);
+		for (int i = offset; i < offset + length; i++) {
+			writeNumber(array[i]);
+		}
+		writeEndArray();
+	}
+
+	@Override
+	public void writeArray(final double[] array, final int offset, final int length) throws IOException {
+		writeStartArray(array, length);
+		for (int i = offset; i < offset + length; i++) {
+			writeNumber(array[i]);
+		}
+		writeEndArray();
+	}
+
+	@Override
+	public void writeArray(final String[] array, final int offset, final int length) throws IOException {
+		writeStartArray(array, length);
+		for (int i = offset; i < offset + length; i++) {
+			writeString(array[i]);
+		}
+		writeEndArray();
+	}
+
+	@Override
+	public void writeString(final String text) throws IOException {
+		if (startValue()) {
+			delegate.writeString(text);
+		}
+	}
+
+	@Override
+	public void writeString(final Reader reader, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeString(reader, length);
+		}
+	}
+
+	@Override
+	public void writeString(final char[] text, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeString(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeString(final SerializableString text) throws IOException {
+		if (startValue()) {
+			delegate.writeString(text);
+		}
+	}
+
+	@Override
+	public void writeRawUTF8String(final byte[] text, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeRawUTF8String(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeUTF8String(final byte[] text, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeUTF8String(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeRaw(final String text) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeRaw(text);
+		}
+	}
+
+	@Override
+	public void writeRaw(final String text, final int offset, final int length) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeRaw(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeRaw(final SerializableString raw) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeRaw(raw);
+		}
+	}
+
+	@Override
+	public void writeRaw(final char[] text, final int offset, final int length) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeRaw(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeRaw(final char c) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeRaw(c);
+		}
+	}
+
+	@Override
+	public void writeRawValue(final String text) throws IOException {
+		if (startValue()) {
+			delegate.writeRawValue(text);
+		}
+	}
+
+	@Override
+	public void writeRawValue(final String text, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeRawValue(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeRawValue(final char[] text, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeRawValue(text, offset, length);
+		}
+	}
+
+	@Override
+	public void writeBinary(final Base64Variant variant, final byte[] data, final int offset, final int length)
+		throws IOException {
+		if (startValue()) {
+			delegate.writeBinary(variant, data, offset, length);
+		}
+	}
+
+	@Override
+	public int writeBinary(final Base64Variant variant, final InputStream data, final int length) throws IOException {
+		if (startValue()) {
+			return delegate.writeBinary(variant, data, length);
+		}
+		return 0;
+	}
+
+	@Override
+	public void writeNumber(final short value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final int value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final long value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final BigInteger value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final double value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final float value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final BigDecimal value) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(value);
+		}
+	}
+
+	@Override
+	public void writeNumber(final String encodedValue) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(encodedValue);
+		}
+	}
+
+	@Override
+	public void writeNumber(final char[] encodedValue, final int offset, final int length) throws IOException {
+		if (startValue()) {
+			delegate.writeNumber(encodedValue, offset, length);
+		}
+	}
+
+	@Override
+	public void writeBoolean(final boolean value) throws IOException {
+		if (startValue()) {
+			delegate.writeBoolean(value);
+		}
+	}
+
+	@Override
+	public void writeNull() throws IOException {
+		if (startValue()) {
+			delegate.writeNull();
+		}
+	}
+
+	@Override
+	public void writeEmbeddedObject(final Object object) throws IOException {
+		if (startValue()) {
+			delegate.writeEmbeddedObject(object);
+		}
+	}
+
+	@Override
+	public void writeObjectId(final Object id) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeObjectId(id);
+		}
+	}
+
+	@Override
+	public void writeObjectRef(final Object id) throws IOException {
+		if (startValue()) {
+			delegate.writeObjectRef(id);
+		}
+	}
+
+	@Override
+	public void writeTypeId(final Object id) throws IOException {
+		if (this.skippedDepth == 0) {
+			delegate.writeTypeId(id);
+		}
+	}
+
+	/**
+	 * Checks whether the next value must be written, counting it as an item of the current array if so.
+	 *
+	 * @return {@code true} if the value must be written, {@code false} if it must be skipped.
+	 */
+	private boolean startValue() {
+		if (this.skippedDepth > 0) {
+			return false;
+		}
+		final Container container = this.containers.peek();
+		if (container == null) {
+			return true;
+		}
+		if (container.object) {
+			// The properties are counted by their names.
+			final boolean written = !this.propertyValueSkipped;
+			this.propertyValueSkipped = false;
+			return written;
+		}
+		return container.countItem(this.maxItems);
+	}
+
+	/**
+	 * Checks whether the next property of the current object must be written, counting it if so.
+	 *
+	 * @return {@code true} if the name of the property must be written, {@code false} if the property must be skipped.
+	 */
+	private boolean startProperty() {
+		if (this.skippedDepth > 0) {
+			return false;
+		}
+		final Container container = this.containers.peek();
+		if (container == null || container.countItem(this.maxItems)) {
+			return true;
+		}
+		this.propertyValueSkipped = true;
+		return false;
+	}
+
+	/**
+	 * Checks whether the array or object starting must be written.
+	 *
+	 * @param object Whether an object (or an array otherwise) is starting.
+	 * @return {@code true} if the start of the array or object must be written, {@code false} if it must be skipped.
+	 * @throws IOException if the string replacing an array or object deeper than the maximal depth cannot be written.
+	 */
+	private boolean startContainer(final boolean object) throws IOException {
+		if (!startValue()) {
+			this.skippedDepth++;
+			return false;
+		}
+		if (this.maxDepth > 0 && this.containers.size() >= this.maxDepth) {
+			if (object) {
+				delegate.writeString(ELIDED_OBJECT);
+			} else {
+				delegate.writeString(ELIDED_ARRAY);
+			}
+			this.skippedDepth++;
+			return false;
+		}
+		this.containers.push(new Container(object));
+		return true;
+	}
+
+	/**
+	 * Checks whether the end of the current array or object must be written, writing the number of skipped items
+	 * first if required.
+	 *
+	 * @return {@code true} if the end of the array or object must be written, {@code false} if it is skipped.
+	 * @throws IOException if the number of skipped items cannot be written.
+	 */
+	private boolean endContainer() throws IOException {
+		if (this.skippedDepth > 0) {
+			this.skippedDepth--;
+			return false;
+		}
+		final Container container = this.containers.pop();
+		if (container.skippedItems > 0) {
+			if (container.object) {
+				delegate.writeFieldName(DataRenderer.ELISION_MARKER);
+				delegate.writeString(DataRenderer.moreItems(container.skippedItems));
+			} else {
+				delegate.writeString(DataRenderer.ELISION_MARKER + " "
+					+ DataRenderer.moreItems(container.skippedItems));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * State of an array or an object being written.
+	 */
+	private static final class Container {
+
+		private final boolean object;
+		private int writtenItems;
+		private long skippedItems;
+
+		private Container(final boolean object) {
+			this.object = object;
+		}
+
+		/**
+		 * Counts an item (or a property) of the array (or the object).
+		 *
+		 * @param maxItems The maximal number of written items.
+		 * @return {@code true} if the item must be written, {@code false} if it must be skipped.
+		 */
+		private boolean countItem(final int maxItems) {
+			if (maxItems > 0 && this.writtenItems >= maxItems) {
+				this.skippedItems++;
+				return false;
+			}
+			this.writtenItems++;
+			return true;
+		}
+	}
+}
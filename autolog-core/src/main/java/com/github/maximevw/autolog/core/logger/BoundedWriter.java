@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Internal {@link Writer} appending the written characters to a {@link StringBuilder} until a maximal number of
+ * characters is reached.
+ * <p>
+ *     Once the budget of characters is exhausted, the characters exceeding the budget are discarded and an
+ *     {@link IOException} is thrown to stop the rendering of the data (see {@link #isExhausted()}).
+ * </p>
+ */
+final class BoundedWriter extends Writer {
+
+	private final StringBuilder builder;
+	private final int maxCharacters;
+	private int writtenCharacters;
+	private boolean exhausted;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param builder		The builder to which the characters are appended.
+	 * @param maxCharacters	The maximal number of characters to append. If lower than or equal to 0, the number of
+	 *                      characters is not limited.
+	 */
+	BoundedWriter(final StringBuilder builder, final int maxCharacters) {
+		this.builder = builder;
+		this.maxCharacters = maxCharacters;
+	}
+
+	@Override
+	public void write(final char[] buffer, final int offset, final int length) throws IOException {
+		final int acceptedLength = acceptedLength(length);
+		this.builder.append(buffer, offset, acceptedLength);
+		checkExhausted(acceptedLength, length);
+	}
+
+	@Override
+	public void write(final String str, final int offset, final int length) throws IOException {
+		final int acceptedLength = acceptedLength(length);
+		this.builder.append(str, offset, offset + acceptedLength);
+		checkExhausted(acceptedLength, length);
+	}
+
+	/**
+	 * Writes the string representation of the given object.
+	 *
+	 * @param data The object to write.
+	 * @throws IOException if the budget of characters is exhausted.
+	 */
+	void write(final Object data) throws IOException {
+		write(String.valueOf(data));
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to flush.
+	}
+
+	@Override
+	public void close() {
+		// Nothing to close.
+	}
+
+	/**
+	 * Whether the budget of characters is exhausted, i.e. some characters have been discarded.
+	 *
+	 * @return {@code true} if the budget of characters is exhausted, {@code false} otherwise.
+	 */
+	boolean isExhausted() {
+		return this.exhausted;
+	}
+
+	private int acceptedLength(final int length) throws IOException {
+		if (this.exhausted) {
+			throw new BudgetExhaustedException();
+		}
+		if (this.maxCharacters <= 0) {
+			return length;
+		}
+		return Math.min(length, this.maxCharacters - this.writtenCharacters);
+	}
+
+	private void checkExhausted(final int acceptedLength, final int length) throws IOException {
+		this.writtenCharacters += acceptedLength;
+		if (acceptedLength < length) {
+			this.exhausted = true;
+			throw new BudgetExhaustedException();
+		}
+	}
+
+	/**
+	 * Exception thrown to stop the rendering once the budget of characters is exhausted. Its stack trace is not
+	 * filled since it is only used for control flow.
+	 */
+	private static final class BudgetExhaustedException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		BudgetExhaustedException() {
+			super("The maximal number of rendered characters is reached.");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
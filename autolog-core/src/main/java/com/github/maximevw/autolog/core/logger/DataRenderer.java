@@ -0,0 +1,410 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.maximevw.autolog.core.configuration.PiiScanningConfiguration;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+import lombok.NonNull;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This class is a singleton rendering the logged data (arguments and output values of the methods) within the
+ * configured {@link RenderingLimits}.
+ * <p>
+ *     The limits are enforced while rendering the data, so a huge value (for example, a list of 500,000 elements) is
+ *     never fully serialized in memory:
+ *     <ul>
+ *         <li>the maximal number of characters applies to all the formats: the rendering is stopped as soon as the
+ *         budget of characters is exhausted and the rendered value ends with {@value #TRUNCATION_MARKER};</li>
+ *         <li>the maximal number of items and the maximal depth apply to the collections and maps rendered without
+ *         pretty format (the skipped items are replaced by {@code ... (N more)}) and to the data serialized in JSON
+ *         (see {@link ObjectGraphRenderer}). The data serialized in XML are only limited by the maximal number of
+ *         characters.</li>
+ *     </ul>
+ *     The data serialized in JSON are also protected against the cycles in the object graphs (for example, between
+ *     JPA entities): a reference to an object already being rendered is replaced by {@code "(cycle: ClassName)"}.
+ *     The values rendered with their method {@code toString()} are truncated to the maximal number of characters once
+ *     rendered. This includes the collections and maps when no limit is configured and the ones whose class overrides
+ *     the standard {@code toString()} implementations of the JDK, so their custom representation is preserved.
+ * </p>
+ * <p>
+ *     Optionally, the rendered data can be scanned to redact the personal and sensitive data not explicitly masked
+ *     (payment card numbers, IBANs, email addresses, bearer tokens...): see
+ *     {@link #setPiiScanning(PiiScanningConfiguration)}.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class DataRenderer {
+
+	/**
+	 * The marker replacing the elided parts of the rendered data.
+	 */
+	static final String ELISION_MARKER = "...";
+
+	/**
+	 * The marker appended to the rendered data when the maximal number of characters is reached.
+	 */
+	static final String TRUNCATION_MARKER = "... (truncated)";
+
+	private static final String ELIDED_COLLECTION = "[...]";
+	private static final String ELIDED_MAP = "{...}";
+	private static final String SELF_REFERENCING_COLLECTION = "(this Collection)";
+	private static final String SELF_REFERENCING_MAP = "(this Map)";
+
+	/**
+	 * Whether the method {@code toString()} of a class is implemented by the JDK (for example, by
+	 * {@link java.util.AbstractCollection} or {@link java.util.AbstractMap}), in which case the collections and maps of
+	 * this class can be rendered item by item without changing their representation.
+	 */
+	private static final ClassValue<Boolean> HAS_STANDARD_TO_STRING = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+			try {
+				return type.getMethod("toString").getDeclaringClass().getName().startsWith("java.");
+			} catch (final NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	private volatile RenderingLimits limits = RenderingLimits.builder().build();
+
+	/**
+	 * The scanner redacting the personal and sensitive data in the rendered data, or {@code null} if disabled.
+	 */
+	private volatile PiiScanner piiScanner;
+
+	private DataRenderer() {
+		// Private constructor to force usage of singleton instance via the method getInstance().
+	}
+
+	/**
+	 * Gets an instance of DataRenderer.
+	 *
+	 * @return A singleton instance of DataRenderer.
+	 */
+	public static DataRenderer getInstance() {
+		return DataRendererInstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Gets the limits applied when rendering the logged data.
+	 *
+	 * @return A copy of the current limits: modifying it has no effect on the rendering.
+	 */
+	public RenderingLimits getLimits() {
+		return this.limits.toBuilder().build();
+	}
+
+	/**
+	 * Sets the limits applied when rendering the logged data. The new limits apply to the next rendered data.
+	 * <p>
+	 *     The given limits are copied: modifying them afterwards has no effect on the rendering.
+	 * </p>
+	 *
+	 * @param limits The limits to apply. Use {@link RenderingLimits#unlimited()} to disable all the limits.
+	 */
+	public void setLimits(@NonNull final RenderingLimits limits) {
+		this.limits = limits.toBuilder().build();
+	}
+
+	/**
+	 * Gets the configuration of the scanning of the rendered data redacting the personal and sensitive data.
+	 *
+	 * @return The current configuration, or {@code null} if the scanning is disabled.
+	 */
+	public PiiScanningConfiguration getPiiScanning() {
+		final PiiScanner scanner = this.piiScanner;
+		if (scanner == null) {
+			return null;
+		}
+		return scanner.getConfiguration();
+	}
+
+	/**
+	 * Sets the configuration of the scanning of the rendered data redacting the personal and sensitive data. The
+	 * scanning applies to the next rendered data.
+	 * <p>
+	 *     The scanning is a safety net for the data not explicitly masked: it is disabled by default and its cost is
+	 *     linear in the length of the rendered data (a single pass, whatever the number of enabled detections).
+	 * </p>
+	 *
+	 * @param configuration The configuration of the scanning, or {@code null} to disable it.
+	 * @throws IllegalArgumentException if a secret keyword of the configuration is empty or contains non-ASCII
+	 * 		   characters.
+	 */
+	public void setPiiScanning(final PiiScanningConfiguration configuration) {
+		if (configuration == null) {
+			this.piiScanner = null;
+		} else {
+			this.piiScanner = new PiiScanner(configuration);
+		}
+	}
+
+	/**
+	 * Redacts the personal and sensitive data in the characters rendered into the given builder from the given index,
+	 * if the scanning is enabled.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param start		The index of the first rendered character.
+	 * @return {@code true} if some data have been redacted, {@code false} otherwise.
+	 */
+	boolean redact(final StringBuilder builder, final int start) {
+		final PiiScanner scanner = this.piiScanner;
+		return scanner != null && scanner.scan(builder, start);
+	}
+
+	/**
+	 * Builds the marker replacing skipped items.
+	 *
+	 * @param skippedItems The number of skipped items.
+	 * @return The marker replacing the skipped items.
+	 */
+	static String moreItems(final long skippedItems) {
+		return "(" + skippedItems + " more)";
+	}
+
+	/**
+	 * Appends a string to the given builder, truncated to the maximal number of characters if required, and redacts
+	 * the personal and sensitive data if the scanning is enabled.
+	 * <p>
+	 *     This method does not allocate any object.
+	 * </p>
+	 *
+	 * @param builder	The builder to which the string is appended.
+	 * @param str		The string to append.
+	 */
+	void appendString(final StringBuilder builder, final String str) {
+		final int maxCharacters = this.limits.getMaxCharacters();
+		final int start = builder.length();
+		if (maxCharacters <= 0 || str.length() <= maxCharacters) {
+			builder.append(str);
+		} else {
+			builder.append(str, 0, maxCharacters).append(TRUNCATION_MARKER);
+		}
+		redact(builder, start);
+	}
+
+	/**
+	 * Renders the given data into the given builder within the current limits, and redacts the personal and sensitive
+	 * data if the scanning is enabled.
+	 * <p>
+	 *     If the data cannot be serialized in the given format, they are rendered with their method
+	 *     {@code toString()}.
+	 * </p>
+	 *
+	 * @param builder	The builder to which the rendered data are appended.
+	 * @param data		The data to render (not {@code null}).
+	 * @param format	The format to apply. If {@code null}, the data are rendered with their method
+	 *                  {@code toString()} (except the collections and maps using the standard {@code toString()}
+	 *                  implementations of the JDK, whose items are rendered one by one when limits are configured).
+	 * @return {@code true} if the data have been fully rendered in the given format, {@code false} if the rendered
+	 * 		   value is truncated, redacted (the redaction of a number makes the value invalid in JSON) or rendered
+	 * 		   with the method {@code toString()} because the data cannot be serialized.
+	 */
+	boolean render(final StringBuilder builder, final Object data, final PrettyDataFormat format) {
+		final RenderingLimits currentLimits = this.limits;
+		final int start = builder.length();
+		BoundedWriter writer = new BoundedWriter(builder, currentLimits.getMaxCharacters());
+		boolean rendered = true;
+		try {
+			write(writer, data, format, currentLimits);
+		} catch (final IOException e) {
+			rendered = false;
+			if (!writer.isExhausted()) {
+				LoggingUtils.report(String.format("Error during formatting of [%s] in %s: %s", data, format,
+					e.getMessage()), LogLevel.WARN);
+				builder.setLength(start);
+				writer = new BoundedWriter(builder, currentLimits.getMaxCharacters());
+				writeQuietly(writer, data);
+			}
+		}
+		final boolean redacted = redact(builder, start);
+		if (writer.isExhausted()) {
+			builder.append(TRUNCATION_MARKER);
+		}
+		return rendered && !writer.isExhausted() && !redacted;
+	}
+
+	/**
+	 * Writes the given data in the given format.
+	 *
+	 * @param writer	The writer receiving the rendered data.
+	 * @param data		The data to render.
+	 * @param format	The format to apply (can be {@code null}).
+	 * @param limits	The limits to apply.
+	 * @throws IOException if the budget of characters is exhausted or the data cannot be serialized.
+	 */
+	private static void write(final BoundedWriter writer, final Object data, final PrettyDataFormat format,
+							  final RenderingLimits limits) throws IOException {
+		if (PrettyDataFormat.JSON.equals(format)) {
+			final JsonGenerator generator = LoggingUtils.OBJECT_MAPPER.getFactory().createGenerator(writer)
+				// Do not close the arrays and objects on close when the rendering is stopped.
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+			try (generator) {
+				new ObjectGraphRenderer(generator, limits).render(data);
+			}
+		} else if (PrettyDataFormat.XML.equals(format)) {
+			LoggingUtils.xmlWriterFor(data.getClass()).writeValue(writer, data);
+		} else {
+			writeText(writer, data, limits, 0);
+		}
+	}
+
+	/**
+	 * Writes the string representation of the given data, ignoring the exhaustion of the budget of characters.
+	 *
+	 * @param writer	The writer receiving the rendered data.
+	 * @param data		The data to render.
+	 */
+	private static void writeQuietly(final BoundedWriter writer, final Object data) {
+		try {
+			writer.write(data);
+		} catch (final IOException e) {
+			// The budget of characters is exhausted: the rendered data are already truncated.
+		}
+	}
+
+	/**
+	 * Writes the given data without pretty format: when limits are configured, the items of the collections and maps
+	 * using the standard {@code toString()} implementations of the JDK are rendered one by one, within the limits, like
+	 * {@link java.util.AbstractCollection#toString()} and {@link java.util.AbstractMap#toString()} do. The other data
+	 * are rendered with their method {@code toString()}.
+	 *
+	 * @param writer	The writer receiving the rendered data.
+	 * @param data		The data to render.
+	 * @param limits	The limits to apply.
+	 * @param depth		The depth of the data in the rendered value.
+	 * @throws IOException if the budget of characters is exhausted.
+	 */
+	private static void writeText(final BoundedWriter writer, final Object data, final RenderingLimits limits,
+								  final int depth) throws IOException {
+		if (!isRenderedByItems(data, limits)) {
+			writer.write(data);
+		} else if (data instanceof Collection) {
+			writeCollection(writer, (Collection<?>) data, limits, depth);
+		} else {
+			writeMap(writer, (Map<?, ?>) data, limits, depth);
+		}
+	}
+
+	/**
+	 * Checks whether the given data are rendered item by item: only the collections and maps using the standard
+	 * {@code toString()} implementations of the JDK are, when at least one limit is enabled.
+	 *
+	 * @param data		The data to render.
+	 * @param limits	The limits to apply.
+	 * @return {@code true} if the data are rendered item by item, {@code false} if they are rendered with their method
+	 * 		   {@code toString()}.
+	 */
+	private static boolean isRenderedByItems(final Object data, final RenderingLimits limits) {
+		return (data instanceof Collection || data instanceof Map)
+			&& (limits.getMaxCharacters() > 0 || limits.getMaxCollectionItems() > 0 || limits.getMaxDepth() > 0)
+			&& HAS_STANDARD_TO_STRING.get(data.getClass());
+	}
+
+	private static void writeCollection(final BoundedWriter writer, final Collection<?> collection,
+										final RenderingLimits limits, final int depth) throws IOException {
+		if (isTooDeep(limits, depth)) {
+			writer.write(ELIDED_COLLECTION);
+			return;
+		}
+		writer.write('[');
+		int writtenItems = 0;
+		for (final Object item : collection) {
+			if (isFull(limits, writtenItems)) {
+				break;
+			}
+			if (writtenItems > 0) {
+				writer.write(LoggingUtils.LIST_ITEMS_DELIMITER);
+			}
+			if (item == collection) {
+				writer.write(SELF_REFERENCING_COLLECTION);
+			} else {
+				writeText(writer, item, limits, depth + 1);
+			}
+			writtenItems++;
+		}
+		writeSkippedItems(writer, writtenItems, collection.size());
+		writer.write(']');
+	}
+
+	private static void writeMap(final BoundedWriter writer, final Map<?, ?> map, final RenderingLimits limits,
+								 final int depth) throws IOException {
+		if (isTooDeep(limits, depth)) {
+			writer.write(ELIDED_MAP);
+			return;
+		}
+		writer.write('{');
+		int writtenItems = 0;
+		for (final Map.Entry<?, ?> entry : map.entrySet()) {
+			if (isFull(limits, writtenItems)) {
+				break;
+			}
+			if (writtenItems > 0) {
+				writer.write(LoggingUtils.LIST_ITEMS_DELIMITER);
+			}
+			writeMapItem(writer, map, entry.getKey(), limits, depth);
+			writer.write('=');
+			writeMapItem(writer, map, entry.getValue(), limits, depth);
+			writtenItems++;
+		}
+		writeSkippedItems(writer, writtenItems, map.size());
+		writer.write('}');
+	}
+
+	private static void writeMapItem(final BoundedWriter writer, final Map<?, ?> map, final Object item,
+									 final RenderingLimits limits, final int depth) throws IOException {
+		if (item == map) {
+			writer.write(SELF_REFERENCING_MAP);
+		} else {
+			writeText(writer, item, limits, depth + 1);
+		}
+	}
+
+	private static void writeSkippedItems(final BoundedWriter writer, final int writtenItems, final int size)
+		throws IOException {
+		if (size > writtenItems) {
+			if (writtenItems > 0) {
+				writer.write(LoggingUtils.LIST_ITEMS_DELIMITER);
+			}
+			writer.write(ELISION_MARKER + " " + moreItems(size - writtenItems));
+		}
+	}
+
+	private static boolean isTooDeep(final RenderingLimits limits, final int depth) {
+		return limits.getMaxDepth() > 0 && depth >= limits.getMaxDepth();
+	}
+
+	private static boolean isFull(final RenderingLimits limits, final int writtenItems) {
+		return limits.getMaxCollectionItems() > 0 && writtenItems >= limits.getMaxCollectionItems();
+	}
+
+	private static class DataRendererInstanceHolder {
+		private static final DataRenderer INSTANCE = new DataRenderer();
+	}
+}
@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.function.Supplier;
+
+/**
+ * Internal class wrapping logged data whose formatting is deferred until a logger effectively formats the log message
+ * (see {@link LoggerManager#setLazyRendering(boolean)}).
+ * <p>
+ *     The data are formatted by the given renderer on the first call to {@link #toString()} (or to any method of
+ *     {@link CharSequence}), and the result is kept for the next calls, so the data are formatted at most once per log
+ *     event whatever the number of loggers formatting the message. The renderer is responsible for applying the masks
+ *     to the logged values: the raw values are never exposed by this class, including when it is serialized by
+ *     Jackson.
+ * </p>
+ */
+final class LazyRenderedData implements CharSequence {
+
+	private Supplier<String> renderer;
+	private String renderedData;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param renderer The function formatting the logged data.
+	 */
+	LazyRenderedData(final Supplier<String> renderer) {
+		this.renderer = renderer;
+	}
+
+	@Override
+	public int length() {
+		return toString().length();
+	}
+
+	@Override
+	public char charAt(final int index) {
+		return toString().charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return toString().subSequence(start, end);
+	}
+
+	/**
+	 * Gets the formatted data, formatting them on the first call.
+	 *
+	 * @return The formatted data.
+	 */
+	@JsonValue
+	@Override
+	public synchronized String toString() {
+		if (this.renderer != null) {
+			this.renderedData = this.renderer.get();
+			// Release the references to the logged values once formatted.
+			this.renderer = null;
+		}
+		return this.renderedData;
+	}
+}
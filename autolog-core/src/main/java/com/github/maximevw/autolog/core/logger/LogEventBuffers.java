@@ -0,0 +1,213 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Internal class holding the buffers used to format and dispatch a log event.
+ * <p>
+ *     In garbage-free mode (see {@link LoggerManager#setGarbageFree(boolean)}), the buffers are allocated once per
+ *     thread and reused for each log event: the formatted data are passed to the loggers as the reused
+ *     {@link StringBuilder} itself instead of a new {@link String}. Otherwise, new buffers are allocated for each log
+ *     event and the formatted data are passed as immutable strings, as before.
+ * </p>
+ * <p>
+ *     The buffers must be released once the log event is dispatched. If the same thread logs another event while
+ *     its buffers are in use (for example, from the method {@code toString()} of a logged argument), new buffers are
+ *     allocated for the nested event.
+ * </p>
+ */
+final class LogEventBuffers {
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * The maximal capacity of a reused builder: a larger builder is discarded on release to avoid retaining the memory
+	 * used to format an unusually large log event.
+	 */
+	private static final int MAX_RETAINED_CAPACITY = 16384;
+
+	private static final ThreadLocal<LogEventBuffers> THREAD_BUFFERS =
+		ThreadLocal.withInitial(() -> new LogEventBuffers(true));
+
+	private final boolean reused;
+	private final Object[] singleArgument;
+	private final Object[] pairOfArguments;
+	private StringBuilder dataBuilder;
+	private Map<String, String> argumentsMap;
+	private Map<String, Object> argumentsValues;
+	private Map<String, String> contextualData;
+	private boolean inUse;
+
+	private LogEventBuffers(final boolean reused) {
+		this.reused = reused;
+		if (reused) {
+			this.singleArgument = new Object[1];
+			this.pairOfArguments = new Object[2];
+		} else {
+			this.singleArgument = null;
+			this.pairOfArguments = null;
+		}
+	}
+
+	/**
+	 * Acquires the buffers to use to format and dispatch a log event.
+	 *
+	 * @param garbageFree Whether the buffers of the current thread must be reused.
+	 * @return The buffers of the current thread if the garbage-free mode is active and they are not already in use,
+	 * 		   new buffers otherwise.
+	 */
+	static LogEventBuffers acquire(final boolean garbageFree) {
+		if (garbageFree) {
+			final LogEventBuffers threadBuffers = THREAD_BUFFERS.get();
+			if (!threadBuffers.inUse) {
+				threadBuffers.inUse = true;
+				return threadBuffers;
+			}
+		}
+		return new LogEventBuffers(false);
+	}
+
+	/**
+	 * Releases the buffers once the log event is dispatched, so they can be reused for the next log event of the
+	 * current thread.
+	 */
+	void release() {
+		if (!this.reused) {
+			return;
+		}
+		if (this.dataBuilder != null && this.dataBuilder.capacity() > MAX_RETAINED_CAPACITY) {
+			this.dataBuilder = null;
+		}
+		if (this.argumentsMap != null) {
+			this.argumentsMap.clear();
+		}
+		if (this.argumentsValues != null) {
+			this.argumentsValues.clear();
+		}
+		if (this.contextualData != null) {
+			this.contextualData.clear();
+		}
+		this.singleArgument[0] = null;
+		this.pairOfArguments[0] = null;
+		this.pairOfArguments[1] = null;
+		this.inUse = false;
+	}
+
+	/**
+	 * Gets an empty builder to format the data of the log event.
+	 *
+	 * @return An empty {@link StringBuilder}.
+	 */
+	StringBuilder getDataBuilder() {
+		if (this.dataBuilder == null) {
+			this.dataBuilder = new StringBuilder(INITIAL_CAPACITY);
+		} else {
+			this.dataBuilder.setLength(0);
+		}
+		return this.dataBuilder;
+	}
+
+	/**
+	 * Gets an empty map to store the formatted arguments of a method, indexed by name.
+	 *
+	 * @return An empty map.
+	 */
+	Map<String, String> getArgumentsMap() {
+		if (this.argumentsMap == null || !this.reused) {
+			this.argumentsMap = new HashMap<>();
+		}
+		return this.argumentsMap;
+	}
+
+	/**
+	 * Gets the map storing the values of the logged arguments of a method, indexed by name in the order of the
+	 * parameters. The same map is returned until the buffers are released.
+	 *
+	 * @return The map of the values of the logged arguments.
+	 */
+	Map<String, Object> getArgumentsValues() {
+		if (this.argumentsValues == null) {
+			this.argumentsValues = new LinkedHashMap<>();
+		}
+		return this.argumentsValues;
+	}
+
+	/**
+	 * Gets an empty map to store the data to log into the log context.
+	 *
+	 * @return An empty map.
+	 */
+	Map<String, String> getContextualData() {
+		if (this.contextualData == null || !this.reused) {
+			this.contextualData = new HashMap<>();
+		}
+		return this.contextualData;
+	}
+
+	/**
+	 * Gets the value to pass to the loggers as argument of the log message for the given formatted data.
+	 *
+	 * @param formattedData The formatted data.
+	 * @return The formatted data itself if the buffers are reused (it must not be retained by the loggers after the
+	 * 		   dispatch of the log event) or if their formatting is deferred (see {@link LazyRenderedData}), their
+	 * 		   immutable string representation otherwise.
+	 */
+	CharSequence asArgument(final CharSequence formattedData) {
+		if (this.reused || formattedData instanceof LazyRenderedData) {
+			return formattedData;
+		}
+		return formattedData.toString();
+	}
+
+	/**
+	 * Gets the array of arguments of a log message containing a single argument.
+	 *
+	 * @param argument The argument.
+	 * @return The array of arguments.
+	 */
+	Object[] getArguments(final Object argument) {
+		if (!this.reused) {
+			return new Object[] {argument};
+		}
+		this.singleArgument[0] = argument;
+		return this.singleArgument;
+	}
+
+	/**
+	 * Gets the array of arguments of a log message containing two arguments.
+	 *
+	 * @param first		The first argument.
+	 * @param second	The second argument.
+	 * @return The array of arguments.
+	 */
+	Object[] getArguments(final Object first, final Object second) {
+		if (!this.reused) {
+			return new Object[] {first, second};
+		}
+		this.pairOfArguments[0] = first;
+		this.pairOfArguments[1] = second;
+		return this.pairOfArguments;
+	}
+}
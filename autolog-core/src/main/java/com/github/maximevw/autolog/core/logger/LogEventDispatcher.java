@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import org.apiguardian.api.API;
+
+import java.util.Map;
+
+/**
+ * Internal class dispatching log events to the implementations of {@link LoggerInterface}.
+ * <p>
+ *     The logging method to call for each {@link LogLevel} (with or without contextual data) is resolved at compile
+ *     time (the switch on the log level is compiled into a jump table), so dispatching a log event only costs a direct
+ *     invocation of the method of {@link LoggerInterface}: there is no reflective lookup nor invocation.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.core.*")
+public final class LogEventDispatcher {
+
+	private LogEventDispatcher() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Dispatches a log event to the given logger.
+	 * <p>
+	 *     Any exception or error thrown by the logger (except {@link VirtualMachineError}) is reported in the error
+	 *     output and does not interrupt the caller.
+	 * </p>
+	 *
+	 * @param logger			The logger receiving the log event.
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 */
+	public static void dispatch(final LoggerInterface logger, final LogLevel logLevel, final String topic,
+								final String message, final Map<String, String> contextualData,
+								final Object[] arguments) {
+		try {
+			if (contextualData == null) {
+				log(logger, logLevel, topic, message, arguments);
+			} else {
+				log(logger, logLevel, topic, message, contextualData, arguments);
+			}
+		} catch (final VirtualMachineError e) {
+			throw e;
+		} catch (final Throwable e) {
+			// Like the former reflective invocation, any failure of the logger (including linkage errors raised by a
+			// misconfigured adapter) is reported and never propagated to the caller.
+			LoggingUtils.reportError(String.format("Unable to invoke logging method %s() on class: %s.",
+				logLevel.name().toLowerCase(), logger.getClass().getName()), e);
+		}
+	}
+
+	/**
+	 * Invokes the logging method of the given logger corresponding to the given log level.
+	 *
+	 * @param logger	The logger receiving the log event.
+	 * @param logLevel	The level to use for logging.
+	 * @param topic		The logger name.
+	 * @param message	The message to log.
+	 * @param arguments	The arguments to include in the log message.
+	 */
+	private static void log(final LoggerInterface logger, final LogLevel logLevel, final String topic,
+							final String message, final Object[] arguments) {
+		switch (logLevel) {
+			case TRACE:
+				logger.trace(topic, message, arguments);
+				break;
+			case DEBUG:
+				logger.debug(topic, message, arguments);
+				break;
+			case INFO:
+				logger.info(topic, message, arguments);
+				break;
+			case WARN:
+				logger.warn(topic, message, arguments);
+				break;
+			default:
+				logger.error(topic, message, arguments);
+				break;
+		}
+	}
+
+	/**
+	 * Invokes the logging method of the given logger corresponding to the given log level, including contextual data.
+	 *
+	 * @param logger			The logger receiving the log event.
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context.
+	 * @param arguments			The arguments to include in the log message.
+	 */
+	private static void log(final LoggerInterface logger, final LogLevel logLevel, final String topic,
+							final String message, final Map<String, String> contextualData, final Object[] arguments) {
+		switch (logLevel) {
+			case TRACE:
+				logger.trace(topic, message, contextualData, arguments);
+				break;
+			case DEBUG:
+				logger.debug(topic, message, contextualData, arguments);
+				break;
+			case INFO:
+				logger.info(topic, message, contextualData, arguments);
+				break;
+			case WARN:
+				logger.warn(topic, message, contextualData, arguments);
+				break;
+			default:
+				logger.error(topic, message, contextualData, arguments);
+				break;
+		}
+	}
+
+}
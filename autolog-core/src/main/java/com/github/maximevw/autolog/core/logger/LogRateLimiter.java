@@ -0,0 +1,299 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.RateLimitConfiguration;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a singleton limiting the rate of the log events generated by {@link MethodCallLogger} and
+ * {@link MethodPerformanceLogger}, to protect the logging pipeline against the bursts of log events (for example, the
+ * same exception logged millions of times during a retry storm).
+ * <p>
+ *     The rate can be limited per topic (i.e. logger name) with {@link #limitTopic(String, int, int)} and per method
+ *     with the parameter {@code rateLimit} of the Autolog annotations (see
+ *     {@link com.github.maximevw.autolog.core.annotations.RateLimit}). Each limit is enforced by a lock-free token
+ *     bucket (see {@link TokenBucket}), checked before formatting the logged data. While no topic is limited and the
+ *     method has no limit, the check only costs a single volatile read.
+ * </p>
+ * <p>
+ *     The suppressed log events are counted and a summary "N log events suppressed" is logged (at level
+ *     {@link LogLevel#WARN} in the same topic), at most once per summary interval (by default: 10 seconds): with the
+ *     next log event accepted for the topic or the method having suppressed events or, if no log event is accepted
+ *     meanwhile, by a daemon thread started on the first suppressed event, once the summary interval (at least 1
+ *     second) has elapsed.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class LogRateLimiter {
+
+	/**
+	 * The message template of the summary of the suppressed log events.
+	 */
+	static final String SUPPRESSED_EVENTS_MESSAGE =
+		"{} log events of {} suppressed by the rate limit since the last report.";
+
+	private static final Duration DEFAULT_SUMMARY_INTERVAL = Duration.ofSeconds(10);
+
+	private static final long MIN_SUMMARY_DELAY_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private volatile Map<String, TokenBucket> topicBuckets = Map.of();
+
+	private volatile long summaryIntervalInNanos = DEFAULT_SUMMARY_INTERVAL.toNanos();
+
+	private LogRateLimiter() {
+		// Private constructor to force usage of singleton instance via the method getInstance().
+	}
+
+	/**
+	 * Gets an instance of LogRateLimiter.
+	 *
+	 * @return A singleton instance of LogRateLimiter.
+	 */
+	public static LogRateLimiter getInstance() {
+		return LogRateLimiterInstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Limits the rate of the log events of the given topic. If the topic is already limited, its limit is replaced.
+	 *
+	 * @param topic				The logger name. If blank, {@value LoggingUtils#AUTOLOG_DEFAULT_TOPIC} is used.
+	 * @param eventsPerSecond	The maximal number of log events per second. It must be greater than 0.
+	 * @param burst				The maximal number of log events which can be logged at once. If lower than or equal to
+	 *                          0, the value of {@code eventsPerSecond} is used.
+	 * @throws IllegalArgumentException if the maximal number of log events per second is lower than or equal to 0.
+	 */
+	public synchronized void limitTopic(final String topic, final int eventsPerSecond, final int burst) {
+		if (eventsPerSecond <= 0) {
+			throw new IllegalArgumentException("The maximal number of log events per second must be greater than 0.");
+		}
+		final Map<String, TokenBucket> updatedBuckets = new HashMap<>(this.topicBuckets);
+		updatedBuckets.put(safeTopic(topic), new TokenBucket(eventsPerSecond, burst));
+		this.topicBuckets = Map.copyOf(updatedBuckets);
+	}
+
+	/**
+	 * Limits the rate of the log events of the given topic. If the topic is already limited, its limit is replaced.
+	 *
+	 * @param topic			The logger name. If blank, {@value LoggingUtils#AUTOLOG_DEFAULT_TOPIC} is used.
+	 * @param configuration	The rate limit configuration.
+	 */
+	public void limitTopic(final String topic, @NonNull final RateLimitConfiguration configuration) {
+		limitTopic(topic, configuration.getEventsPerSecond(), configuration.getBurst());
+	}
+
+	/**
+	 * Removes the rate limit of the given topic.
+	 *
+	 * @param topic The logger name. If blank, {@value LoggingUtils#AUTOLOG_DEFAULT_TOPIC} is used.
+	 */
+	public synchronized void removeTopicLimit(final String topic) {
+		final Map<String, TokenBucket> updatedBuckets = new HashMap<>(this.topicBuckets);
+		updatedBuckets.remove(safeTopic(topic));
+		this.topicBuckets = Map.copyOf(updatedBuckets);
+	}
+
+	/**
+	 * Removes the rate limits of all the topics.
+	 */
+	public synchronized void removeAllTopicLimits() {
+		this.topicBuckets = Map.of();
+	}
+
+	/**
+	 * Gets the minimal interval between two summaries of the suppressed log events of a topic or a method.
+	 *
+	 * @return The summary interval.
+	 */
+	public Duration getSummaryInterval() {
+		return Duration.ofNanos(this.summaryIntervalInNanos);
+	}
+
+	/**
+	 * Sets the minimal interval between two summaries of the suppressed log events of a topic or a method. By default:
+	 * 10 seconds.
+	 *
+	 * @param summaryInterval The summary interval.
+	 */
+	public void setSummaryInterval(@NonNull final Duration summaryInterval) {
+		this.summaryIntervalInNanos = summaryInterval.toNanos();
+	}
+
+	/**
+	 * Checks whether a new log event of the given topic and method can be logged, according to the rate limit of the
+	 * topic and the one of the method. If the event is accepted, the summaries of the previously suppressed events are
+	 * logged if required.
+	 *
+	 * @param loggerManager		The logger manager used to log the summaries of the suppressed events.
+	 * @param topic				The logger name.
+	 * @param methodName		The name of the logged method.
+	 * @param methodRateLimit	The rate limit of the method or {@code null} if its rate is not limited.
+	 * @return {@code true} if the log event can be logged, {@code false} if it must be suppressed.
+	 */
+	boolean tryAcquire(final LoggerManager loggerManager, final String topic, final String methodName,
+					   final RateLimitConfiguration methodRateLimit) {
+		final Map<String, TokenBucket> currentTopicBuckets = this.topicBuckets;
+		if (currentTopicBuckets.isEmpty() && methodRateLimit == null) {
+			return true;
+		}
+
+		// The rate limit of the method is checked first, so the events suppressed by the method do not consume the
+		// tokens of the topic. The token of the method is given back if the event is suppressed by the topic.
+		final String safeTopic = safeTopic(topic);
+		TokenBucket methodBucket = null;
+		if (methodRateLimit != null) {
+			methodBucket = methodRateLimit.getTokenBucket();
+			if (!methodBucket.tryAcquire()) {
+				scheduleSummary(loggerManager, safeTopic, methodBucket, methodName);
+				return false;
+			}
+		}
+		final TokenBucket topicBucket = currentTopicBuckets.get(safeTopic);
+		if (topicBucket != null && !topicBucket.tryAcquire()) {
+			if (methodBucket != null) {
+				methodBucket.release();
+			}
+			scheduleSummary(loggerManager, safeTopic, topicBucket, null);
+			return false;
+		}
+
+		// Report the events previously suppressed, if any.
+		if (topicBucket != null) {
+			reportSuppressedEvents(loggerManager, safeTopic, topicBucket, getSubject(safeTopic, null));
+		}
+		if (methodBucket != null) {
+			reportSuppressedEvents(loggerManager, safeTopic, methodBucket, methodName);
+		}
+		return true;
+	}
+
+	/**
+	 * Schedules the summary of the events suppressed by the given token bucket, unless it is already scheduled, so the
+	 * suppressed events are reported even if no further log event is accepted.
+	 *
+	 * @param loggerManager	The logger manager used to log the summary.
+	 * @param topic			The logger name.
+	 * @param bucket		The token bucket which suppressed an event.
+	 * @param methodName	The name of the limited method or {@code null} if the bucket limits the topic.
+	 */
+	private void scheduleSummary(final LoggerManager loggerManager, final String topic, final TokenBucket bucket,
+								 final String methodName) {
+		if (bucket.markSummaryScheduled()) {
+			submitSummary(loggerManager, topic, bucket, getSubject(topic, methodName));
+		}
+	}
+
+	/**
+	 * Submits the summary of the events suppressed by the given token bucket to the executor, to be logged once the
+	 * summary interval (at least 1 second) has elapsed.
+	 *
+	 * @param loggerManager	The logger manager used to log the summary.
+	 * @param topic			The logger name.
+	 * @param bucket		The token bucket.
+	 * @param subject		The description of the limited topic or method.
+	 */
+	private void submitSummary(final LoggerManager loggerManager, final String topic, final TokenBucket bucket,
+							   final String subject) {
+		SummaryExecutorHolder.EXECUTOR.schedule(() -> flushSuppressedEvents(loggerManager, topic, bucket, subject),
+			Math.max(this.summaryIntervalInNanos, MIN_SUMMARY_DELAY_IN_NANOS), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Logs the summary of the events suppressed by the given token bucket, if required, then schedules a new summary
+	 * if there are still suppressed events to report (for example, if a summary was logged with an accepted event
+	 * less than a summary interval ago).
+	 *
+	 * @param loggerManager	The logger manager used to log the summary.
+	 * @param topic			The logger name.
+	 * @param bucket		The token bucket.
+	 * @param subject		The description of the limited topic or method.
+	 */
+	private void flushSuppressedEvents(final LoggerManager loggerManager, final String topic,
+									   final TokenBucket bucket, final String subject) {
+		try {
+			reportSuppressedEvents(loggerManager, topic, bucket, subject);
+		} finally {
+			// The flag is cleared before checking the counter: an event suppressed concurrently either sees the flag
+			// cleared and schedules the summary itself, or is seen here.
+			bucket.clearSummaryScheduled();
+			if (bucket.getSuppressedEvents() > 0 && bucket.markSummaryScheduled()) {
+				submitSummary(loggerManager, topic, bucket, subject);
+			}
+		}
+	}
+
+	/**
+	 * Logs the summary of the events suppressed by the given token bucket, if required.
+	 *
+	 * @param loggerManager	The logger manager used to log the summary.
+	 * @param topic			The logger name.
+	 * @param bucket		The token bucket.
+	 * @param subject		The description of the limited topic or method.
+	 */
+	private void reportSuppressedEvents(final LoggerManager loggerManager, final String topic,
+										final TokenBucket bucket, final String subject) {
+		final long suppressedEvents = bucket.pollSuppressedEvents(this.summaryIntervalInNanos);
+		if (suppressedEvents > 0) {
+			loggerManager.logWithLevel(LogLevel.WARN, topic, SUPPRESSED_EVENTS_MESSAGE, null, suppressedEvents,
+				subject);
+		}
+	}
+
+	private static String safeTopic(final String topic) {
+		return StringUtils.defaultIfBlank(topic, LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+	}
+
+	private static String getSubject(final String topic, final String methodName) {
+		if (methodName == null) {
+			return "topic " + topic;
+		}
+		return methodName;
+	}
+
+	private static class LogRateLimiterInstanceHolder {
+		private static final LogRateLimiter INSTANCE = new LogRateLimiter();
+	}
+
+	/**
+	 * Holder of the executor logging the summaries of the suppressed events, so its daemon thread is only started
+	 * when a first log event is suppressed.
+	 */
+	private static class SummaryExecutorHolder {
+		private static final ScheduledExecutorService EXECUTOR = createExecutor();
+
+		private static ScheduledExecutorService createExecutor() {
+			return new ScheduledThreadPoolExecutor(1, runnable -> {
+				final Thread thread = new Thread(runnable, "autolog-rate-limit-summary");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
@@ -35,12 +35,33 @@ import java.util.Map;
  *     <i>Note: </i> The message template syntax used in the arguments {@code format} of the methods described in this
  *     interface is the same as the one used by SLF4J.
  * </p>
+ * <p>
+ *     The implementations wrapping a real logger should override the method {@link #isEnabled(String, LogLevel)} to
+ *     allow Autolog to skip the generation of the log events which will not be emitted by the wrapped logger.
+ * </p>
  * @see org.slf4j.Logger
  * @see org.slf4j.helpers.MessageFormatter
  */
 @API(status = API.Status.STABLE, since = "1.0.0")
 public interface LoggerInterface {
 
+	/**
+	 * Checks whether a message logged with the given name at the given level would be emitted by this logger.
+	 * <p>
+	 *     Autolog uses this method to avoid formatting the data of log events which will be discarded anyway. The
+	 *     default implementation always returns {@code true}: it must be overridden when the real logger is able to
+	 *     filter the log events by level.
+	 * </p>
+	 *
+	 * @param topic		The logger name.
+	 * @param level		The log level.
+	 * @return {@code true} if the log event could be emitted by this logger, {@code false} otherwise.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	default boolean isEnabled(String topic, LogLevel level) {
+		return true;
+	}
+
 	/**
 	 * Logs a message at the TRACE level according to the specified format and arguments.
 	 *
@@ -20,16 +20,25 @@
 
 package com.github.maximevw.autolog.core.logger;
 
-import lombok.Getter;
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.LoggerRoute;
+import com.github.maximevw.autolog.core.logger.async.AsyncDispatchStatistics;
+import com.github.maximevw.autolog.core.logger.async.AsyncLogDispatcher;
 import lombok.NoArgsConstructor;
+import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class manages the loggers used by Autolog.
@@ -37,16 +46,101 @@ import java.util.Map;
  *     The real loggers are wrapped into an instance of a class implementing {@link LoggerInterface}. Only one instance
  *     of a given implementation of {@link LoggerInterface} can be registered in the {@code LoggerManager}.
  * </p>
+ * <p>
+ *     By default, the log events are dispatched to the registered loggers synchronously, in the calling thread. An
+ *     asynchronous dispatch mode can be enabled with {@link #startAsyncDispatch(AsyncLoggingConfiguration)}, where the
+ *     registered loggers share the same ring buffer or are isolated from each other in their own ring buffer
+ *     (bulkheads).
+ * </p>
+ * <p>
+ *     The registered loggers are stored in an immutable array replaced on each (un)registering (copy-on-write): the
+ *     loggers can be registered and unregistered at runtime while other threads are logging, and logging a message
+ *     only requires a volatile read of the current array, without any lock.
+ * </p>
+ * <p>
+ *     By default, each log event is dispatched to all the registered loggers. Routes can be added with
+ *     {@link #addRoute(LoggerRoute)} to dispatch the log events of some topics and levels to a subset of the
+ *     registered loggers only.
+ * </p>
+ * <p>
+ *     In synchronous dispatch mode, a garbage-free mode can be enabled with {@link #setGarbageFree(boolean)} to avoid
+ *     allocating objects when formatting the input and output data of the logged methods. Alternatively, the
+ *     formatting of these data can be deferred until the loggers effectively format the log messages with
+ *     {@link #setLazyRendering(boolean)}.
+ * </p>
  */
 @API(status = API.Status.STABLE, since = "1.0.0")
 @NoArgsConstructor
 public class LoggerManager {
 
 	/**
-	 * Registered loggers.
+	 * The dispatchers dedicated to each registered logger in asynchronous dispatch mode when the loggers are isolated.
+	 */
+	private final Map<LoggerInterface, AsyncLogDispatcher> loggerDispatchers = new LinkedHashMap<>();
+
+	/**
+	 * The routes restricting the loggers receiving the log events of some topics and levels.
+	 */
+	private final List<LoggerRoute> routes = new ArrayList<>();
+
+	/**
+	 * Registered loggers (immutable snapshot, never modified once published).
+	 */
+	private volatile LoggerInterface[] registeredLoggers = new LoggerInterface[0];
+
+	/**
+	 * The routing table compiled from the routes and the registered loggers (immutable, never modified once
+	 * published).
+	 */
+	private volatile LoggerRoutingTable routingTable = new LoggerRoutingTable(this.routes, this.registeredLoggers);
+
+	/**
+	 * The configuration of the asynchronous dispatch, {@code null} in synchronous mode.
+	 */
+	private AsyncLoggingConfiguration asyncConfiguration;
+
+	/**
+	 * The dispatcher shared by all the registered loggers in asynchronous dispatch mode, {@code null} in synchronous
+	 * mode or when the loggers are isolated.
+	 */
+	private volatile AsyncLogDispatcher sharedDispatcher;
+
+	/**
+	 * Immutable snapshot of {@link #loggerDispatchers} read when dispatching the log events, {@code null} in
+	 * synchronous mode or when the loggers are not isolated.
+	 */
+	private volatile Map<LoggerInterface, AsyncLogDispatcher> isolatedDispatchers;
+
+	/**
+	 * Whether the garbage-free mode is requested.
+	 */
+	private boolean garbageFree;
+
+	/**
+	 * Whether the garbage-free mode is effectively active (i.e. requested and the log events are dispatched
+	 * synchronously).
+	 */
+	private volatile boolean garbageFreeActive;
+
+	/**
+	 * Whether the lazy rendering of the logged data is requested.
+	 */
+	private boolean lazyRendering;
+
+	/**
+	 * Whether the lazy rendering of the logged data is effectively active (i.e. requested, the log events are
+	 * dispatched synchronously and the garbage-free mode is not active).
+	 */
+	private volatile boolean lazyRenderingActive;
+
+	/**
+	 * Gets the registered loggers.
+	 *
+	 * @return An unmodifiable snapshot of the loggers registered at the time of the call.
 	 */
-	@Getter
-	private final List<LoggerInterface> registeredLoggers = new ArrayList<>();
+	public List<LoggerInterface> getRegisteredLoggers() {
+		return Collections.unmodifiableList(Arrays.asList(this.registeredLoggers));
+	}
 
 	/**
 	 * Registers an additional logger.
@@ -58,10 +152,18 @@ public class LoggerManager {
 	 * @param logger An instance of {@link LoggerInterface} to register.
 	 * @return The manager with the latest registered logger.
 	 */
-	public LoggerManager register(final LoggerInterface logger) {
-		if (this.registeredLoggers.stream()
+	public synchronized LoggerManager register(final LoggerInterface logger) {
+		final LoggerInterface[] currentLoggers = this.registeredLoggers;
+		if (Arrays.stream(currentLoggers)
 			.noneMatch(loggerInterface -> loggerInterface.getClass().isAssignableFrom(logger.getClass()))) {
-			this.registeredLoggers.add(logger);
+			final LoggerInterface[] updatedLoggers = Arrays.copyOf(currentLoggers, currentLoggers.length + 1);
+			updatedLoggers[currentLoggers.length] = logger;
+			if (this.asyncConfiguration != null && this.asyncConfiguration.isLoggersIsolated()) {
+				startLoggerDispatcher(logger, this.asyncConfiguration);
+				refreshAsyncDispatchers();
+			}
+			this.registeredLoggers = updatedLoggers;
+			refreshRoutingTable();
 		} else {
 			LoggingUtils.report(String.format("Logger of type %s already registered.",
 				logger.getClass().getSimpleName()), LogLevel.WARN);
@@ -75,11 +177,292 @@ public class LoggerManager {
 	 * @param loggerType The type of logger to unregister.
 	 * @return The manager with the remaining registered loggers.
 	 */
-	public LoggerManager unregister(final Class<? extends LoggerInterface> loggerType) {
-		this.registeredLoggers.removeIf(loggerInterface -> loggerInterface.getClass().isAssignableFrom(loggerType));
+	public synchronized LoggerManager unregister(final Class<? extends LoggerInterface> loggerType) {
+		final List<LoggerInterface> remainingLoggers = new ArrayList<>();
+		final List<AsyncLogDispatcher> removedDispatchers = new ArrayList<>();
+		for (final LoggerInterface loggerInterface : this.registeredLoggers) {
+			if (loggerInterface.getClass().isAssignableFrom(loggerType)) {
+				Optional.ofNullable(this.loggerDispatchers.remove(loggerInterface)).ifPresent(removedDispatchers::add);
+			} else {
+				remainingLoggers.add(loggerInterface);
+			}
+		}
+		if (remainingLoggers.size() != this.registeredLoggers.length) {
+			this.registeredLoggers = remainingLoggers.toArray(new LoggerInterface[0]);
+			refreshRoutingTable();
+		}
+		if (!removedDispatchers.isEmpty()) {
+			refreshAsyncDispatchers();
+			removedDispatchers.forEach(AsyncLogDispatcher::stop);
+		}
+		return this;
+	}
+
+	/**
+	 * Starts the asynchronous dispatch of the log events.
+	 * <p>
+	 *     Once started, the log events are published into a bounded ring buffer and dispatched to the registered
+	 *     loggers by dedicated consumer threads, so the latency of the loggers does not impact the calling threads.
+	 *     The data stored in the thread-local log contexts of the calling threads (e.g. MDC) are not propagated to the
+	 *     consumer threads.
+	 * </p>
+	 * <p>
+	 *     If {@link AsyncLoggingConfiguration#isLoggersIsolated()} is {@code true}, each registered logger (including
+	 *     the ones registered later) gets its own ring buffer and consumer threads.
+	 * </p>
+	 *
+	 * @param configuration The configuration of the asynchronous dispatch.
+	 * @return The manager dispatching the log events asynchronously.
+	 * @throws IllegalArgumentException if the configuration is invalid.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager startAsyncDispatch(@NonNull final AsyncLoggingConfiguration configuration) {
+		if (this.asyncConfiguration != null) {
+			LoggingUtils.report("Asynchronous dispatch already started.", LogLevel.WARN);
+			return this;
+		}
+		if (configuration.isLoggersIsolated()) {
+			try {
+				for (final LoggerInterface logger : this.registeredLoggers) {
+					startLoggerDispatcher(logger, configuration);
+				}
+			} catch (final IllegalArgumentException e) {
+				this.loggerDispatchers.values().forEach(AsyncLogDispatcher::stop);
+				this.loggerDispatchers.clear();
+				throw e;
+			}
+		} else {
+			this.sharedDispatcher = new AsyncLogDispatcher("async-dispatcher", configuration,
+				this::dispatchToRegisteredLoggers).start();
+		}
+		this.asyncConfiguration = configuration;
+		refreshAsyncDispatchers();
+		refreshFormattingModes();
+		return this;
+	}
+
+	/**
+	 * Stops the asynchronous dispatch of the log events, if started, after dispatching the pending log events.
+	 * The next log events are dispatched synchronously.
+	 *
+	 * @return The manager dispatching the log events synchronously.
+	 * @see AsyncLoggingConfiguration#getShutdownTimeoutInMs()
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager stopAsyncDispatch() {
+		final List<AsyncLogDispatcher> dispatchers = new ArrayList<>(this.loggerDispatchers.values());
+		Optional.ofNullable(this.sharedDispatcher).ifPresent(dispatchers::add);
+		this.asyncConfiguration = null;
+		this.sharedDispatcher = null;
+		this.loggerDispatchers.clear();
+		refreshAsyncDispatchers();
+		refreshFormattingModes();
+		dispatchers.forEach(AsyncLogDispatcher::stop);
+		return this;
+	}
+
+	/**
+	 * Enables or disables the garbage-free mode.
+	 * <p>
+	 *     In garbage-free mode, the input and output data of the logged methods are formatted into buffers allocated
+	 *     once per thread and reused for each log event (the same applies to the contextual data and to the arrays of
+	 *     arguments of the log messages). The strings and boxed primitives are formatted without any allocation.
+	 * </p>
+	 * <p>
+	 *     <i>Important note:</i> In this mode, the formatted data are passed to the registered loggers as reused
+	 *     {@link CharSequence} instances and the contextual data as reused maps: the loggers must format the log
+	 *     events during the call and must not retain these objects (this is the case of the adapters provided by
+	 *     Autolog as long as the underlying logging framework formats the messages synchronously). The garbage-free
+	 *     mode is ignored while the asynchronous dispatch is started.
+	 * </p>
+	 *
+	 * @param garbageFree Whether the garbage-free mode is enabled.
+	 * @return The manager with the garbage-free mode enabled or disabled.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager setGarbageFree(final boolean garbageFree) {
+		this.garbageFree = garbageFree;
+		refreshFormattingModes();
+		return this;
+	}
+
+	/**
+	 * Whether the garbage-free mode is enabled.
+	 *
+	 * @return {@code true} if the garbage-free mode is enabled, {@code false} otherwise.
+	 * @see #setGarbageFree(boolean)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized boolean isGarbageFree() {
+		return this.garbageFree;
+	}
+
+	/**
+	 * Enables or disables the lazy rendering of the logged data.
+	 * <p>
+	 *     When the lazy rendering is enabled, the input and output data of the logged methods are passed to the
+	 *     registered loggers as arguments whose method {@code toString()} formats (and masks, if required) the data
+	 *     on the first call only. So, the data are only formatted if a logger effectively formats the log message:
+	 *     the log events discarded by the filters of the underlying logging framework (markers, thresholds of the
+	 *     appenders, etc.) do not cost any formatting anymore. The masks are always applied before the formatted data
+	 *     are exposed.
+	 * </p>
+	 * <p>
+	 *     <i>Important note:</i> The lazy rendering only applies to the human-readable messages when the logged data
+	 *     are not stored into the log context (otherwise, the data have to be formatted anyway). It is ignored while
+	 *     the asynchronous dispatch is started (the logged values could be modified before being formatted by the
+	 *     consumer threads) or when the garbage-free mode is enabled.
+	 * </p>
+	 *
+	 * @param lazyRendering Whether the lazy rendering is enabled.
+	 * @return The manager with the lazy rendering enabled or disabled.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager setLazyRendering(final boolean lazyRendering) {
+		this.lazyRendering = lazyRendering;
+		refreshFormattingModes();
 		return this;
 	}
 
+	/**
+	 * Whether the lazy rendering of the logged data is enabled.
+	 *
+	 * @return {@code true} if the lazy rendering is enabled, {@code false} otherwise.
+	 * @see #setLazyRendering(boolean)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized boolean isLazyRendering() {
+		return this.lazyRendering;
+	}
+
+	/**
+	 * Adds a route restricting the registered loggers receiving the log events of some topics and levels.
+	 * <p>
+	 *     The routes apply to the loggers already registered and the ones registered later. The given route is copied
+	 *     when it is added, so its later modifications are ignored: to change the routing, clear the routes and add
+	 *     them again.
+	 * </p>
+	 *
+	 * @param route The route to add.
+	 * @return The manager with the additional route.
+	 * @see LoggerRoute
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager addRoute(@NonNull final LoggerRoute route) {
+		this.routes.add(copyOf(route));
+		refreshRoutingTable();
+		return this;
+	}
+
+	/**
+	 * Copies a route, including its sets of levels and logger types, into an unmodifiable snapshot.
+	 *
+	 * @param route The route to copy.
+	 * @return The copy of the route.
+	 */
+	private static LoggerRoute copyOf(final LoggerRoute route) {
+		return LoggerRoute.builder()
+			.topicPattern(route.getTopicPattern())
+			.levels(Optional.ofNullable(route.getLevels())
+				.map(levels -> Collections.unmodifiableSet(new HashSet<>(levels)))
+				.orElse(null))
+			.loggerTypes(Optional.ofNullable(route.getLoggerTypes())
+				.<Set<Class<? extends LoggerInterface>>>map(types -> Collections.unmodifiableSet(new HashSet<>(types)))
+				.orElse(null))
+			.build();
+	}
+
+	/**
+	 * Removes all the routes: the next log events are dispatched to all the registered loggers.
+	 *
+	 * @return The manager without routes.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized LoggerManager clearRoutes() {
+		this.routes.clear();
+		refreshRoutingTable();
+		return this;
+	}
+
+	/**
+	 * Gets the statistics of the asynchronous dispatch of the log events (throughput and latency of the hand-off
+	 * between the calling threads and the consumer threads).
+	 *
+	 * @return The statistics of the asynchronous dispatch or an empty value if the asynchronous dispatch is not
+	 * 		   started or if the loggers are isolated (see {@link #getAsyncDispatchStatisticsByLogger()}).
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized Optional<AsyncDispatchStatistics> getAsyncDispatchStatistics() {
+		return Optional.ofNullable(this.sharedDispatcher).map(AsyncLogDispatcher::getStatistics);
+	}
+
+	/**
+	 * Gets the statistics of the asynchronous dispatch of the log events to each registered logger, when the loggers
+	 * are isolated in their own ring buffer.
+	 *
+	 * @return The statistics of the asynchronous dispatch (including the health state) indexed by the class name of
+	 * 		   the loggers, or an empty map if the asynchronous dispatch is not started or if the loggers are not
+	 * 		   isolated.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public synchronized Map<String, AsyncDispatchStatistics> getAsyncDispatchStatisticsByLogger() {
+		final Map<String, AsyncDispatchStatistics> statistics = new LinkedHashMap<>();
+		this.loggerDispatchers.forEach((logger, dispatcher) ->
+			statistics.put(logger.getClass().getName(), dispatcher.getStatistics()));
+		return Collections.unmodifiableMap(statistics);
+	}
+
+	/**
+	 * Checks whether a message logged with the given name at the given level would be emitted by at least one of the
+	 * registered loggers it is routed to.
+	 * <p>
+	 *     This allows to skip the formatting of the data to log when the log event will be discarded by all the
+	 *     registered loggers. It also returns {@code false} if the topic is disabled in {@link LoggingKillSwitch}.
+	 * </p>
+	 *
+	 * @param topic		The logger name.
+	 * @param logLevel	The log level.
+	 * @return {@code true} if at least one registered logger could emit the log event, {@code false} otherwise.
+	 * @see LoggerInterface#isEnabled(String, LogLevel)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public boolean isEnabled(final String topic, final LogLevel logLevel) {
+		final String safeTopic = StringUtils.defaultIfBlank(topic, LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+		if (LoggingKillSwitch.getInstance().isTopicDisabled(safeTopic)) {
+			return false;
+		}
+		for (final LoggerInterface logger : this.routingTable.resolve(safeTopic, logLevel)) {
+			if (isEnabled(logger, safeTopic, logLevel)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether a message logged with the given name at the given level would be emitted by the given logger.
+	 * <p>
+	 *     If the logger fails to answer (except with a {@link VirtualMachineError}), the log event is considered as
+	 *     enabled.
+	 * </p>
+	 *
+	 * @param logger	The logger to check.
+	 * @param topic		The logger name.
+	 * @param logLevel	The log level.
+	 * @return {@code true} if the logger could emit the log event, {@code false} otherwise.
+	 */
+	private static boolean isEnabled(final LoggerInterface logger, final String topic, final LogLevel logLevel) {
+		try {
+			return logger.isEnabled(topic, logLevel);
+		} catch (final VirtualMachineError e) {
+			throw e;
+		} catch (final Throwable e) {
+			LoggingUtils.reportError(String.format("Unable to check whether level %s is enabled on class: %s.",
+				logLevel.name(), logger.getClass().getName()), e);
+			return true;
+		}
+	}
+
 	/**
 	 * Logs a message with the specified log level.
 	 *
@@ -137,27 +520,107 @@ public class LoggerManager {
 	@API(status = API.Status.STABLE, since = "1.2.0")
 	void logWithLevel(final LogLevel logLevel, final String topic, final String message,
 					  final Map<String, String> contextualData, final Object... arguments) {
-		final String logMethodName = logLevel.name().toLowerCase();
 		final String safeTopic = StringUtils.defaultIfBlank(topic, LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+		final String safeMessage = StringUtils.defaultString(message, StringUtils.EMPTY);
 
-		this.registeredLoggers.forEach(logger -> {
-			try {
-				final Method logMethod;
-				if (contextualData == null) {
-					logMethod = logger.getClass().getMethod(logMethodName, String.class, String.class, Object[].class);
-					logMethod.invoke(logger, safeTopic, StringUtils.defaultString(message, StringUtils.EMPTY),
-						arguments);
-				} else {
-					logMethod = logger.getClass().getMethod(logMethodName, String.class, String.class, Map.class,
-						Object[].class);
-					logMethod.invoke(logger, safeTopic, StringUtils.defaultString(message, StringUtils.EMPTY),
-						contextualData, arguments);
+		final AsyncLogDispatcher dispatcher = this.sharedDispatcher;
+		if (dispatcher != null) {
+			dispatcher.dispatch(logLevel, safeTopic, safeMessage, contextualData, arguments);
+			return;
+		}
+		final LoggerInterface[] loggers = this.routingTable.resolve(safeTopic, logLevel);
+		final Map<LoggerInterface, AsyncLogDispatcher> dispatchers = this.isolatedDispatchers;
+		if (dispatchers == null) {
+			for (final LoggerInterface logger : loggers) {
+				LogEventDispatcher.dispatch(logger, logLevel, safeTopic, safeMessage, contextualData, arguments);
+			}
+		} else {
+			for (final LoggerInterface logger : loggers) {
+				// The dispatcher may be missing if the logger is being unregistered.
+				final AsyncLogDispatcher loggerDispatcher = dispatchers.get(logger);
+				if (loggerDispatcher != null) {
+					loggerDispatcher.dispatch(logLevel, safeTopic, safeMessage, contextualData, arguments);
 				}
-			} catch (final IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-				LoggingUtils.reportError(String.format("Unable to invoke logging method %s() on class: %s.",
-					logLevel.name().toLowerCase(), logger.getClass().getName()), e);
 			}
-		});
+		}
+	}
+
+	/**
+	 * Creates and starts the dispatcher dedicated to the given logger when the loggers are isolated.
+	 *
+	 * @param logger		The logger.
+	 * @param configuration	The configuration of the asynchronous dispatch.
+	 */
+	private void startLoggerDispatcher(final LoggerInterface logger, final AsyncLoggingConfiguration configuration) {
+		this.loggerDispatchers.put(logger, new AsyncLogDispatcher(
+			"async-dispatcher-" + logger.getClass().getSimpleName(), configuration,
+			(logLevel, topic, message, contextualData, arguments) ->
+				LogEventDispatcher.dispatch(logger, logLevel, topic, message, contextualData, arguments)).start());
+	}
+
+	/**
+	 * Publishes the snapshot of the dispatchers dedicated to each registered logger used by
+	 * {@link #logWithLevel(LogLevel, String, String, Map, Object...)} when the loggers are isolated.
+	 */
+	private void refreshAsyncDispatchers() {
+		if (this.asyncConfiguration == null || !this.asyncConfiguration.isLoggersIsolated()) {
+			this.isolatedDispatchers = null;
+		} else {
+			this.isolatedDispatchers = Collections.unmodifiableMap(new IdentityHashMap<>(this.loggerDispatchers));
+		}
+	}
+
+	/**
+	 * Publishes whether the garbage-free mode and the lazy rendering are effectively active, i.e. enabled while the log
+	 * events are dispatched synchronously (the garbage-free mode taking precedence over the lazy rendering).
+	 */
+	private void refreshFormattingModes() {
+		final boolean synchronousDispatch = this.asyncConfiguration == null;
+		this.garbageFreeActive = this.garbageFree && synchronousDispatch;
+		this.lazyRenderingActive = this.lazyRendering && synchronousDispatch && !this.garbageFree;
+	}
+
+	/**
+	 * Whether the garbage-free mode is effectively active.
+	 *
+	 * @return {@code true} if the garbage-free mode is enabled and the log events are dispatched synchronously,
+	 * 		   {@code false} otherwise.
+	 */
+	boolean isGarbageFreeActive() {
+		return this.garbageFreeActive;
+	}
+
+	/**
+	 * Whether the lazy rendering of the logged data is effectively active.
+	 *
+	 * @return {@code true} if the lazy rendering is enabled, the log events are dispatched synchronously and the
+	 * 		   garbage-free mode is disabled, {@code false} otherwise.
+	 */
+	boolean isLazyRenderingActive() {
+		return this.lazyRenderingActive;
+	}
+
+	/**
+	 * Publishes a new routing table compiled from the current routes and registered loggers.
+	 */
+	private void refreshRoutingTable() {
+		this.routingTable = new LoggerRoutingTable(this.routes, this.registeredLoggers);
+	}
+
+	/**
+	 * Dispatches a log event to all the registered loggers it is routed to.
+	 *
+	 * @param logLevel  		The level to use for logging.
+	 * @param topic		  		The logger name.
+	 * @param message   		The message to log.
+	 * @param contextualData 	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments 		The arguments to include in the log message.
+	 */
+	private void dispatchToRegisteredLoggers(final LogLevel logLevel, final String topic, final String message,
+											 final Map<String, String> contextualData, final Object[] arguments) {
+		for (final LoggerInterface logger : this.routingTable.resolve(topic, logLevel)) {
+			LogEventDispatcher.dispatch(logger, logLevel, topic, message, contextualData, arguments);
+		}
 	}
 
 }
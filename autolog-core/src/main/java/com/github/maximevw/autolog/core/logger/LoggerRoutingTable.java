@@ -0,0 +1,276 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.LoggerRoute;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable table resolving the registered loggers receiving the log events of a given topic and level, according to
+ * the configured {@link LoggerRoute}s.
+ * <p>
+ *     The topic patterns of the routes are compiled into a prefix trie (one node per segment of the logger name) where
+ *     each node stores the loggers resolved for each level. The loggers resolved for a topic are cached, so the
+ *     routing of a log event only costs a lookup in a map once its topic has been seen.
+ * </p>
+ * <p>
+ *     A new table is built each time the routes or the registered loggers change.
+ * </p>
+ */
+final class LoggerRoutingTable {
+
+	/**
+	 * The wildcard matching all the topics or, as last segment of a topic pattern, all the sub-topics.
+	 */
+	private static final String WILDCARD = "*";
+
+	/**
+	 * The separator of the segments of a topic.
+	 */
+	private static final char TOPIC_SEPARATOR = '.';
+
+	/**
+	 * The maximal number of topics whose resolved loggers are cached, to bound the memory used by the cache when the
+	 * topics are generated dynamically.
+	 */
+	private static final int MAX_CACHED_TOPICS = 4096;
+
+	private static final int LEVELS_COUNT = LogLevel.values().length;
+
+	/**
+	 * The registered loggers, receiving the log events not matched by any route.
+	 */
+	private final LoggerInterface[] loggers;
+
+	/**
+	 * The root of the prefix trie, {@code null} if there is no route.
+	 */
+	private final Node root;
+
+	/**
+	 * The loggers resolved for each level, indexed by topic.
+	 */
+	private final Map<String, LoggerInterface[][]> resolvedRoutes = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds the routing table for the given routes and registered loggers.
+	 *
+	 * @param routes	The routes.
+	 * @param loggers	The registered loggers.
+	 */
+	LoggerRoutingTable(final List<LoggerRoute> routes, final LoggerInterface[] loggers) {
+		this.loggers = loggers;
+		if (routes.isEmpty()) {
+			this.root = null;
+		} else {
+			this.root = new Node();
+			routes.forEach(this::addRoute);
+			this.root.compile(loggers);
+		}
+	}
+
+	/**
+	 * Gets the loggers receiving the log events of the given topic and level.
+	 *
+	 * @param topic		The logger name.
+	 * @param logLevel	The log level.
+	 * @return The loggers receiving the log event. The returned array must not be modified.
+	 */
+	LoggerInterface[] resolve(final String topic, final LogLevel logLevel) {
+		if (this.root == null) {
+			return this.loggers;
+		}
+		LoggerInterface[][] routesByLevel = this.resolvedRoutes.get(topic);
+		if (routesByLevel == null) {
+			routesByLevel = resolveAllLevels(topic);
+			if (this.resolvedRoutes.size() < MAX_CACHED_TOPICS) {
+				this.resolvedRoutes.put(topic, routesByLevel);
+			}
+		}
+		return routesByLevel[logLevel.ordinal()];
+	}
+
+	/**
+	 * Adds a route into the prefix trie.
+	 *
+	 * @param route The route to add.
+	 */
+	private void addRoute(final LoggerRoute route) {
+		final String topicPattern = StringUtils.defaultIfBlank(route.getTopicPattern(), WILDCARD).trim();
+		Node node = this.root;
+		boolean wildcard = false;
+		for (final String segment : StringUtils.split(topicPattern, TOPIC_SEPARATOR)) {
+			if (WILDCARD.equals(segment)) {
+				wildcard = true;
+				break;
+			}
+			node = node.children.computeIfAbsent(segment, key -> new Node());
+		}
+		node.addRoute(route, wildcard);
+	}
+
+	/**
+	 * Walks through the prefix trie to resolve the loggers receiving the log events of the given topic, for each
+	 * level.
+	 *
+	 * @param topic The logger name.
+	 * @return The loggers receiving the log events, indexed by level ordinal.
+	 */
+	private LoggerInterface[][] resolveAllLevels(final String topic) {
+		final LoggerInterface[][] routesByLevel = new LoggerInterface[LEVELS_COUNT][];
+		Node node = this.root;
+		node.applyWildcardRoutes(routesByLevel);
+		int segmentStart = 0;
+		while (node != null && segmentStart <= topic.length()) {
+			int segmentEnd = topic.indexOf(TOPIC_SEPARATOR, segmentStart);
+			if (segmentEnd < 0) {
+				segmentEnd = topic.length();
+			}
+			node = node.children.get(topic.substring(segmentStart, segmentEnd));
+			if (node != null) {
+				node.applyWildcardRoutes(routesByLevel);
+				if (segmentEnd == topic.length()) {
+					node.applyExactRoutes(routesByLevel);
+				}
+			}
+			segmentStart = segmentEnd + 1;
+		}
+		for (int i = 0; i < LEVELS_COUNT; i++) {
+			if (routesByLevel[i] == null) {
+				routesByLevel[i] = this.loggers;
+			}
+		}
+		return routesByLevel;
+	}
+
+	/**
+	 * Node of the prefix trie, matching a segment of the topics.
+	 */
+	private static final class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+		private final List<LoggerRoute> exactRoutes = new ArrayList<>();
+		private final List<LoggerRoute> wildcardRoutes = new ArrayList<>();
+		private LoggerInterface[][] exactLoggers;
+		private LoggerInterface[][] wildcardLoggers;
+
+		/**
+		 * Adds a route ending at this node.
+		 *
+		 * @param route		The route.
+		 * @param wildcard	Whether the route also applies to the sub-topics.
+		 */
+		void addRoute(final LoggerRoute route, final boolean wildcard) {
+			if (wildcard) {
+				this.wildcardRoutes.add(route);
+			} else {
+				this.exactRoutes.add(route);
+			}
+		}
+
+		/**
+		 * Resolves the loggers of the routes ending at this node and its children, for each level.
+		 *
+		 * @param loggers The registered loggers.
+		 */
+		void compile(final LoggerInterface[] loggers) {
+			this.exactLoggers = resolveLoggers(this.exactRoutes, loggers);
+			this.wildcardLoggers = resolveLoggers(this.wildcardRoutes, loggers);
+			this.children.values().forEach(child -> child.compile(loggers));
+		}
+
+		/**
+		 * Overrides the loggers resolved for each level with the ones of the wildcard routes of this node, if any.
+		 *
+		 * @param routesByLevel The loggers resolved for each level.
+		 */
+		void applyWildcardRoutes(final LoggerInterface[][] routesByLevel) {
+			applyRoutes(this.wildcardLoggers, routesByLevel);
+		}
+
+		/**
+		 * Overrides the loggers resolved for each level with the ones of the exact routes of this node, if any.
+		 *
+		 * @param routesByLevel The loggers resolved for each level.
+		 */
+		void applyExactRoutes(final LoggerInterface[][] routesByLevel) {
+			applyRoutes(this.exactLoggers, routesByLevel);
+		}
+
+		private static void applyRoutes(final LoggerInterface[][] nodeLoggers,
+										final LoggerInterface[][] routesByLevel) {
+			if (nodeLoggers != null) {
+				for (int i = 0; i < LEVELS_COUNT; i++) {
+					if (nodeLoggers[i] != null) {
+						routesByLevel[i] = nodeLoggers[i];
+					}
+				}
+			}
+		}
+
+		/**
+		 * Resolves the registered loggers matching the given routes, for each level.
+		 *
+		 * @param routes	The routes.
+		 * @param loggers	The registered loggers.
+		 * @return The matching loggers indexed by level ordinal ({@code null} for the levels not concerned by the
+		 * 		   routes), or {@code null} if there is no route.
+		 */
+		private static LoggerInterface[][] resolveLoggers(final List<LoggerRoute> routes,
+														  final LoggerInterface[] loggers) {
+			if (routes.isEmpty()) {
+				return null;
+			}
+			final LoggerInterface[][] loggersByLevel = new LoggerInterface[LEVELS_COUNT][];
+			for (final LogLevel logLevel : LogLevel.values()) {
+				final Set<LoggerInterface> levelLoggers = new LinkedHashSet<>();
+				boolean routed = false;
+				for (final LoggerRoute route : routes) {
+					if (route.getLevels() != null && route.getLevels().contains(logLevel)) {
+						routed = true;
+						Arrays.stream(loggers)
+							.filter(logger -> isRouted(logger, route))
+							.forEach(levelLoggers::add);
+					}
+				}
+				if (routed) {
+					loggersByLevel[logLevel.ordinal()] = levelLoggers.toArray(new LoggerInterface[0]);
+				}
+			}
+			return loggersByLevel;
+		}
+
+		private static boolean isRouted(final LoggerInterface logger, final LoggerRoute route) {
+			return route.getLoggerTypes() != null
+				&& route.getLoggerTypes().stream().anyMatch(loggerType -> loggerType.isInstance(logger));
+		}
+	}
+
+}
@@ -0,0 +1,251 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This class is a singleton allowing to disable and re-enable at runtime the automatic logging of methods, without
+ * redeploying the application.
+ * <p>
+ *     The automatic logging can be disabled for a given method, for all the methods declared in a given class, for
+ *     a given topic (i.e. logger name) or for a given type of Autolog annotation (for example, disabling
+ *     {@link com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut} stops the logging of the methods logged
+ *     because of this annotation without affecting the ones monitored by
+ *     {@link com.github.maximevw.autolog.core.annotations.AutoLogPerformance}).
+ * </p>
+ * <p>
+ *     The disabling rules are stored in an immutable snapshot replaced on each change and published through a
+ *     volatile field, so a change takes effect immediately in all the threads. While no rule is defined, checking
+ *     whether a method is disabled only costs a single volatile read, done by the aspects before retrieving the
+ *     arguments of the method or resolving its logging configuration. The disabling of topics is checked by
+ *     {@link LoggerManager#isEnabled(String, LogLevel)}, since the topic of a method is only known once its logging
+ *     configuration is resolved.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class LoggingKillSwitch {
+
+	private volatile DisablingRules rules = DisablingRules.NONE;
+
+	private LoggingKillSwitch() {
+		// Private constructor to force usage of singleton instance via the method getInstance().
+	}
+
+	/**
+	 * Gets an instance of LoggingKillSwitch.
+	 *
+	 * @return A singleton instance of LoggingKillSwitch.
+	 */
+	public static LoggingKillSwitch getInstance() {
+		return LoggingKillSwitchInstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Disables the automatic logging of the given method.
+	 *
+	 * @param method The method.
+	 */
+	public void disableMethod(@NonNull final Method method) {
+		update(current -> current.withMethod(method, true));
+	}
+
+	/**
+	 * Re-enables the automatic logging of the given method.
+	 *
+	 * @param method The method.
+	 */
+	public void enableMethod(@NonNull final Method method) {
+		update(current -> current.withMethod(method, false));
+	}
+
+	/**
+	 * Disables the automatic logging of all the methods declared in the given class.
+	 *
+	 * @param type The class.
+	 */
+	public void disableClass(@NonNull final Class<?> type) {
+		update(current -> current.withClass(type, true));
+	}
+
+	/**
+	 * Re-enables the automatic logging of the methods declared in the given class.
+	 *
+	 * @param type The class.
+	 */
+	public void enableClass(@NonNull final Class<?> type) {
+		update(current -> current.withClass(type, false));
+	}
+
+	/**
+	 * Disables the automatic logging of the methods logged because of the given type of annotation.
+	 *
+	 * @param annotationType The type of Autolog annotation.
+	 */
+	public void disableAnnotationType(@NonNull final Class<? extends Annotation> annotationType) {
+		update(current -> current.withAnnotationType(annotationType, true));
+	}
+
+	/**
+	 * Re-enables the automatic logging of the methods logged because of the given type of annotation.
+	 *
+	 * @param annotationType The type of Autolog annotation.
+	 */
+	public void enableAnnotationType(@NonNull final Class<? extends Annotation> annotationType) {
+		update(current -> current.withAnnotationType(annotationType, false));
+	}
+
+	/**
+	 * Disables the log events of the given topic.
+	 *
+	 * @param topic The logger name. If blank, {@value LoggingUtils#AUTOLOG_DEFAULT_TOPIC} is used.
+	 */
+	public void disableTopic(final String topic) {
+		update(current -> current.withTopic(safeTopic(topic), true));
+	}
+
+	/**
+	 * Re-enables the log events of the given topic.
+	 *
+	 * @param topic The logger name. If blank, {@value LoggingUtils#AUTOLOG_DEFAULT_TOPIC} is used.
+	 */
+	public void enableTopic(final String topic) {
+		update(current -> current.withTopic(safeTopic(topic), false));
+	}
+
+	/**
+	 * Removes all the disabling rules.
+	 */
+	public synchronized void enableAll() {
+		this.rules = DisablingRules.NONE;
+	}
+
+	/**
+	 * Checks whether the automatic logging of the given method, because of the given type of annotation, is
+	 * disabled.
+	 *
+	 * @param method			The logged method.
+	 * @param annotationType	The type of Autolog annotation triggering the logging.
+	 * @return {@code true} if the method, its declaring class or the type of annotation is disabled, {@code false}
+	 * 		   otherwise.
+	 */
+	public boolean isDisabled(final Method method, final Class<? extends Annotation> annotationType) {
+		final DisablingRules currentRules = this.rules;
+		return currentRules != DisablingRules.NONE && currentRules.isDisabled(method, annotationType);
+	}
+
+	/**
+	 * Checks whether the log events of the given topic are disabled.
+	 *
+	 * @param topic The logger name.
+	 * @return {@code true} if the topic is disabled, {@code false} otherwise.
+	 */
+	public boolean isTopicDisabled(final String topic) {
+		final DisablingRules currentRules = this.rules;
+		return currentRules != DisablingRules.NONE && currentRules.topics.contains(topic);
+	}
+
+	/**
+	 * Replaces the current disabling rules by the result of the given function.
+	 *
+	 * @param change The function building the new rules from the current ones.
+	 */
+	private synchronized void update(final Function<DisablingRules, DisablingRules> change) {
+		final DisablingRules updatedRules = change.apply(this.rules);
+		if (updatedRules.isEmpty()) {
+			this.rules = DisablingRules.NONE;
+		} else {
+			this.rules = updatedRules;
+		}
+	}
+
+	private static String safeTopic(final String topic) {
+		return StringUtils.defaultIfBlank(topic, LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+	}
+
+	/**
+	 * Immutable snapshot of the disabling rules.
+	 */
+	private static final class DisablingRules {
+
+		private static final DisablingRules NONE = new DisablingRules(Set.of(), Set.of(), Set.of(), Set.of());
+
+		private final Set<Method> methods;
+		private final Set<Class<?>> classes;
+		private final Set<Class<? extends Annotation>> annotationTypes;
+		private final Set<String> topics;
+
+		DisablingRules(final Set<Method> methods, final Set<Class<?>> classes,
+					   final Set<Class<? extends Annotation>> annotationTypes, final Set<String> topics) {
+			this.methods = methods;
+			this.classes = classes;
+			this.annotationTypes = annotationTypes;
+			this.topics = topics;
+		}
+
+		boolean isEmpty() {
+			return methods.isEmpty() && classes.isEmpty() && annotationTypes.isEmpty() && topics.isEmpty();
+		}
+
+		boolean isDisabled(final Method method, final Class<? extends Annotation> annotationType) {
+			return annotationTypes.contains(annotationType) || classes.contains(method.getDeclaringClass())
+				|| methods.contains(method);
+		}
+
+		DisablingRules withMethod(final Method method, final boolean disabled) {
+			return new DisablingRules(with(methods, method, disabled), classes, annotationTypes, topics);
+		}
+
+		DisablingRules withClass(final Class<?> type, final boolean disabled) {
+			return new DisablingRules(methods, with(classes, type, disabled), annotationTypes, topics);
+		}
+
+		DisablingRules withAnnotationType(final Class<? extends Annotation> annotationType, final boolean disabled) {
+			return new DisablingRules(methods, classes, with(annotationTypes, annotationType, disabled), topics);
+		}
+
+		DisablingRules withTopic(final String topic, final boolean disabled) {
+			return new DisablingRules(methods, classes, annotationTypes, with(topics, topic, disabled));
+		}
+
+		private static <T> Set<T> with(final Set<T> items, final T item, final boolean added) {
+			final Set<T> updatedItems = new HashSet<>(items);
+			if (added) {
+				updatedItems.add(item);
+			} else {
+				updatedItems.remove(item);
+			}
+			return Set.copyOf(updatedItems);
+		}
+	}
+
+	private static class LoggingKillSwitchInstanceHolder {
+		private static final LoggingKillSwitch INSTANCE = new LoggingKillSwitch();
+	}
+}
@@ -22,6 +22,7 @@ package com.github.maximevw.autolog.core.logger;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
 import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
@@ -55,11 +56,12 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Internal class providing logging utilities.
@@ -82,30 +84,57 @@ public final class LoggingUtils {
 	 * This formatter contains a placeholder for the argument index in the list of method parameters.
 	 */
 	static final String AUTO_GENERATED_ARG_NAME_FORMATTER = "$arg%d";
+
+	/**
+	 * Default {@code ObjectMapper} instance used to prettify logged data in JSON format. It masks the fields annotated
+	 * with {@link com.github.maximevw.autolog.core.annotations.Mask}.
+	 */
+	static final ObjectMapper OBJECT_MAPPER = MaskingSerializerModifier.register(new ObjectMapper());
 	/**
-	 * The regular expression matching auto-generated arguments names.
+	 * Default {@code XmlMapper} instance used to prettify logged data in XML format. It masks the fields annotated
+	 * with {@link com.github.maximevw.autolog.core.annotations.Mask}.
+	 */
+	static final XmlMapper XML_MAPPER = MaskingSerializerModifier.register(new XmlMapper());
+
+	/**
+	 * The prefix of the auto-generated arguments names.
 	 * @see #AUTO_GENERATED_ARG_NAME_FORMATTER
 	 */
-	private static final String AUTO_GENERATED_ARG_NAME_REGEX = "^\\$arg\\d+$";
+	private static final String AUTO_GENERATED_ARG_NAME_PREFIX = "$arg";
+
+	/**
+	 * The {@code ObjectWriter} instances used to serialize data in JSON format, cached per serialized type.
+	 */
+	private static final ClassValue<ObjectWriter> JSON_WRITERS = new ClassValue<>() {
+		@Override
+		protected ObjectWriter computeValue(final Class<?> type) {
+			return OBJECT_MAPPER.writerFor(type);
+		}
+	};
+	/**
+	 * The {@code ObjectWriter} instances used to serialize data in XML format, cached per serialized type.
+	 */
+	private static final ClassValue<ObjectWriter> XML_WRITERS = new ClassValue<>() {
+		@Override
+		protected ObjectWriter computeValue(final Class<?> type) {
+			return XML_MAPPER.writerFor(type);
+		}
+	};
 
 	private static final String UNKNOWN_METHOD_NAME = "anonymous";
 	private static final String METHOD_NAME_FORMATTER = "%s.%s";
-	private static final String ARG_VALUE_FORMATTER = "%s=%s";
+	private static final String NULL_VALUE = "null";
+	private static final String COLLECTION_SIZE_SUFFIX = " item(s)";
+	private static final String MAP_SIZE_SUFFIX = " key-value pair(s)";
+	private static final String EXPANDED_DATA_SEPARATOR = ": ";
 
 	private static final String DURATION_PATTERN_DAYS = "d' day(s) 'H' h 'm' m 's' s 'S' ms'";
 	private static final String DURATION_PATTERN_HOURS = "H' h 'm' m 's' s 'S' ms'";
 	private static final String DURATION_PATTERN_MINUTES = "m' m 's' s 'S' ms'";
 	private static final String DURATION_PATTERN_SECONDS = "s' s 'S' ms'";
 	private static final String DURATION_PATTERN_MILLISECONDS = "S' ms'";
-
-	/**
-	 * Default {@code ObjectMapper} instance used to prettify logged data in JSON format.
-	 */
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-	/**
-	 * Default {@code XmlMapper} instance used to prettify logged data in XML format.
-	 */
-	private static final XmlMapper XML_MAPPER = new XmlMapper();
+	private static final String DURATION_SUFFIX_MICROSECONDS = " \u00b5s";
+	private static final String DURATION_SUFFIX_NANOSECONDS = " ns";
 
 	private LoggingUtils() {
 		// Private constructor to hide it externally.
@@ -207,7 +236,7 @@ public final class LoggingUtils {
 	/**
 	 * Formats a collection of method input arguments.
 	 * <p>
-	 *     The output format is: <code>arg0=value0, arg1=value1, ...</code> (see {@link #ARG_VALUE_FORMATTER}).
+	 *     The output format is: <code>arg0=value0, arg1=value1, ...</code>.
 	 * </p>
 	 *
 	 * @param argsList      The list of method arguments: each item is a pair where the key is the argument name.
@@ -216,11 +245,21 @@ public final class LoggingUtils {
 	 */
 	static String formatMethodArguments(final List<Pair<String, Object>> argsList,
 										final MethodInputLoggingConfiguration configuration) {
-		return argsList.stream()
-			.filter(entry -> isLoggableArgument(entry.getKey(), configuration))
-			.map(entry -> String.format(ARG_VALUE_FORMATTER, entry.getKey(),
-				formatMethodArgumentIfRequired(entry.getKey(), entry.getValue(), configuration)))
-			.collect(Collectors.joining(LIST_ITEMS_DELIMITER));
+		final StringBuilder formattedArgs = new StringBuilder();
+		for (final Pair<String, Object> entry : argsList) {
+			if (isLoggableArgument(entry.getKey(), configuration)) {
+				if (formattedArgs.length() > 0) {
+					formattedArgs.append(LIST_ITEMS_DELIMITER);
+				}
+				PrettyDataFormat prettyFormat = null;
+				if (isPrettifiedArgument(entry.getKey(), configuration)) {
+					prettyFormat = configuration.getPrettyFormat();
+				}
+				formattedArgs.append(entry.getKey()).append('=');
+				appendData(formattedArgs, entry.getValue(), prettyFormat, configuration.isCollectionsAndMapsExpanded());
+			}
+		}
+		return formattedArgs.toString();
 	}
 
 	/**
@@ -232,13 +271,14 @@ public final class LoggingUtils {
 	 */
 	static Map<String, String> mapMethodArguments(final List<Pair<String, Object>> argsList,
 												  final MethodInputLoggingConfiguration configuration) {
-		return argsList.stream()
-			.filter(entry -> isLoggableArgument(entry.getKey(), configuration))
-			.collect(Collectors.toMap(
-				Pair::getKey,
-				entry -> formatData(entry.getValue(), configuration.getPrettyFormat(),
-					configuration.isCollectionsAndMapsExpanded()))
-			);
+		final Map<String, String> methodArgsMap = new HashMap<>();
+		for (final Pair<String, Object> entry : argsList) {
+			if (isLoggableArgument(entry.getKey(), configuration)) {
+				methodArgsMap.put(entry.getKey(), formatData(entry.getValue(), configuration.getPrettyFormat(),
+					configuration.isCollectionsAndMapsExpanded()));
+			}
+		}
+		return methodArgsMap;
 	}
 
 	/**
@@ -253,33 +293,46 @@ public final class LoggingUtils {
 	 * @param configuration The configuration used for logging.
 	 * @return {@code true} if the argument can be logged, {@code false} otherwise.
 	 */
-	private static boolean isLoggableArgument(final String argName,
-											  final MethodInputLoggingConfiguration configuration) {
+	static boolean isLoggableArgument(final String argName, final MethodInputLoggingConfiguration configuration) {
 		final Set<String> excludedArguments = configuration.getExcludedArguments();
 		final Set<String> onlyLoggedArguments = configuration.getOnlyLoggedArguments();
 
-		return argName.matches(AUTO_GENERATED_ARG_NAME_REGEX)
+		return isAutoGeneratedArgumentName(argName)
 			|| (!excludedArguments.contains(argName)
 				&& (onlyLoggedArguments.isEmpty() || onlyLoggedArguments.contains(argName)));
 	}
 
 	/**
-	 * Formats the method input argument value if required by the auto-logging configuration.
+	 * Checks whether the given argument name matches the auto-generated format
+	 * ({@value #AUTO_GENERATED_ARG_NAME_FORMATTER}), without compiling nor evaluating a regular expression.
+	 *
+	 * @param argName The argument name.
+	 * @return {@code true} if the argument name is an auto-generated one, {@code false} otherwise.
+	 */
+	private static boolean isAutoGeneratedArgumentName(final String argName) {
+		if (argName.length() <= AUTO_GENERATED_ARG_NAME_PREFIX.length()
+			|| !argName.startsWith(AUTO_GENERATED_ARG_NAME_PREFIX)) {
+			return false;
+		}
+		for (int i = AUTO_GENERATED_ARG_NAME_PREFIX.length(); i < argName.length(); i++) {
+			if (!Character.isDigit(argName.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the value of the given argument must be prettified based on the given configuration.
 	 *
 	 * @param argName       The argument name.
-	 * @param argValue      The raw argument value.
 	 * @param configuration The configuration used for logging.
-	 * @return The formatted input argument.
+	 * @return {@code true} if the argument value must be prettified, {@code false} otherwise.
 	 */
-	private static String formatMethodArgumentIfRequired(final String argName, final Object argValue,
-														 final MethodInputLoggingConfiguration configuration) {
-		PrettyDataFormat prettyFormat = null;
-		if (configuration.getPrettifiedValues().contains(argName)
+	static boolean isPrettifiedArgument(final String argName, final MethodInputLoggingConfiguration configuration) {
+		return configuration.getPrettifiedValues().contains(argName)
 			|| configuration.getPrettifiedValues().contains(AutoLogMethodInOut.INPUT_DATA)
-			|| configuration.getPrettifiedValues().contains(AutoLogMethodInOut.ALL_DATA)) {
-			prettyFormat = configuration.getPrettyFormat();
-		}
-		return formatData(argValue, prettyFormat, configuration.isCollectionsAndMapsExpanded());
+			|| configuration.getPrettifiedValues().contains(AutoLogMethodInOut.ALL_DATA);
 	}
 
 	/**
@@ -291,6 +344,9 @@ public final class LoggingUtils {
 	 *     If the data to log is a collection or a map, only the size is logged, except if the logging of the full data
 	 *     is explicitly required.
 	 * </p>
+	 * <p>
+	 *     The data are rendered within the limits configured in {@link DataRenderer}.
+	 * </p>
 	 *
 	 * @param data                     The data to log.
 	 * @param prettyFormat             The pretty format to apply when required. This value is nullable: when set to
@@ -300,30 +356,77 @@ public final class LoggingUtils {
 	 */
 	static String formatData(final Object data, final PrettyDataFormat prettyFormat,
 							 final boolean expandCollectionsAndMaps) {
+		final StringBuilder builder = new StringBuilder();
+		appendData(builder, data, prettyFormat, expandCollectionsAndMaps);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the formatted representation of an object to the given {@link StringBuilder}, applying the same rules as
+	 * {@link #formatData(Object, PrettyDataFormat, boolean)}.
+	 * <p>
+	 *     The {@code null} values, strings, boxed primitives and the sizes of the collections and maps (when they are
+	 *     not expanded) are appended without any intermediate allocation, which makes the formatting of such values
+	 *     garbage-free when the builder is reused (see {@link LoggerManager#setGarbageFree(boolean)}).
+	 * </p>
+	 *
+	 * @param builder                  The builder to which the formatted data is appended.
+	 * @param data                     The data to log.
+	 * @param prettyFormat             The pretty format to apply when required. This value is nullable: when set to
+	 *                                 {@code null}, no pretty formatting is applied.
+	 * @param expandCollectionsAndMaps Whether the full data of collections and maps or only their size is logged.
+	 */
+	static void appendData(final StringBuilder builder, final Object data, final PrettyDataFormat prettyFormat,
+						   final boolean expandCollectionsAndMaps) {
 		if (data == null) {
-			return "null";
-		} else {
-			final String formattedData = prettify(data, prettyFormat);
-
-			// Deal with collections and maps.
-			if (data instanceof Collection) {
-				final int collectionSize = ((Collection<?>) data).size();
-				String expandedCollection = StringUtils.EMPTY;
-				if (expandCollectionsAndMaps && collectionSize > 0) {
-					expandedCollection = String.format(": %s", formattedData);
-				}
-				return String.format("%d item(s)%s", collectionSize, expandedCollection);
-			} else if (data instanceof Map) {
-				final int mapSize = ((Map<?, ?>) data).size();
-				String expandedMap = StringUtils.EMPTY;
-				if (expandCollectionsAndMaps && mapSize > 0) {
-					expandedMap = String.format(": %s", formattedData);
-				}
-				return String.format("%d key-value pair(s)%s", mapSize, expandedMap);
-			} else {
-				return formattedData;
+			builder.append(NULL_VALUE);
+		} else if (data instanceof Collection) {
+			final Collection<?> collection = (Collection<?>) data;
+			builder.append(collection.size()).append(COLLECTION_SIZE_SUFFIX);
+			if (expandCollectionsAndMaps && !collection.isEmpty()) {
+				builder.append(EXPANDED_DATA_SEPARATOR);
+				DataRenderer.getInstance().render(builder, data, prettyFormat);
 			}
+		} else if (data instanceof Map) {
+			final Map<?, ?> map = (Map<?, ?>) data;
+			builder.append(map.size()).append(MAP_SIZE_SUFFIX);
+			if (expandCollectionsAndMaps && !map.isEmpty()) {
+				builder.append(EXPANDED_DATA_SEPARATOR);
+				DataRenderer.getInstance().render(builder, data, prettyFormat);
+			}
+		} else if (prettyFormat != null || !appendPrimitiveData(builder, data)) {
+			DataRenderer.getInstance().render(builder, data, prettyFormat);
+		}
+	}
+
+	/**
+	 * Appends a string or a boxed primitive to the given {@link StringBuilder} without any intermediate allocation.
+	 *
+	 * @param builder	The builder to which the data is appended.
+	 * @param data		The data to append.
+	 * @return {@code true} if the data has been appended, {@code false} if the data is neither a string nor a boxed
+	 * 		   primitive.
+	 */
+	private static boolean appendPrimitiveData(final StringBuilder builder, final Object data) {
+		if (data instanceof String) {
+			DataRenderer.getInstance().appendString(builder, (String) data);
+		} else if (data instanceof Integer || data instanceof Long || data instanceof Short || data instanceof Byte) {
+			final int start = builder.length();
+			builder.append(((Number) data).longValue());
+			// A long value can be a payment card number.
+			DataRenderer.getInstance().redact(builder, start);
+		} else if (data instanceof Double) {
+			builder.append(((Double) data).doubleValue());
+		} else if (data instanceof Float) {
+			builder.append(((Float) data).floatValue());
+		} else if (data instanceof Boolean) {
+			builder.append(((Boolean) data).booleanValue());
+		} else if (data instanceof Character) {
+			builder.append(((Character) data).charValue());
+		} else {
+			return false;
 		}
+		return true;
 	}
 
 	/**
@@ -339,14 +442,14 @@ public final class LoggingUtils {
 	static String prettify(final Object data, final PrettyDataFormat format) {
 		if (PrettyDataFormat.JSON.equals(format)) {
 			try {
-				return OBJECT_MAPPER.writeValueAsString(data);
+				return jsonWriterFor(data.getClass()).writeValueAsString(data);
 			} catch (final JsonProcessingException e) {
 				report(String.format("Error during formatting of [%s] in JSON: %s", data.toString(),
 					e.getMessage()), LogLevel.WARN);
 			}
 		} else if (PrettyDataFormat.XML.equals(format)) {
 			try {
-				return XML_MAPPER.writeValueAsString(data);
+				return xmlWriterFor(data.getClass()).writeValueAsString(data);
 			} catch (final JsonProcessingException e) {
 				report(String.format("Error during formatting of [%s] in XML: %s", data.toString(),
 					e.getMessage()), LogLevel.WARN);
@@ -356,6 +459,32 @@ public final class LoggingUtils {
 		return data.toString();
 	}
 
+	/**
+	 * Gets the {@code ObjectWriter} serializing the instances of the given type in JSON format.
+	 * <p>
+	 *     The writers are cached per type, so the root serializer of each type is only resolved once.
+	 * </p>
+	 *
+	 * @param type The serialized type.
+	 * @return The cached {@code ObjectWriter}.
+	 */
+	static ObjectWriter jsonWriterFor(final Class<?> type) {
+		return JSON_WRITERS.get(type);
+	}
+
+	/**
+	 * Gets the {@code ObjectWriter} serializing the instances of the given type in XML format.
+	 * <p>
+	 *     The writers are cached per type, so the root serializer of each type is only resolved once.
+	 * </p>
+	 *
+	 * @param type The serialized type.
+	 * @return The cached {@code ObjectWriter}.
+	 */
+	static ObjectWriter xmlWriterFor(final Class<?> type) {
+		return XML_WRITERS.get(type);
+	}
+
 	/**
 	 * Formats a duration in a human readable way.
 	 *
@@ -377,6 +506,26 @@ public final class LoggingUtils {
 		return DurationFormatUtils.formatDuration(duration, pattern);
 	}
 
+	/**
+	 * Formats a duration measured in nanoseconds in a human readable way.
+	 * <p>
+	 *     The durations shorter than one millisecond are formatted in microseconds (or in nanoseconds if shorter than
+	 *     one microsecond) instead of being rounded to {@code 0 ms}. The longer ones are formatted like
+	 *     {@link #formatDuration(long)}.
+	 * </p>
+	 *
+	 * @param durationInNs The duration to format in nanoseconds.
+	 * @return The formatted duration.
+	 */
+	static String formatNanoDuration(final long durationInNs) {
+		if (durationInNs < TimeUnit.MICROSECONDS.toNanos(1)) {
+			return durationInNs + DURATION_SUFFIX_NANOSECONDS;
+		} else if (durationInNs < TimeUnit.MILLISECONDS.toNanos(1)) {
+			return TimeUnit.NANOSECONDS.toMicros(durationInNs) + DURATION_SUFFIX_MICROSECONDS;
+		}
+		return formatDuration(TimeUnit.NANOSECONDS.toMillis(durationInNs));
+	}
+
 	/**
 	 * Retrieves the path of an API endpoint corresponding to a monitored method.
 	 * <p>
@@ -392,15 +541,10 @@ public final class LoggingUtils {
 	 * @return The path of the API endpoint or the fallback value.
 	 */
 	static String retrieveApiPath(final Method method, final String fallbackName, final boolean prefixWithClassName) {
-		final Class<?> enclosingClass = method.getDeclaringClass();
-		final String apiPath = StringUtils.EMPTY
-			.concat(retrieveApiPathOnElement(enclosingClass, Path.class, RequestMapping.class))
-			.concat(retrieveApiPathOnElement(method, Path.class, RequestMapping.class, GetMapping.class,
-				PostMapping.class, PutMapping.class, DeleteMapping.class, PatchMapping.class));
+		final String apiPath = retrieveApiPath(method);
 
 		if (StringUtils.isNotBlank(apiPath)) {
-			// Prevent '//' at the beginning of the path (when the root path "/" is defined at class level).
-			return apiPath.replaceAll("//", "/");
+			return apiPath;
 		} else if (StringUtils.isNotBlank(fallbackName)) {
 			// If there is no API endpoint path, return the fallback name or, if empty, the method name.
 			return fallbackName;
@@ -408,6 +552,24 @@ public final class LoggingUtils {
 		return LoggingUtils.getMethodName(method, prefixWithClassName);
 	}
 
+	/**
+	 * Retrieves the path of an API endpoint corresponding to a monitored method.
+	 *
+	 * @param method The method for which the path of an API endpoint has to be retrieved.
+	 * @return The path of the API endpoint or an empty string if the method does not correspond to an API endpoint.
+	 * @see #retrieveApiPath(Method, String, boolean)
+	 */
+	static String retrieveApiPath(final Method method) {
+		final Class<?> enclosingClass = method.getDeclaringClass();
+		final String apiPath = StringUtils.EMPTY
+			.concat(retrieveApiPathOnElement(enclosingClass, Path.class, RequestMapping.class))
+			.concat(retrieveApiPathOnElement(method, Path.class, RequestMapping.class, GetMapping.class,
+				PostMapping.class, PutMapping.class, DeleteMapping.class, PatchMapping.class));
+
+		// Prevent '//' at the beginning of the path (when the root path "/" is defined at class level).
+		return apiPath.replaceAll("//", "/");
+	}
+
 	/**
 	 * Gets the API endpoint path from the JAX-RS or Spring Web annotations present on a class or a method.
 	 *
@@ -0,0 +1,324 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal immutable plan applying the masking rules defined by a {@link Mask} annotation.
+ * <p>
+ *     The expression {@link Mask#preservedCharacters()} is parsed once, when the plan is compiled, into:
+ *     <ul>
+ *         <li>a bitmap of the preserved ASCII characters and a sorted array of the other preserved characters;</li>
+ *         <li>sorted and merged arrays of the preserved ranges counted from the start of the value and the length of
+ *         the preserved range counted from the end of the value.</li>
+ *     </ul>
+ *     Then, the plan is applied to each value in a single loop over its characters, without parsing nor allocating
+ *     anything else than the masked value.
+ * </p>
+ * <p>
+ *     The plans are cached per annotation (see {@link #of(Mask)}).
+ * </p>
+ */
+final class MaskPlan {
+
+	/**
+	 * Regular expression used to verify if a characters preservation expression is equivalent to a full mask
+	 * expression.
+	 */
+	private static final String FULL_MASK_EQUIVALENT_REGEX = ",|\\[]|\\d?:0";
+
+	/**
+	 * The value of a position or a length left empty in the expression {@link Mask#preservedCharacters()}.
+	 */
+	private static final int UNDEFINED = -1;
+
+	private static final int BITMAP_WORD_SIZE = 64;
+	private static final int ASCII_CHARACTERS = 128;
+
+	/**
+	 * The compiled plans, cached per annotation.
+	 */
+	private static final Map<Mask, MaskPlan> PLANS = new ConcurrentHashMap<>();
+
+	private final char maskCharacter;
+	private final boolean fullMask;
+	private final int fixedLength;
+
+	/**
+	 * The bitmap of the preserved ASCII characters: the bit {@code c % 64} of the word {@code c / 64} is set if the
+	 * character {@code c} is preserved.
+	 */
+	private final long[] preservedAsciiCharacters = new long[ASCII_CHARACTERS / BITMAP_WORD_SIZE];
+
+	/**
+	 * The sorted preserved characters out of the ASCII range.
+	 */
+	private final char[] otherPreservedCharacters;
+
+	/**
+	 * The start positions (included) of the preserved ranges, sorted and merged.
+	 */
+	private final int[] rangesStarts;
+
+	/**
+	 * The end positions (excluded) of the preserved ranges, in the same order as {@link #rangesStarts}.
+	 */
+	private final int[] rangesEnds;
+
+	/**
+	 * The number of characters preserved at the end of the value: {@code 0} if none and {@link Integer#MAX_VALUE} if
+	 * all the characters are preserved.
+	 */
+	private final int preservedSuffixLength;
+
+	/**
+	 * The position of the character to mask if all the characters are preserved by the rules (see
+	 * {@link #computeForcedMaskPosition(int)}), or {@value #UNDEFINED} to mask the last character.
+	 */
+	private final int forcedMaskPosition;
+
+	private MaskPlan(final Mask mask) {
+		final String preservedCharacters = mask.preservedCharacters();
+		this.maskCharacter = mask.character();
+		this.fixedLength = mask.fixedLength();
+		this.fullMask = isFullMask(preservedCharacters);
+
+		final TreeSet<Character> otherCharacters = new TreeSet<>();
+		final Map<Integer, Integer> ranges = new TreeMap<>();
+		int suffixLength = 0;
+		if (!this.fullMask) {
+			suffixLength = parsePreservedCharacters(preservedCharacters, ranges, otherCharacters);
+		}
+		this.preservedSuffixLength = suffixLength;
+		this.otherPreservedCharacters = ArrayUtils.toPrimitive(otherCharacters.toArray(new Character[0]));
+
+		// The rule forcing the mask of one character only depends on the first range.
+		if (ranges.isEmpty()) {
+			this.forcedMaskPosition = UNDEFINED;
+		} else {
+			this.forcedMaskPosition = ranges.values().iterator().next();
+		}
+
+		final int[][] mergedRanges = mergeRanges(ranges);
+		this.rangesStarts = mergedRanges[0];
+		this.rangesEnds = mergedRanges[1];
+	}
+
+	/**
+	 * Gets the plan applying the masking rules of the given annotation, compiling it on the first call for the
+	 * annotation.
+	 *
+	 * @param mask The annotation defining the masking rules.
+	 * @return The compiled plan.
+	 */
+	static MaskPlan of(final Mask mask) {
+		return PLANS.computeIfAbsent(mask, MaskPlan::new);
+	}
+
+	/**
+	 * Masks the given value according to this plan.
+	 *
+	 * @param value The value to mask.
+	 * @return The masked value if applicable to the given value (i.e. a {@link String} or a {@link Number}),
+	 * 		   otherwise the input value itself.
+	 */
+	Object mask(final Object value) {
+		if (value instanceof String || value instanceof Number) {
+			return mask(value.toString());
+		}
+		return value;
+	}
+
+	/**
+	 * Masks the given string according to this plan.
+	 *
+	 * @param value The string to mask.
+	 * @return The masked string.
+	 */
+	String mask(final String value) {
+		// Specific case of full mask (with or without a fixed-sized masking string).
+		if (this.fullMask) {
+			int maskedLength = value.length();
+			if (this.fixedLength > 0) {
+				maskedLength = this.fixedLength;
+			}
+			return StringUtils.repeat(this.maskCharacter, maskedLength);
+		}
+
+		final char[] result = value.toCharArray();
+		final int valueLength = result.length;
+		if (valueLength == 0) {
+			return value;
+		}
+		int preservedSuffixStart = 0;
+		if (valueLength > this.preservedSuffixLength) {
+			preservedSuffixStart = valueLength - this.preservedSuffixLength;
+		}
+		int maskedCharacters = 0;
+		int range = 0;
+		for (int i = 0; i < preservedSuffixStart; i++) {
+			while (range < this.rangesStarts.length && this.rangesEnds[range] <= i) {
+				range++;
+			}
+			final boolean inPreservedRange = range < this.rangesStarts.length && this.rangesStarts[range] <= i;
+			if (!inPreservedRange && !isPreservedCharacter(result[i])) {
+				result[i] = this.maskCharacter;
+				maskedCharacters++;
+			}
+		}
+
+		// Check that at least one character is masked according to the rules. If not, mask at least one character.
+		if (maskedCharacters == 0) {
+			result[computeForcedMaskPosition(valueLength)] = this.maskCharacter;
+		}
+		return String.valueOf(result);
+	}
+
+	/**
+	 * Checks whether the given expression is equivalent to {@link Mask#FULL_MASK}.
+	 *
+	 * @param preservedCharacters The characters preservation expression to test.
+	 * @return {@code true} if the given expression is equivalent to {@link Mask#FULL_MASK}, {@code false} otherwise.
+	 */
+	private static boolean isFullMask(final String preservedCharacters) {
+		if (preservedCharacters == null) {
+			return true;
+		}
+		return preservedCharacters.replaceAll(FULL_MASK_EQUIVALENT_REGEX, StringUtils.EMPTY).trim().isEmpty();
+	}
+
+	/**
+	 * Parses an expression from the parameter {@link Mask#preservedCharacters()}: the preserved ASCII characters are
+	 * stored in the bitmap of this plan.
+	 *
+	 * @param preservedCharacters	The expression to parse.
+	 * @param ranges				The map filled with the lengths of the preserved ranges counted from the start of
+	 *                              the value, indexed by start position.
+	 * @param otherCharacters		The set filled with the preserved characters out of the ASCII range.
+	 * @return The number of characters preserved at the end of the value.
+	 */
+	private int parsePreservedCharacters(final String preservedCharacters, final Map<Integer, Integer> ranges,
+										 final Set<Character> otherCharacters) {
+		int suffixLength = 0;
+		for (final String rawElement : preservedCharacters.split(",")) {
+			final String element = rawElement.trim();
+			if (element.matches("\\d*:\\d*")) {
+				final int separatorPosition = element.indexOf(':');
+				final int position = NumberUtils.toInt(element.substring(0, separatorPosition), UNDEFINED);
+				final int length = NumberUtils.toInt(element.substring(separatorPosition + 1), UNDEFINED);
+				if (position == UNDEFINED) {
+					suffixLength = toSuffixLength(length);
+				} else {
+					// When the same position is defined several times, the last definition applies.
+					ranges.put(position, length);
+				}
+			} else if (element.matches("\\[.*]")) {
+				// Remove brackets to only keep the characters to preserve.
+				for (final char character : element.substring(1, element.length() - 1).toCharArray()) {
+					addPreservedCharacter(character, otherCharacters);
+				}
+			}
+		}
+		return suffixLength;
+	}
+
+	/**
+	 * Sorts and merges the overlapping preserved ranges. The ranges without length do not preserve any character.
+	 *
+	 * @param ranges The lengths of the preserved ranges, indexed by start position (sorted).
+	 * @return The start positions (included) and the end positions (excluded) of the merged ranges.
+	 */
+	private static int[][] mergeRanges(final Map<Integer, Integer> ranges) {
+		final int[] starts = new int[ranges.size()];
+		final int[] ends = new int[ranges.size()];
+		int mergedRanges = 0;
+		for (final Map.Entry<Integer, Integer> range : ranges.entrySet()) {
+			final int start = range.getKey();
+			final int end = start + range.getValue();
+			if (end > start) {
+				if (mergedRanges > 0 && start <= ends[mergedRanges - 1]) {
+					ends[mergedRanges - 1] = Math.max(ends[mergedRanges - 1], end);
+				} else {
+					starts[mergedRanges] = start;
+					ends[mergedRanges] = end;
+					mergedRanges++;
+				}
+			}
+		}
+		return new int[][] {Arrays.copyOf(starts, mergedRanges), Arrays.copyOf(ends, mergedRanges)};
+	}
+
+	/**
+	 * Converts the length of a range counted from the end of the value to the number of preserved characters.
+	 *
+	 * @param length The length of the range, or {@value #UNDEFINED} to preserve all the characters.
+	 * @return The number of characters preserved at the end of the value.
+	 */
+	private static int toSuffixLength(final int length) {
+		if (length == UNDEFINED) {
+			return Integer.MAX_VALUE;
+		}
+		return length;
+	}
+
+	private void addPreservedCharacter(final char character, final Set<Character> otherCharacters) {
+		if (character < ASCII_CHARACTERS) {
+			this.preservedAsciiCharacters[character / BITMAP_WORD_SIZE] |= 1L << (character % BITMAP_WORD_SIZE);
+		} else {
+			otherCharacters.add(character);
+		}
+	}
+
+	private boolean isPreservedCharacter(final char character) {
+		if (character < ASCII_CHARACTERS) {
+			return (this.preservedAsciiCharacters[character / BITMAP_WORD_SIZE]
+				& 1L << (character % BITMAP_WORD_SIZE)) != 0;
+		}
+		return this.otherPreservedCharacters.length > 0
+			&& Arrays.binarySearch(this.otherPreservedCharacters, character) >= 0;
+	}
+
+	/**
+	 * Computes the position of the character to imperatively mask in a value where all the characters should be
+	 * preserved according to the rules: the position equal to the length of the first range counted from the start
+	 * of the value if it is shorter than the value, the last character otherwise.
+	 *
+	 * @param totalLength The length of the value to mask.
+	 * @return The position of the character to mask.
+	 */
+	private int computeForcedMaskPosition(final int totalLength) {
+		if (this.forcedMaskPosition >= 0 && this.forcedMaskPosition < totalLength) {
+			return this.forcedMaskPosition;
+		}
+		return totalLength - 1;
+	}
+}
@@ -0,0 +1,120 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.github.maximevw.autolog.core.annotations.Mask;
+
+import java.util.List;
+
+/**
+ * Internal Jackson {@link BeanSerializerModifier} masking the properties of the serialized beans whose field (or
+ * getter) is annotated with {@link Mask}.
+ * <p>
+ *     The properties to mask are identified once per serialized class, when Jackson builds the serializer of the
+ *     class (which is then cached by the mapper): the writers of these properties are replaced by writers holding
+ *     the {@link MaskPlan} of the property. So, masking a property during a serialization costs neither reflection
+ *     nor copy of the serialized bean.
+ * </p>
+ */
+final class MaskingSerializerModifier extends BeanSerializerModifier {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SimpleModule MODULE =
+		new SimpleModule("AutologMasking").setSerializerModifier(new MaskingSerializerModifier());
+
+	/**
+	 * Registers the masking of the properties annotated with {@link Mask} in the given mapper.
+	 *
+	 * @param mapper	The mapper.
+	 * @param <T>		The type of the mapper.
+	 * @return The given mapper.
+	 */
+	static <T extends ObjectMapper> T register(final T mapper) {
+		mapper.registerModule(MODULE);
+		return mapper;
+	}
+
+	@Override
+	public List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+													 final BeanDescription beanDesc,
+													 final List<BeanPropertyWriter> beanProperties) {
+		for (int i = 0; i < beanProperties.size(); i++) {
+			final BeanPropertyWriter writer = beanProperties.get(i);
+			final Mask mask = writer.getAnnotation(Mask.class);
+			if (mask != null) {
+				beanProperties.set(i, new MaskedPropertyWriter(writer, MaskPlan.of(mask)));
+			}
+		}
+		return beanProperties;
+	}
+
+	/**
+	 * Writer of a property masked according to a {@link MaskPlan}.
+	 * <p>
+	 *     Only the {@link String} and numeric values are masked (the other values are serialized as is), like the
+	 *     method arguments annotated with {@link Mask}.
+	 * </p>
+	 */
+	private static final class MaskedPropertyWriter extends BeanPropertyWriter {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient MaskPlan maskPlan;
+
+		MaskedPropertyWriter(final BeanPropertyWriter base, final MaskPlan maskPlan) {
+			super(base);
+			this.maskPlan = maskPlan;
+		}
+
+		private MaskedPropertyWriter(final MaskedPropertyWriter base, final PropertyName name) {
+			super(base, name);
+			this.maskPlan = base.maskPlan;
+		}
+
+		@Override
+		protected BeanPropertyWriter _new(final PropertyName newName) {
+			return new MaskedPropertyWriter(this, newName);
+		}
+
+		@Override
+		public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov)
+			throws Exception {
+			final Object value = get(bean);
+			if (value instanceof String || value instanceof Number) {
+				gen.writeFieldName(_name);
+				gen.writeString(maskPlan.mask(value.toString()));
+			} else {
+				super.serializeAsField(bean, gen, prov);
+			}
+		}
+	}
+
+}
@@ -20,17 +20,15 @@
 
 package com.github.maximevw.autolog.core.logger;
 
-import com.github.maximevw.autolog.core.annotations.Mask;
 import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
 import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
 import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.logger.sampling.InvocationSampler;
 import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apiguardian.api.API;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +48,8 @@ import java.util.stream.Collectors;
 public class MethodCallLogger {
 
 	private static final String INVOKED_METHOD_PROPERTY = "invokedMethod";
+	private static final String SAMPLING_WEIGHT_PROPERTY = "samplingWeight";
+	private static final String OUTPUT_VALUE_PROPERTY = "outputValue";
 
 	private LoggerManager loggerManager;
 
@@ -71,30 +71,64 @@ public class MethodCallLogger {
      */
     public void logMethodInput(@NonNull final MethodInputLoggingConfiguration configuration,
                                @NonNull final Method method, final Object... argsValues) {
-        // Build the map of input arguments.
-        final List<Pair<String, Object>> argsList = new ArrayList<>();
-        final Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            final Parameter parameter = parameters[i];
-            Object argValue = argsValues[i];
-
-            // Apply mask to the argument value if required and applicable.
-            if (parameter.isAnnotationPresent(Mask.class)) {
-				argValue = MaskingUtils.maskValue(argValue, parameter.getAnnotation(Mask.class));
-			}
+		logMethodInput(configuration, method, argsValues, null);
+	}
 
-            if (parameter.isNamePresent()) {
-                argsList.add(Pair.of(parameter.getName(), argValue));
-            } else {
-                argsList.add(Pair.of(String.format(LoggingUtils.AUTO_GENERATED_ARG_NAME_FORMATTER, i), argValue));
-                LoggingUtils.report("Unable to get parameter name. Exclusions and restrictions will be ignored. "
-					+ "Compile your application in debug mode (javac with -g argument).");
-            }
-        }
-
-        logMethodInput(configuration, LoggingUtils.computeTopic(method.getDeclaringClass(), configuration.getTopic(),
-				configuration.isCallerClassUsedAsTopic()),
-			LoggingUtils.getMethodName(method, configuration.isClassNameDisplayed()), argsList);
+	/**
+	 * Logs the input of a sampled method invocation.
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param method            The invoked method.
+	 * @param argsValues        The values of the method input arguments.
+	 * @param samplingWeight	The sampling weight of the invocation (see {@link InvocationSampler#sample()}), logged
+	 *                          with the input data, or {@code null} if the invocations of the method are not sampled.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public void logMethodInput(@NonNull final MethodInputLoggingConfiguration configuration,
+							   @NonNull final Method method, final Object[] argsValues, final Double samplingWeight) {
+		final MethodDescriptor methodDescriptor = MethodDescriptor.of(method);
+		final String topic = methodDescriptor.getTopic(configuration.getTopic(),
+			configuration.isCallerClassUsedAsTopic());
+		// Skip the processing of the arguments if the log event would be discarded by all the loggers or suppressed by
+		// the rate limit.
+		if (!loggerManager.isEnabled(topic, configuration.getLogLevel())) {
+			return;
+		}
+		final String methodName = methodDescriptor.getMethodName(configuration.isClassNameDisplayed());
+		if (!LogRateLimiter.getInstance().tryAcquire(loggerManager, topic, methodName, configuration.getRateLimit())) {
+			return;
+		}
+
+		final LogEventBuffers buffers = LogEventBuffers.acquire(loggerManager.isGarbageFreeActive());
+		try {
+			if (isRenderedLazily(configuration.isStructuredMessage(), configuration.isDataLoggedInContext())) {
+				// Defer the formatting of the logged input arguments until a logger formats the message.
+				final CharSequence lazyFormattedArgs = new LazyRenderedData(() -> {
+					final StringBuilder formattedArgs = new StringBuilder();
+					formatMethodArguments(configuration, methodDescriptor, argsValues, null, null, formattedArgs);
+					return formattedArgs.toString();
+				});
+				logMethodInput(configuration, topic, methodName, null, lazyFormattedArgs, samplingWeight, buffers);
+			} else {
+				// Format the logged input arguments, applying the masks if required and applicable.
+				Map<String, Object> argsValuesMap = null;
+				if (isStreamedAsJson(configuration.isStructuredMessage(), configuration.getPrettyFormat())) {
+					argsValuesMap = buffers.getArgumentsValues();
+				}
+				Map<String, String> methodArgsMap = null;
+				if (configuration.isStructuredMessage() && argsValuesMap == null
+					|| configuration.isDataLoggedInContext()) {
+					methodArgsMap = buffers.getArgumentsMap();
+				}
+				final StringBuilder formattedArgs = buffers.getDataBuilder();
+				formatMethodArguments(configuration, methodDescriptor, argsValues, methodArgsMap, argsValuesMap,
+					formattedArgs);
+				logMethodInput(configuration, topic, methodName, methodArgsMap, formattedArgs, samplingWeight,
+					buffers);
+			}
+		} finally {
+			buffers.release();
+		}
     }
 
 	/**
@@ -145,36 +179,157 @@ public class MethodCallLogger {
 	@API(status = API.Status.STABLE, since = "1.2.0")
     public void logMethodInput(@NonNull final MethodInputLoggingConfiguration configuration, final String topic,
                                @NonNull final String methodName, @NonNull final List<Pair<String, Object>> args) {
-		final Map<String, String> methodArgsMap = LoggingUtils.mapMethodArguments(args, configuration);
+		if (!loggerManager.isEnabled(topic, configuration.getLogLevel())
+			|| !LogRateLimiter.getInstance().tryAcquire(loggerManager, topic, methodName,
+				configuration.getRateLimit())) {
+			return;
+		}
+		final boolean streamedAsJson = isStreamedAsJson(configuration.isStructuredMessage(),
+			configuration.getPrettyFormat());
+		Map<String, String> methodArgsMap = null;
+		if (configuration.isStructuredMessage() && !streamedAsJson || configuration.isDataLoggedInContext()) {
+			methodArgsMap = LoggingUtils.mapMethodArguments(args, configuration);
+		}
+		CharSequence formattedArgs = null;
+		if (isRenderedLazily(configuration.isStructuredMessage(), configuration.isDataLoggedInContext())) {
+			formattedArgs = new LazyRenderedData(() -> LoggingUtils.formatMethodArguments(args, configuration));
+		} else if (!configuration.isStructuredMessage()) {
+			formattedArgs = LoggingUtils.formatMethodArguments(args, configuration);
+		}
+		final LogEventBuffers buffers = LogEventBuffers.acquire(loggerManager.isGarbageFreeActive());
+		try {
+			if (streamedAsJson) {
+				final Map<String, Object> argsValuesMap = buffers.getArgumentsValues();
+				for (final Pair<String, Object> arg : args) {
+					if (LoggingUtils.isLoggableArgument(arg.getKey(), configuration)) {
+						argsValuesMap.put(arg.getKey(), arg.getValue());
+					}
+				}
+			}
+			logMethodInput(configuration, topic, methodName, methodArgsMap, formattedArgs, null, buffers);
+		} finally {
+			buffers.release();
+		}
+    }
 
+	/**
+	 * Logs the input of a method invocation, once the arguments are formatted.
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param topic     		The logger name.
+	 * @param methodName        The name of the invoked method.
+	 * @param methodArgsMap		The map of the formatted logged arguments indexed by name, required when the message
+	 *                          is structured (and not streamed in JSON) or when the data are logged in the context
+	 *                          ({@code null} otherwise). When the message is structured and streamed in JSON, the
+	 *                          values of the logged arguments are read from
+	 *                          {@link LogEventBuffers#getArgumentsValues()}.
+	 * @param formattedArgs		The comma-separated list of the logged arguments, required when the message is not
+	 *                          structured ({@code null} otherwise).
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
+	 * @param buffers			The buffers used to dispatch the log event.
+	 */
+	private void logMethodInput(final MethodInputLoggingConfiguration configuration, final String topic,
+								final String methodName, final Map<String, String> methodArgsMap,
+								final CharSequence formattedArgs, final Double samplingWeight,
+								final LogEventBuffers buffers) {
 		// Build the map of data to store in the log context if required.
 		Map<String, String> contextualData = null;
 		if (configuration.isDataLoggedInContext()) {
-			contextualData = new HashMap<>() {
-				{
-					put(INVOKED_METHOD_PROPERTY, methodName);
-					putAll(methodArgsMap);
-				}
-			};
+			contextualData = buffers.getContextualData();
+			contextualData.put(INVOKED_METHOD_PROPERTY, methodName);
+			contextualData.putAll(methodArgsMap);
+			putSamplingWeight(contextualData, samplingWeight);
 		}
 
-	    // Effectively log the input data.
-    	if (configuration.isStructuredMessage()) {
+		// Effectively log the input data.
+		if (isStreamedAsJson(configuration.isStructuredMessage(), configuration.getPrettyFormat())) {
+			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
+				StructuredMessageWriter.writeMethodInput(methodName, buffers.getArgumentsValues(),
+					configuration.getPrettyFormat(), configuration.isCollectionsAndMapsExpanded(), samplingWeight),
+				contextualData);
+		} else if (configuration.isStructuredMessage()) {
     		final MethodInputLogEntry structuredMessage = MethodInputLogEntry.builder()
 				.calledMethod(methodName)
 				.inputParameters(methodArgsMap)
+				.samplingWeight(samplingWeight)
 				.build();
     		loggerManager.logWithLevel(configuration.getLogLevel(), topic,
 				LoggingUtils.prettify(structuredMessage,
 					Optional.ofNullable(configuration.getPrettyFormat()).orElse(PrettyDataFormat.JSON)),
 				contextualData);
 		} else {
-			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
-				configuration.getMessageTemplate(), contextualData, methodName,
-				LoggingUtils.formatMethodArguments(args, configuration));
+			loggerManager.logWithLevel(configuration.getLogLevel(), topic, configuration.getMessageTemplate(),
+				contextualData, buffers.getArguments(methodName, buffers.asArgument(formattedArgs)));
 		}
     }
 
+	/**
+	 * Checks whether the input data of an invocation of the given method would be logged with the given
+	 * configuration, i.e. whether the log event would be emitted by at least one registered logger.
+	 * <p>
+	 *     This allows the instrumentations to skip the retrieval of the arguments of the invocation (which requires to
+	 *     copy them into an array) when its input data would not be logged anyway.
+	 * </p>
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param method            The invoked method.
+	 * @return {@code true} if the input data would be logged, {@code false} otherwise.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public boolean isInputLogged(@NonNull final MethodInputLoggingConfiguration configuration,
+								 @NonNull final Method method) {
+		return loggerManager.isEnabled(MethodDescriptor.of(method).getTopic(configuration.getTopic(),
+			configuration.isCallerClassUsedAsTopic()), configuration.getLogLevel());
+	}
+
+	/**
+	 * Formats the logged input arguments of a method invocation, applying the masks if required and applicable.
+	 *
+	 * @param configuration		The configuration used for logging.
+	 * @param methodDescriptor	The descriptor of the invoked method.
+	 * @param argsValues		The values of the method input arguments.
+	 * @param methodArgsMap		The map filled with the formatted logged arguments indexed by name, required when the
+	 *                          message is structured (and not streamed in JSON) or when the data are logged in the
+	 *                          context ({@code null} otherwise).
+	 * @param argsValuesMap		The map filled with the values of the logged arguments (masked if required) indexed by
+	 *                          name, required when the message is structured and streamed in JSON ({@code null}
+	 *                          otherwise).
+	 * @param formattedArgs		The builder to which the comma-separated list of the logged arguments is appended
+	 *                          when the message is not structured.
+	 */
+	private static void formatMethodArguments(final MethodInputLoggingConfiguration configuration,
+											  final MethodDescriptor methodDescriptor, final Object[] argsValues,
+											  final Map<String, String> methodArgsMap,
+											  final Map<String, Object> argsValuesMap,
+											  final StringBuilder formattedArgs) {
+		final MethodDescriptor.ArgumentsPlan argumentsPlan = methodDescriptor.getArgumentsPlan(configuration);
+		for (int i = 0; i < methodDescriptor.getParametersCount(); i++) {
+			if (argumentsPlan.isLogged(i)) {
+				final String argName = methodDescriptor.getParameterName(i);
+				final Object argValue = methodDescriptor.maskArgument(i, argsValues[i]);
+				if (methodArgsMap != null) {
+					methodArgsMap.put(argName, LoggingUtils.formatData(argValue, configuration.getPrettyFormat(),
+						configuration.isCollectionsAndMapsExpanded()));
+				}
+				if (argsValuesMap != null) {
+					argsValuesMap.put(argName, argValue);
+				}
+				if (!configuration.isStructuredMessage()) {
+					if (formattedArgs.length() > 0) {
+						formattedArgs.append(LoggingUtils.LIST_ITEMS_DELIMITER);
+					}
+					PrettyDataFormat prettyFormat = null;
+					if (argumentsPlan.isPrettified(i)) {
+						prettyFormat = configuration.getPrettyFormat();
+					}
+					formattedArgs.append(argName).append('=');
+					LoggingUtils.appendData(formattedArgs, argValue, prettyFormat,
+						configuration.isCollectionsAndMapsExpanded());
+				}
+			}
+		}
+	}
+
     /**
      * Logs the output value of a method invocation.
      *
@@ -184,17 +339,36 @@ public class MethodCallLogger {
      */
     public void logMethodOutput(@NonNull final MethodOutputLoggingConfiguration configuration,
                                 @NonNull final Method method, final Object outputValue) {
-    	final String topic = LoggingUtils.computeTopic(method.getDeclaringClass(), configuration.getTopic(),
-			configuration.isCallerClassUsedAsTopic());
-        if (void.class.equals(method.getReturnType())) {
-            logMethodOutput(configuration, topic,
-				LoggingUtils.getMethodName(method, configuration.isClassNameDisplayed()));
-        } else {
-            logMethodOutput(configuration, topic,
-				LoggingUtils.getMethodName(method, configuration.isClassNameDisplayed()), outputValue);
-        }
+		logMethodOutput(configuration, method, outputValue, null);
     }
 
+	/**
+	 * Logs the output value of a sampled method invocation.
+	 * <p>
+	 *     If the method is annotated with {@link com.github.maximevw.autolog.core.annotations.Mask}, the output value
+	 *     is masked.
+	 * </p>
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param method            The invoked method.
+	 * @param outputValue       The method output value.
+	 * @param samplingWeight	The sampling weight of the invocation (see {@link InvocationSampler#sample()}), logged
+	 *                          with the output data, or {@code null} if the invocations of the method are not sampled.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public void logMethodOutput(@NonNull final MethodOutputLoggingConfiguration configuration,
+								@NonNull final Method method, final Object outputValue, final Double samplingWeight) {
+		final MethodDescriptor methodDescriptor = MethodDescriptor.of(method);
+		final String topic = methodDescriptor.getTopic(configuration.getTopic(),
+			configuration.isCallerClassUsedAsTopic());
+		final String methodName = methodDescriptor.getMethodName(configuration.isClassNameDisplayed());
+		if (methodDescriptor.isVoidReturned()) {
+			logVoidOutput(configuration, topic, methodName, samplingWeight);
+		} else {
+			logOutputValue(configuration, topic, methodName, methodDescriptor.maskOutput(outputValue), samplingWeight);
+		}
+	}
+
 	/**
 	 * Logs the output value of a method invocation.
 	 *
@@ -233,30 +407,8 @@ public class MethodCallLogger {
 	@API(status = API.Status.STABLE, since = "1.2.0")
     public void logMethodOutput(@NonNull final MethodOutputLoggingConfiguration configuration, final String topic,
 								@NonNull final String methodName, final Object outputValue) {
-    	final String formattedOutputValue = LoggingUtils.formatData(outputValue, configuration.getPrettyFormat(),
-			configuration.isCollectionsAndMapsExpanded());
-
-		// Build the map of data to store in the log context if required.
-		Map<String, String> contextualData = null;
-		if (configuration.isDataLoggedInContext()) {
-			contextualData = buildOutputContextualData(methodName, formattedOutputValue);
-		}
-
-		// Effectively log the output data.
-		if (configuration.isStructuredMessage()) {
-			final MethodOutputLogEntry structuredMessage = MethodOutputLogEntry.builder()
-				.calledMethod(methodName)
-				.outputValue(formattedOutputValue)
-				.build();
-			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
-				LoggingUtils.prettify(structuredMessage,
-					Optional.ofNullable(configuration.getPrettyFormat()).orElse(PrettyDataFormat.JSON)),
-				contextualData);
-		} else {
-			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
-				configuration.getMessageTemplate(), contextualData, methodName, formattedOutputValue);
-		}
-    }
+		logOutputValue(configuration, topic, methodName, outputValue, null);
+	}
 
 	/**
 	 * Logs the end of the invocation of a method returning {@code void}.
@@ -294,25 +446,114 @@ public class MethodCallLogger {
     @API(status = API.Status.STABLE, since = "1.2.0")
     public void logMethodOutput(@NonNull final MethodOutputLoggingConfiguration configuration, final String topic,
                                 @NonNull final String methodName) {
-		// Build the map of data to store in the log context if required.
-		Map<String, String> contextualData = null;
-		if (configuration.isDataLoggedInContext()) {
-			contextualData = buildOutputContextualData(methodName, Void.TYPE.getName());
+		logVoidOutput(configuration, topic, methodName, null);
+	}
+
+	/**
+	 * Logs the output value of a method invocation.
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param topic     		The logger name.
+	 * @param methodName        The name of the invoked method.
+	 * @param outputValue       The method output value.
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
+	 */
+	private void logOutputValue(final MethodOutputLoggingConfiguration configuration, final String topic,
+								final String methodName, final Object outputValue, final Double samplingWeight) {
+		if (!loggerManager.isEnabled(topic, configuration.getLogLevel())
+			|| !LogRateLimiter.getInstance().tryAcquire(loggerManager, topic, methodName,
+				configuration.getRateLimit())) {
+			return;
+		}
+		if (isRenderedLazily(configuration.isStructuredMessage(), configuration.isDataLoggedInContext())) {
+			// Defer the formatting of the output value until a logger formats the message.
+			loggerManager.logWithLevel(configuration.getLogLevel(), topic, configuration.getMessageTemplate(), null,
+				methodName, new LazyRenderedData(() -> LoggingUtils.formatData(outputValue,
+					configuration.getPrettyFormat(), configuration.isCollectionsAndMapsExpanded())));
+			return;
 		}
+		final boolean streamedAsJson = isStreamedAsJson(configuration.isStructuredMessage(),
+			configuration.getPrettyFormat());
+		final LogEventBuffers buffers = LogEventBuffers.acquire(loggerManager.isGarbageFreeActive());
+		try {
+			final StringBuilder formattedOutputValue = buffers.getDataBuilder();
+			if (!streamedAsJson || configuration.isDataLoggedInContext()) {
+				LoggingUtils.appendData(formattedOutputValue, outputValue, configuration.getPrettyFormat(),
+					configuration.isCollectionsAndMapsExpanded());
+			}
 
-		// Effectively log the output data.
-		if (configuration.isStructuredMessage()) {
-			final MethodOutputLogEntry structuredMessage = MethodOutputLogEntry.builder()
-				.calledMethod(methodName)
-				.outputValue(Void.TYPE.getName())
-				.build();
-			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
-				LoggingUtils.prettify(structuredMessage,
-					Optional.ofNullable(configuration.getPrettyFormat()).orElse(PrettyDataFormat.JSON)),
-				contextualData);
-		} else {
-			loggerManager.logWithLevel(configuration.getLogLevel(), topic,
-				configuration.getVoidOutputMessageTemplate(), contextualData, methodName);
+			// Build the map of data to store in the log context if required.
+			Map<String, String> contextualData = null;
+			if (configuration.isDataLoggedInContext()) {
+				contextualData = buildOutputContextualData(buffers, methodName, formattedOutputValue.toString(),
+					samplingWeight);
+			}
+
+			// Effectively log the output data.
+			if (streamedAsJson) {
+				loggerManager.logWithLevel(configuration.getLogLevel(), topic,
+					StructuredMessageWriter.writeMethodOutput(methodName, outputValue, configuration.getPrettyFormat(),
+						configuration.isCollectionsAndMapsExpanded(), samplingWeight),
+					contextualData);
+			} else if (configuration.isStructuredMessage()) {
+				final MethodOutputLogEntry structuredMessage = MethodOutputLogEntry.builder()
+					.calledMethod(methodName)
+					.outputValue(formattedOutputValue.toString())
+					.samplingWeight(samplingWeight)
+					.build();
+				loggerManager.logWithLevel(configuration.getLogLevel(), topic,
+					LoggingUtils.prettify(structuredMessage,
+						Optional.ofNullable(configuration.getPrettyFormat()).orElse(PrettyDataFormat.JSON)),
+					contextualData);
+			} else {
+				loggerManager.logWithLevel(configuration.getLogLevel(), topic, configuration.getMessageTemplate(),
+					contextualData, buffers.getArguments(methodName, buffers.asArgument(formattedOutputValue)));
+			}
+		} finally {
+			buffers.release();
+		}
+    }
+
+	/**
+	 * Logs the end of the invocation of a method returning {@code void}.
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param topic     		The logger name.
+	 * @param methodName        The name of the invoked method.
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
+	 */
+	private void logVoidOutput(final MethodOutputLoggingConfiguration configuration, final String topic,
+							   final String methodName, final Double samplingWeight) {
+		if (!loggerManager.isEnabled(topic, configuration.getLogLevel())
+			|| !LogRateLimiter.getInstance().tryAcquire(loggerManager, topic, methodName,
+				configuration.getRateLimit())) {
+			return;
+		}
+		final LogEventBuffers buffers = LogEventBuffers.acquire(loggerManager.isGarbageFreeActive());
+		try {
+			// Build the map of data to store in the log context if required.
+			Map<String, String> contextualData = null;
+			if (configuration.isDataLoggedInContext()) {
+				contextualData = buildOutputContextualData(buffers, methodName, Void.TYPE.getName(), samplingWeight);
+			}
+
+			// Effectively log the output data.
+			if (configuration.isStructuredMessage()) {
+				final MethodOutputLogEntry structuredMessage = MethodOutputLogEntry.builder()
+					.calledMethod(methodName)
+					.outputValue(Void.TYPE.getName())
+					.samplingWeight(samplingWeight)
+					.build();
+				loggerManager.logWithLevel(configuration.getLogLevel(), topic,
+					LoggingUtils.prettify(structuredMessage,
+						Optional.ofNullable(configuration.getPrettyFormat()).orElse(PrettyDataFormat.JSON)),
+					contextualData);
+			} else {
+				loggerManager.logWithLevel(configuration.getLogLevel(), topic,
+					configuration.getVoidOutputMessageTemplate(), contextualData, buffers.getArguments(methodName));
+			}
+		} finally {
+			buffers.release();
 		}
     }
 
@@ -325,14 +566,37 @@ public class MethodCallLogger {
      */
     public void logThrowable(@NonNull final MethodOutputLoggingConfiguration configuration,
 							 @NonNull final Method method, @NonNull final Throwable throwable) {
-    	final String methodName = LoggingUtils.getMethodName(method, configuration.isClassNameDisplayed());
-		final String topic = LoggingUtils.computeTopic(method.getDeclaringClass(), configuration.getTopic(),
+		logThrowable(configuration, method, throwable, null);
+	}
+
+	/**
+	 * Logs an exception or an error thrown during a sampled method invocation.
+	 *
+	 * @param configuration     The configuration used for logging.
+	 * @param method        	The invoked method throwing the exception or error.
+	 * @param throwable 		The exception or error to log.
+	 * @param samplingWeight	The sampling weight of the invocation (see {@link InvocationSampler#sample()}), logged
+	 *                          with the exception, or {@code null} if the invocations of the method are not sampled.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public void logThrowable(@NonNull final MethodOutputLoggingConfiguration configuration,
+							 @NonNull final Method method, @NonNull final Throwable throwable,
+							 final Double samplingWeight) {
+		final MethodDescriptor methodDescriptor = MethodDescriptor.of(method);
+		final String topic = methodDescriptor.getTopic(configuration.getTopic(),
 			configuration.isCallerClassUsedAsTopic());
+		if (!loggerManager.isEnabled(topic, LogLevel.ERROR)) {
+			return;
+		}
+    	final String methodName = methodDescriptor.getMethodName(configuration.isClassNameDisplayed());
+		if (!LogRateLimiter.getInstance().tryAcquire(loggerManager, topic, methodName, configuration.getRateLimit())) {
+			return;
+		}
 
 		// Build the map of data to store in the log context if required.
 		Map<String, String> contextualData = null;
 		if (configuration.isDataLoggedInContext()) {
-			contextualData = buildThrowableContextualData(methodName, throwable.getClass());
+			contextualData = buildThrowableContextualData(methodName, throwable.getClass(), samplingWeight);
 		}
 
 		// Effectively log the Throwable.
@@ -340,10 +604,11 @@ public class MethodCallLogger {
 			final MethodOutputLogEntry structuredMessage = MethodOutputLogEntry.builder()
 				.calledMethod(methodName)
 				.thrown(throwable.getClass())
-				.thrownMessage(throwable.getMessage())
+				.thrownMessage(ThrowableMessageMasker.getInstance().mask(throwable.getMessage()))
 				.stackTrace(Arrays.stream(throwable.getStackTrace())
 					.map(StackTraceElement::toString)
 					.collect(Collectors.toList()))
+				.samplingWeight(samplingWeight)
 				.build();
 			loggerManager.logWithLevel(LogLevel.ERROR, topic,
 				LoggingUtils.prettify(structuredMessage,
@@ -356,6 +621,9 @@ public class MethodCallLogger {
 
 	/**
 	 * Logs an exception or an error thrown during a method invocation, with a specific logger name.
+	 * <p>
+	 *     The sensitive parts of the messages of the throwable are masked by {@link ThrowableMessageMasker}.
+	 * </p>
 	 *
 	 * @param throwable 	 The exception or error to log.
 	 * @param topic			 The logger name.
@@ -364,8 +632,10 @@ public class MethodCallLogger {
 	@API(status = API.Status.STABLE, since = "1.2.0")
 	public void logThrowable(@NonNull final Throwable throwable, final String topic,
 							 final Map<String, String> contextualData) {
+		final ThrowableMessageMasker masker = ThrowableMessageMasker.getInstance();
 		loggerManager.logWithLevel(LogLevel.ERROR, topic, MethodOutputLoggingConfiguration.THROWABLE_MESSAGE_TEMPLATE,
-			contextualData, throwable.getClass().getName(), throwable.getMessage(), throwable);
+			contextualData, throwable.getClass().getName(), masker.mask(throwable.getMessage()),
+			masker.mask(throwable));
 	}
 
 	/**
@@ -391,17 +661,20 @@ public class MethodCallLogger {
 	/**
 	 * Builds a map of contextual data for logging of the output value of a method invocation.
 	 *
+	 * @param buffers		The buffers used to dispatch the log event.
 	 * @param methodName	The name of the invoked method.
 	 * @param outputValue	The string representation of the output value.
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
 	 * @return The map of contextual data to store in the log context.
 	 */
-	private static Map<String, String> buildOutputContextualData(final String methodName, final String outputValue) {
-		return new HashMap<>() {
-			{
-				put(INVOKED_METHOD_PROPERTY, methodName);
-				put("outputValue", outputValue);
-			}
-		};
+	private static Map<String, String> buildOutputContextualData(final LogEventBuffers buffers,
+																 final String methodName, final String outputValue,
+																 final Double samplingWeight) {
+		final Map<String, String> contextualData = buffers.getContextualData();
+		contextualData.put(INVOKED_METHOD_PROPERTY, methodName);
+		contextualData.put(OUTPUT_VALUE_PROPERTY, outputValue);
+		putSamplingWeight(contextualData, samplingWeight);
+		return contextualData;
 	}
 
 	/**
@@ -410,17 +683,55 @@ public class MethodCallLogger {
 	 *
 	 * @param methodName	The name of the invoked method.
 	 * @param throwableType The class of the thrown exception or error.
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
 	 * @return The map of contextual data to store in the log context.
 	 */
 	private static Map<String, String> buildThrowableContextualData(final String methodName,
-																	final Class<? extends Throwable> throwableType) {
-		return new HashMap<>() {
-			{
-				put(INVOKED_METHOD_PROPERTY, methodName);
-				put("outputValue", "n/a");
-				put("throwableType", throwableType.getName());
-			}
-		};
+																	final Class<? extends Throwable> throwableType,
+																	final Double samplingWeight) {
+		final Map<String, String> contextualData = new HashMap<>();
+		contextualData.put(INVOKED_METHOD_PROPERTY, methodName);
+		contextualData.put(OUTPUT_VALUE_PROPERTY, "n/a");
+		contextualData.put("throwableType", throwableType.getName());
+		putSamplingWeight(contextualData, samplingWeight);
+		return contextualData;
+	}
+
+	/**
+	 * Whether the formatting of the logged data must be deferred until a logger formats the log message.
+	 *
+	 * @param structuredMessage		Whether the log message is structured.
+	 * @param dataLoggedInContext	Whether the logged data are stored into the log context.
+	 * @return {@code true} if the lazy rendering is active and the logged data are only used in a human-readable
+	 * 		   message, {@code false} otherwise.
+	 * @see LoggerManager#setLazyRendering(boolean)
+	 */
+	private boolean isRenderedLazily(final boolean structuredMessage, final boolean dataLoggedInContext) {
+		return loggerManager.isLazyRenderingActive() && !structuredMessage && !dataLoggedInContext;
+	}
+
+	/**
+	 * Whether the structured message is written in JSON with the logged values streamed as nested JSON values (see
+	 * {@link StructuredMessageWriter}).
+	 *
+	 * @param structuredMessage	Whether the log message is structured.
+	 * @param prettyFormat		The pretty format of the logged values (can be {@code null}).
+	 * @return {@code true} if the structured message is streamed in JSON, {@code false} otherwise.
+	 */
+	private static boolean isStreamedAsJson(final boolean structuredMessage, final PrettyDataFormat prettyFormat) {
+		return structuredMessage && StructuredMessageWriter.isApplicable(prettyFormat);
+	}
+
+	/**
+	 * Stores the sampling weight of the invocation in the given contextual data, if the invocation is sampled.
+	 *
+	 * @param contextualData	The map of contextual data to store in the log context.
+	 * @param samplingWeight	The sampling weight of the invocation or {@code null} if it is not sampled.
+	 */
+	private static void putSamplingWeight(final Map<String, String> contextualData, final Double samplingWeight) {
+		if (samplingWeight != null) {
+			contextualData.put(SAMPLING_WEIGHT_PROPERTY, String.valueOf(samplingWeight));
+		}
 	}
 
 }
@@ -0,0 +1,424 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import com.github.maximevw.autolog.core.annotations.processors.AutoLogDescriptorProcessor;
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable descriptor of a method, gathering the metadata used to log its invocations.
+ * <p>
+ *     The metadata (parameters names, masking annotations, display names, logger name...) never change for a given
+ *     method, so they are computed once on the first logged invocation of the method and cached. The cached
+ *     descriptors are stored per declaring class of the methods (using a {@link ClassValue}), so they do not prevent
+ *     the classes from being unloaded.
+ * </p>
+ * <p>
+ *     When the names of the parameters are not available by reflection (i.e. the application is not compiled with the
+ *     argument {@code -parameters}), they are read from the descriptor class generated at compile time by
+ *     {@link AutoLogDescriptorProcessor}, if any.
+ * </p>
+ */
+final class MethodDescriptor {
+
+	private static final ClassValue<Map<Method, MethodDescriptor>> DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodDescriptor> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final ClassValue<Map<String, String[]>> GENERATED_PARAMETERS_NAMES = new ClassValue<>() {
+		@Override
+		protected Map<String, String[]> computeValue(final Class<?> type) {
+			return loadGeneratedParametersNames(type);
+		}
+	};
+
+	private final Method method;
+	private final String methodName;
+	private final String qualifiedMethodName;
+	private final String callerClassTopic;
+	private final boolean voidReturned;
+	private final String[] parametersNames;
+	private final boolean[] generatedParametersNames;
+	private final MaskPlan[] maskPlans;
+	private final MaskPlan outputMaskPlan;
+
+	/**
+	 * The arguments plan resolved for the last input logging configuration used with this method.
+	 */
+	private volatile ArgumentsPlan argumentsPlan;
+
+	/**
+	 * The API endpoint corresponding to the method, resolved on the first call to {@link #getApiEndpoint()}.
+	 */
+	private volatile ApiEndpoint apiEndpoint;
+
+	/**
+	 * Builds the descriptor of the given method.
+	 *
+	 * @param method The method.
+	 */
+	private MethodDescriptor(final Method method) {
+		final Class<?> declaringClass = method.getDeclaringClass();
+		this.method = method;
+		this.methodName = LoggingUtils.getMethodName(method, false);
+		this.qualifiedMethodName = LoggingUtils.getMethodName(method, true);
+		this.callerClassTopic = Optional.ofNullable(declaringClass.getCanonicalName()).orElse(declaringClass.getName());
+		this.voidReturned = void.class.equals(method.getReturnType());
+		this.outputMaskPlan = maskPlanOf(method.getAnnotation(Mask.class));
+
+		final Parameter[] parameters = method.getParameters();
+		this.parametersNames = new String[parameters.length];
+		this.generatedParametersNames = new boolean[parameters.length];
+		this.maskPlans = new MaskPlan[parameters.length];
+		String[] generatedNames = null;
+		for (int i = 0; i < parameters.length; i++) {
+			final Parameter parameter = parameters[i];
+			this.maskPlans[i] = maskPlanOf(parameter.getAnnotation(Mask.class));
+			if (!parameter.isNamePresent() && generatedNames == null) {
+				generatedNames = getGeneratedParametersNames(method);
+			}
+			if (parameter.isNamePresent()) {
+				this.parametersNames[i] = parameter.getName();
+			} else if (generatedNames.length > 0) {
+				this.parametersNames[i] = generatedNames[i];
+			} else {
+				this.parametersNames[i] = String.format(LoggingUtils.AUTO_GENERATED_ARG_NAME_FORMATTER, i);
+				this.generatedParametersNames[i] = true;
+			}
+		}
+		if (parameters.length > 0 && this.generatedParametersNames[0]) {
+			LoggingUtils.report("Unable to get parameter name. Exclusions and restrictions will be ignored. "
+				+ "Compile your application with javac argument -parameters or with the Autolog annotations "
+				+ "processors.");
+		}
+	}
+
+	/**
+	 * Gets the descriptor of the given method.
+	 *
+	 * @param method The method.
+	 * @return The descriptor of the method.
+	 */
+	static MethodDescriptor of(final Method method) {
+		return DESCRIPTORS.get(method.getDeclaringClass()).computeIfAbsent(method, MethodDescriptor::new);
+	}
+
+	/**
+	 * Gets the masking plan corresponding to the given annotation.
+	 *
+	 * @param mask The annotation {@link Mask} (can be {@code null}).
+	 * @return The masking plan or {@code null} if there is no annotation.
+	 */
+	private static MaskPlan maskPlanOf(final Mask mask) {
+		if (mask == null) {
+			return null;
+		}
+		return MaskPlan.of(mask);
+	}
+
+	/**
+	 * Gets the names of the parameters of the given method from the descriptor class generated at compile time for its
+	 * declaring class by {@link AutoLogDescriptorProcessor}.
+	 *
+	 * @param method The method.
+	 * @return The names of the parameters of the method or an empty array if they are not available in a generated
+	 * 		   descriptor.
+	 */
+	static String[] getGeneratedParametersNames(final Method method) {
+		final String signature = method.getName() + Arrays.stream(method.getParameterTypes())
+			.map(parameterType -> Optional.ofNullable(parameterType.getCanonicalName()).orElse(parameterType.getName()))
+			.collect(Collectors.joining(",", "(", ")"));
+		final String[] names = GENERATED_PARAMETERS_NAMES.get(method.getDeclaringClass()).get(signature);
+		if (names == null || names.length != method.getParameterCount()) {
+			return new String[0];
+		}
+		return names;
+	}
+
+	/**
+	 * Loads the parameters names by method signature from the descriptor class generated at compile time for the given
+	 * type by {@link AutoLogDescriptorProcessor}.
+	 *
+	 * @param type The type.
+	 * @return The parameters names by method signature or an empty map if there is no generated descriptor for the
+	 * 		   given type.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, String[]> loadGeneratedParametersNames(final Class<?> type) {
+		try {
+			final Class<?> descriptorClass = Class.forName(
+				type.getName() + AutoLogDescriptorProcessor.DESCRIPTOR_CLASS_SUFFIX, true, type.getClassLoader());
+			final Object parametersNames =
+				descriptorClass.getField(AutoLogDescriptorProcessor.PARAMETERS_NAMES_FIELD).get(null);
+			if (parametersNames instanceof Map) {
+				return (Map<String, String[]>) parametersNames;
+			}
+		} catch (final ClassNotFoundException | NoSuchFieldException | IllegalAccessException | LinkageError e) {
+			// No usable descriptor generated for this type.
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Gets the qualified (if requested) method name.
+	 *
+	 * @param prefixWithClassName Whether the method name must be prefixed by the declaring class name.
+	 * @return The qualified method name if {@code prefixWithClassName} is {@code true}, the simple method name
+	 *         otherwise.
+	 * @see LoggingUtils#getMethodName(Method, boolean)
+	 */
+	String getMethodName(final boolean prefixWithClassName) {
+		if (prefixWithClassName) {
+			return this.qualifiedMethodName;
+		}
+		return this.methodName;
+	}
+
+	/**
+	 * Computes the logger name to use for the method according to the given configuration.
+	 *
+	 * @param topic					The custom logger name (can be {@code null} or blank).
+	 * @param useCallerClassName	Whether the declaring class name must be used as logger name if no custom name is
+	 *                              specified.
+	 * @return The logger name to use.
+	 * @see LoggingUtils#computeTopic(Class, String, boolean)
+	 */
+	String getTopic(final String topic, final boolean useCallerClassName) {
+		if (StringUtils.isBlank(topic)) {
+			if (useCallerClassName) {
+				return this.callerClassTopic;
+			}
+			return LoggingUtils.AUTOLOG_DEFAULT_TOPIC;
+		}
+		return topic;
+	}
+
+	/**
+	 * Whether the method returns {@code void}.
+	 *
+	 * @return {@code true} if the method returns {@code void}, {@code false} otherwise.
+	 */
+	boolean isVoidReturned() {
+		return this.voidReturned;
+	}
+
+	/**
+	 * Gets the number of parameters of the method.
+	 *
+	 * @return The number of parameters.
+	 */
+	int getParametersCount() {
+		return this.parametersNames.length;
+	}
+
+	/**
+	 * Gets the name of a parameter of the method.
+	 *
+	 * @param index The index of the parameter.
+	 * @return The parameter name, or an auto-generated name (see
+	 * 		   {@link LoggingUtils#AUTO_GENERATED_ARG_NAME_FORMATTER}) if the name is not available.
+	 */
+	String getParameterName(final int index) {
+		return this.parametersNames[index];
+	}
+
+	/**
+	 * Applies the mask defined on a parameter of the method (if any) to the given argument value.
+	 *
+	 * @param index		The index of the parameter.
+	 * @param argValue	The argument value.
+	 * @return The masked value if a mask is defined on the parameter and applicable, otherwise the value itself.
+	 */
+	Object maskArgument(final int index, final Object argValue) {
+		final MaskPlan maskPlan = this.maskPlans[index];
+		if (maskPlan == null) {
+			return argValue;
+		}
+		return maskPlan.mask(argValue);
+	}
+
+	/**
+	 * Applies the mask defined on the method (if any) to the given output value.
+	 *
+	 * @param outputValue The output value of the method.
+	 * @return The masked value if a mask is defined on the method and applicable, otherwise the value itself.
+	 */
+	Object maskOutput(final Object outputValue) {
+		if (this.outputMaskPlan == null) {
+			return outputValue;
+		}
+		return this.outputMaskPlan.mask(outputValue);
+	}
+
+	/**
+	 * Gets the API endpoint (path and HTTP method) corresponding to the method.
+	 * <p>
+	 *     It is resolved from the JAX-RS or Spring Web annotations on the first call only.
+	 * </p>
+	 *
+	 * @return The API endpoint corresponding to the method.
+	 * @see LoggingUtils#retrieveApiPath(Method)
+	 * @see LoggingUtils#retrieveHttpMethod(Method)
+	 */
+	ApiEndpoint getApiEndpoint() {
+		ApiEndpoint endpoint = this.apiEndpoint;
+		if (endpoint == null) {
+			// The resolution is idempotent, so concurrent resolutions are harmless.
+			endpoint = new ApiEndpoint(LoggingUtils.retrieveApiPath(this.method),
+				LoggingUtils.retrieveHttpMethod(this.method));
+			this.apiEndpoint = endpoint;
+		}
+		return endpoint;
+	}
+
+	/**
+	 * Gets the arguments plan of the method for the given input logging configuration.
+	 * <p>
+	 *     The last resolved plan is reused as long as the arguments-related parameters of the configuration are equal
+	 *     to the ones used to resolve it (the plan keeps copies of them, so the sets modified in place are detected).
+	 * </p>
+	 *
+	 * @param configuration The input logging configuration.
+	 * @return The arguments plan.
+	 */
+	ArgumentsPlan getArgumentsPlan(final MethodInputLoggingConfiguration configuration) {
+		ArgumentsPlan plan = this.argumentsPlan;
+		if (plan == null || !plan.isResolvedFor(configuration)) {
+			plan = new ArgumentsPlan(configuration);
+			this.argumentsPlan = plan;
+		}
+		return plan;
+	}
+
+	/**
+	 * Immutable API endpoint corresponding to a method.
+	 */
+	static final class ApiEndpoint {
+
+		private final String path;
+		private final String httpMethod;
+
+		private ApiEndpoint(final String path, final String httpMethod) {
+			this.path = path;
+			this.httpMethod = httpMethod;
+		}
+
+		/**
+		 * Gets the path of the API endpoint.
+		 *
+		 * @return The path of the API endpoint or an empty string if the method does not correspond to an API
+		 * 		   endpoint.
+		 */
+		String getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Gets the HTTP method of the API endpoint.
+		 *
+		 * @return The HTTP method of the API endpoint or {@code null} if not defined.
+		 */
+		String getHttpMethod() {
+			return this.httpMethod;
+		}
+	}
+
+	/**
+	 * Immutable plan indicating which arguments of the method are logged and prettified according to an input logging
+	 * configuration.
+	 */
+	final class ArgumentsPlan {
+
+		private final Set<String> excludedArguments;
+		private final Set<String> onlyLoggedArguments;
+		private final Set<String> prettifiedValues;
+		private final boolean[] loggedArguments;
+		private final boolean[] prettifiedArguments;
+
+		/**
+		 * Resolves the arguments plan for the given configuration.
+		 *
+		 * @param configuration The input logging configuration.
+		 */
+		private ArgumentsPlan(final MethodInputLoggingConfiguration configuration) {
+			this.excludedArguments = copyOf(configuration.getExcludedArguments());
+			this.onlyLoggedArguments = copyOf(configuration.getOnlyLoggedArguments());
+			this.prettifiedValues = copyOf(configuration.getPrettifiedValues());
+			this.loggedArguments = new boolean[parametersNames.length];
+			this.prettifiedArguments = new boolean[parametersNames.length];
+			for (int i = 0; i < parametersNames.length; i++) {
+				this.loggedArguments[i] = generatedParametersNames[i]
+					|| LoggingUtils.isLoggableArgument(parametersNames[i], configuration);
+				this.prettifiedArguments[i] = LoggingUtils.isPrettifiedArgument(parametersNames[i], configuration);
+			}
+		}
+
+		/**
+		 * Whether the argument at the given index is logged.
+		 *
+		 * @param index The index of the argument.
+		 * @return {@code true} if the argument is logged, {@code false} otherwise.
+		 */
+		boolean isLogged(final int index) {
+			return this.loggedArguments[index];
+		}
+
+		/**
+		 * Whether the argument at the given index is prettified.
+		 *
+		 * @param index The index of the argument.
+		 * @return {@code true} if the argument is prettified, {@code false} otherwise.
+		 */
+		boolean isPrettified(final int index) {
+			return this.prettifiedArguments[index];
+		}
+
+		private boolean isResolvedFor(final MethodInputLoggingConfiguration configuration) {
+			return Objects.equals(this.excludedArguments, configuration.getExcludedArguments())
+				&& Objects.equals(this.onlyLoggedArguments, configuration.getOnlyLoggedArguments())
+				&& Objects.equals(this.prettifiedValues, configuration.getPrettifiedValues());
+		}
+
+		private Set<String> copyOf(final Set<String> set) {
+			if (set == null) {
+				return null;
+			}
+			return Collections.unmodifiableSet(new HashSet<>(set));
+		}
+	}
+}
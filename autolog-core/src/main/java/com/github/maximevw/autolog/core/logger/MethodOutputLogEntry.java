@@ -72,4 +72,13 @@ public class MethodOutputLogEntry {
 	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<String> stackTrace;
 
+	/**
+	 * The sampling weight of the logged invocation, i.e. the number of invocations it represents (only defined if the
+	 * invocations of the method are sampled).
+	 * @see com.github.maximevw.autolog.core.annotations.Sampling
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private Double samplingWeight;
+
 }
@@ -32,10 +32,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apiguardian.api.API;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The loggable performance data of a method invocation.
@@ -68,14 +71,24 @@ public class MethodPerformanceLogEntry {
 	private long executionTimeInMs;
 
 	/**
-	 * The start time of the invocation.
+	 * The total execution time of the invoked method (in nanoseconds).
 	 */
-	private LocalDateTime startTime;
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long executionTimeInNs;
 
 	/**
-	 * The end time of the invocation.
+	 * The start time of the invocation (in milliseconds since the epoch).
 	 */
-	private LocalDateTime endTime;
+	@JsonIgnore
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long startEpochTimeInMs;
+
+	/**
+	 * The end time of the invocation (in milliseconds since the epoch).
+	 */
+	@JsonIgnore
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long endEpochTimeInMs;
 
 	/**
 	 * The optional number of items processed by the invoked method.
@@ -92,6 +105,15 @@ public class MethodPerformanceLogEntry {
 	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 	private long averageExecutionTimeByItemInMs = 0;
 
+	/**
+	 * The average execution time (in nanoseconds) by processed item (only defined if the number of processed items is
+	 * defined).
+	 */
+	@Builder.Default
+	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long averageExecutionTimeByItemInNs = 0;
+
 	/**
 	 * Whether the invoked method has failed (an exception has been thrown for example).
 	 */
@@ -106,6 +128,15 @@ public class MethodPerformanceLogEntry {
 	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 	private List<String> comments = new ArrayList<>();
 
+	/**
+	 * The sampling weight of the logged invocation, i.e. the number of invocations it represents (only defined if the
+	 * invocations of the method are sampled).
+	 * @see com.github.maximevw.autolog.core.annotations.Sampling
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private Double samplingWeight;
+
 	/**
 	 * The logger name used for this log entry.
 	 */
@@ -120,7 +151,54 @@ public class MethodPerformanceLogEntry {
 	 * @return The formatted total execution time of the invoked method.
 	 */
 	public String getExecutionTime() {
-		return LoggingUtils.formatDuration(executionTimeInMs);
+		return LoggingUtils.formatNanoDuration(executionTimeInNs);
+	}
+
+	/**
+	 * Gets the total execution time of the invoked method in microseconds.
+	 *
+	 * @return The total execution time of the invoked method (in microseconds).
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public long getExecutionTimeInUs() {
+		return TimeUnit.NANOSECONDS.toMicros(executionTimeInNs);
+	}
+
+	/**
+	 * Sets the total execution time of the invoked method, in nanoseconds and milliseconds.
+	 *
+	 * @param executionTimeInNs The total execution time of the invoked method (in nanoseconds).
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public void setExecutionTimeInNs(final long executionTimeInNs) {
+		this.executionTimeInNs = executionTimeInNs;
+		this.executionTimeInMs = TimeUnit.NANOSECONDS.toMillis(executionTimeInNs);
+	}
+
+	/**
+	 * Gets the start time of the invocation.
+	 * <p>
+	 *     The start time is stored as a number of milliseconds since the epoch and only converted to a date-time in
+	 *     the default time-zone when it is rendered.
+	 * </p>
+	 *
+	 * @return The start time of the invocation.
+	 */
+	public LocalDateTime getStartTime() {
+		return toLocalDateTime(startEpochTimeInMs);
+	}
+
+	/**
+	 * Gets the end time of the invocation.
+	 * <p>
+	 *     The end time is stored as a number of milliseconds since the epoch and only converted to a date-time in
+	 *     the default time-zone when it is rendered.
+	 * </p>
+	 *
+	 * @return The end time of the invocation.
+	 */
+	public LocalDateTime getEndTime() {
+		return toLocalDateTime(endEpochTimeInMs);
 	}
 
 	/**
@@ -132,8 +210,8 @@ public class MethodPerformanceLogEntry {
 	 */
 	@JsonInclude(JsonInclude.Include.NON_NULL)
 	public String getAverageExecutionTimeByItem() {
-		if (averageExecutionTimeByItemInMs > 0) {
-			return LoggingUtils.formatDuration(averageExecutionTimeByItemInMs);
+		if (averageExecutionTimeByItemInNs > 0) {
+			return LoggingUtils.formatNanoDuration(averageExecutionTimeByItemInNs);
 		}
 		return null;
 	}
@@ -161,8 +239,19 @@ public class MethodPerformanceLogEntry {
 	 */
 	public void computeAverageExecutionTime() {
 		if (processedItems != null && processedItems > 0) {
-			averageExecutionTimeByItemInMs = executionTimeInMs / processedItems;
+			averageExecutionTimeByItemInNs = executionTimeInNs / processedItems;
+			averageExecutionTimeByItemInMs = TimeUnit.NANOSECONDS.toMillis(averageExecutionTimeByItemInNs);
 		}
 	}
 
+	/**
+	 * Converts a number of milliseconds since the epoch to a date-time in the default time-zone.
+	 *
+	 * @param epochTimeInMs The number of milliseconds since the epoch.
+	 * @return The corresponding date-time.
+	 */
+	private static LocalDateTime toLocalDateTime(final long epochTimeInMs) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochTimeInMs), ZoneId.systemDefault());
+	}
+
 }
@@ -27,14 +27,14 @@ import com.github.maximevw.autolog.core.logger.performance.PerformanceTimer;
 import com.github.maximevw.autolog.core.logger.performance.PerformanceTimerContext;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
 import java.lang.reflect.Method;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class provides methods to monitor and log performance of a method invocation.
@@ -62,16 +62,22 @@ public class MethodPerformanceLogger {
 	 */
 	public PerformanceTimer start(@NonNull final MethodPerformanceLoggingConfiguration configuration,
 								  @NonNull final Method method) {
-		String methodName = LoggingUtils.getMethodName(method, configuration.isClassNameDisplayed());
+		final MethodDescriptor methodDescriptor = MethodDescriptor.of(method);
+		String methodName = methodDescriptor.getMethodName(configuration.isClassNameDisplayed());
 		String httpMethod = null;
 
 		if (configuration.isApiEndpointsAutoConfigured()) {
-			methodName = LoggingUtils.retrieveApiPath(method, configuration.getName(),
-				configuration.isClassNameDisplayed());
-			httpMethod = LoggingUtils.retrieveHttpMethod(method);
+			final MethodDescriptor.ApiEndpoint apiEndpoint = methodDescriptor.getApiEndpoint();
+			if (StringUtils.isNotBlank(apiEndpoint.getPath())) {
+				methodName = apiEndpoint.getPath();
+			} else if (StringUtils.isNotBlank(configuration.getName())) {
+				// If there is no API endpoint path, use the configured name or, if empty, the method name.
+				methodName = configuration.getName();
+			}
+			httpMethod = apiEndpoint.getHttpMethod();
 		}
 
-		return start(configuration, LoggingUtils.computeTopic(method.getDeclaringClass(), configuration.getTopic(),
+		return start(configuration, methodDescriptor.getTopic(configuration.getTopic(),
 			configuration.isCallerClassUsedAsTopic()), methodName, httpMethod);
 	}
 
@@ -155,21 +161,19 @@ public class MethodPerformanceLogger {
 			loggedMethodName = configuration.getName();
 		}
 
-		final StopWatch stopWatch = new StopWatch();
-		final LocalDateTime startTime = LocalDateTime.now();
 		final MethodPerformanceLogEntry performanceLogEntry = MethodPerformanceLogEntry.builder()
 			.invokedMethod(loggedMethodName)
 			.httpMethod(httpMethod)
-			.startTime(startTime)
-			.comments(configuration.getComments())
+			// Only keep the wall-clock start time as an epoch value: it is converted to a date-time when rendered.
+			.startEpochTimeInMs(System.currentTimeMillis())
+			// Copy the static comments, since dynamic comments can be added to the log entry.
+			.comments(Optional.ofNullable(configuration.getComments()).map(ArrayList::new).orElse(null))
 			.failed(false)
 			.topic(topic)
 			.build();
 
-		stopWatch.start();
-
 		final PerformanceTimer performanceTimer = PerformanceTimer.builder()
-			.timer(stopWatch)
+			.startNanoTime(System.nanoTime())
 			.performanceLogEntry(performanceLogEntry)
 			.running(true)
 			.build();
@@ -191,11 +195,14 @@ public class MethodPerformanceLogger {
 	public void stopAndLog(@NonNull final MethodPerformanceLoggingConfiguration configuration,
 						   @NonNull final PerformanceTimer performanceTimer) {
 		performanceTimer.stop();
-		final LocalDateTime endTime = LocalDateTime.now();
+		final long executionTimeInNs = performanceTimer.getElapsedTimeInNs();
 
 		final MethodPerformanceLogEntry methodPerformanceLogEntry = performanceTimer.getPerformanceLogEntry();
-		methodPerformanceLogEntry.setEndTime(endTime);
-		methodPerformanceLogEntry.setExecutionTimeInMs(performanceTimer.getTimer().getTime());
+		methodPerformanceLogEntry.setExecutionTimeInNs(executionTimeInNs);
+		// Derive the end time from the monotonic execution time, so it stays consistent with the start time even if the
+		// system clock is adjusted during the invocation.
+		methodPerformanceLogEntry.setEndEpochTimeInMs(methodPerformanceLogEntry.getStartEpochTimeInMs()
+			+ TimeUnit.NANOSECONDS.toMillis(executionTimeInNs));
 		methodPerformanceLogEntry.computeAverageExecutionTime();
 
 		// If required, log the performance information related to the stopped timer.
@@ -217,6 +224,14 @@ public class MethodPerformanceLogger {
 	 */
 	private void logPerformanceInformation(final MethodPerformanceLoggingConfiguration configuration,
 										   final MethodPerformanceLogEntry methodPerformanceLogEntry) {
+		// Skip the formatting of the data if the log event would be discarded by all the loggers or suppressed by the
+		// rate limit.
+		if (!loggerManager.isEnabled(methodPerformanceLogEntry.getTopic(), configuration.getLogLevel())
+			|| !LogRateLimiter.getInstance().tryAcquire(loggerManager, methodPerformanceLogEntry.getTopic(),
+				methodPerformanceLogEntry.getInvokedMethod(), configuration.getRateLimit())) {
+			return;
+		}
+
 		// Build the map of data to store in the log context if required.
 		Map<String, String> contextualData = null;
 		if (configuration.isDataLoggedInContext()) {
@@ -232,6 +247,9 @@ public class MethodPerformanceLogger {
 					if (methodPerformanceLogEntry.getProcessedItems() != null) {
 						put("processedItems", String.valueOf(methodPerformanceLogEntry.getProcessedItems()));
 					}
+					if (methodPerformanceLogEntry.getSamplingWeight() != null) {
+						put("samplingWeight", String.valueOf(methodPerformanceLogEntry.getSamplingWeight()));
+					}
 				}
 			};
 		}
@@ -258,8 +276,9 @@ public class MethodPerformanceLogger {
 	 */
 	private void dumpCallsStack(final MethodPerformanceLoggingConfiguration configuration,
 								final PerformanceTimer performanceTimer) {
-		// Check the timer is the "root" one and has children.
-		if (performanceTimer.getChildren() != null && performanceTimer.getParent() == null) {
+		// Check the timer is the "root" one and has children and the calls stack would be effectively logged.
+		if (performanceTimer.getChildren() != null && performanceTimer.getParent() == null
+			&& loggerManager.isEnabled(LoggingUtils.AUTOLOG_DEFAULT_TOPIC, configuration.getLogLevel())) {
 			dumpCallsStackRecursively(configuration, performanceTimer, 0);
 		}
 	}
@@ -0,0 +1,722 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.maximevw.autolog.core.annotations.Mask;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Internal renderer serializing an object graph in JSON within the given {@link RenderingLimits}.
+ * <p>
+ *     Unlike a plain serialization by Jackson, this renderer is safe for the graphs containing cycles (for example,
+ *     JPA entities or bidirectional DTOs): the objects already being rendered in the current path of the graph are
+ *     detected by identity and replaced by the string {@code "(cycle: ClassName)"}. The depth of the graph and the
+ *     number of items of each array and object are limited like in {@link BoundedJsonGenerator}.
+ * </p>
+ * <p>
+ *     The properties of the beans are resolved like Jackson does by default (public getters and public fields,
+ *     honouring {@link JsonIgnore} and {@link JsonProperty}) and the accessors of the properties are cached per class
+ *     (using a {@link ClassValue}) as {@link MethodHandle}s, with the {@link MaskPlan} of the fields and getters
+ *     annotated with {@link Mask}, so the introspection cost is only paid once per type. The types declaring other
+ *     Jackson annotations (for example {@code @JsonValue} or {@code @JsonSerialize}) are serialized by Jackson to
+ *     respect their customization. The values of the JDK types which are neither collections, maps nor numbers (for
+ *     example the {@code java.time} types) are rendered with their method {@code toString()}.
+ * </p>
+ * <p>
+ *     An instance of this class must only be used to render a single value.
+ * </p>
+ */
+final class ObjectGraphRenderer {
+
+	private static final String ELIDED_ARRAY = "[...]";
+	private static final String ELIDED_OBJECT = "{...}";
+	private static final String GETTER_PREFIX = "get";
+	private static final String BOOLEAN_GETTER_PREFIX = "is";
+
+	/**
+	 * The type descriptors of the rendered classes.
+	 */
+	private static final ClassValue<TypeDescriptor> TYPE_DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected TypeDescriptor computeValue(final Class<?> type) {
+			return TypeDescriptor.of(type);
+		}
+	};
+
+	private final JsonGenerator generator;
+	private final RenderingLimits limits;
+
+	/**
+	 * The objects being rendered in the current path of the graph, compared by identity. Its size is the depth of
+	 * the arrays and objects being written.
+	 */
+	private final Set<Object> currentPath = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Constructor.
+	 *
+	 * @param generator	The JSON generator receiving the rendered data.
+	 * @param limits	The limits to apply.
+	 */
+	ObjectGraphRenderer(final JsonGenerator generator, final RenderingLimits limits) {
+		this.generator = generator;
+		this.limits = limits;
+	}
+
+	/**
+	 * Gets the number of properties of the given class rendered by this renderer.
+	 * <p>
+	 *     This method is mainly used for testing purposes: it returns {@code -1} if the instances of the given class
+	 *     are not rendered as beans.
+	 * </p>
+	 *
+	 * @param type The class.
+	 * @return The number of rendered properties.
+	 */
+	static int countProperties(final Class<?> type) {
+		final TypeDescriptor descriptor = TYPE_DESCRIPTORS.get(type);
+		if (descriptor.isSerializedByJackson()) {
+			return -1;
+		}
+		return descriptor.getProperties().size();
+	}
+
+	/**
+	 * Renders the given value.
+	 *
+	 * @param value The value to render (can be {@code null}).
+	 * @throws IOException if the budget of characters is exhausted or the value cannot be serialized.
+	 */
+	void render(final Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (!writeScalar(value)) {
+			writeComposite(value);
+		}
+	}
+
+	/**
+	 * Writes the given value if it is rendered as a JSON scalar.
+	 *
+	 * @param value The value to write.
+	 * @return {@code true} if the value has been written, {@code false} otherwise.
+	 * @throws IOException if the budget of characters is exhausted.
+	 */
+	private boolean writeScalar(final Object value) throws IOException {
+		if (value instanceof CharSequence || value instanceof Character) {
+			generator.writeString(value.toString());
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		} else if (value instanceof Enum) {
+			generator.writeString(((Enum<?>) value).name());
+		} else if (value instanceof Class) {
+			generator.writeString(((Class<?>) value).getName());
+		} else {
+			return writeJdkValue(value);
+		}
+		return true;
+	}
+
+	private void writeNumber(final Number value) throws IOException {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			generator.writeNumber(value.longValue());
+		} else if (value instanceof Double) {
+			generator.writeNumber(value.doubleValue());
+		} else if (value instanceof Float) {
+			generator.writeNumber(value.floatValue());
+		} else if (value instanceof BigDecimal) {
+			generator.writeNumber((BigDecimal) value);
+		} else if (value instanceof BigInteger) {
+			generator.writeNumber((BigInteger) value);
+		} else {
+			generator.writeNumber(value.toString());
+		}
+	}
+
+	/**
+	 * Writes the given value if it is an instance of a JDK type rendered as a JSON scalar: the dates are written as
+	 * timestamps (like Jackson does by default) and the other JDK types which are neither collections, maps, arrays
+	 * nor optional values are written with their method {@code toString()}.
+	 *
+	 * @param value The value to write.
+	 * @return {@code true} if the value has been written, {@code false} otherwise.
+	 * @throws IOException if the budget of characters is exhausted.
+	 */
+	private boolean writeJdkValue(final Object value) throws IOException {
+		if (value instanceof Date) {
+			generator.writeNumber(((Date) value).getTime());
+		} else if (value instanceof Calendar) {
+			generator.writeNumber(((Calendar) value).getTimeInMillis());
+		} else if (TYPE_DESCRIPTORS.get(value.getClass()).isJdkValue()) {
+			generator.writeString(value.toString());
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the given value as a JSON array or object, unless it is already being rendered in the current path of
+	 * the graph or it is too deep.
+	 *
+	 * @param value The value to write.
+	 * @throws IOException if the budget of characters is exhausted or the value cannot be serialized.
+	 */
+	private void writeComposite(final Object value) throws IOException {
+		if (value instanceof Optional) {
+			render(((Optional<?>) value).orElse(null));
+			return;
+		}
+		final TypeDescriptor descriptor = TYPE_DESCRIPTORS.get(value.getClass());
+		if (currentPath.contains(value)) {
+			generator.writeString("(cycle: " + value.getClass().getSimpleName() + ")");
+		} else if (isTooDeep()) {
+			if (descriptor.isArray()) {
+				generator.writeString(ELIDED_ARRAY);
+			} else {
+				generator.writeString(ELIDED_OBJECT);
+			}
+		} else {
+			currentPath.add(value);
+			try {
+				writeContainer(value, descriptor);
+			} finally {
+				currentPath.remove(value);
+			}
+		}
+	}
+
+	private void writeContainer(final Object value, final TypeDescriptor descriptor) throws IOException {
+		if (value instanceof byte[]) {
+			generator.writeBinary((byte[]) value);
+		} else if (value instanceof char[]) {
+			generator.writeString(new String((char[]) value));
+		} else if (value.getClass().isArray()) {
+			writeArray(value);
+		} else if (value instanceof Collection) {
+			writeIterable((Collection<?>) value, ((Collection<?>) value).size());
+		} else if (value instanceof Map) {
+			writeMap((Map<?, ?>) value);
+		} else if (value instanceof Iterable) {
+			writeIterable((Iterable<?>) value, -1);
+		} else if (descriptor.isSerializedByJackson()) {
+			writeWithJackson(value);
+		} else if (descriptor.getProperties().isEmpty()) {
+			writeWithoutProperties(value);
+		} else {
+			writeBean(value, descriptor.getProperties());
+		}
+	}
+
+	private void writeArray(final Object array) throws IOException {
+		final int length = Array.getLength(array);
+		generator.writeStartArray();
+		int writtenItems = 0;
+		while (writtenItems < length && !isFull(writtenItems)) {
+			render(Array.get(array, writtenItems));
+			writtenItems++;
+		}
+		writeSkippedItems(length - writtenItems);
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Writes the items of an iterable value in a JSON array.
+	 *
+	 * @param iterable	The iterable value.
+	 * @param size		The number of items of the iterable value or {@code -1} if it is unknown.
+	 * @throws IOException if the budget of characters is exhausted or an item cannot be serialized.
+	 */
+	private void writeIterable(final Iterable<?> iterable, final int size) throws IOException {
+		generator.writeStartArray();
+		final Iterator<?> iterator = iterable.iterator();
+		int writtenItems = 0;
+		while (iterator.hasNext() && !isFull(writtenItems)) {
+			render(iterator.next());
+			writtenItems++;
+		}
+		if (size >= 0) {
+			writeSkippedItems(size - writtenItems);
+		} else if (iterator.hasNext()) {
+			// The number of remaining items is unknown (and can be infinite).
+			generator.writeString(DataRenderer.ELISION_MARKER);
+		}
+		generator.writeEndArray();
+	}
+
+	private void writeMap(final Map<?, ?> map) throws IOException {
+		generator.writeStartObject();
+		int writtenItems = 0;
+		for (final Map.Entry<?, ?> entry : map.entrySet()) {
+			if (isFull(writtenItems)) {
+				break;
+			}
+			generator.writeFieldName(String.valueOf(entry.getKey()));
+			render(entry.getValue());
+			writtenItems++;
+		}
+		writeSkippedProperties(map.size() - writtenItems);
+		generator.writeEndObject();
+	}
+
+	private void writeBean(final Object bean, final List<PropertyAccessor> properties) throws IOException {
+		generator.writeStartObject();
+		int writtenItems = 0;
+		for (final PropertyAccessor property : properties) {
+			if (isFull(writtenItems)) {
+				break;
+			}
+			generator.writeFieldName(property.getName());
+			render(property.getValue(bean));
+			writtenItems++;
+		}
+		writeSkippedProperties(properties.size() - writtenItems);
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Writes a bean without properties with its method {@code toString()}, since Jackson fails to serialize it: the
+	 * rendered value is not quoted when the bean is the root of the graph, as when Jackson fails.
+	 *
+	 * @param bean The bean to write.
+	 * @throws IOException if the budget of characters is exhausted.
+	 */
+	private void writeWithoutProperties(final Object bean) throws IOException {
+		if (currentPath.size() > 1) {
+			generator.writeString(bean.toString());
+		} else {
+			generator.writeRawValue(bean.toString());
+		}
+	}
+
+	/**
+	 * Serializes the given value with Jackson, within the remaining depth.
+	 *
+	 * @param value The value to serialize.
+	 * @throws IOException if the budget of characters is exhausted or the value cannot be serialized.
+	 */
+	private void writeWithJackson(final Object value) throws IOException {
+		int remainingDepth = 0;
+		if (limits.getMaxDepth() > 0) {
+			remainingDepth = limits.getMaxDepth() - currentPath.size();
+		}
+		final RenderingLimits remainingLimits = RenderingLimits.builder()
+			.maxCharacters(limits.getMaxCharacters())
+			.maxCollectionItems(limits.getMaxCollectionItems())
+			.maxDepth(remainingDepth)
+			.build();
+		LoggingUtils.jsonWriterFor(value.getClass()).writeValue(new BoundedJsonGenerator(generator, remainingLimits),
+			value);
+	}
+
+	private void writeSkippedItems(final int skippedItems) throws IOException {
+		if (skippedItems > 0) {
+			generator.writeString(DataRenderer.ELISION_MARKER + " " + DataRenderer.moreItems(skippedItems));
+		}
+	}
+
+	private void writeSkippedProperties(final int skippedProperties) throws IOException {
+		if (skippedProperties > 0) {
+			generator.writeFieldName(DataRenderer.ELISION_MARKER);
+			generator.writeString(DataRenderer.moreItems(skippedProperties));
+		}
+	}
+
+	private boolean isTooDeep() {
+		return limits.getMaxDepth() > 0 && currentPath.size() >= limits.getMaxDepth();
+	}
+
+	private boolean isFull(final int writtenItems) {
+		return limits.getMaxCollectionItems() > 0 && writtenItems >= limits.getMaxCollectionItems();
+	}
+
+	/**
+	 * Description of a rendered class, computed once per class.
+	 */
+	private static final class TypeDescriptor {
+
+		private final boolean array;
+		private final boolean jdkValue;
+		private final boolean serializedByJackson;
+		private final List<PropertyAccessor> properties;
+
+		private TypeDescriptor(final boolean array, final boolean jdkValue, final boolean serializedByJackson,
+							   final List<PropertyAccessor> properties) {
+			this.array = array;
+			this.jdkValue = jdkValue;
+			this.serializedByJackson = serializedByJackson;
+			this.properties = properties;
+		}
+
+		/**
+		 * Builds the descriptor of the given class.
+		 *
+		 * @param type The class to describe.
+		 * @return The descriptor of the class.
+		 */
+		static TypeDescriptor of(final Class<?> type) {
+			final boolean array = type.isArray() || Collection.class.isAssignableFrom(type)
+				|| Iterable.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type);
+			final boolean container = array || Map.class.isAssignableFrom(type);
+			if (container || Optional.class.equals(type)) {
+				return new TypeDescriptor(array, false, false, Collections.emptyList());
+			}
+			if (isJdkType(type)) {
+				return new TypeDescriptor(false, true, false, Collections.emptyList());
+			}
+			if (hasJacksonCustomization(type)) {
+				return new TypeDescriptor(false, false, true, Collections.emptyList());
+			}
+			return new TypeDescriptor(false, false, false, PropertyAccessor.resolveAll(type));
+		}
+
+		boolean isArray() {
+			return array;
+		}
+
+		boolean isJdkValue() {
+			return jdkValue;
+		}
+
+		boolean isSerializedByJackson() {
+			return serializedByJackson;
+		}
+
+		List<PropertyAccessor> getProperties() {
+			return properties;
+		}
+
+		private static boolean isJdkType(final Class<?> type) {
+			final String typeName = type.getName();
+			return typeName.startsWith("java.") || typeName.startsWith("javax.") || typeName.startsWith("jdk.")
+				|| typeName.startsWith("sun.");
+		}
+
+		/**
+		 * Checks whether the given class, its public methods or its fields declare Jackson annotations other than
+		 * {@link JsonIgnore} and {@link JsonProperty} (which are supported by this renderer).
+		 *
+		 * @param type The class to check.
+		 * @return {@code true} if the class customizes its serialization with Jackson annotations.
+		 */
+		private static boolean hasJacksonCustomization(final Class<?> type) {
+			if (hasJacksonAnnotation(type)) {
+				return true;
+			}
+			for (final Method method : type.getMethods()) {
+				if (hasJacksonAnnotation(method)) {
+					return true;
+				}
+			}
+			for (Class<?> current = type; current != null && current != Object.class;
+				 current = current.getSuperclass()) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (hasJacksonAnnotation(field)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static boolean hasJacksonAnnotation(final AnnotatedElement element) {
+			for (final Annotation annotation : element.getAnnotations()) {
+				final Class<? extends Annotation> annotationType = annotation.annotationType();
+				if (annotationType.isAnnotationPresent(JacksonAnnotation.class)
+					&& annotationType != JsonIgnore.class && annotationType != JsonProperty.class) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Accessor of a rendered property of a bean.
+	 */
+	private static final class PropertyAccessor {
+
+		/**
+		 * The type of the accessors invoked with {@link MethodHandle#invokeExact(Object...)}.
+		 */
+		private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private final String name;
+		private final MethodHandle accessor;
+		private final MaskPlan maskPlan;
+
+		private PropertyAccessor(final String name, final MethodHandle accessor, final MaskPlan maskPlan) {
+			this.name = name;
+			this.accessor = accessor;
+			this.maskPlan = maskPlan;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * Gets the value of the property in the given bean.
+		 * <p>
+		 *     If the accessor throws an exception (for example, a lazy-loaded relation of a detached JPA entity), the
+		 *     value is replaced by the string {@code "(error: ExceptionClass)"}. If the field of the property is
+		 *     annotated with {@link Mask}, the value is masked.
+		 * </p>
+		 *
+		 * @param bean The bean.
+		 * @return The value of the property.
+		 */
+		Object getValue(final Object bean) {
+			try {
+				final Object value = (Object) accessor.invokeExact(bean);
+				if (maskPlan != null) {
+					return maskPlan.mask(value);
+				}
+				return value;
+			} catch (final VirtualMachineError e) {
+				throw e;
+			} catch (final Throwable e) {
+				return "(error: " + e.getClass().getSimpleName() + ")";
+			}
+		}
+
+		/**
+		 * Resolves the rendered properties of the given class, like Jackson does by default: the properties are
+		 * ordered by declaration of their fields (from the top of the class hierarchy), then by name.
+		 *
+		 * @param type The class.
+		 * @return The accessors of the rendered properties.
+		 */
+		static List<PropertyAccessor> resolveAll(final Class<?> type) {
+			final Map<String, Field> fields = declaredFields(type);
+			final Map<String, PropertyAccessor> accessors = new TreeMap<>();
+			for (final Method method : type.getMethods()) {
+				final String implicitName = propertyName(method);
+				if (implicitName != null) {
+					addAccessor(accessors, implicitName, method, fields.get(implicitName));
+				}
+			}
+			for (final Field field : type.getFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+					&& !accessors.containsKey(field.getName())) {
+					addAccessor(accessors, field.getName(), field, field);
+				}
+			}
+
+			// Order the properties by declaration of their fields, then by name.
+			final List<PropertyAccessor> properties = new ArrayList<>(accessors.size());
+			for (final String fieldName : fields.keySet()) {
+				final PropertyAccessor accessor = accessors.remove(fieldName);
+				if (accessor != null) {
+					properties.add(accessor);
+				}
+			}
+			properties.addAll(accessors.values());
+			return Collections.unmodifiableList(properties);
+		}
+
+		/**
+		 * Gets the non-static fields declared in the hierarchy of the given class, from the top of the hierarchy.
+		 *
+		 * @param type The class.
+		 * @return The fields mapped by name.
+		 */
+		private static Map<String, Field> declaredFields(final Class<?> type) {
+			final List<Class<?>> hierarchy = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class;
+				 current = current.getSuperclass()) {
+				hierarchy.add(0, current);
+			}
+			final Map<String, Field> fields = new LinkedHashMap<>();
+			for (final Class<?> current : hierarchy) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+						fields.putIfAbsent(field.getName(), field);
+					}
+				}
+			}
+			return fields;
+		}
+
+		/**
+		 * Gets the implicit name of the property read by the given method, if it is a getter.
+		 *
+		 * @param method The method.
+		 * @return The name of the property or {@code null} if the method is not a getter.
+		 */
+		private static String propertyName(final Method method) {
+			if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 0 || method.isBridge()
+				|| method.isSynthetic() || method.getDeclaringClass() == Object.class) {
+				return null;
+			}
+			final String methodName = method.getName();
+			if (methodName.startsWith(GETTER_PREFIX) && methodName.length() > GETTER_PREFIX.length()
+				&& method.getReturnType() != void.class) {
+				return decapitalize(methodName.substring(GETTER_PREFIX.length()));
+			}
+			if (methodName.startsWith(BOOLEAN_GETTER_PREFIX) && methodName.length() > BOOLEAN_GETTER_PREFIX.length()
+				&& method.getReturnType() == boolean.class) {
+				return decapitalize(methodName.substring(BOOLEAN_GETTER_PREFIX.length()));
+			}
+			return null;
+		}
+
+		/**
+		 * Converts the leading upper-case characters of a property name to lower-case, like Jackson does by default
+		 * (for example, {@code getURL()} gives the property {@code url}).
+		 *
+		 * @param name The name of the property, without the prefix of the getter.
+		 * @return The decapitalized name.
+		 */
+		private static String decapitalize(final String name) {
+			final StringBuilder builder = new StringBuilder(name);
+			for (int i = 0; i < builder.length() && Character.isUpperCase(builder.charAt(i)); i++) {
+				builder.setCharAt(i, Character.toLowerCase(builder.charAt(i)));
+			}
+			return builder.toString();
+		}
+
+		/**
+		 * Adds the accessor of a property, unless the property is ignored or the accessor is not accessible.
+		 *
+		 * @param accessors		The accessors mapped by the implicit name of the property.
+		 * @param implicitName	The implicit name of the property.
+		 * @param member		The getter or the public field reading the property.
+		 * @param field			The field corresponding to the property (can be {@code null}).
+		 */
+		private static void addAccessor(final Map<String, PropertyAccessor> accessors, final String implicitName,
+										final AccessibleObject member, final Field field) {
+			if (isIgnored(member) || field != null && isIgnored(field)) {
+				return;
+			}
+			final MethodHandle accessor = toMethodHandle(member);
+			if (accessor != null) {
+				String name = renamedProperty(member);
+				if (name == null && field != null) {
+					name = renamedProperty(field);
+				}
+				if (name == null) {
+					name = implicitName;
+				}
+				accessors.put(implicitName, new PropertyAccessor(name, accessor, maskPlan(member, field)));
+			}
+		}
+
+		/**
+		 * Gets the masking plan of a property from the annotation {@link Mask} on its getter or its field.
+		 *
+		 * @param member	The getter or the public field reading the property.
+		 * @param field		The field corresponding to the property (can be {@code null}).
+		 * @return The masking plan or {@code null} if the property is not masked.
+		 */
+		private static MaskPlan maskPlan(final AccessibleObject member, final Field field) {
+			Mask mask = member.getAnnotation(Mask.class);
+			if (mask == null && field != null) {
+				mask = field.getAnnotation(Mask.class);
+			}
+			if (mask == null) {
+				return null;
+			}
+			return MaskPlan.of(mask);
+		}
+
+		/**
+		 * Gets the name of a property explicitly defined by {@link JsonProperty}.
+		 *
+		 * @param element The getter or the field reading the property.
+		 * @return The explicit name of the property or {@code null} if it is not defined.
+		 */
+		private static String renamedProperty(final AnnotatedElement element) {
+			final JsonProperty jsonProperty = element.getAnnotation(JsonProperty.class);
+			if (jsonProperty != null && !jsonProperty.value().isEmpty()) {
+				return jsonProperty.value();
+			}
+			return null;
+		}
+
+		private static boolean isIgnored(final AnnotatedElement element) {
+			final JsonIgnore jsonIgnore = element.getAnnotation(JsonIgnore.class);
+			return jsonIgnore != null && jsonIgnore.value();
+		}
+
+		/**
+		 * Builds the method handle of the given getter or field, typed as {@link #ACCESSOR_TYPE}.
+		 *
+		 * @param member The getter or the field.
+		 * @return The method handle or {@code null} if the member is not accessible.
+		 */
+		private static MethodHandle toMethodHandle(final AccessibleObject member) {
+			try {
+				return unreflect(MethodHandles.publicLookup(), member).asType(ACCESSOR_TYPE);
+			} catch (final IllegalAccessException e) {
+				// The member is declared in a non-public class: try to make it accessible.
+				try {
+					member.setAccessible(true);
+					return unreflect(MethodHandles.lookup(), member).asType(ACCESSOR_TYPE);
+				} catch (final IllegalAccessException | RuntimeException ex) {
+					return null;
+				}
+			}
+		}
+
+		private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final AccessibleObject member)
+			throws IllegalAccessException {
+			if (member instanceof Method) {
+				return lookup.unreflect((Method) member);
+			}
+			return lookup.unreflectGetter((Field) member);
+		}
+	}
+
+}
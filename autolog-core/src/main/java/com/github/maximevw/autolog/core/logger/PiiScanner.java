@@ -0,0 +1,498 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import com.github.maximevw.autolog.core.configuration.PiiScanningConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Internal scanner redacting in place the personal and sensitive data found in the rendered data, according to a
+ * {@link PiiScanningConfiguration}.
+ * <p>
+ *     The rendered characters are scanned in a single pass, without any allocation:
+ *     <ul>
+ *         <li>the keywords followed by a secret value (such as {@code "Bearer "}) are matched by an Aho-Corasick
+ *         automaton (compiled once into a transition table), so the cost of the scan does not depend on the number of
+ *         keywords;</li>
+ *         <li>the runs of digits starting at a word boundary are checked as payment card numbers (Luhn checksum
+ *         computed while reading the digits);</li>
+ *         <li>the words starting with two upper-case letters followed by two digits are checked as IBANs (ISO 7064
+ *         mod 97-10 checksum computed without building the rearranged number);</li>
+ *         <li>each character {@code '@'} is checked as the separator of an email address.</li>
+ *     </ul>
+ *     The redacted characters are replaced by {@value Mask#DEFAULT_MASKING_CHAR}, so the length of the scanned data is
+ *     preserved.
+ * </p>
+ */
+final class PiiScanner {
+
+	private static final char MASKING_CHAR = Mask.DEFAULT_MASKING_CHAR;
+	private static final String BEARER_KEYWORD = "bearer ";
+	private static final String SECRET_DELIMITERS = "\"',;&)]}<>";
+
+	private static final int ALPHABET_SIZE = 128;
+	private static final int ROOT_STATE = 0;
+
+	private static final int MIN_CARD_NUMBER_DIGITS = 13;
+	private static final int MAX_CARD_NUMBER_DIGITS = 19;
+	private static final int MIN_IBAN_LENGTH = 15;
+	private static final int MAX_IBAN_LENGTH = 34;
+	private static final int IBAN_HEADER_LENGTH = 4;
+	private static final int IBAN_MODULUS = 97;
+	private static final int VISIBLE_TRAILING_CHARACTERS = 4;
+	private static final int DECIMAL_BASE = 10;
+	private static final int LETTER_BASE = 100;
+	private static final int FIRST_LETTER_VALUE = 10;
+	private static final int MAX_DOUBLED_DIGIT = 9;
+
+	private final PiiScanningConfiguration configuration;
+
+	/**
+	 * The transitions of the Aho-Corasick automaton matching the secret keywords: the next state for a state
+	 * {@code s} and an ASCII character {@code c} is {@code transitions[s * ALPHABET_SIZE + c]}.
+	 */
+	private final int[] transitions;
+
+	/**
+	 * Whether a keyword ends in each state of the automaton.
+	 */
+	private final boolean[] terminalStates;
+
+	/**
+	 * Builds a scanner.
+	 *
+	 * @param configuration The configuration of the scanning.
+	 * @throws IllegalArgumentException if a secret keyword is empty or contains non-ASCII characters.
+	 */
+	PiiScanner(final PiiScanningConfiguration configuration) {
+		this.configuration = configuration;
+		final List<String> keywords = new ArrayList<>();
+		if (configuration.isBearerTokensRedacted()) {
+			keywords.add(BEARER_KEYWORD);
+		}
+		if (configuration.getSecretKeywords() != null) {
+			keywords.addAll(configuration.getSecretKeywords());
+		}
+		int maxStates = 1;
+		for (final String keyword : keywords) {
+			if (keyword == null || keyword.isEmpty() || !keyword.chars().allMatch(c -> c < ALPHABET_SIZE)) {
+				throw new IllegalArgumentException("Invalid secret keyword: " + keyword);
+			}
+			maxStates += keyword.length();
+		}
+		this.transitions = new int[maxStates * ALPHABET_SIZE];
+		this.terminalStates = new boolean[maxStates];
+		buildAutomaton(keywords, maxStates);
+	}
+
+	/**
+	 * Builds the transitions of the Aho-Corasick automaton matching the given keywords: the trie of the keywords is
+	 * built first, then the failure links are computed (breadth-first) and merged into the transitions, so the
+	 * automaton never backtracks while scanning.
+	 *
+	 * @param keywords	The keywords.
+	 * @param maxStates	The maximal number of states of the automaton.
+	 */
+	private void buildAutomaton(final List<String> keywords, final int maxStates) {
+		buildTrie(keywords);
+		linkFailures(maxStates);
+	}
+
+	/**
+	 * Builds the trie of the given keywords (lower-cased) into the transitions of the automaton. The missing
+	 * transitions are set to -1.
+	 *
+	 * @param keywords The keywords.
+	 */
+	private void buildTrie(final List<String> keywords) {
+		Arrays.fill(this.transitions, -1);
+		int statesCount = 1;
+		for (final String keyword : keywords) {
+			int state = ROOT_STATE;
+			for (final char c : keyword.toLowerCase(Locale.ROOT).toCharArray()) {
+				final int index = state * ALPHABET_SIZE + c;
+				if (this.transitions[index] < 0) {
+					this.transitions[index] = statesCount;
+					statesCount++;
+				}
+				state = this.transitions[index];
+			}
+			this.terminalStates[state] = true;
+		}
+	}
+
+	/**
+	 * Computes the failure links of the states of the trie (breadth-first) and replaces the missing transitions by the
+	 * transitions of the failure states.
+	 *
+	 * @param maxStates The maximal number of states of the automaton.
+	 */
+	private void linkFailures(final int maxStates) {
+		final int[] failures = new int[maxStates];
+		final int[] queue = new int[maxStates];
+		int queueHead = 0;
+		int queueTail = 0;
+		for (int c = 0; c < ALPHABET_SIZE; c++) {
+			final int child = this.transitions[c];
+			if (child < 0) {
+				this.transitions[c] = ROOT_STATE;
+			} else {
+				failures[child] = ROOT_STATE;
+				queue[queueTail++] = child;
+			}
+		}
+		while (queueHead < queueTail) {
+			final int state = queue[queueHead++];
+			for (int c = 0; c < ALPHABET_SIZE; c++) {
+				final int index = state * ALPHABET_SIZE + c;
+				final int fallback = this.transitions[failures[state] * ALPHABET_SIZE + c];
+				final int child = this.transitions[index];
+				if (child < 0) {
+					this.transitions[index] = fallback;
+				} else {
+					failures[child] = fallback;
+					this.terminalStates[child] |= this.terminalStates[fallback];
+					queue[queueTail++] = child;
+				}
+			}
+		}
+		// Make the automaton case-insensitive: the upper-case letters follow the transitions of the lower-case ones.
+		for (int state = 0; state < maxStates; state++) {
+			for (char c = 'A'; c <= 'Z'; c++) {
+				this.transitions[state * ALPHABET_SIZE + c] =
+					this.transitions[state * ALPHABET_SIZE + Character.toLowerCase(c)];
+			}
+		}
+	}
+
+	/**
+	 * Gets the configuration of the scanning.
+	 *
+	 * @return The configuration of the scanning.
+	 */
+	PiiScanningConfiguration getConfiguration() {
+		return this.configuration;
+	}
+
+	/**
+	 * Scans the characters of the given builder from the given index and redacts in place the detected personal and
+	 * sensitive data.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param start		The index of the first scanned character.
+	 * @return {@code true} if some data have been redacted, {@code false} otherwise.
+	 */
+	boolean scan(final StringBuilder builder, final int start) {
+		final int end = builder.length();
+		boolean redacted = false;
+		int state = ROOT_STATE;
+		int emailFloor = start;
+		int i = start;
+		while (i < end) {
+			final char c = builder.charAt(i);
+			int next = i;
+			if (isDigit(c) && isWordStart(builder, start, i)) {
+				next = scanCardNumber(builder, i, end);
+			} else if (isUpperCaseLetter(c) && isWordStart(builder, start, i)) {
+				next = scanIban(builder, i, end);
+			}
+			if (next < 0) {
+				// Some data have been redacted up to the returned index (encoded as a negative value).
+				redacted = true;
+				i = -next;
+				state = ROOT_STATE;
+			} else if (next > i) {
+				i = next;
+				state = ROOT_STATE;
+			} else {
+				if (c == '@' && this.configuration.isEmailsRedacted()) {
+					redacted |= redactEmail(builder, emailFloor, i, end);
+					emailFloor = i + 1;
+				}
+				state = nextState(state, c);
+				i++;
+				if (this.terminalStates[state]) {
+					final int secretEnd = redactSecret(builder, i, end);
+					redacted |= secretEnd > i;
+					i = secretEnd;
+					state = ROOT_STATE;
+				}
+			}
+		}
+		return redacted;
+	}
+
+	private int nextState(final int state, final char c) {
+		if (c >= ALPHABET_SIZE) {
+			return ROOT_STATE;
+		}
+		return this.transitions[state * ALPHABET_SIZE + c];
+	}
+
+	/**
+	 * Checks the run of digits starting at the given index as a payment card number, and redacts it (except its last
+	 * digits) if it is valid.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param from		The index of the first digit.
+	 * @param end		The index of the end of the scanned data.
+	 * @return The index following the run of digits, negated if the run has been redacted.
+	 */
+	private int scanCardNumber(final StringBuilder builder, final int from, final int end) {
+		int digits = 0;
+		// Luhn sums, doubling the digits at the even (respectively odd) positions from the first digit.
+		int evenDoubledSum = 0;
+		int oddDoubledSum = 0;
+		int runEnd = from;
+		int j = from;
+		while (j < end) {
+			final char c = builder.charAt(j);
+			if (isDigit(c)) {
+				final int digit = c - '0';
+				if (digits % 2 == 0) {
+					evenDoubledSum += doubleDigit(digit);
+					oddDoubledSum += digit;
+				} else {
+					evenDoubledSum += digit;
+					oddDoubledSum += doubleDigit(digit);
+				}
+				digits++;
+				j++;
+				runEnd = j;
+			} else if ((c == ' ' || c == '-') && j + 1 < end && isDigit(builder.charAt(j + 1))) {
+				j++;
+			} else {
+				break;
+			}
+		}
+		if (!this.configuration.isCardNumbersRedacted() || digits < MIN_CARD_NUMBER_DIGITS
+			|| digits > MAX_CARD_NUMBER_DIGITS || !isWordEnd(builder, runEnd, end)) {
+			return runEnd;
+		}
+		// The rightmost digit is never doubled: so, the doubled digits are at the even positions if the number of
+		// digits is even.
+		int luhnSum = oddDoubledSum;
+		if (digits % 2 == 0) {
+			luhnSum = evenDoubledSum;
+		}
+		if (luhnSum % DECIMAL_BASE != 0) {
+			return runEnd;
+		}
+		redactAlphanumeric(builder, from, runEnd, digits - VISIBLE_TRAILING_CHARACTERS);
+		return -runEnd;
+	}
+
+	/**
+	 * Checks the word starting at the given index as an IBAN, and redacts it (except its last characters) if it is
+	 * valid.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param from		The index of the first character of the word.
+	 * @param end		The index of the end of the scanned data.
+	 * @return The index following the IBAN, negated if it has been redacted, or the given index if the word is not
+	 * 		   an IBAN.
+	 */
+	private int scanIban(final StringBuilder builder, final int from, final int end) {
+		if (!this.configuration.isIbansRedacted() || !isIbanHeader(builder, from, end)) {
+			return from;
+		}
+		// The check digits are validated on the number rearranged with the header (country code and check digits)
+		// moved to the end: the remainder of the body is computed first.
+		int length = IBAN_HEADER_LENGTH;
+		int remainder = 0;
+		int runEnd = from + IBAN_HEADER_LENGTH;
+		int j = runEnd;
+		while (j < end && length <= MAX_IBAN_LENGTH) {
+			final char c = builder.charAt(j);
+			if (isDigit(c) || isUpperCaseLetter(c)) {
+				remainder = ibanRemainder(remainder, c);
+				length++;
+				j++;
+				runEnd = j;
+			} else if (c == ' ' && j + 1 < end && isAlphanumeric(builder.charAt(j + 1))) {
+				j++;
+			} else {
+				break;
+			}
+		}
+		if (length < MIN_IBAN_LENGTH || length > MAX_IBAN_LENGTH || !isWordEnd(builder, runEnd, end)
+			|| !isValidIbanChecksum(builder, from, remainder)) {
+			return from;
+		}
+		redactAlphanumeric(builder, from, runEnd, length - VISIBLE_TRAILING_CHARACTERS);
+		return -runEnd;
+	}
+
+	/**
+	 * Redacts the local part of the email address whose separator {@code '@'} is at the given index, if any.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param floor		The lowest index of the local part (i.e. the index following the previous {@code '@'}).
+	 * @param at		The index of the character {@code '@'}.
+	 * @param end		The index of the end of the scanned data.
+	 * @return {@code true} if an email address has been redacted, {@code false} otherwise.
+	 */
+	private static boolean redactEmail(final StringBuilder builder, final int floor, final int at, final int end) {
+		int localStart = at;
+		while (localStart > floor && isEmailLocalCharacter(builder.charAt(localStart - 1))) {
+			localStart--;
+		}
+		int domainEnd = at + 1;
+		while (domainEnd < end && isEmailDomainCharacter(builder.charAt(domainEnd))) {
+			domainEnd++;
+		}
+		// Ignore the trailing dots (for example, at the end of a sentence).
+		while (domainEnd > at + 1 && builder.charAt(domainEnd - 1) == '.') {
+			domainEnd--;
+		}
+		int lastDot = domainEnd - 1;
+		while (lastDot > at && builder.charAt(lastDot) != '.') {
+			lastDot--;
+		}
+		// The domain must contain a dot which is neither its first nor its last character.
+		if (localStart == at || lastDot <= at + 1) {
+			return false;
+		}
+		for (int k = localStart; k < at; k++) {
+			builder.setCharAt(k, MASKING_CHAR);
+		}
+		return true;
+	}
+
+	/**
+	 * Redacts the secret value starting at the given index.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param from		The index of the first character of the secret value.
+	 * @param end		The index of the end of the scanned data.
+	 * @return The index following the secret value.
+	 */
+	private static int redactSecret(final StringBuilder builder, final int from, final int end) {
+		int j = from;
+		while (j < end && !isSecretDelimiter(builder.charAt(j))) {
+			builder.setCharAt(j, MASKING_CHAR);
+			j++;
+		}
+		return j;
+	}
+
+	/**
+	 * Redacts the first alphanumeric characters in the given range of the builder.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param from		The index of the first character of the range.
+	 * @param to		The index following the range.
+	 * @param count		The number of alphanumeric characters to redact.
+	 */
+	private static void redactAlphanumeric(final StringBuilder builder, final int from, final int to,
+										   final int count) {
+		int redactedCount = 0;
+		for (int k = from; k < to && redactedCount < count; k++) {
+			if (isAlphanumeric(builder.charAt(k))) {
+				builder.setCharAt(k, MASKING_CHAR);
+				redactedCount++;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given index is the start of an IBAN header: a country code (two upper-case letters) followed
+	 * by two check digits.
+	 *
+	 * @param builder	The builder containing the rendered data.
+	 * @param from		The index of the first character of the word.
+	 * @param end		The index of the end of the scanned data.
+	 * @return {@code true} if the word starts with an IBAN header, {@code false} otherwise.
+	 */
+	private static boolean isIbanHeader(final StringBuilder builder, final int from, final int end) {
+		return from + IBAN_HEADER_LENGTH <= end && isUpperCaseLetter(builder.charAt(from + 1))
+			&& isDigit(builder.charAt(from + 2)) && isDigit(builder.charAt(from + IBAN_HEADER_LENGTH - 1));
+	}
+
+	/**
+	 * Completes the computation of the IBAN checksum with the header moved at the end of the number, and checks it.
+	 *
+	 * @param builder		The builder containing the rendered data.
+	 * @param from			The index of the first character of the IBAN.
+	 * @param bodyRemainder	The remainder of the body of the IBAN (without the header) divided by 97.
+	 * @return {@code true} if the checksum is valid, {@code false} otherwise.
+	 */
+	private static boolean isValidIbanChecksum(final StringBuilder builder, final int from, final int bodyRemainder) {
+		int remainder = bodyRemainder;
+		for (int k = from; k < from + IBAN_HEADER_LENGTH; k++) {
+			remainder = ibanRemainder(remainder, builder.charAt(k));
+		}
+		return remainder == 1;
+	}
+
+	private static int doubleDigit(final int digit) {
+		final int doubled = digit * 2;
+		if (doubled > MAX_DOUBLED_DIGIT) {
+			return doubled - MAX_DOUBLED_DIGIT;
+		}
+		return doubled;
+	}
+
+	private static int ibanRemainder(final int remainder, final char c) {
+		if (isDigit(c)) {
+			return (remainder * DECIMAL_BASE + c - '0') % IBAN_MODULUS;
+		}
+		// The letters are converted to two-digit numbers: A = 10, B = 11, ..., Z = 35.
+		return (remainder * LETTER_BASE + c - 'A' + FIRST_LETTER_VALUE) % IBAN_MODULUS;
+	}
+
+	private static boolean isWordStart(final StringBuilder builder, final int start, final int index) {
+		return index == start || !Character.isLetterOrDigit(builder.charAt(index - 1));
+	}
+
+	private static boolean isWordEnd(final StringBuilder builder, final int index, final int end) {
+		return index == end || !Character.isLetterOrDigit(builder.charAt(index));
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isUpperCaseLetter(final char c) {
+		return c >= 'A' && c <= 'Z';
+	}
+
+	private static boolean isAlphanumeric(final char c) {
+		return isDigit(c) || isUpperCaseLetter(c) || c >= 'a' && c <= 'z';
+	}
+
+	private static boolean isEmailLocalCharacter(final char c) {
+		return isAlphanumeric(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+	}
+
+	private static boolean isEmailDomainCharacter(final char c) {
+		return isAlphanumeric(c) || c == '.' || c == '-';
+	}
+
+	private static boolean isSecretDelimiter(final char c) {
+		return Character.isWhitespace(c) || SECRET_DELIMITERS.indexOf(c) >= 0;
+	}
+}
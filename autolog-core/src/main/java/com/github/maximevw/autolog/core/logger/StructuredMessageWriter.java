@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Internal class writing the structured log messages of the method inputs and outputs in JSON, in a single pass.
+ * <p>
+ *     The produced messages have the same structure as the serialization of {@link MethodInputLogEntry} and
+ *     {@link MethodOutputLogEntry}, but the logged values prettified in JSON are streamed as nested JSON values into
+ *     the same buffer as the message, instead of being serialized into intermediate strings, then escaped and embedded
+ *     as strings into the message. For example, an argument {@code arg} serialized in JSON as {@code {"id":1}} is
+ *     written {@code "arg":{"id":1}} instead of {@code "arg":"{\"id\":1}"}.
+ * </p>
+ * <p>
+ *     The logged values are rendered within the limits configured in {@link DataRenderer}: a value which cannot be
+ *     fully rendered in JSON (because it is truncated or it cannot be serialized) is written as a JSON string
+ *     containing the rendered text, to always produce a valid JSON message.
+ * </p>
+ */
+final class StructuredMessageWriter {
+
+	private static final String CALLED_METHOD_PROPERTY = "calledMethod";
+	private static final String INPUT_PARAMETERS_PROPERTY = "inputParameters";
+	private static final String OUTPUT_VALUE_PROPERTY = "outputValue";
+	private static final String SAMPLING_WEIGHT_PROPERTY = "samplingWeight";
+
+	private StructuredMessageWriter() {
+		// Private constructor to hide it externally.
+	}
+
+	/**
+	 * Checks whether the structured messages are written by this class for the given format of the logged values.
+	 *
+	 * @param prettyFormat The pretty format of the logged values (can be {@code null}).
+	 * @return {@code true} if the structured messages are written in JSON, {@code false} otherwise.
+	 */
+	static boolean isApplicable(final PrettyDataFormat prettyFormat) {
+		return prettyFormat == null || PrettyDataFormat.JSON.equals(prettyFormat);
+	}
+
+	/**
+	 * Writes the structured message of the input of a method invocation.
+	 *
+	 * @param calledMethod				The name of the invoked method.
+	 * @param inputParameters			The values of the logged arguments (already masked if required), indexed by
+	 *                                  name.
+	 * @param prettyFormat				The pretty format of the logged values (can be {@code null}).
+	 * @param expandCollectionsAndMaps	Whether the full data of collections and maps or only their size is logged.
+	 * @param samplingWeight			The sampling weight of the invocation or {@code null} if it is not sampled.
+	 * @return The structured message in JSON.
+	 */
+	static String writeMethodInput(final String calledMethod, final Map<String, Object> inputParameters,
+								   final PrettyDataFormat prettyFormat, final boolean expandCollectionsAndMaps,
+								   final Double samplingWeight) {
+		final StringBuilder builder = new StringBuilder();
+		try (JsonGenerator generator = createGenerator(builder)) {
+			generator.writeStartObject();
+			generator.writeStringField(CALLED_METHOD_PROPERTY, calledMethod);
+			generator.writeFieldName(INPUT_PARAMETERS_PROPERTY);
+			generator.writeStartObject();
+			for (final Map.Entry<String, Object> inputParameter : inputParameters.entrySet()) {
+				generator.writeFieldName(inputParameter.getKey());
+				writeValue(generator, builder, inputParameter.getValue(), prettyFormat, expandCollectionsAndMaps);
+			}
+			generator.writeEndObject();
+			writeSamplingWeight(generator, samplingWeight);
+			generator.writeEndObject();
+		} catch (final IOException e) {
+			LoggingUtils.reportError(String.format("Unable to write the input of %s as a structured message.",
+				calledMethod), e);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes the structured message of the output value of a method invocation.
+	 *
+	 * @param calledMethod				The name of the invoked method.
+	 * @param outputValue				The output value.
+	 * @param prettyFormat				The pretty format of the logged value (can be {@code null}).
+	 * @param expandCollectionsAndMaps	Whether the full data of collections and maps or only their size is logged.
+	 * @param samplingWeight			The sampling weight of the invocation or {@code null} if it is not sampled.
+	 * @return The structured message in JSON.
+	 */
+	static String writeMethodOutput(final String calledMethod, final Object outputValue,
+									final PrettyDataFormat prettyFormat, final boolean expandCollectionsAndMaps,
+									final Double samplingWeight) {
+		final StringBuilder builder = new StringBuilder();
+		try (JsonGenerator generator = createGenerator(builder)) {
+			generator.writeStartObject();
+			generator.writeStringField(CALLED_METHOD_PROPERTY, calledMethod);
+			generator.writeFieldName(OUTPUT_VALUE_PROPERTY);
+			writeValue(generator, builder, outputValue, prettyFormat, expandCollectionsAndMaps);
+			writeSamplingWeight(generator, samplingWeight);
+			generator.writeEndObject();
+		} catch (final IOException e) {
+			LoggingUtils.reportError(String.format("Unable to write the output of %s as a structured message.",
+				calledMethod), e);
+		}
+		return builder.toString();
+	}
+
+	private static JsonGenerator createGenerator(final StringBuilder builder) throws IOException {
+		return LoggingUtils.OBJECT_MAPPER.getFactory().createGenerator(new BoundedWriter(builder, 0));
+	}
+
+	/**
+	 * Writes a logged value.
+	 * <p>
+	 *     The values prettified in JSON are rendered by {@link DataRenderer} directly into the builder receiving the
+	 *     message: the generator only writes the separator preceding the value and is flushed before appending the
+	 *     rendered value. The other values are formatted as usual and written as JSON strings.
+	 * </p>
+	 *
+	 * @param generator					The generator writing the message.
+	 * @param builder					The builder receiving the message.
+	 * @param value						The value to write.
+	 * @param prettyFormat				The pretty format of the logged value (can be {@code null}).
+	 * @param expandCollectionsAndMaps	Whether the full data of collections and maps or only their size is logged.
+	 * @throws IOException if the value cannot be written.
+	 */
+	private static void writeValue(final JsonGenerator generator, final StringBuilder builder, final Object value,
+								   final PrettyDataFormat prettyFormat, final boolean expandCollectionsAndMaps)
+		throws IOException {
+		final boolean collapsed = !expandCollectionsAndMaps && (value instanceof Collection || value instanceof Map);
+		if (value == null) {
+			generator.writeNull();
+		} else if (prettyFormat == null || collapsed) {
+			generator.writeString(LoggingUtils.formatData(value, null, expandCollectionsAndMaps));
+		} else {
+			// Write the separator preceding the value, then append the rendered value to the same buffer.
+			generator.writeRawValue(StringUtils.EMPTY);
+			generator.flush();
+			final int start = builder.length();
+			if (!DataRenderer.getInstance().render(builder, value, prettyFormat)) {
+				// The rendered value is not valid JSON: write it as a string.
+				final String renderedValue = builder.substring(start);
+				builder.setLength(start);
+				builder.append('"').append(JsonStringEncoder.getInstance().quoteAsString(renderedValue)).append('"');
+			}
+		}
+	}
+
+	private static void writeSamplingWeight(final JsonGenerator generator, final Double samplingWeight)
+		throws IOException {
+		if (samplingWeight != null) {
+			generator.writeNumberField(SAMPLING_WEIGHT_PROPERTY, samplingWeight);
+		}
+	}
+}
@@ -0,0 +1,240 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import lombok.NonNull;
+import org.apiguardian.api.API;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class is a singleton masking the sensitive parts of the messages of the exceptions and errors logged by
+ * {@link MethodCallLogger} (for example, the tokens or passwords included in the message of an exception thrown by an
+ * authentication service).
+ * <p>
+ *     The sensitive parts are identified by regular expressions registered with {@link #addPattern(String)}: each
+ *     match of a pattern in a message (or only its first capturing group, if the pattern defines one) is replaced by
+ *     as many characters {@value Mask#DEFAULT_MASKING_CHAR}. The patterns are compiled once, when they are registered,
+ *     and while no pattern is registered, masking a message only costs a single volatile read.
+ * </p>
+ * <p>
+ *     When a message of a logged {@link Throwable} (or of one of its causes or suppressed throwables) is masked, the
+ *     throwable passed to the loggers is a surrogate having the masked messages, the stack traces and the suppressed
+ *     throwables of the original throwable and its causes. Since the surrogate is not an instance of the original
+ *     type, its message is prefixed by the class name of the original throwable: the stack trace printed by
+ *     {@link Throwable#printStackTrace()} starts with the original class name and message, while the loggers
+ *     rendering the class name themselves (such as Logback or Log4j) print the class name of the surrogate first.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public final class ThrowableMessageMasker {
+
+	/**
+	 * The maximal number of causes of a throwable whose messages are masked.
+	 */
+	private static final int MAX_MASKED_CAUSES = 16;
+
+	private volatile Pattern[] patterns = new Pattern[0];
+
+	private ThrowableMessageMasker() {
+		// Private constructor to force usage of singleton instance via the method getInstance().
+	}
+
+	/**
+	 * Gets an instance of ThrowableMessageMasker.
+	 *
+	 * @return A singleton instance of ThrowableMessageMasker.
+	 */
+	public static ThrowableMessageMasker getInstance() {
+		return ThrowableMessageMaskerInstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Registers a pattern identifying a sensitive part to mask in the messages of the logged exceptions and errors.
+	 * <p>
+	 *     For example, the pattern {@code token=(\S+)} masks the value of the token in the message
+	 *     {@code "Invalid token=abc123"}, giving {@code "Invalid token=******"}.
+	 * </p>
+	 *
+	 * @param regex The regular expression to match. If it defines capturing groups, only the first group is masked.
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid.
+	 */
+	public synchronized void addPattern(@NonNull final String regex) {
+		final Pattern[] updatedPatterns = Arrays.copyOf(this.patterns, this.patterns.length + 1);
+		updatedPatterns[this.patterns.length] = Pattern.compile(regex);
+		this.patterns = updatedPatterns;
+	}
+
+	/**
+	 * Removes all the registered patterns.
+	 */
+	public synchronized void removeAllPatterns() {
+		this.patterns = new Pattern[0];
+	}
+
+	/**
+	 * Replaces all the registered patterns by the given ones (see {@link #addPattern(String)}).
+	 * <p>
+	 *     All the patterns are compiled before replacing the registered ones: if one of them is invalid, the registered
+	 *     patterns are left unchanged.
+	 * </p>
+	 *
+	 * @param regexes The regular expressions to match.
+	 * @throws java.util.regex.PatternSyntaxException if one of the regular expressions is invalid.
+	 */
+	public synchronized void setPatterns(@NonNull final Collection<String> regexes) {
+		this.patterns = regexes.stream().map(Pattern::compile).toArray(Pattern[]::new);
+	}
+
+	/**
+	 * Masks the sensitive parts of the given message.
+	 *
+	 * @param message The message to mask (can be {@code null}).
+	 * @return The masked message, or the message itself if no registered pattern matches it.
+	 */
+	String mask(final String message) {
+		final Pattern[] currentPatterns = this.patterns;
+		if (currentPatterns.length == 0 || message == null) {
+			return message;
+		}
+		return mask(message, currentPatterns);
+	}
+
+	/**
+	 * Masks the sensitive parts of the messages of the given throwable and its causes.
+	 *
+	 * @param throwable The throwable to mask.
+	 * @return A surrogate of the throwable having the masked messages, or the throwable itself if no registered
+	 * 		   pattern matches its messages.
+	 */
+	Throwable mask(final Throwable throwable) {
+		final Pattern[] currentPatterns = this.patterns;
+		if (currentPatterns.length == 0) {
+			return throwable;
+		}
+		return mask(throwable, currentPatterns, 0);
+	}
+
+	private static Throwable mask(final Throwable throwable, final Pattern[] currentPatterns, final int depth) {
+		final Throwable cause = throwable.getCause();
+		Throwable maskedCause = cause;
+		if (cause != null && cause != throwable && depth < MAX_MASKED_CAUSES) {
+			maskedCause = mask(cause, currentPatterns, depth + 1);
+		}
+		final Throwable[] suppressed = throwable.getSuppressed();
+		final Throwable[] maskedSuppressed = maskSuppressed(suppressed, currentPatterns, depth);
+		final String message = throwable.getMessage();
+		String maskedMessage = message;
+		if (message != null) {
+			maskedMessage = mask(message, currentPatterns);
+		}
+		// The masking functions return the same instances when nothing is masked.
+		if (maskedMessage == message && maskedCause == cause && maskedSuppressed == suppressed) {
+			return throwable;
+		}
+		return new MaskedThrowable(throwable, maskedMessage, maskedCause, maskedSuppressed);
+	}
+
+	private static String mask(final String message, final Pattern[] currentPatterns) {
+		StringBuilder maskedMessage = null;
+		for (final Pattern pattern : currentPatterns) {
+			// Since the masking preserves the length of the message, the matches are searched in the original message.
+			final Matcher matcher = pattern.matcher(message);
+			while (matcher.find()) {
+				int group = 0;
+				if (matcher.groupCount() > 0 && matcher.start(1) >= 0) {
+					group = 1;
+				}
+				if (matcher.start(group) < matcher.end(group) && maskedMessage == null) {
+					maskedMessage = new StringBuilder(message);
+				}
+				for (int i = matcher.start(group); i < matcher.end(group); i++) {
+					maskedMessage.setCharAt(i, Mask.DEFAULT_MASKING_CHAR);
+				}
+			}
+		}
+		if (maskedMessage == null) {
+			return message;
+		}
+		return maskedMessage.toString();
+	}
+
+	private static Throwable[] maskSuppressed(final Throwable[] suppressed, final Pattern[] currentPatterns,
+											  final int depth) {
+		if (depth >= MAX_MASKED_CAUSES) {
+			return suppressed;
+		}
+		Throwable[] maskedSuppressed = suppressed;
+		for (int i = 0; i < suppressed.length; i++) {
+			final Throwable maskedThrowable = mask(suppressed[i], currentPatterns, depth + 1);
+			if (maskedThrowable != suppressed[i]) {
+				if (maskedSuppressed == suppressed) {
+					maskedSuppressed = suppressed.clone();
+				}
+				maskedSuppressed[i] = maskedThrowable;
+			}
+		}
+		return maskedSuppressed;
+	}
+
+	/**
+	 * Surrogate of a throwable whose message (or the message of one of its causes or suppressed throwables) is masked.
+	 */
+	private static final class MaskedThrowable extends Throwable {
+
+		private static final long serialVersionUID = 1L;
+
+		MaskedThrowable(final Throwable original, final String maskedMessage, final Throwable maskedCause,
+						final Throwable[] maskedSuppressed) {
+			super(buildMessage(original, maskedMessage), maskedCause, true, true);
+			setStackTrace(original.getStackTrace());
+			for (final Throwable suppressed : maskedSuppressed) {
+				addSuppressed(suppressed);
+			}
+		}
+
+		private static String buildMessage(final Throwable original, final String maskedMessage) {
+			if (maskedMessage == null) {
+				return original.getClass().getName();
+			}
+			return original.getClass().getName() + ": " + maskedMessage;
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			// The stack trace of the original throwable is used.
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			return getMessage();
+		}
+	}
+
+	private static class ThrowableMessageMaskerInstanceHolder {
+		private static final ThrowableMessageMasker INSTANCE = new ThrowableMessageMasker();
+	}
+}
@@ -0,0 +1,181 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket limiting the rate of log events, and counting the suppressed ones.
+ * <p>
+ *     The bucket is implemented with the generic cell rate algorithm: instead of refilling tokens, it stores the
+ *     theoretical arrival time of the next event, so acquiring a token only requires a compare-and-set on a single
+ *     {@link AtomicLong}. An event is accepted if the theoretical arrival time does not exceed the current time by more
+ *     than the capacity of the bucket.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.core.*")
+public final class TokenBucket {
+
+	private static final long SECOND_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final int eventsPerSecond;
+	private final int burst;
+	private final long emissionIntervalInNanos;
+	private final long toleranceInNanos;
+	private final LongSupplier clock;
+	private final AtomicLong theoreticalArrivalTime;
+	private final AtomicLong suppressedEvents = new AtomicLong();
+	private final AtomicLong lastSummaryTime;
+	private final AtomicBoolean summaryScheduled = new AtomicBoolean();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param eventsPerSecond	The maximal number of events per second. If lower than or equal to 0, the rate is
+	 *                          limited to 1 event per second.
+	 * @param burst				The maximal number of events accepted at once. If lower than or equal to 0, the value
+	 *                          of {@code eventsPerSecond} is used.
+	 */
+	public TokenBucket(final int eventsPerSecond, final int burst) {
+		this(eventsPerSecond, burst, System::nanoTime);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param eventsPerSecond	The maximal number of events per second. If lower than or equal to 0, the rate is
+	 *                          limited to 1 event per second.
+	 * @param burst				The maximal number of events accepted at once. If lower than or equal to 0, the value
+	 *                          of {@code eventsPerSecond} is used.
+	 * @param clock				The source of the current time in nanoseconds (see {@link System#nanoTime()}).
+	 */
+	TokenBucket(final int eventsPerSecond, final int burst, final LongSupplier clock) {
+		this.eventsPerSecond = Math.max(1, eventsPerSecond);
+		if (burst > 0) {
+			this.burst = burst;
+		} else {
+			this.burst = this.eventsPerSecond;
+		}
+		this.emissionIntervalInNanos = Math.max(1, SECOND_IN_NANOS / this.eventsPerSecond);
+		this.toleranceInNanos = this.emissionIntervalInNanos * this.burst;
+		this.clock = clock;
+		final long now = clock.getAsLong();
+		this.theoreticalArrivalTime = new AtomicLong(now);
+		this.lastSummaryTime = new AtomicLong(now);
+	}
+
+	/**
+	 * Tries to acquire a token for a new event.
+	 *
+	 * @return {@code true} if the event can be logged, {@code false} if it must be suppressed (in this case, it is
+	 * 		   counted as suppressed).
+	 */
+	public boolean tryAcquire() {
+		final long now = clock.getAsLong();
+		while (true) {
+			final long currentArrivalTime = theoreticalArrivalTime.get();
+			final long nextArrivalTime = Math.max(currentArrivalTime, now) + emissionIntervalInNanos;
+			if (nextArrivalTime - now > toleranceInNanos) {
+				suppressedEvents.incrementAndGet();
+				return false;
+			}
+			if (theoreticalArrivalTime.compareAndSet(currentArrivalTime, nextArrivalTime)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Gives back a token previously acquired with {@link #tryAcquire()}, when the event is finally suppressed for
+	 * another reason (for example, by the rate limit of its topic).
+	 */
+	void release() {
+		theoreticalArrivalTime.addAndGet(-emissionIntervalInNanos);
+	}
+
+	/**
+	 * Gets and resets the number of events suppressed since the last summary, if the given interval has elapsed since
+	 * the last summary.
+	 *
+	 * @param summaryIntervalInNanos The minimal interval between two summaries (in nanoseconds).
+	 * @return The number of suppressed events to report or 0 if there is nothing to report yet.
+	 */
+	public long pollSuppressedEvents(final long summaryIntervalInNanos) {
+		if (suppressedEvents.get() == 0) {
+			return 0;
+		}
+		final long now = clock.getAsLong();
+		final long lastSummary = lastSummaryTime.get();
+		if (now - lastSummary < summaryIntervalInNanos || !lastSummaryTime.compareAndSet(lastSummary, now)) {
+			return 0;
+		}
+		return suppressedEvents.getAndSet(0);
+	}
+
+	/**
+	 * Marks the summary of the suppressed events as scheduled, if it is not already.
+	 *
+	 * @return {@code true} if the summary was not scheduled yet and must be scheduled by the caller, {@code false}
+	 * 		   otherwise.
+	 */
+	boolean markSummaryScheduled() {
+		return !summaryScheduled.get() && summaryScheduled.compareAndSet(false, true);
+	}
+
+	/**
+	 * Marks the summary of the suppressed events as not scheduled anymore.
+	 */
+	void clearSummaryScheduled() {
+		summaryScheduled.set(false);
+	}
+
+	/**
+	 * Gets the number of events suppressed since the last summary.
+	 *
+	 * @return The number of suppressed events not reported yet.
+	 */
+	public long getSuppressedEvents() {
+		return suppressedEvents.get();
+	}
+
+	/**
+	 * Gets the maximal number of events per second.
+	 *
+	 * @return The maximal number of events per second.
+	 */
+	public int getEventsPerSecond() {
+		return eventsPerSecond;
+	}
+
+	/**
+	 * Gets the maximal number of events accepted at once.
+	 *
+	 * @return The maximal number of events accepted at once.
+	 */
+	public int getBurst() {
+		return burst;
+	}
+}
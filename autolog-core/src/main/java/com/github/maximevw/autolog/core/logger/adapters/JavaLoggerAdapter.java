@@ -20,6 +20,7 @@
 
 package com.github.maximevw.autolog.core.logger.adapters;
 
+import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import org.apiguardian.api.API;
 import org.slf4j.helpers.FormattingTuple;
@@ -47,29 +48,34 @@ public class JavaLoggerAdapter extends LoggerFactoryBasedAdapter<Logger> impleme
 		return JavaLoggerAdapterInstanceHolder.INSTANCE;
 	}
 
+	@Override
+	public boolean isEnabled(final String topic, final LogLevel level) {
+		return getLogger(topic).isLoggable(toJavaLogLevel(level));
+	}
+
 	@Override
 	public void trace(final String topic, final String format, final Object... arguments) {
-		log(topic, Level.FINEST, format, arguments);
+		log(topic, toJavaLogLevel(LogLevel.TRACE), format, arguments);
 	}
 
 	@Override
 	public void debug(final String topic, final String format, final Object... arguments) {
-		log(topic, Level.FINE, format, arguments);
+		log(topic, toJavaLogLevel(LogLevel.DEBUG), format, arguments);
 	}
 
 	@Override
 	public void info(final String topic, final String format, final Object... arguments) {
-		log(topic, Level.INFO, format, arguments);
+		log(topic, toJavaLogLevel(LogLevel.INFO), format, arguments);
 	}
 
 	@Override
 	public void warn(final String topic, final String format, final Object... arguments) {
-		log(topic, Level.WARNING, format, arguments);
+		log(topic, toJavaLogLevel(LogLevel.WARN), format, arguments);
 	}
 
 	@Override
 	public void error(final String topic, final String format, final Object... arguments) {
-		log(topic, Level.SEVERE, format, arguments);
+		log(topic, toJavaLogLevel(LogLevel.ERROR), format, arguments);
 	}
 
 	private void log(final String topic, final Level javaLogLevel, final String format, final Object... arguments) {
@@ -77,6 +83,27 @@ public class JavaLoggerAdapter extends LoggerFactoryBasedAdapter<Logger> impleme
 		getLogger(topic).log(javaLogLevel, formattingTuple.getMessage());
 	}
 
+	/**
+	 * Maps an Autolog log level to the corresponding classic Java logging {@link Level}.
+	 *
+	 * @param level The Autolog log level.
+	 * @return The corresponding classic Java logging level.
+	 */
+	private static Level toJavaLogLevel(final LogLevel level) {
+		switch (level) {
+			case TRACE:
+				return Level.FINEST;
+			case DEBUG:
+				return Level.FINE;
+			case INFO:
+				return Level.INFO;
+			case WARN:
+				return Level.WARNING;
+			default:
+				return Level.SEVERE;
+		}
+	}
+
 	/**
 	 * Gets an instance of classic Java {@link Logger} with the given name.
 	 *
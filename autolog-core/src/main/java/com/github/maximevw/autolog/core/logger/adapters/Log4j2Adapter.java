@@ -20,8 +20,10 @@
 
 package com.github.maximevw.autolog.core.logger.adapters;
 
+import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import org.apache.logging.log4j.CloseableThreadContext;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apiguardian.api.API;
@@ -47,6 +49,11 @@ public class Log4j2Adapter extends LoggerFactoryBasedAdapter<Logger> implements
 		return Log4j2AdapterInstanceHolder.INSTANCE;
 	}
 
+	@Override
+	public boolean isEnabled(final String topic, final LogLevel level) {
+		return getLogger(topic).isEnabled(Level.valueOf(level.name()));
+	}
+
 	@Override
 	public void trace(final String topic, final String format, final Object... arguments) {
 		getLogger(topic).trace(format, arguments);
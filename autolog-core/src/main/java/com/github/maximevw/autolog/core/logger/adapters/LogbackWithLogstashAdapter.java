@@ -20,6 +20,7 @@
 
 package com.github.maximevw.autolog.core.logger.adapters;
 
+import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import net.logstash.logback.argument.StructuredArgument;
 import net.logstash.logback.encoder.LogstashEncoder;
@@ -56,6 +57,11 @@ public class LogbackWithLogstashAdapter extends LoggerFactoryBasedAdapter<Logger
 		return LogbackWithLogstashAdapterInstanceHolder.INSTANCE;
 	}
 
+	@Override
+	public boolean isEnabled(final String topic, final LogLevel level) {
+		return Slf4jAdapter.isLevelEnabled(getLogger(topic), level);
+	}
+
 	@Override
 	public void trace(final String topic, final String format, final Object... arguments) {
 		getLogger(topic).trace(format, arguments);
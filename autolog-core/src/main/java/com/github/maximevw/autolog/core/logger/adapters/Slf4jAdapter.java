@@ -20,6 +20,7 @@
 
 package com.github.maximevw.autolog.core.logger.adapters;
 
+import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
@@ -52,6 +53,11 @@ public class Slf4jAdapter extends LoggerFactoryBasedAdapter<Logger> implements L
 		return Slf4jAdapterInstanceHolder.INSTANCE;
 	}
 
+	@Override
+	public boolean isEnabled(final String topic, final LogLevel level) {
+		return isLevelEnabled(getLogger(topic), level);
+	}
+
 	@Override
 	public void trace(final String topic, final String format, final Object... arguments) {
 		getLogger(topic).trace(format, arguments);
@@ -132,6 +138,28 @@ public class Slf4jAdapter extends LoggerFactoryBasedAdapter<Logger> implements L
 		);
 	}
 
+	/**
+	 * Checks whether the given SLF4J {@link Logger} is enabled for the given level.
+	 *
+	 * @param logger	The SLF4J logger.
+	 * @param level		The log level.
+	 * @return {@code true} if the level is enabled for the logger, {@code false} otherwise.
+	 */
+	static boolean isLevelEnabled(final Logger logger, final LogLevel level) {
+		switch (level) {
+			case TRACE:
+				return logger.isTraceEnabled();
+			case DEBUG:
+				return logger.isDebugEnabled();
+			case INFO:
+				return logger.isInfoEnabled();
+			case WARN:
+				return logger.isWarnEnabled();
+			default:
+				return logger.isErrorEnabled();
+		}
+	}
+
 	/**
 	 * Gets an instance of SLF4J {@link Logger} with the given name.
 	 *
@@ -20,6 +20,7 @@
 
 package com.github.maximevw.autolog.core.logger.adapters;
 
+import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import org.apiguardian.api.API;
 import org.slf4j.ext.XLogger;
@@ -44,6 +45,11 @@ public class XSlf4jAdapter extends LoggerFactoryBasedAdapter<XLogger> implements
 		return XSlf4jAdapterInstanceHolder.INSTANCE;
 	}
 
+	@Override
+	public boolean isEnabled(final String topic, final LogLevel level) {
+		return Slf4jAdapter.isLevelEnabled(getLogger(topic), level);
+	}
+
 	@Override
 	public void trace(final String topic, final String format, final Object... arguments) {
 		getLogger(topic).trace(format, arguments);
@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics of an {@link AsyncLogDispatcher}.
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+@Getter
+@Builder
+@ToString
+public class AsyncDispatchStatistics {
+
+	/**
+	 * The number of log events published in the ring buffer.
+	 */
+	private final long publishedEvents;
+
+	/**
+	 * The number of log events dispatched by the consumer threads.
+	 */
+	private final long processedEvents;
+
+	/**
+	 * The number of batches of log events drained from the ring buffer by the consumer threads.
+	 */
+	private final long processedBatches;
+
+	/**
+	 * The number of log events dropped according to the overflow policy.
+	 */
+	private final long droppedEvents;
+
+	/**
+	 * The numbers of log events dropped according to the overflow policy, by topic and level. Only the non-zero
+	 * counters are included.
+	 */
+	private final Map<String, Map<LogLevel, Long>> droppedEventsByTopic;
+
+	/**
+	 * The approximate number of log events waiting in the ring buffer.
+	 */
+	private final int pendingEvents;
+
+	/**
+	 * The capacity of the ring buffer.
+	 */
+	private final int bufferCapacity;
+
+	/**
+	 * The time elapsed since the start of the dispatcher, in milliseconds.
+	 */
+	private final long uptimeInMs;
+
+	/**
+	 * The average number of log events dispatched per second since the start of the dispatcher.
+	 */
+	private final double throughputPerSecond;
+
+	/**
+	 * The average time (in nanoseconds) between the publication of a log event and its processing by a consumer
+	 * thread.
+	 */
+	private final long averageHandOffLatencyInNs;
+
+	/**
+	 * The maximal time (in nanoseconds) between the publication of a log event and its processing by a consumer
+	 * thread.
+	 */
+	private final long maxHandOffLatencyInNs;
+
+	/**
+	 * The health state of the dispatcher.
+	 */
+	private final DispatchHealth health;
+
+	/**
+	 * Gets the average number of log events processed per batch.
+	 *
+	 * @return The average size of the batches drained from the ring buffer.
+	 */
+	public double getAverageBatchSize() {
+		if (processedBatches == 0L) {
+			return 0d;
+		}
+		return (double) processedEvents / processedBatches;
+	}
+}
@@ -0,0 +1,530 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggingUtils;
+import lombok.NonNull;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Internal class dispatching log events asynchronously.
+ * <p>
+ *     The log events are published by the application threads into a bounded, preallocated and lock-free ring buffer
+ *     ({@link LogEventRingBuffer}), then drained by batches by dedicated consumer threads which hand them over to a
+ *     {@link LogEventSink}. When the ring buffer is full, the configured {@link OverflowPolicy} is applied: the
+ *     publishing thread waits for a free slot according to the configured {@link WaitStrategy} or some log events are
+ *     dropped, so a logging backlog never results in an unbounded memory usage. The dropped events are counted by topic
+ *     and level.
+ * </p>
+ * <p>
+ *     When a dispatch timeout is configured, the dispatcher becomes {@link DispatchHealth#DEGRADED} as soon as the
+ *     dispatch of a log event exceeds it (or fails), and {@link DispatchHealth#HEALTHY} again once a log event is
+ *     dispatched within the timeout. While degraded, the events published when the ring buffer is full are dropped.
+ * </p>
+ * <p>
+ *     <i>Note:</i> The contextual data and the arguments of the log events are handed over as is: they must not be
+ *     modified after their publication.
+ * </p>
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.core.*")
+public final class AsyncLogDispatcher {
+
+	private final String name;
+	private final LogEventRingBuffer ringBuffer;
+	private final LogEventSink sink;
+	private final WaitStrategy waitStrategy;
+	private final int maxBatchSize;
+	private final long shutdownTimeoutInMs;
+	private final OverflowPolicy overflowPolicy;
+	private final LogLevel maxDroppableLevel;
+	private final long maxBlockingTimeInNs;
+	private final long dispatchTimeoutInNs;
+	private final List<Thread> consumerThreads;
+	private final AtomicLongArray dispatchStartTimes;
+	private final Consumer<LogEvent> eventHandler = event -> process(event, -1);
+	private final Consumer<LogEvent> dropHandler = event -> drop(event.getTopic(), event.getLogLevel());
+
+	private final LongAdder publishedEvents = new LongAdder();
+	private final LongAdder processedEvents = new LongAdder();
+	private final LongAdder processedBatches = new LongAdder();
+	private final LongAdder totalHandOffLatency = new LongAdder();
+	private final LongAccumulator maxHandOffLatency = new LongAccumulator(Math::max, 0L);
+	private final DroppedEventsCounter droppedEvents = new DroppedEventsCounter();
+	private final AtomicBoolean saturationReported = new AtomicBoolean();
+	private final AtomicBoolean degraded = new AtomicBoolean();
+
+	private volatile boolean running;
+	private volatile long startTime;
+
+	/**
+	 * Creates a new asynchronous dispatcher. The consumer threads are started by {@link #start()}.
+	 *
+	 * @param name			The name of the dispatcher, used to name the consumer threads.
+	 * @param configuration	The configuration of the dispatcher.
+	 * @param sink			The sink receiving the dispatched log events.
+	 * @throws IllegalArgumentException if the configuration is invalid.
+	 */
+	public AsyncLogDispatcher(@NonNull final String name, @NonNull final AsyncLoggingConfiguration configuration,
+							  @NonNull final LogEventSink sink) {
+		if (configuration.getConsumerThreads() <= 0 || configuration.getMaxBatchSize() <= 0) {
+			throw new IllegalArgumentException(
+				"The number of consumer threads and the maximal batch size must be strictly positive.");
+		}
+		this.name = name;
+		this.ringBuffer = new LogEventRingBuffer(configuration.getBufferSize());
+		this.sink = sink;
+		this.waitStrategy = Optional.ofNullable(configuration.getWaitStrategy()).orElse(WaitStrategy.PARK);
+		this.maxBatchSize = configuration.getMaxBatchSize();
+		this.shutdownTimeoutInMs = configuration.getShutdownTimeoutInMs();
+		this.overflowPolicy = Optional.ofNullable(configuration.getOverflowPolicy()).orElse(OverflowPolicy.BLOCK);
+		this.maxDroppableLevel = Optional.ofNullable(configuration.getMaxDroppableLevel()).orElse(LogLevel.DEBUG);
+		this.maxBlockingTimeInNs = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, configuration.getMaxBlockingTimeInMs()));
+		this.dispatchTimeoutInNs = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, configuration.getDispatchTimeoutInMs()));
+		this.consumerThreads = new ArrayList<>(configuration.getConsumerThreads());
+		this.dispatchStartTimes = new AtomicLongArray(configuration.getConsumerThreads());
+		for (int i = 0; i < configuration.getConsumerThreads(); i++) {
+			final int consumerIndex = i;
+			final Thread consumerThread = new Thread(() -> consume(consumerIndex),
+				String.format("autolog-%s-%d", name, i));
+			consumerThread.setDaemon(true);
+			this.consumerThreads.add(consumerThread);
+		}
+	}
+
+	/**
+	 * Starts the consumer threads.
+	 *
+	 * @return The started dispatcher.
+	 */
+	public synchronized AsyncLogDispatcher start() {
+		if (!running) {
+			startTime = System.nanoTime();
+			running = true;
+			consumerThreads.forEach(Thread::start);
+		}
+		return this;
+	}
+
+	/**
+	 * Publishes a log event to dispatch asynchronously.
+	 * <p>
+	 *     If the ring buffer is full, the configured overflow policy is applied.
+	 * </p>
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @return {@code true} if the event has been published or dropped according to the overflow policy,
+	 * 		   {@code false} if the dispatcher is not running (the caller is then responsible for the dispatch of the
+	 * 		   event).
+	 */
+	public boolean publish(final LogLevel logLevel, final String topic, final String message,
+						   final Map<String, String> contextualData, final Object[] arguments) {
+		if (!running) {
+			return false;
+		}
+		final long publicationTime = System.nanoTime();
+		if (ringBuffer.tryPublish(logLevel, topic, message, contextualData, arguments, publicationTime)) {
+			return onPublished();
+		}
+
+		// The ring buffer is full: shed the load if the sink is degraded, otherwise apply the overflow policy.
+		if (isDegraded()) {
+			drop(topic, logLevel);
+			return true;
+		}
+		switch (overflowPolicy) {
+			case DROP_NEWEST:
+				drop(topic, logLevel);
+				return true;
+			case DROP_OLDEST:
+				return publishDroppingOldest(logLevel, topic, message, contextualData, arguments, publicationTime);
+			case DROP_BY_LEVEL:
+				if (logLevel.compareTo(maxDroppableLevel) <= 0) {
+					drop(topic, logLevel);
+					return true;
+				}
+				return publishBlocking(logLevel, topic, message, contextualData, arguments, publicationTime);
+			default:
+				return publishBlocking(logLevel, topic, message, contextualData, arguments, publicationTime);
+		}
+	}
+
+	/**
+	 * Dispatches a log event asynchronously or, if the dispatcher is not running, synchronously in the calling thread.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @see #publish(LogLevel, String, String, Map, Object[])
+	 */
+	public void dispatch(final LogLevel logLevel, final String topic, final String message,
+						 final Map<String, String> contextualData, final Object[] arguments) {
+		if (!publish(logLevel, topic, message, contextualData, arguments)) {
+			dispatchToSink(logLevel, topic, message, contextualData, arguments);
+		}
+	}
+
+	/**
+	 * Stops the dispatcher.
+	 * <p>
+	 *     The consumer threads dispatch the pending log events before stopping, within the limit of the configured
+	 *     shutdown timeout. The events published concurrently with the stop are dispatched by the calling thread.
+	 * </p>
+	 */
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutInMs);
+		boolean terminated = true;
+		for (final Thread consumerThread : consumerThreads) {
+			terminated &= awaitTermination(consumerThread, deadline);
+		}
+		if (terminated) {
+			drainPendingEvents();
+		} else {
+			LoggingUtils.report(String.format("Asynchronous dispatcher %s stopped before dispatching %d log events.",
+				name, ringBuffer.size()), LogLevel.WARN);
+		}
+	}
+
+	/**
+	 * Checks whether the dispatcher is running.
+	 *
+	 * @return {@code true} if the dispatcher accepts new log events, {@code false} otherwise.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Gets the health state of the dispatcher.
+	 *
+	 * @return The health state of the dispatcher.
+	 */
+	public DispatchHealth getHealth() {
+		if (isDegraded()) {
+			return DispatchHealth.DEGRADED;
+		}
+		return DispatchHealth.HEALTHY;
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of the dispatcher.
+	 *
+	 * @return The statistics of the dispatcher.
+	 */
+	public AsyncDispatchStatistics getStatistics() {
+		final long processed = processedEvents.sum();
+		long uptimeInNs = 0L;
+		if (startTime != 0L) {
+			uptimeInNs = System.nanoTime() - startTime;
+		}
+		double throughput = 0d;
+		if (uptimeInNs > 0L) {
+			throughput = processed * (double) TimeUnit.SECONDS.toNanos(1) / uptimeInNs;
+		}
+		long averageLatency = 0L;
+		if (processed > 0L) {
+			averageLatency = totalHandOffLatency.sum() / processed;
+		}
+		return AsyncDispatchStatistics.builder()
+			.publishedEvents(publishedEvents.sum())
+			.processedEvents(processed)
+			.processedBatches(processedBatches.sum())
+			.droppedEvents(droppedEvents.getTotal())
+			.droppedEventsByTopic(droppedEvents.snapshot())
+			.pendingEvents(ringBuffer.size())
+			.bufferCapacity(ringBuffer.getCapacity())
+			.uptimeInMs(TimeUnit.NANOSECONDS.toMillis(uptimeInNs))
+			.throughputPerSecond(throughput)
+			.averageHandOffLatencyInNs(averageLatency)
+			.maxHandOffLatencyInNs(maxHandOffLatency.get())
+			.health(getHealth())
+			.build();
+	}
+
+	/**
+	 * Publishes a log event, waiting for a free slot in the ring buffer within the limit of the maximal blocking time
+	 * if defined. Once this time elapsed, the event is dropped.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @param publicationTime	The publication time of the event, in nanoseconds (see {@link System#nanoTime()}).
+	 * @return {@code true} if the event has been published or dropped, {@code false} if the dispatcher is not
+	 * 		   running.
+	 */
+	private boolean publishBlocking(final LogLevel logLevel, final String topic, final String message,
+									final Map<String, String> contextualData, final Object[] arguments,
+									final long publicationTime) {
+		int idleCount = 0;
+		while (!ringBuffer.tryPublish(logLevel, topic, message, contextualData, arguments, publicationTime)) {
+			if (!running) {
+				return false;
+			}
+			if (isDegraded()
+				|| maxBlockingTimeInNs > 0L && System.nanoTime() - publicationTime >= maxBlockingTimeInNs) {
+				drop(topic, logLevel);
+				return true;
+			}
+			waitStrategy.idle(idleCount);
+			idleCount = incrementIdleCount(idleCount);
+		}
+		return onPublished();
+	}
+
+	/**
+	 * Publishes a log event, dropping the oldest events waiting in the ring buffer to make room for it.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @param publicationTime	The publication time of the event, in nanoseconds (see {@link System#nanoTime()}).
+	 * @return {@code true} if the event has been published, {@code false} if the dispatcher is not running.
+	 */
+	private boolean publishDroppingOldest(final LogLevel logLevel, final String topic, final String message,
+										  final Map<String, String> contextualData, final Object[] arguments,
+										  final long publicationTime) {
+		final LogEvent holder = new LogEvent();
+		do {
+			if (!running) {
+				return false;
+			}
+			ringBuffer.drain(dropHandler, 1, holder);
+		} while (!ringBuffer.tryPublish(logLevel, topic, message, contextualData, arguments, publicationTime));
+		return onPublished();
+	}
+
+	/**
+	 * Counts a published log event and, if the dispatcher has been stopped concurrently with the publication, drains
+	 * the pending events in the calling thread.
+	 * <p>
+	 *     A publisher may check that the dispatcher is running, then the dispatcher may be stopped and drained before
+	 *     the event is effectively stored in the ring buffer. Since the slot of the event is made available before
+	 *     {@link #running} is checked again (both being volatile accesses), either the final drain of {@link #stop()}
+	 *     sees the event, or the publisher sees the dispatcher stopped and dispatches it itself: no event is left in
+	 *     the ring buffer.
+	 * </p>
+	 *
+	 * @return Always {@code true}: the event has been published.
+	 */
+	private boolean onPublished() {
+		publishedEvents.increment();
+		if (!running) {
+			drainPendingEvents();
+		}
+		return true;
+	}
+
+	/**
+	 * Dispatches in the calling thread all the events pending in the ring buffer.
+	 */
+	private void drainPendingEvents() {
+		final LogEvent holder = new LogEvent();
+		int drained;
+		do {
+			drained = ringBuffer.drain(eventHandler, maxBatchSize, holder);
+		} while (drained > 0);
+	}
+
+	/**
+	 * Counts a dropped log event and reports the saturation of the dispatcher the first time an event is dropped.
+	 *
+	 * @param topic		The logger name of the dropped event.
+	 * @param logLevel	The level of the dropped event.
+	 */
+	private void drop(final String topic, final LogLevel logLevel) {
+		droppedEvents.increment(topic, logLevel);
+		if (saturationReported.compareAndSet(false, true)) {
+			LoggingUtils.report(String.format("Asynchronous dispatcher %s is saturated, log events are dropped "
+				+ "(overflow policy: %s).", name, overflowPolicy), LogLevel.WARN);
+		}
+	}
+
+	/**
+	 * Checks whether the dispatcher is degraded: the last dispatched log event exceeded the dispatch timeout or failed,
+	 * or the log event being dispatched by a consumer thread already exceeds the dispatch timeout.
+	 *
+	 * @return {@code true} if the dispatcher is degraded, {@code false} otherwise.
+	 */
+	private boolean isDegraded() {
+		if (degraded.get()) {
+			return true;
+		}
+		if (dispatchTimeoutInNs > 0L) {
+			final long now = System.nanoTime();
+			for (int i = 0; i < dispatchStartTimes.length(); i++) {
+				final long dispatchStartTime = dispatchStartTimes.get(i);
+				if (dispatchStartTime != 0L && now - dispatchStartTime > dispatchTimeoutInNs) {
+					updateHealth(false);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the health state of the dispatcher and reports its changes.
+	 *
+	 * @param healthy Whether the dispatcher is healthy.
+	 */
+	private void updateHealth(final boolean healthy) {
+		if (degraded.compareAndSet(healthy, !healthy)) {
+			if (healthy) {
+				LoggingUtils.report(String.format("Asynchronous dispatcher %s is healthy again.", name),
+					LogLevel.INFO);
+			} else {
+				LoggingUtils.report(String.format("Asynchronous dispatcher %s is degraded: the dispatch of a log event "
+					+ "exceeded %d ms or failed.", name, TimeUnit.NANOSECONDS.toMillis(dispatchTimeoutInNs)),
+					LogLevel.WARN);
+			}
+		}
+	}
+
+	/**
+	 * Drains the ring buffer until the dispatcher is stopped and all the pending events are dispatched.
+	 *
+	 * @param consumerIndex The index of the consumer thread.
+	 */
+	private void consume(final int consumerIndex) {
+		final Consumer<LogEvent> handler = event -> process(event, consumerIndex);
+		final LogEvent holder = new LogEvent();
+		int idleCount = 0;
+		while (true) {
+			final int drained = ringBuffer.drain(handler, maxBatchSize, holder);
+			if (drained > 0) {
+				processedBatches.increment();
+				idleCount = 0;
+			} else if (running) {
+				waitStrategy.idle(idleCount);
+				idleCount = incrementIdleCount(idleCount);
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Hands over a log event drained from the ring buffer to the sink, and updates the health state of the dispatcher
+	 * if a dispatch timeout is configured.
+	 *
+	 * @param event			The log event to process.
+	 * @param consumerIndex	The index of the consumer thread processing the event, or {@code -1} if it is processed
+	 *                      by another thread.
+	 */
+	private void process(final LogEvent event, final int consumerIndex) {
+		final long dispatchStartTime = System.nanoTime();
+		final long handOffLatency = dispatchStartTime - event.getPublicationTime();
+		totalHandOffLatency.add(handOffLatency);
+		maxHandOffLatency.accumulate(handOffLatency);
+		if (consumerIndex >= 0) {
+			dispatchStartTimes.set(consumerIndex, dispatchStartTime);
+		}
+		final boolean dispatched = dispatchToSink(event.getLogLevel(), event.getTopic(), event.getMessage(),
+			event.getContextualData(), event.getArguments());
+		if (consumerIndex >= 0) {
+			dispatchStartTimes.set(consumerIndex, 0L);
+		}
+		processedEvents.increment();
+		if (dispatchTimeoutInNs > 0L) {
+			updateHealth(dispatched && System.nanoTime() - dispatchStartTime <= dispatchTimeoutInNs);
+		}
+	}
+
+	/**
+	 * Hands over a log event to the sink.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @return {@code true} if the sink processed the event without failure, {@code false} otherwise.
+	 */
+	private boolean dispatchToSink(final LogLevel logLevel, final String topic, final String message,
+								   final Map<String, String> contextualData, final Object[] arguments) {
+		try {
+			sink.accept(logLevel, topic, message, contextualData, arguments);
+			return true;
+		} catch (final RuntimeException e) {
+			LoggingUtils.reportError(String.format("Asynchronous dispatcher %s failed to dispatch a log event.", name),
+				e);
+			return false;
+		}
+	}
+
+	/**
+	 * Waits for the termination of a consumer thread until the given deadline.
+	 *
+	 * @param consumerThread	The consumer thread.
+	 * @param deadline			The deadline, in nanoseconds (see {@link System#nanoTime()}).
+	 * @return {@code true} if the thread is terminated, {@code false} otherwise.
+	 */
+	private static boolean awaitTermination(final Thread consumerThread, final long deadline) {
+		try {
+			final long remainingTime = deadline - System.nanoTime();
+			if (remainingTime > 0L) {
+				TimeUnit.NANOSECONDS.timedJoin(consumerThread, remainingTime);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return !consumerThread.isAlive();
+	}
+
+	/**
+	 * Increments the number of consecutive unsuccessful attempts of a waiting thread, without overflow.
+	 *
+	 * @param idleCount The current number of unsuccessful attempts.
+	 * @return The incremented number of unsuccessful attempts.
+	 */
+	private static int incrementIdleCount(final int idleCount) {
+		if (idleCount < Integer.MAX_VALUE) {
+			return idleCount + 1;
+		}
+		return idleCount;
+	}
+}
@@ -0,0 +1,43 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import org.apiguardian.api.API;
+
+/**
+ * Health states of an asynchronous dispatcher.
+ *
+ * @see AsyncLoggingConfiguration#getDispatchTimeoutInMs()
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public enum DispatchHealth {
+	/**
+	 * The log events are dispatched within the configured timeout.
+	 */
+	HEALTHY,
+	/**
+	 * The dispatch of a log event exceeded the configured timeout or failed. While degraded, the log events published
+	 * when the ring buffer is full are dropped, whatever the overflow policy, so the publishing threads never wait for
+	 * the degraded logger.
+	 */
+	DEGRADED
+}
@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the log events dropped by {@link AsyncLogDispatcher}, by topic and level.
+ */
+final class DroppedEventsCounter {
+
+	private static final LogLevel[] LOG_LEVELS = LogLevel.values();
+
+	private final Map<String, LongAdder[]> countersByTopic = new ConcurrentHashMap<>();
+	private final LongAdder total = new LongAdder();
+
+	/**
+	 * Counts a dropped log event.
+	 *
+	 * @param topic		The logger name of the dropped event.
+	 * @param logLevel	The level of the dropped event.
+	 */
+	void increment(final String topic, final LogLevel logLevel) {
+		LongAdder[] counters = countersByTopic.get(topic);
+		if (counters == null) {
+			counters = countersByTopic.computeIfAbsent(topic, key -> newCounters());
+		}
+		counters[logLevel.ordinal()].increment();
+		total.increment();
+	}
+
+	/**
+	 * Gets the total number of dropped log events.
+	 *
+	 * @return The number of dropped log events.
+	 */
+	long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * Gets a snapshot of the numbers of dropped log events, by topic and level. Only the non-zero counters are
+	 * included.
+	 *
+	 * @return The numbers of dropped log events, by topic and level.
+	 */
+	Map<String, Map<LogLevel, Long>> snapshot() {
+		final Map<String, Map<LogLevel, Long>> snapshot = new HashMap<>();
+		countersByTopic.forEach((topic, counters) -> {
+			final Map<LogLevel, Long> countersByLevel = new EnumMap<>(LogLevel.class);
+			for (final LogLevel logLevel : LOG_LEVELS) {
+				final long count = counters[logLevel.ordinal()].sum();
+				if (count > 0L) {
+					countersByLevel.put(logLevel, count);
+				}
+			}
+			snapshot.put(topic, Collections.unmodifiableMap(countersByLevel));
+		});
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * Creates the counters of dropped log events for a new topic.
+	 *
+	 * @return An array of counters, indexed by the ordinal of the log levels.
+	 */
+	private static LongAdder[] newCounters() {
+		final LongAdder[] counters = new LongAdder[LOG_LEVELS.length];
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = new LongAdder();
+		}
+		return counters;
+	}
+}
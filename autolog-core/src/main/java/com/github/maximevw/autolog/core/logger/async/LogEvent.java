@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+
+import java.util.Map;
+
+/**
+ * Mutable log event stored in a slot of {@link LogEventRingBuffer}.
+ * <p>
+ *     The instances are preallocated by the ring buffer and reused for each published log event, so publishing a log
+ *     event does not allocate any object.
+ * </p>
+ */
+final class LogEvent {
+
+	private LogLevel logLevel;
+	private String topic;
+	private String message;
+	private Map<String, String> contextualData;
+	private Object[] arguments;
+	private long publicationTime;
+
+	/**
+	 * Fills the log event.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @param publicationTime	The publication time of the event, in nanoseconds (see {@link System#nanoTime()}).
+	 */
+	void set(final LogLevel logLevel, final String topic, final String message,
+			 final Map<String, String> contextualData, final Object[] arguments, final long publicationTime) {
+		this.logLevel = logLevel;
+		this.topic = topic;
+		this.message = message;
+		this.contextualData = contextualData;
+		this.arguments = arguments;
+		this.publicationTime = publicationTime;
+	}
+
+	/**
+	 * Fills the log event with the data of another one.
+	 *
+	 * @param other The log event to copy.
+	 */
+	void copyFrom(final LogEvent other) {
+		set(other.logLevel, other.topic, other.message, other.contextualData, other.arguments, other.publicationTime);
+	}
+
+	/**
+	 * Releases the references held by the log event, so they can be garbage collected while the slot is unused.
+	 */
+	void clear() {
+		set(null, null, null, null, null, 0L);
+	}
+
+	LogLevel getLogLevel() {
+		return logLevel;
+	}
+
+	String getTopic() {
+		return topic;
+	}
+
+	String getMessage() {
+		return message;
+	}
+
+	Map<String, String> getContextualData() {
+		return contextualData;
+	}
+
+	Object[] getArguments() {
+		return arguments;
+	}
+
+	long getPublicationTime() {
+		return publicationTime;
+	}
+}
@@ -0,0 +1,183 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer of preallocated {@link LogEvent} slots, supporting several producers and several
+ * consumers.
+ * <p>
+ *     Each slot has a sequence number telling whether it is free for the producer expecting the given position or
+ *     filled for the consumer expecting it (see the bounded MPMC queue algorithm of Dmitry Vyukov). Producers and
+ *     consumers claim their position with a single compare-and-set operation and never block each other.
+ * </p>
+ */
+final class LogEventRingBuffer {
+
+	/**
+	 * The maximal capacity of a ring buffer.
+	 */
+	static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE);
+
+	private final int mask;
+	private final LogEvent[] events;
+	private final AtomicLongArray sequences;
+	private final AtomicLong producerPosition = new AtomicLong();
+	private final AtomicLong consumerPosition = new AtomicLong();
+
+	/**
+	 * Creates a new ring buffer.
+	 *
+	 * @param requestedCapacity The requested capacity, rounded up to the next power of two.
+	 * @throws IllegalArgumentException if the requested capacity is not strictly positive or greater than
+	 * 									{@link #MAX_CAPACITY}.
+	 */
+	LogEventRingBuffer(final int requestedCapacity) {
+		if (requestedCapacity <= 0 || requestedCapacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException(String.format(
+				"The capacity of the ring buffer must be between 1 and %d.", MAX_CAPACITY));
+		}
+		final int capacity = roundUpToPowerOfTwo(requestedCapacity);
+		this.mask = capacity - 1;
+		this.events = new LogEvent[capacity];
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			this.events[i] = new LogEvent();
+			this.sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Tries to publish a log event in the ring buffer.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 * @param publicationTime	The publication time of the event, in nanoseconds (see {@link System#nanoTime()}).
+	 * @return {@code true} if the event has been published, {@code false} if the ring buffer is full.
+	 */
+	boolean tryPublish(final LogLevel logLevel, final String topic, final String message,
+					   final Map<String, String> contextualData, final Object[] arguments,
+					   final long publicationTime) {
+		long position = producerPosition.get();
+		while (true) {
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - position;
+			if (difference == 0L) {
+				if (producerPosition.compareAndSet(position, position + 1)) {
+					events[index].set(logLevel, topic, message, contextualData, arguments, publicationTime);
+					// Make the slot available for the consumers.
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = producerPosition.get();
+			} else if (difference < 0L) {
+				// The slot still contains an event not consumed yet: the buffer is full.
+				return false;
+			} else {
+				// Another producer already claimed this position.
+				position = producerPosition.get();
+			}
+		}
+	}
+
+	/**
+	 * Consumes up to {@code maxEvents} log events from the ring buffer.
+	 * <p>
+	 *     Each event is copied into the given holder and its slot is released before the invocation of the handler, so
+	 *     a slow handler does not prevent the producers from reusing the slot. The holder is cleared once the event is
+	 *     handled.
+	 * </p>
+	 *
+	 * @param handler	The handler processing the consumed events.
+	 * @param maxEvents	The maximal number of events to consume.
+	 * @param holder	The log event receiving a copy of each consumed event.
+	 * @return The number of consumed events.
+	 */
+	int drain(final Consumer<LogEvent> handler, final int maxEvents, final LogEvent holder) {
+		int drained = 0;
+		while (drained < maxEvents) {
+			final long position = consumerPosition.get();
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - (position + 1);
+			if (difference == 0L) {
+				if (consumerPosition.compareAndSet(position, position + 1)) {
+					final LogEvent event = events[index];
+					holder.copyFrom(event);
+					event.clear();
+					// Make the slot available for the producers of the next lap.
+					sequences.set(index, position + mask + 1);
+					try {
+						handler.accept(holder);
+					} finally {
+						holder.clear();
+					}
+					drained++;
+				}
+			} else if (difference < 0L) {
+				// The slot has not been filled yet: the buffer is empty.
+				break;
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * Gets the capacity of the ring buffer.
+	 *
+	 * @return The capacity of the ring buffer.
+	 */
+	int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Gets the approximate number of log events waiting in the ring buffer.
+	 *
+	 * @return The approximate number of pending events.
+	 */
+	int size() {
+		final long size = producerPosition.get() - consumerPosition.get();
+		return (int) Math.max(0L, Math.min(size, getCapacity()));
+	}
+
+	/**
+	 * Rounds the given value up to the next power of two.
+	 *
+	 * @param value The value to round.
+	 * @return The smallest power of two greater than or equal to the given value.
+	 */
+	private static int roundUpToPowerOfTwo(final int value) {
+		final int highestOneBit = Integer.highestOneBit(value);
+		if (highestOneBit == value) {
+			return value;
+		}
+		return highestOneBit << 1;
+	}
+}
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+
+/**
+ * Final destination of the log events dispatched asynchronously by {@link AsyncLogDispatcher}.
+ */
+@API(status = API.Status.INTERNAL, since = "1.3.0", consumers = "com.github.maximevw.autolog.core.*")
+@FunctionalInterface
+public interface LogEventSink {
+
+	/**
+	 * Processes a log event.
+	 *
+	 * @param logLevel			The level to use for logging.
+	 * @param topic				The logger name.
+	 * @param message			The message to log.
+	 * @param contextualData	The structured data stored into the log context (can be {@code null}).
+	 * @param arguments			The arguments to include in the log message.
+	 */
+	void accept(LogLevel logLevel, String topic, String message, Map<String, String> contextualData,
+				Object[] arguments);
+}
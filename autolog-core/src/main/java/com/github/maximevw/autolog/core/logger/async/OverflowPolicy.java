@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import org.apiguardian.api.API;
+
+/**
+ * Policies applied when a log event is published while the ring buffer of the asynchronous dispatch mode is full.
+ * <p>
+ *     The dropped log events are counted by topic and level in the statistics of the asynchronous dispatch.
+ * </p>
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public enum OverflowPolicy {
+	/**
+	 * The publishing thread waits for a free slot in the ring buffer, according to the configured
+	 * {@link WaitStrategy}, within the limit of {@link AsyncLoggingConfiguration#getMaxBlockingTimeInMs()} if defined.
+	 * No log event is dropped unless this time limit is reached.
+	 */
+	BLOCK,
+	/**
+	 * The published log event is dropped.
+	 */
+	DROP_NEWEST,
+	/**
+	 * The oldest log event waiting in the ring buffer is dropped to make room for the published one.
+	 */
+	DROP_OLDEST,
+	/**
+	 * The published log event is dropped if its level is lower than or equal to
+	 * {@link AsyncLoggingConfiguration#getMaxDroppableLevel()}. Otherwise, the publishing thread waits for a free slot
+	 * as with the policy {@link #BLOCK}.
+	 */
+	DROP_BY_LEVEL
+}
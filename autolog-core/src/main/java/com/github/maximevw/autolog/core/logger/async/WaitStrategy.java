@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategies used by the threads waiting for the ring buffer of the asynchronous dispatch mode: the consumer threads
+ * when the buffer is empty and the application threads when the buffer is full.
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public enum WaitStrategy {
+	/**
+	 * The waiting thread spins on the CPU. This gives the lowest hand-off latency but burns a full CPU core per
+	 * consumer thread, even when nothing is logged.
+	 */
+	BUSY_SPIN {
+		@Override
+		void idle(final int idleCount) {
+			Thread.onSpinWait();
+		}
+	},
+	/**
+	 * The waiting thread spins for a short time then yields the CPU to the other threads.
+	 */
+	YIELD {
+		@Override
+		void idle(final int idleCount) {
+			if (idleCount < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+	},
+	/**
+	 * The waiting thread spins for a short time, then yields the CPU and finally parks for short periods. This is the
+	 * most CPU-friendly strategy, at the price of a higher hand-off latency after idle periods.
+	 */
+	PARK {
+		@Override
+		void idle(final int idleCount) {
+			if (idleCount < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(PARK_TIME_IN_NS);
+			}
+		}
+	};
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 100;
+	private static final long PARK_TIME_IN_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	/**
+	 * Waits for a short time, according to the strategy.
+	 *
+	 * @param idleCount The number of consecutive unsuccessful attempts of the waiting thread.
+	 */
+	abstract void idle(int idleCount);
+}
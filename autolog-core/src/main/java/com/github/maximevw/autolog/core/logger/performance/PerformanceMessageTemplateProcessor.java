@@ -101,11 +101,15 @@ public final class PerformanceMessageTemplateProcessor {
 		context.put("invokedMethod", performanceLogEntry.getInvokedMethod());
 		context.put("httpMethod", performanceLogEntry.getHttpMethod());
 		context.put("executionTime", performanceLogEntry.getExecutionTime());
+		context.put("executionTimeInMs", performanceLogEntry.getExecutionTimeInMs());
+		context.put("executionTimeInUs", performanceLogEntry.getExecutionTimeInUs());
+		context.put("executionTimeInNs", performanceLogEntry.getExecutionTimeInNs());
 		context.put("processedItems", performanceLogEntry.getProcessedItems());
 		context.put("averageExecutionTimeByItem", performanceLogEntry.getAverageExecutionTimeByItem());
 		context.put("startTime", performanceLogEntry.getStartTime());
 		context.put("endTime", performanceLogEntry.getEndTime());
 		context.put("comments", performanceLogEntry.getComments());
+		context.put("samplingWeight", performanceLogEntry.getSamplingWeight());
 
 		final StringWriter writer = new StringWriter();
 		velocityTemplate.merge(context, writer);
@@ -49,9 +49,27 @@ public class PerformanceTimer {
 
 	/**
 	 * The timer measuring the execution time.
+	 * @deprecated The execution time is now measured from the value of {@link System#nanoTime()} when the timer is
+	 * 			   started ({@link #getStartNanoTime()}), so this timer is not set anymore. If it is set, it is only
+	 * 			   stopped with the performance timer.
 	 */
+	@Deprecated(since = "1.3.0")
+	@API(status = API.Status.DEPRECATED, since = "1.3.0")
 	private StopWatch timer;
 
+	/**
+	 * The value of {@link System#nanoTime()} when the timer has been started.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long startNanoTime;
+
+	/**
+	 * The value of {@link System#nanoTime()} when the timer has been stopped (or {@code 0} while it is running).
+	 */
+	@Setter(AccessLevel.NONE)
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private long stopNanoTime;
+
 	/**
 	 * The loggable data relative to the measured performance.
 	 */
@@ -84,7 +102,10 @@ public class PerformanceTimer {
 	 * Stops the performance timer.
 	 */
 	public void stop() {
-		timer.stop();
+		stopNanoTime = System.nanoTime();
+		if (timer != null && timer.isStarted()) {
+			timer.stop();
+		}
 		running = false;
 
 		// Set the running parent timer as the current one.
@@ -98,6 +119,24 @@ public class PerformanceTimer {
 		}
 	}
 
+	/**
+	 * Gets the time elapsed since the timer has been started until it has been stopped (or until now if it is running
+	 * yet).
+	 * <p>
+	 *     The elapsed time is measured with the monotonic clock {@link System#nanoTime()}, so it is not affected by the
+	 *     adjustments of the system clock.
+	 * </p>
+	 *
+	 * @return The elapsed time in nanoseconds.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public long getElapsedTimeInNs() {
+		if (running) {
+			return System.nanoTime() - startNanoTime;
+		}
+		return stopNanoTime - startNanoTime;
+	}
+
 	/**
 	 * Sets this timer's parent.
 	 * <p>
@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 - 2020 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.sampling;
+
+import com.github.maximevw.autolog.core.configuration.SamplingConfiguration;
+import com.github.maximevw.autolog.core.configuration.SamplingMode;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import com.github.maximevw.autolog.core.logger.LoggingUtils;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Sampler deciding, for each invocation of a method automatically logged, whether the invocation must be logged.
+ * <p>
+ *     A sampler holds the state of the sampling (counters, rates...) of a single method: an instance must be created
+ *     for each sampled method with {@link #of(SamplingConfiguration)} and reused for all its invocations. The samplers
+ *     are thread-safe and lock-free.
+ * </p>
+ *
+ * @see SamplingMode
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+public abstract class InvocationSampler {
+
+	/**
+	 * The sampling weight returned by {@link #sample()} when the invocation must not be logged.
+	 */
+	public static final double NOT_SAMPLED = 0;
+
+	/**
+	 * The sampler logging all the invocations, with a sampling weight of 1.
+	 */
+	public static final InvocationSampler ALWAYS = new InvocationSampler() {
+		@Override
+		public double sample() {
+			return 1;
+		}
+	};
+
+	/**
+	 * Decides whether the current invocation must be logged.
+	 *
+	 * @return The sampling weight of the invocation, i.e. the number of invocations represented by the current one if
+	 * 		   it must be logged, or {@link #NOT_SAMPLED} if it must not be logged.
+	 */
+	public abstract double sample();
+
+	/**
+	 * Builds a new sampler for the given sampling configuration.
+	 * <p>
+	 *     If the configuration is invalid (for example, a probability out of the range ]0, 1]), an error is reported
+	 *     and all the invocations are logged.
+	 * </p>
+	 *
+	 * @param configuration The sampling configuration (can be {@code null}: in this case, all the invocations are
+	 *                      logged).
+	 * @return The sampler.
+	 */
+	public static InvocationSampler of(final SamplingConfiguration configuration) {
+		if (configuration == null || configuration.getMode() == null) {
+			return ALWAYS;
+		}
+		switch (configuration.getMode()) {
+			case FIXED_RATE:
+				if (configuration.getOneIn() < 1) {
+					return invalid("oneIn", configuration.getOneIn());
+				}
+				if (configuration.getOneIn() == 1) {
+					return ALWAYS;
+				}
+				return new FixedRateSampler(configuration.getOneIn());
+			case PROBABILISTIC:
+				if (!(configuration.getProbability() > 0 && configuration.getProbability() <= 1)) {
+					return invalid("probability", configuration.getProbability());
+				}
+				return new ProbabilisticSampler(configuration.getProbability());
+			case ADAPTIVE:
+				if (configuration.getMaxEventsPerSecond() < 1) {
+					return invalid("maxEventsPerSecond", configuration.getMaxEventsPerSecond());
+				}
+				return new AdaptiveSampler(configuration.getMaxEventsPerSecond(), System::nanoTime);
+			default:
+				return ALWAYS;
+		}
+	}
+
+	/**
+	 * Reports an invalid sampling configuration.
+	 *
+	 * @param parameter	The name of the invalid parameter.
+	 * @param value		The invalid value.
+	 * @return The sampler logging all the invocations.
+	 */
+	private static InvocationSampler invalid(final String parameter, final Object value) {
+		LoggingUtils.report(String.format("Invalid value of the sampling parameter %s: %s. All the invocations will be "
+			+ "logged.", parameter, value), LogLevel.WARN);
+		return ALWAYS;
+	}
+
+	/**
+	 * Sampler logging one invocation out of N.
+	 */
+	static final class FixedRateSampler extends InvocationSampler {
+
+		private final long oneIn;
+		private final AtomicLong invocations = new AtomicLong();
+
+		FixedRateSampler(final long oneIn) {
+			this.oneIn = oneIn;
+		}
+
+		@Override
+		public double sample() {
+			if (invocations.getAndIncrement() % oneIn == 0) {
+				return oneIn;
+			}
+			return NOT_SAMPLED;
+		}
+	}
+
+	/**
+	 * Sampler logging each invocation with a fixed probability.
+	 */
+	static final class ProbabilisticSampler extends InvocationSampler {
+
+		private final double probability;
+		private final double weight;
+
+		ProbabilisticSampler(final double probability) {
+			this.probability = probability;
+			this.weight = 1 / probability;
+		}
+
+		@Override
+		public double sample() {
+			if (ThreadLocalRandom.current().nextDouble() < probability) {
+				return weight;
+			}
+			return NOT_SAMPLED;
+		}
+	}
+
+	/**
+	 * Sampler adjusting, every second, the probability to log an invocation to target a maximal number of logged
+	 * invocations per second.
+	 * <p>
+	 *     During a window of one second, the invocations are logged with the probability computed from the number of
+	 *     invocations of the previous window (all the invocations are logged during the first window). To absorb the
+	 *     bursts, no more than the maximal number of invocations are logged during a window.
+	 * </p>
+	 * <p>
+	 *     The weights of the invocations sampled but dropped because of this cap are carried over and added to the
+	 *     weight of the next logged invocation, so the sum of the weights of the logged invocations still matches the
+	 *     number of invocations (only the weights dropped after the last logged invocation are not reported yet).
+	 * </p>
+	 */
+	static final class AdaptiveSampler extends InvocationSampler {
+
+		private static final long WINDOW_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+		private static final long NO_CARRIED_WEIGHT = Double.doubleToRawLongBits(0);
+
+		private final int maxEventsPerSecond;
+		private final LongSupplier clock;
+		private final AtomicLong windowStart;
+		private final AtomicLong windowInvocations = new AtomicLong();
+		private final AtomicLong windowSampledInvocations = new AtomicLong();
+		/**
+		 * The sum of the weights of the invocations dropped by the cap and not reported yet (bits of a double).
+		 */
+		private final AtomicLong carriedWeight = new AtomicLong(NO_CARRIED_WEIGHT);
+		private volatile double probability = 1;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param maxEventsPerSecond	The maximal number of invocations logged per second.
+		 * @param clock					The source of the current time in nanoseconds (see {@link System#nanoTime()}).
+		 */
+		AdaptiveSampler(final int maxEventsPerSecond, final LongSupplier clock) {
+			this.maxEventsPerSecond = maxEventsPerSecond;
+			this.clock = clock;
+			this.windowStart = new AtomicLong(clock.getAsLong());
+		}
+
+		@Override
+		public double sample() {
+			final long now = clock.getAsLong();
+			final long currentWindowStart = windowStart.get();
+			if (now - currentWindowStart >= WINDOW_IN_NANOS && windowStart.compareAndSet(currentWindowStart, now)) {
+				// Compute the probability to apply during the new window from the number of invocations of the
+				// previous one.
+				final long previousInvocations = Math.max(1, windowInvocations.getAndSet(0));
+				windowSampledInvocations.set(0);
+				probability = Math.min(1, (double) maxEventsPerSecond / previousInvocations);
+			}
+			windowInvocations.incrementAndGet();
+
+			final double currentProbability = probability;
+			if (ThreadLocalRandom.current().nextDouble() >= currentProbability) {
+				return NOT_SAMPLED;
+			}
+			if (windowSampledInvocations.incrementAndGet() > maxEventsPerSecond) {
+				carryWeight(1 / currentProbability);
+				return NOT_SAMPLED;
+			}
+			return 1 / currentProbability + takeCarriedWeight();
+		}
+
+		/**
+		 * Adds the weight of an invocation dropped by the cap to the carried weight.
+		 *
+		 * @param weight The weight of the dropped invocation.
+		 */
+		private void carryWeight(final double weight) {
+			long current;
+			long updated;
+			do {
+				current = carriedWeight.get();
+				updated = Double.doubleToRawLongBits(Double.longBitsToDouble(current) + weight);
+			} while (!carriedWeight.compareAndSet(current, updated));
+		}
+
+		/**
+		 * Gets and resets the carried weight of the invocations dropped by the cap.
+		 *
+		 * @return The carried weight (0 if no invocation was dropped since the last logged one).
+		 */
+		private double takeCarriedWeight() {
+			if (carriedWeight.get() == NO_CARRIED_WEIGHT) {
+				return 0;
+			}
+			return Double.longBitsToDouble(carriedWeight.getAndSet(NO_CARRIED_WEIGHT));
+		}
+	}
+}
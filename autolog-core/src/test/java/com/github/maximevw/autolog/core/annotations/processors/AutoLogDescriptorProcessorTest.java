@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.annotations.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * Unit tests for annotation processor {@link AutoLogDescriptorProcessor}.
+ */
+class AutoLogDescriptorProcessorTest {
+
+	/**
+	 * Verifies that a descriptor class containing the parameters names of the methods is generated for each type
+	 * using Autolog annotations.
+	 */
+	@Test
+	void givenJavaSourceWithAutologAnnotations_whenCompile_generatesDescriptors() {
+		final Compilation compilation =
+			javac()
+				.withProcessors(new AutoLogDescriptorProcessor())
+				.compile(JavaFileObjects.forResource("DescriptorAnnotatedTestClass.java"));
+		assertThat(compilation).succeededWithoutWarnings();
+
+		assertThat(compilation)
+			.generatedSourceFile("DescriptorAnnotatedTestClass$AutologDescriptor")
+			.contentsAsUtf8String()
+			.contains("java.util.Map.entry(\"annotatedMethod(java.lang.String,int[],java.util.List)\", "
+				+ "new String[] {\"firstArg\", \"secondArg\", \"thirdArg\"})");
+		assertThat(compilation)
+			.generatedSourceFile("DescriptorAnnotatedTestClass$AutologDescriptor")
+			.contentsAsUtf8String()
+			.doesNotContain("methodWithoutParameter");
+		assertThat(compilation)
+			.generatedSourceFile("DescriptorAnnotatedTestClass$NestedClass$AutologDescriptor")
+			.contentsAsUtf8String()
+			.contains("java.util.Map.entry(\"nestedMethod(DescriptorAnnotatedTestClass.NestedClass)\", "
+				+ "new String[] {\"nestedArg\"})");
+	}
+
+	/**
+	 * Verifies that the signatures of the methods in the generated descriptor do not include the type annotations of
+	 * the parameters (so they match the signatures computed at runtime), including for arrays and varargs.
+	 */
+	@Test
+	void givenJavaSourceWithTypeUseAnnotatedParameters_whenCompile_generatesSignaturesWithoutAnnotations() {
+		final Compilation compilation =
+			javac()
+				.withProcessors(new AutoLogDescriptorProcessor())
+				.compile(JavaFileObjects.forResource("DescriptorTypeUseAnnotatedTestClass.java"));
+		assertThat(compilation).succeededWithoutWarnings();
+
+		assertThat(compilation)
+			.generatedSourceFile("DescriptorTypeUseAnnotatedTestClass$AutologDescriptor")
+			.contentsAsUtf8String()
+			.contains("java.util.Map.entry(\"typeUseAnnotatedMethod(java.lang.String,java.util.List,int[],"
+				+ "java.lang.String[])\", new String[] {\"firstArg\", \"secondArg\", \"thirdArg\", \"otherArgs\"})");
+	}
+
+}
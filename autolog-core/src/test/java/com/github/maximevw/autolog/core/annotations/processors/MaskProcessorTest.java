@@ -48,7 +48,7 @@ public class MaskProcessorTest {
 				.compile(compilationTestClassFile);
 		//		assertThat(compilation).failed();
 		assertThat(compilation).hadErrorCount(1);
-		assertThat(compilation).hadWarningCount(2);
+		assertThat(compilation).hadWarningCount(4);
 
 		// Assert that the annotation on an argument with an invalid type (i.e. not String or numeric type) generates a
 		// warning.
@@ -58,6 +58,22 @@ public class MaskProcessorTest {
 			.inFile(compilationTestClassFile)
 			.onLineContaining("maskOnInvalidType");
 
+		// Assert that the annotation on a field with an invalid type (i.e. not String or numeric type) generates a
+		// warning.
+		assertThat(compilation)
+			.hadWarningContaining("@Mask is applied to a field maskedFieldWithInvalidType which is neither a String "
+				+ "nor a numeric value. It will be ignored.")
+			.inFile(compilationTestClassFile)
+			.onLineContaining("maskedFieldWithInvalidType");
+
+		// Assert that the annotation on a method with an invalid output type (i.e. not String or numeric type)
+		// generates a warning.
+		assertThat(compilation)
+			.hadWarningContaining("@Mask is applied to a method output maskedOutputWithInvalidType which is neither a "
+				+ "String nor a numeric value. It will be ignored.")
+			.inFile(compilationTestClassFile)
+			.onLineContaining("maskedOutputWithInvalidType");
+
 		// Assert that the annotation with a fixed length greater than 0 and preserved characters expression which is
 		// not a "full mask" expression generates a warning.
 		assertThat(compilation)
@@ -0,0 +1,211 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * Unit tests for the class {@link DataRenderer}.
+ */
+class DataRendererTest {
+
+	private static final int LARGE_LIST_SIZE = 500_000;
+
+	private final DataRenderer sut = DataRenderer.getInstance();
+
+	/**
+	 * Restores the default limits (unlimited) after each test case.
+	 */
+	@AfterEach
+	void restoreDefaultLimits() {
+		sut.setLimits(RenderingLimits.builder().build());
+	}
+
+	/**
+	 * Verifies that the items of a large collection exceeding the maximal number of items are elided when it is
+	 * rendered without pretty format.
+	 */
+	@Test
+	void givenLargeCollection_whenFormatData_elidesItemsExceedingLimit() {
+		sut.setLimits(RenderingLimits.builder().maxCollectionItems(3).build());
+
+		assertThat(LoggingUtils.formatData(buildLargeList(), null, true),
+			is("500000 item(s): [0, 1, 2, ... (499997 more)]"));
+	}
+
+	/**
+	 * Verifies that the items of a large collection exceeding the maximal number of items are elided when it is
+	 * serialized in JSON.
+	 */
+	@Test
+	void givenLargeCollection_whenFormatDataInJson_elidesItemsExceedingLimit() {
+		sut.setLimits(RenderingLimits.builder().maxCollectionItems(3).build());
+
+		assertThat(LoggingUtils.formatData(buildLargeList(), PrettyDataFormat.JSON, true),
+			is("500000 item(s): [0,1,2,\"... (499997 more)\"]"));
+	}
+
+	/**
+	 * Verifies that the properties of an object exceeding the maximal number of items are elided when it is
+	 * serialized in JSON.
+	 */
+	@Test
+	void givenMap_whenFormatDataInJson_elidesPropertiesExceedingLimit() {
+		sut.setLimits(RenderingLimits.builder().maxCollectionItems(2).build());
+		final Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		map.put("c", 3);
+		map.put("d", 4);
+
+		assertThat(LoggingUtils.formatData(map, PrettyDataFormat.JSON, true),
+			is("4 key-value pair(s): {\"a\":1,\"b\":2,\"...\":\"(2 more)\"}"));
+		assertThat(LoggingUtils.formatData(map, null, true),
+			is("4 key-value pair(s): {a=1, b=2, ... (2 more)}"));
+	}
+
+	/**
+	 * Verifies that the nested collections deeper than the maximal depth are elided.
+	 */
+	@Test
+	void givenNestedCollections_whenFormatData_elidesCollectionsDeeperThanLimit() {
+		sut.setLimits(RenderingLimits.builder().maxDepth(2).build());
+		final List<Object> nestedLists = List.of(1, List.of(2, List.of(3, List.of(4))));
+
+		assertThat(LoggingUtils.formatData(nestedLists, null, true), is("2 item(s): [1, [2, [...]]]"));
+		assertThat(LoggingUtils.formatData(nestedLists, PrettyDataFormat.JSON, true),
+			is("2 item(s): [1,[2,\"[...]\"]]"));
+	}
+
+	/**
+	 * Verifies that the rendering of data exceeding the maximal number of characters is stopped and the rendered value
+	 * is truncated, whatever the format.
+	 */
+	@Test
+	void givenDataExceedingMaxCharacters_whenFormatData_truncatesRenderedValue() {
+		sut.setLimits(RenderingLimits.builder().maxCharacters(20).maxCollectionItems(0).build());
+
+		assertThat(LoggingUtils.formatData(StringUtils.repeat('a', 100), null, false),
+			is(StringUtils.repeat('a', 20) + DataRenderer.TRUNCATION_MARKER));
+		assertThat(LoggingUtils.formatData(buildLargeList(), null, true),
+			is("500000 item(s): [0, 1, 2, 3, 4, 5, 6... (truncated)"));
+		for (final PrettyDataFormat format : PrettyDataFormat.values()) {
+			final String formattedData = LoggingUtils.formatData(buildLargeList(), format, true);
+			assertThat(formattedData, endsWith(DataRenderer.TRUNCATION_MARKER));
+			assertThat(formattedData.length(),
+				lessThanOrEqualTo("500000 item(s): ".length() + 20 + DataRenderer.TRUNCATION_MARKER.length()));
+		}
+	}
+
+	/**
+	 * Verifies that the data are fully rendered, as before the introduction of the limits, when the limits are
+	 * disabled.
+	 */
+	@Test
+	void givenUnlimitedRendering_whenFormatData_rendersFullData() {
+		sut.setLimits(RenderingLimits.unlimited());
+		final List<Integer> largeList = buildLargeList();
+
+		assertThat(LoggingUtils.formatData(largeList, null, true), is("500000 item(s): " + largeList));
+		assertThat(LoggingUtils.formatData(largeList, PrettyDataFormat.JSON, true),
+			startsWith("500000 item(s): [0,1,2,"));
+		assertThat(LoggingUtils.formatData(largeList, PrettyDataFormat.JSON, true),
+			endsWith(",499998,499999]"));
+	}
+
+	/**
+	 * Verifies that the default limits disable all the checks, so the rendered data are not truncated unless limits
+	 * are configured.
+	 */
+	@Test
+	void givenDefaultLimits_whenGetLimits_returnsUnlimited() {
+		assertThat(RenderingLimits.builder().build(), is(RenderingLimits.unlimited()));
+		assertThat(new RenderingLimits(), is(RenderingLimits.unlimited()));
+		assertThat(sut.getLimits(), is(RenderingLimits.unlimited()));
+	}
+
+	/**
+	 * Verifies that modifying the limits passed to {@link DataRenderer#setLimits(RenderingLimits)} or returned by
+	 * {@link DataRenderer#getLimits()} has no effect on the rendering.
+	 */
+	@Test
+	void givenModifiedLimits_whenFormatData_ignoresModifications() {
+		final RenderingLimits limits = RenderingLimits.builder().maxCollectionItems(3).build();
+		sut.setLimits(limits);
+		limits.setMaxCollectionItems(1);
+		sut.getLimits().setMaxCollectionItems(2);
+
+		assertThat(sut.getLimits().getMaxCollectionItems(), is(3));
+		assertThat(LoggingUtils.formatData(buildLargeList(), null, true),
+			is("500000 item(s): [0, 1, 2, ... (499997 more)]"));
+	}
+
+	/**
+	 * Verifies that the collections and maps whose class overrides the method {@code toString()} are rendered with it,
+	 * with or without limits, while the standard collections are rendered as before the introduction of the limits.
+	 */
+	@Test
+	void givenCollectionOverridingToString_whenFormatData_usesToString() {
+		final List<String> customList = new ArrayList<>(List.of("q")) {
+			@Override
+			public String toString() {
+				return "custom";
+			}
+		};
+		final Map<String, String> customMap = new HashMap<>(Map.of("k", "v")) {
+			@Override
+			public String toString() {
+				return "custom map";
+			}
+		};
+
+		assertThat(LoggingUtils.formatData(customList, null, true), is("1 item(s): custom"));
+		assertThat(LoggingUtils.formatData(customMap, null, true), is("1 key-value pair(s): custom map"));
+		assertThat(LoggingUtils.formatData(new ArrayList<>(List.of("q")), null, true), is("1 item(s): [q]"));
+
+		sut.setLimits(RenderingLimits.builder().maxCollectionItems(3).maxDepth(2).build());
+		assertThat(LoggingUtils.formatData(customList, null, true), is("1 item(s): custom"));
+		assertThat(LoggingUtils.formatData(customMap, null, true), is("1 key-value pair(s): custom map"));
+		assertThat(LoggingUtils.formatData(List.of(customList, "r"), null, true), is("2 item(s): [custom, r]"));
+	}
+
+	private static List<Integer> buildLargeList() {
+		return IntStream.range(0, LARGE_LIST_SIZE).boxed().collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,218 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.test.LogTestingClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the garbage-free mode of {@link LoggerManager} (see {@link LoggerManager#setGarbageFree(boolean)}).
+ */
+class GarbageFreeModeTest {
+
+	/**
+	 * Verifies that the log events generated in garbage-free mode are the same as the ones generated in default mode.
+	 *
+	 * @param withDataLoggedInContext Whether the method input and output data must be stored in the log context.
+	 * @throws NoSuchMethodException if the tested methods are not defined in {@link LogTestingClass}.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = {"true", "false"})
+	void givenGarbageFreeMode_whenLogMethodInputAndOutput_generatesSameLogsAsDefaultMode(
+		final boolean withDataLoggedInContext) throws NoSuchMethodException {
+		final FormattingLogger defaultLogger = new FormattingLogger();
+		final FormattingLogger garbageFreeLogger = new FormattingLogger();
+		logMethodCalls(new MethodCallLogger(new LoggerManager().register(defaultLogger)), withDataLoggedInContext);
+		logMethodCalls(new MethodCallLogger(new LoggerManager().register(garbageFreeLogger).setGarbageFree(true)),
+			withDataLoggedInContext);
+
+		assertThat(garbageFreeLogger.messages, hasSize(4));
+		assertThat(garbageFreeLogger.messages, is(defaultLogger.messages));
+		assertThat(garbageFreeLogger.contextualData, is(defaultLogger.contextualData));
+		assertThat(garbageFreeLogger.messages.get(0),
+			is("Entering method LogTestingClass.methodInputData(argInt=10, argStr=test, argBool=true)"));
+	}
+
+	/**
+	 * Verifies that a log event generated while formatting another one in garbage-free mode (for example, from the
+	 * method {@code toString()} of a logged value) does not corrupt the log event being formatted.
+	 *
+	 * @throws NoSuchMethodException if the tested methods are not defined in {@link LogTestingClass}.
+	 */
+	@Test
+	void givenGarbageFreeMode_whenLoggedValueLogsWhileFormatted_generatesBothLogs() throws NoSuchMethodException {
+		final FormattingLogger logger = new FormattingLogger();
+		final MethodCallLogger sut = new MethodCallLogger(new LoggerManager().register(logger).setGarbageFree(true));
+		final MethodInputLoggingConfiguration inputConfiguration = MethodInputLoggingConfiguration.builder().build();
+		final Object outputValue = new Object() {
+			@Override
+			public String toString() {
+				try {
+					sut.logMethodInput(inputConfiguration, LogTestingClass.class.getMethod("methodInputData", int.class,
+						String.class, boolean.class), new Object[] {1, "nested", false});
+				} catch (final NoSuchMethodException e) {
+					throw new IllegalStateException(e);
+				}
+				return "outer";
+			}
+		};
+
+		sut.logMethodOutput(MethodOutputLoggingConfiguration.builder().build(),
+			LogTestingClass.class.getMethod("methodOutputData"), outputValue);
+
+		// The output value may be formatted several times (for example, when it cannot be serialized in JSON).
+		assertThat(logger.messages,
+			hasItem("Entering method LogTestingClass.methodInputData(argInt=1, argStr=nested, argBool=false)"));
+		assertThat(logger.messages.get(logger.messages.size() - 1),
+			is("Exiting method LogTestingClass.methodOutputData returning outer"));
+	}
+
+	/**
+	 * Verifies that the garbage-free mode is only active while the log events are dispatched synchronously.
+	 */
+	@Test
+	void givenAsyncDispatch_whenGarbageFreeModeEnabled_isNotActive() {
+		final LoggerManager sut = new LoggerManager().register(new FormattingLogger()).setGarbageFree(true);
+		assertTrue(sut.isGarbageFreeActive());
+
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().build());
+		try {
+			assertTrue(sut.isGarbageFree());
+			assertFalse(sut.isGarbageFreeActive());
+		} finally {
+			sut.stopAsyncDispatch();
+		}
+		assertTrue(sut.isGarbageFreeActive());
+	}
+
+	/**
+	 * Verifies that the buffers of the current thread are reused once released, and that new buffers are provided
+	 * while they are in use.
+	 */
+	@Test
+	void givenThreadBuffers_whenAcquire_reusesThemOnlyOnceReleased() {
+		final LogEventBuffers buffers = LogEventBuffers.acquire(true);
+		final LogEventBuffers nestedBuffers = LogEventBuffers.acquire(true);
+		assertThat(nestedBuffers, not(sameInstance(buffers)));
+		final StringBuilder builder = buffers.getDataBuilder().append("data");
+		assertThat(buffers.asArgument(builder), sameInstance(builder));
+		assertThat(nestedBuffers.asArgument(builder), is("data"));
+		nestedBuffers.release();
+		buffers.release();
+
+		final LogEventBuffers reusedBuffers = LogEventBuffers.acquire(true);
+		try {
+			assertThat(reusedBuffers, sameInstance(buffers));
+			assertThat(reusedBuffers.getDataBuilder().length(), is(0));
+			assertThat(reusedBuffers.getContextualData().isEmpty(), is(true));
+		} finally {
+			reusedBuffers.release();
+		}
+	}
+
+	private static void logMethodCalls(final MethodCallLogger methodCallLogger, final boolean withDataLoggedInContext)
+		throws NoSuchMethodException {
+		final MethodInputLoggingConfiguration inputConfiguration = MethodInputLoggingConfiguration.builder()
+			.dataLoggedInContext(withDataLoggedInContext)
+			.build();
+		final MethodOutputLoggingConfiguration outputConfiguration = MethodOutputLoggingConfiguration.builder()
+			.dataLoggedInContext(withDataLoggedInContext)
+			.build();
+		methodCallLogger.logMethodInput(inputConfiguration,
+			LogTestingClass.class.getMethod("methodInputData", int.class, String.class, boolean.class),
+			new Object[] {10, "test", true});
+		methodCallLogger.logMethodInput(inputConfiguration,
+			LogTestingClass.class.getMethod("methodInputCollectionAndMap", Collection.class, Map.class),
+			new Object[] {Set.of("a", "b"), null});
+		methodCallLogger.logMethodOutput(outputConfiguration, LogTestingClass.class.getMethod("methodOutputData"),
+			2.5d);
+		methodCallLogger.logMethodOutput(outputConfiguration, LogTestingClass.class.getMethod("methodReturningVoid"),
+			null);
+	}
+
+	/**
+	 * Implementation of {@link LoggerInterface} formatting the log events during the call, as the real logging
+	 * frameworks do, and keeping a copy of the contextual data.
+	 */
+	private static final class FormattingLogger implements LoggerInterface {
+
+		private final List<String> messages = new ArrayList<>();
+		private final List<Map<String, String>> contextualData = new ArrayList<>();
+
+		@Override
+		public void trace(final String topic, final String format, final Object... arguments) {
+			format(format, arguments);
+		}
+
+		@Override
+		public void debug(final String topic, final String format, final Object... arguments) {
+			format(format, arguments);
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Object... arguments) {
+			format(format, arguments);
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Map<String, String> contextualData,
+						 final Object... arguments) {
+			this.contextualData.add(new HashMap<>(contextualData));
+			format(format, arguments);
+		}
+
+		@Override
+		public void warn(final String topic, final String format, final Object... arguments) {
+			format(format, arguments);
+		}
+
+		@Override
+		public void error(final String topic, final String format, final Object... arguments) {
+			format(format, arguments);
+		}
+
+		private void format(final String format, final Object... arguments) {
+			messages.add(MessageFormatter.arrayFormat(format, arguments).getMessage());
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.test.LogTestingClass;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the lazy rendering of the logged data (see {@link LoggerManager#setLazyRendering(boolean)}).
+ */
+class LazyRenderingTest {
+
+	private static final String MASKED_METHOD_NAME = "methodInputWithMaskedArgs";
+	private static final Object[] MASKED_ARGS = {"secret1", "secret2", "secret3", 42, 3.14d, "visible"};
+
+	/**
+	 * Verifies that the logged arguments are only formatted when a logger formats the log message, and only once.
+	 */
+	@Test
+	void givenLazyRendering_whenLogMethodInput_defersFormattingUntilMessageFormatted() {
+		final CapturingLogger logger = new CapturingLogger();
+		final MethodCallLogger sut = new MethodCallLogger(new LoggerManager().register(logger).setLazyRendering(true));
+		final AtomicInteger formattingsCount = new AtomicInteger();
+		final Object loggedValue = new Object() {
+			@Override
+			public String toString() {
+				formattingsCount.incrementAndGet();
+				return "value";
+			}
+		};
+
+		sut.logMethodInput(MethodInputLoggingConfiguration.builder().build(), "LogTestingClass.testMethod",
+			List.of(Pair.of("arg", loggedValue)));
+
+		assertThat(formattingsCount.get(), is(0));
+		assertThat(logger.format(0), is("Entering method LogTestingClass.testMethod(arg=value)"));
+		assertThat(logger.format(0), is("Entering method LogTestingClass.testMethod(arg=value)"));
+		assertThat(formattingsCount.get(), is(1));
+	}
+
+	/**
+	 * Verifies that the masks are applied to the lazily rendered arguments, including when they are serialized in
+	 * JSON, and that the rendered message is the same as the one generated in the default mode.
+	 *
+	 * @throws NoSuchMethodException if the tested method is not defined in {@link LogTestingClass}.
+	 * @throws JsonProcessingException if the lazily rendered arguments cannot be serialized in JSON.
+	 */
+	@Test
+	void givenLazyRendering_whenLogMethodInputWithMaskedArgs_rendersMaskedArgs()
+		throws NoSuchMethodException, JsonProcessingException {
+		final Method method = LogTestingClass.class.getMethod(MASKED_METHOD_NAME, String.class, String.class,
+			String.class, int.class, double.class, String.class);
+		final MethodInputLoggingConfiguration configuration = MethodInputLoggingConfiguration.builder().build();
+		final CapturingLogger defaultLogger = new CapturingLogger();
+		final CapturingLogger lazyLogger = new CapturingLogger();
+		new MethodCallLogger(new LoggerManager().register(defaultLogger)).logMethodInput(configuration, method,
+			MASKED_ARGS);
+		new MethodCallLogger(new LoggerManager().register(lazyLogger).setLazyRendering(true))
+			.logMethodInput(configuration, method, MASKED_ARGS);
+
+		final Object lazyArgs = lazyLogger.arguments.get(0)[1];
+		assertThat(lazyArgs, instanceOf(LazyRenderedData.class));
+		assertThat(new ObjectMapper().writeValueAsString(lazyArgs), not(containsString("secret")));
+		assertThat(lazyLogger.format(0), is(defaultLogger.format(0)));
+		assertThat(lazyLogger.format(0), not(containsString("secret")));
+		assertThat(lazyLogger.format(0), containsString("argNotMasked=visible"));
+	}
+
+	/**
+	 * Verifies that the output value is lazily rendered and that the rendered message is the same as the one generated
+	 * in the default mode.
+	 *
+	 * @throws NoSuchMethodException if the tested method is not defined in {@link LogTestingClass}.
+	 */
+	@Test
+	void givenLazyRendering_whenLogMethodOutput_generatesSameLogAsDefaultMode() throws NoSuchMethodException {
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder().build();
+		final CapturingLogger defaultLogger = new CapturingLogger();
+		final CapturingLogger lazyLogger = new CapturingLogger();
+		new MethodCallLogger(new LoggerManager().register(defaultLogger)).logMethodOutput(configuration, method,
+			"result");
+		new MethodCallLogger(new LoggerManager().register(lazyLogger).setLazyRendering(true))
+			.logMethodOutput(configuration, method, "result");
+
+		assertThat(lazyLogger.arguments.get(0)[1], instanceOf(LazyRenderedData.class));
+		assertThat(lazyLogger.format(0), is(defaultLogger.format(0)));
+	}
+
+	/**
+	 * Verifies that the logged data are formatted immediately when they are stored into the log context.
+	 *
+	 * @throws NoSuchMethodException if the tested method is not defined in {@link LogTestingClass}.
+	 */
+	@Test
+	void givenDataLoggedInContext_whenLazyRenderingEnabled_formatsDataImmediately() throws NoSuchMethodException {
+		final CapturingLogger logger = new CapturingLogger();
+		new MethodCallLogger(new LoggerManager().register(logger).setLazyRendering(true)).logMethodInput(
+			MethodInputLoggingConfiguration.builder().dataLoggedInContext(true).build(),
+			LogTestingClass.class.getMethod("methodInputData", int.class, String.class, boolean.class),
+			10, "test", true);
+
+		assertThat(logger.arguments.get(0)[1], is("argInt=10, argStr=test, argBool=true"));
+	}
+
+	/**
+	 * Verifies that the lazy rendering is only active while the log events are dispatched synchronously and the
+	 * garbage-free mode is disabled.
+	 */
+	@Test
+	void givenAsyncDispatchOrGarbageFreeMode_whenLazyRenderingEnabled_isNotActive() {
+		final LoggerManager sut = new LoggerManager().register(new CapturingLogger()).setLazyRendering(true);
+		assertTrue(sut.isLazyRenderingActive());
+
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().build());
+		try {
+			assertTrue(sut.isLazyRendering());
+			assertFalse(sut.isLazyRenderingActive());
+		} finally {
+			sut.stopAsyncDispatch();
+		}
+		assertTrue(sut.isLazyRenderingActive());
+
+		sut.setGarbageFree(true);
+		assertFalse(sut.isLazyRenderingActive());
+	}
+
+	/**
+	 * Implementation of {@link LoggerInterface} keeping the arguments of the log events without formatting them.
+	 */
+	private static final class CapturingLogger implements LoggerInterface {
+
+		private final List<String> formats = new ArrayList<>();
+		private final List<Object[]> arguments = new ArrayList<>();
+
+		@Override
+		public void trace(final String topic, final String format, final Object... arguments) {
+			capture(format, arguments);
+		}
+
+		@Override
+		public void debug(final String topic, final String format, final Object... arguments) {
+			capture(format, arguments);
+		}
+
+		@Override
+		public void info(final String topic, final String format, final Object... arguments) {
+			capture(format, arguments);
+		}
+
+		@Override
+		public void warn(final String topic, final String format, final Object... arguments) {
+			capture(format, arguments);
+		}
+
+		@Override
+		public void error(final String topic, final String format, final Object... arguments) {
+			capture(format, arguments);
+		}
+
+		private void capture(final String format, final Object... arguments) {
+			this.formats.add(format);
+			this.arguments.add(arguments.clone());
+		}
+
+		private String format(final int index) {
+			return MessageFormatter.arrayFormat(formats.get(index), arguments.get(index)).getMessage();
+		}
+	}
+}
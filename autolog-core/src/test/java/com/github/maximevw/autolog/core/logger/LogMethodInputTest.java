@@ -29,6 +29,7 @@ import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
 import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
 import com.github.maximevw.autolog.test.LogTestingClass;
 import com.github.maximevw.autolog.test.TestObject;
+import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -57,6 +58,7 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.emptyCollectionOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
@@ -69,6 +71,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Unit tests for the input data logging methods in the class {@link MethodCallLogger}.
@@ -270,6 +273,69 @@ class LogMethodInputTest {
 		)));
 	}
 
+	/**
+	 * Verifies that nothing is logged and the input arguments are not formatted when the log level is disabled in all
+	 * the registered loggers.
+	 *
+	 * @throws NoSuchMethodException if the invoked method is not found.
+	 */
+	@Test
+	void givenDisabledLogLevel_whenLogMethodInput_skipsFormattingAndLogging() throws NoSuchMethodException {
+		final Set<Level> enabledLevels = logger.getEnabledLevels();
+		logger.setEnabledLevels(Level.WARN, Level.ERROR);
+		try {
+			final TestObject data = spy(new TestObject("testVal", 123.45d));
+			sut.logMethodInput(MethodInputLoggingConfiguration.builder().logLevel(LogLevel.INFO).build(),
+				LogTestingClass.class.getMethod("methodInputComplexData", TestObject.class), data);
+
+			assertThat(logger.getLoggingEvents(), is(empty()));
+			verifyNoInteractions(data);
+		} finally {
+			logger.setEnabledLevels(ImmutableSet.copyOf(enabledLevels));
+		}
+	}
+
+	/**
+	 * Verifies that an argument added in place to the excluded arguments of a configuration already used is no longer
+	 * logged.
+	 *
+	 * @throws NoSuchMethodException if the invoked method is not found.
+	 */
+	@Test
+	void givenExcludedArgumentsModifiedInPlace_whenLogMethodInput_excludesArgument() throws NoSuchMethodException {
+		final MethodInputLoggingConfiguration configuration = MethodInputLoggingConfiguration.builder().build();
+		final Method method = LogTestingClass.class.getMethod("methodInputData", int.class, String.class,
+			boolean.class);
+
+		sut.logMethodInput(configuration, method, 10, "secret", false);
+		configuration.getExcludedArguments().add("argStr");
+		sut.logMethodInput(configuration, method, 10, "secret", false);
+
+		assertThat(logger.getLoggingEvents().get(0).getArguments(), hasItem("argInt=10, argStr=secret, argBool=false"));
+		assertThat(logger.getLoggingEvents().get(1).getArguments(), hasItem("argInt=10, argBool=false"));
+	}
+
+	/**
+	 * Verifies that the input data of a method are reported as not logged only when the log level is disabled in all
+	 * the registered loggers.
+	 *
+	 * @throws NoSuchMethodException if the invoked method is not found.
+	 */
+	@Test
+	void givenLogLevel_whenIsInputLogged_returnsWhetherLevelIsEnabled() throws NoSuchMethodException {
+		final Set<Level> enabledLevels = logger.getEnabledLevels();
+		logger.setEnabledLevels(Level.WARN, Level.ERROR);
+		try {
+			final Method method = LogTestingClass.class.getMethod("noOp");
+			assertThat(sut.isInputLogged(MethodInputLoggingConfiguration.builder().logLevel(LogLevel.INFO).build(),
+				method), is(false));
+			assertThat(sut.isInputLogged(MethodInputLoggingConfiguration.builder().logLevel(LogLevel.WARN).build(),
+				method), is(true));
+		} finally {
+			logger.setEnabledLevels(ImmutableSet.copyOf(enabledLevels));
+		}
+	}
+
 	/**
 	 * Builds a matcher to verify the content of MDC in a method input log entry.
 	 *
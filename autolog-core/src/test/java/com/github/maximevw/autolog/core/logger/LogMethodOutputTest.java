@@ -317,13 +317,30 @@ class LogMethodOutputTest {
 		assertThat(logger.getLoggingEvents(), hasItem(allOf(
 			hasProperty("message", allOf(
 				containsString("\"calledMethod\":\"LogTestingClass.methodOutputData\""),
-				containsString("\"outputValue\":\"\\\"test\\\"\"")
+				containsString("\"outputValue\":\"test\"")
 			)),
 			hasProperty("arguments", emptyCollectionOf(String.class)),
 			hasProperty("level", is(Level.INFO))
 		)));
 	}
 
+	/**
+	 * Verifies that the output value of a method annotated with
+	 * {@link com.github.maximevw.autolog.core.annotations.Mask} is masked.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodMaskedOutputData()} is not defined.
+	 */
+	@Test
+	void givenMethodWithMaskedOutput_whenLogMethodOutput_generatesLogWithMaskedValue() throws NoSuchMethodException {
+		sut.logMethodOutput(MethodOutputLoggingConfiguration.builder().build(),
+			LogTestingClass.class.getMethod("methodMaskedOutputData"), "secret-token-1234");
+
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("arguments", hasItem("LogTestingClass.methodMaskedOutputData")),
+			hasProperty("arguments", hasItem("\"*************1234\""))
+		)));
+	}
+
 	/**
 	 * Builds a matcher to verify the content of MDC in a method output log entry.
 	 *
@@ -77,8 +77,8 @@ class LogPerformanceTest {
 	private static TestLogger loggerByClass;
 	private static MethodPerformanceLogger sut;
 
-	private static final String TIMESTAMP_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{0,6}";
-	private static final String DURATION_REGEX = "(\\d+ s )?\\d+ ms";
+	private static final String TIMESTAMP_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d{1,6})?";
+	private static final String DURATION_REGEX = "(\\d+ s )?\\d+ (ms|\u00b5s|ns)";
 
 	/**
 	 * Initializes the context for all the tests in this class.
@@ -484,6 +484,16 @@ class LogPerformanceTest {
 				},
 				null,
 				new Object[]{}),
+			// Configuration with custom message template using the raw execution times.
+			Arguments.of(MethodPerformanceLoggingConfiguration.builder()
+					.messageTemplate("Method $invokedMethod executed in $executionTimeInUs us ($executionTimeInNs ns)")
+					.build(),
+				LogTestingClass.class.getMethod("noOp"),
+				new Matcher[]{
+					matchesRegex("Method LogTestingClass\\.noOp executed in \\d+ us \\(\\d+ ns\\)")
+				},
+				null,
+				new Object[]{}),
 			// Default configuration with population of log context and call to a method throwing exception.
 			Arguments.of(MethodPerformanceLoggingConfiguration.builder()
 					.dataLoggedInContext(true)
@@ -517,6 +527,8 @@ class LogPerformanceTest {
 				new Matcher[]{
 					containsString("\"invokedMethod\":\"LogTestingClass.noOp\""),
 					matchesRegex(".+\\\"executionTimeInMs\\\":\\d+.+"),
+					matchesRegex(".+\\\"executionTimeInNs\\\":\\d+.+"),
+					matchesRegex(".+\\\"executionTimeInUs\\\":\\d+.+"),
 					matchesRegex(".+\\\"executionTime\\\":\\\"" + DURATION_REGEX + "\\\".+"),
 					containsString("\"startTime\":"),
 					containsString("\"endTime\":")
@@ -533,6 +545,7 @@ class LogPerformanceTest {
 					matchesRegex("<MethodPerformanceLogEntry>.+</MethodPerformanceLogEntry>$"),
 					containsString("<invokedMethod>LogTestingClass.noOp</invokedMethod>"),
 					matchesRegex(".+<executionTimeInMs>\\d+</executionTimeInMs>.+"),
+					matchesRegex(".+<executionTimeInNs>\\d+</executionTimeInNs>.+"),
 					matchesRegex(".+<executionTime>" + DURATION_REGEX + "</executionTime>.+"),
 					matchesRegex(".+<startTime>.+</startTime>.+"),
 					matchesRegex(".+<endTime>.+</endTime>.+")
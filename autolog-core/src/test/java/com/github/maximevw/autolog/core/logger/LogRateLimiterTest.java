@@ -0,0 +1,249 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.RateLimitConfiguration;
+import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
+import com.github.maximevw.autolog.test.LogTestingClass;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.org.lidalia.slf4jext.Level;
+import uk.org.lidalia.slf4jtest.LoggingEvent;
+import uk.org.lidalia.slf4jtest.TestLogger;
+import uk.org.lidalia.slf4jtest.TestLoggerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the class {@link LogRateLimiter}.
+ */
+class LogRateLimiterTest {
+
+	private static TestLogger logger;
+	private static MethodCallLogger methodCallLogger;
+
+	private final LogRateLimiter sut = LogRateLimiter.getInstance();
+
+	/**
+	 * Initializes the context for all the tests in this class.
+	 */
+	@BeforeAll
+	static void init() {
+		logger = TestLoggerFactory.getTestLogger("Autolog");
+		methodCallLogger = new MethodCallLogger(new LoggerManager().register(Slf4jAdapter.getInstance()));
+	}
+
+	/**
+	 * Resets the logger before each new test case.
+	 */
+	@BeforeEach
+	void reset() {
+		logger.clear();
+	}
+
+	/**
+	 * Removes all the rate limits and restores the default summary interval after each test case.
+	 */
+	@AfterEach
+	void removeAllLimits() {
+		sut.removeAllTopicLimits();
+		sut.setSummaryInterval(Duration.ofSeconds(10));
+	}
+
+	/**
+	 * Verifies that limiting a topic with an invalid rate throws an {@link IllegalArgumentException}.
+	 */
+	@Test
+	void givenInvalidRate_whenLimitTopic_throwsException() {
+		assertThrows(IllegalArgumentException.class, () -> sut.limitTopic("Autolog", 0, 1));
+	}
+
+	/**
+	 * Verifies that the log events of a rate-limited method exceeding the limit are suppressed.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodOutputData()} is not defined.
+	 */
+	@Test
+	void givenRateLimitedMethod_whenLogMethodOutput_suppressesExceedingEvents() throws NoSuchMethodException {
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder()
+			.rateLimit(RateLimitConfiguration.builder().eventsPerSecond(1).burst(2).build())
+			.build();
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+
+		for (int i = 0; i < 5; i++) {
+			methodCallLogger.logMethodOutput(configuration, method, "test");
+		}
+
+		assertThat(logger.getLoggingEvents(), hasSize(2));
+		assertThat(configuration.getRateLimit().getTokenBucket().getSuppressedEvents(), is(3L));
+	}
+
+	/**
+	 * Verifies that the log events of a rate-limited topic exceeding the limit are suppressed, and that they are
+	 * logged again once the limit is removed.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodOutputData()} is not defined.
+	 */
+	@Test
+	void givenRateLimitedTopic_whenLogMethodOutput_suppressesExceedingEvents() throws NoSuchMethodException {
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder().build();
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+		sut.limitTopic(" ", 1, 1);
+
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		assertThat(logger.getLoggingEvents(), hasSize(1));
+
+		sut.removeTopicLimit(LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		assertThat(logger.getLoggingEvents(), hasSize(2));
+	}
+
+	/**
+	 * Verifies that the log events suppressed by the rate limit of a method do not consume the tokens of its topic.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodOutputData()} is not defined.
+	 */
+	@Test
+	void givenRateLimitedTopicAndMethod_whenMethodLimitExceeded_doesNotConsumeTopicLimit()
+		throws NoSuchMethodException {
+		final MethodOutputLoggingConfiguration limitedConfiguration = MethodOutputLoggingConfiguration.builder()
+			.rateLimit(RateLimitConfiguration.builder().eventsPerSecond(1).burst(1).build())
+			.build();
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder().build();
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+		sut.limitTopic(" ", 1, 3);
+
+		for (int i = 0; i < 5; i++) {
+			methodCallLogger.logMethodOutput(limitedConfiguration, method, "test");
+		}
+		// Only one token of the topic has been consumed by the rate-limited method.
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		assertThat(logger.getLoggingEvents(), hasSize(3));
+		assertThat(limitedConfiguration.getRateLimit().getTokenBucket().getSuppressedEvents(), is(4L));
+	}
+
+	/**
+	 * Verifies that the log events suppressed by the rate limit of a topic do not consume the tokens of the method.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodOutputData()} is not defined.
+	 */
+	@Test
+	void givenRateLimitedTopicAndMethod_whenTopicLimitExceeded_doesNotConsumeMethodLimit()
+		throws NoSuchMethodException {
+		final MethodOutputLoggingConfiguration limitedConfiguration = MethodOutputLoggingConfiguration.builder()
+			.rateLimit(RateLimitConfiguration.builder().eventsPerSecond(1).burst(1).build())
+			.build();
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder().build();
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+		sut.limitTopic(" ", 1, 1);
+
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(limitedConfiguration, method, "test");
+		assertThat(logger.getLoggingEvents(), hasSize(1));
+
+		// The token of the method has been given back when the event was suppressed by the topic.
+		sut.removeTopicLimit(LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+		methodCallLogger.logMethodOutput(limitedConfiguration, method, "test");
+		assertThat(logger.getLoggingEvents(), hasSize(2));
+		assertThat(limitedConfiguration.getRateLimit().getTokenBucket().getSuppressedEvents(), is(0L));
+	}
+
+	/**
+	 * Verifies that the number of suppressed log events is reported with the next accepted log event.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#methodOutputData()} is not defined.
+	 * @throws InterruptedException if the test is interrupted while waiting for the refill of the bucket.
+	 */
+	@Test
+	void givenSuppressedEvents_whenNextEventAccepted_logsSummary() throws NoSuchMethodException, InterruptedException {
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder()
+			.rateLimit(RateLimitConfiguration.builder().eventsPerSecond(20).burst(1).build())
+			.build();
+		final Method method = LogTestingClass.class.getMethod("methodOutputData");
+		sut.setSummaryInterval(Duration.ZERO);
+
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		Thread.sleep(100);
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("message", is(LogRateLimiter.SUPPRESSED_EVENTS_MESSAGE)),
+			hasProperty("arguments", hasItem(2L)),
+			hasProperty("arguments", hasItem("LogTestingClass.methodOutputData")),
+			hasProperty("level", is(Level.WARN))
+		)));
+		assertThat(logger.getLoggingEvents(), hasSize(3));
+	}
+
+	/**
+	 * Verifies that the number of suppressed log events is reported once the summary interval has elapsed, even if no
+	 * further log event is accepted.
+	 *
+	 * @throws NoSuchMethodException if method {@link LogTestingClass#noOp()} is not defined.
+	 * @throws InterruptedException if the test is interrupted while waiting for the summary.
+	 */
+	@Test
+	void givenSuppressedEvents_whenNoFurtherEvent_logsSummaryAfterInterval()
+		throws NoSuchMethodException, InterruptedException {
+		final MethodOutputLoggingConfiguration configuration = MethodOutputLoggingConfiguration.builder()
+			.rateLimit(RateLimitConfiguration.builder().eventsPerSecond(1).burst(1).build())
+			.build();
+		final Method method = LogTestingClass.class.getMethod("noOp");
+		logger.clearAll();
+		sut.setSummaryInterval(Duration.ZERO);
+
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		methodCallLogger.logMethodOutput(configuration, method, "test");
+		assertThat(logger.getAllLoggingEvents(), hasSize(1));
+
+		final Matcher<Iterable<? super LoggingEvent>> summaryMatcher = hasItem(allOf(
+			hasProperty("message", is(LogRateLimiter.SUPPRESSED_EVENTS_MESSAGE)),
+			hasProperty("arguments", hasItem(2L)),
+			hasProperty("arguments", hasItem("LogTestingClass.noOp")),
+			hasProperty("level", is(Level.WARN))
+		));
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!summaryMatcher.matches(logger.getAllLoggingEvents()) && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(logger.getAllLoggingEvents(), summaryMatcher);
+		assertThat(configuration.getRateLimit().getTokenBucket().getSuppressedEvents(), is(0L));
+	}
+}
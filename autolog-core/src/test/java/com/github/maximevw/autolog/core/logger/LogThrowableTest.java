@@ -108,6 +108,28 @@ class LogThrowableTest {
         )));
     }
 
+	/**
+	 * Verifies that the sensitive parts of the message of a logged {@link Throwable} are masked according to the
+	 * patterns registered in {@link ThrowableMessageMasker}.
+	 *
+	 * @see MethodCallLogger#logThrowable(Throwable)
+	 */
+	@Test
+	void givenThrowableWithSensitiveMessage_whenLogThrowable_generatesLogWithMaskedMessage() {
+		ThrowableMessageMasker.getInstance().addPattern("token=(\\w+)");
+		try {
+			sut.logThrowable(new Throwable("Invalid token=abc123"));
+		} finally {
+			ThrowableMessageMasker.getInstance().removeAllPatterns();
+		}
+
+		assertThat(logger.getLoggingEvents(), hasItem(allOf(
+			hasProperty("arguments", hasItem(Throwable.class.getName())),
+			hasProperty("arguments", hasItem("Invalid token=******")),
+			hasProperty("level", is(Level.ERROR))
+		)));
+	}
+
 	/**
 	 * Verifies that logging a {@link Throwable} with a null configuration throws a {@link NullPointerException}.
 	 *
@@ -20,6 +20,8 @@
 
 package com.github.maximevw.autolog.core.logger;
 
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.LoggerRoute;
 import com.github.maximevw.autolog.core.configuration.adapters.JdbcAdapterConfiguration;
 import com.github.maximevw.autolog.core.logger.adapters.JavaLoggerAdapter;
 import com.github.maximevw.autolog.core.logger.adapters.JdbcAdapter;
@@ -28,6 +30,9 @@ import com.github.maximevw.autolog.core.logger.adapters.LogbackWithLogstashAdapt
 import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
 import com.github.maximevw.autolog.core.logger.adapters.SystemOutAdapter;
 import com.github.maximevw.autolog.core.logger.adapters.XSlf4jAdapter;
+import com.github.maximevw.autolog.core.logger.async.AsyncDispatchStatistics;
+import com.github.maximevw.autolog.core.logger.async.DispatchHealth;
+import com.github.maximevw.autolog.core.logger.async.WaitStrategy;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,19 +44,38 @@ import java.io.PrintStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -154,6 +178,285 @@ class LoggerManagerTest {
 		assertThat(sut.getRegisteredLoggers().size(), is(1));
 	}
 
+	/**
+	 * Verifies that the list of registered loggers is an unmodifiable snapshot not impacted by the later registering
+	 * of loggers.
+	 */
+	@Test
+	void givenRegisteredLoggers_whenRegister_doesNotModifyPreviousSnapshot() {
+		sut.register(Slf4jAdapter.getInstance());
+		final List<LoggerInterface> registeredLoggers = sut.getRegisteredLoggers();
+		sut.register(SystemOutAdapter.getInstance());
+		assertThat(registeredLoggers.size(), is(1));
+		assertThat(sut.getRegisteredLoggers().size(), is(2));
+		assertThrows(UnsupportedOperationException.class, () -> registeredLoggers.add(JavaLoggerAdapter.getInstance()));
+	}
+
+	/**
+	 * Verifies that registering and unregistering loggers while other threads are logging does not fail.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenLoggingThread_whenRegisterAndUnregister_logsWithoutFailure() throws InterruptedException {
+		sut.register(sysOutAdapter);
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final Thread loggingThread = new Thread(() -> {
+			try {
+				while (running.get()) {
+					sut.logWithLevel(LogLevel.DEBUG, "This is a test.");
+					sut.isEnabled(LoggingUtils.AUTOLOG_DEFAULT_TOPIC, LogLevel.DEBUG);
+				}
+			} catch (final Throwable t) {
+				failure.set(t);
+			}
+		});
+		loggingThread.start();
+		for (int i = 0; i < 1000; i++) {
+			sut.register(JavaLoggerAdapter.getInstance());
+			sut.unregister(JavaLoggerAdapter.class);
+		}
+		running.set(false);
+		loggingThread.join();
+		assertNull(failure.get());
+		assertThat(sut.getRegisteredLoggers().size(), is(1));
+	}
+
+	/**
+	 * Verifies that the log events are only dispatched to the loggers they are routed to, including the loggers
+	 * registered after the routes.
+	 */
+	@Test
+	void givenRoutes_whenLog_dispatchesToRoutedLoggersOnly() {
+		sut.register(sysOutAdapter);
+		sut.addRoute(LoggerRoute.builder()
+			.topicPattern("com.acme.batch.*")
+			.loggerTypes(Set.of(JdbcAdapter.class))
+			.build());
+		sut.register(jdbcAdapter);
+
+		sut.logWithLevel(LogLevel.INFO, "com.acme.batch.Job", "Routed test.", null);
+		sut.logWithLevel(LogLevel.INFO, "com.acme.api.Endpoint", "Not routed test.", null);
+		verify(jdbcAdapter).info("com.acme.batch.Job", "Routed test.");
+		verify(sysOutAdapter, never()).info(eq("com.acme.batch.Job"), anyString(), any());
+		verify(jdbcAdapter).info("com.acme.api.Endpoint", "Not routed test.");
+		verify(sysOutAdapter).info("com.acme.api.Endpoint", "Not routed test.");
+
+		sut.clearRoutes();
+		sut.logWithLevel(LogLevel.INFO, "com.acme.batch.Job", "Routed test.", null);
+		verify(sysOutAdapter).info("com.acme.batch.Job", "Routed test.");
+	}
+
+	/**
+	 * Verifies that the modifications of a route after its addition are ignored.
+	 */
+	@Test
+	void givenRouteModifiedAfterAddition_whenLog_ignoresModifications() {
+		final LoggerRoute route = LoggerRoute.builder()
+			.topicPattern("com.acme.batch.*")
+			.levels(EnumSet.of(LogLevel.INFO))
+			.loggerTypes(new HashSet<>(Set.of(JdbcAdapter.class)))
+			.build();
+		sut.register(sysOutAdapter);
+		sut.register(jdbcAdapter);
+		sut.addRoute(route);
+		route.getLevels().add(LogLevel.WARN);
+		route.getLoggerTypes().add(SystemOutAdapter.class);
+		route.setTopicPattern("*");
+
+		sut.logWithLevel(LogLevel.INFO, "com.acme.batch.Job", "Routed test.", null);
+		sut.logWithLevel(LogLevel.WARN, "com.acme.batch.Job", "Not routed test.", null);
+		verify(jdbcAdapter).info("com.acme.batch.Job", "Routed test.");
+		verify(sysOutAdapter, never()).info(eq("com.acme.batch.Job"), anyString(), any());
+		verify(jdbcAdapter).warn("com.acme.batch.Job", "Not routed test.");
+		verify(sysOutAdapter).warn("com.acme.batch.Job", "Not routed test.");
+	}
+
+	/**
+	 * Verifies that an exception thrown by a registered {@link LoggerInterface} does not prevent the other registered
+	 * loggers from logging the message.
+	 */
+	@Test
+	void givenFailingLoggerInterface_whenLog_callsLogMethodInOtherAdapters() {
+		final LoggerInterface failingLogger = mock(LoggerInterface.class);
+		doThrow(new IllegalStateException("Logger failure.")).when(failingLogger)
+			.info(anyString(), anyString(), any(Object[].class));
+		sut.register(failingLogger);
+		sut.register(sysOutAdapter);
+		sut.logWithLevel(LogLevel.INFO, "This is a test: {}.", LogLevel.INFO.name());
+		verify(failingLogger, times(1)).info(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC), eq("This is a test: {}."),
+			eq(LogLevel.INFO.name()));
+		verifyLogInfoCalled(sysOutAdapter);
+	}
+
+	/**
+	 * Verifies that an error thrown by a registered {@link LoggerInterface} (for example, a linkage error raised by a
+	 * misconfigured adapter) is not propagated to the caller and does not prevent the other registered loggers from
+	 * logging the message.
+	 */
+	@Test
+	void givenLoggerInterfaceThrowingError_whenLog_doesNotPropagateError() {
+		final LoggerInterface failingLogger = mock(LoggerInterface.class);
+		doThrow(new NoClassDefFoundError("org/acme/MissingClass")).when(failingLogger)
+			.info(anyString(), anyString(), any(Object[].class));
+		sut.register(failingLogger);
+		sut.register(sysOutAdapter);
+		assertDoesNotThrow(() -> sut.logWithLevel(LogLevel.INFO, "This is a test: {}.", LogLevel.INFO.name()));
+		verifyLogInfoCalled(sysOutAdapter);
+	}
+
+	/**
+	 * Verifies that a log level is considered as enabled when at least one of the registered loggers enables it.
+	 */
+	@Test
+	void givenAtLeastOneLoggerEnablingLevel_whenIsEnabled_returnsTrue() {
+		final LoggerInterface disabledLogger = mock(LoggerInterface.class);
+		when(disabledLogger.isEnabled(anyString(), any(LogLevel.class))).thenReturn(false);
+		sut.register(disabledLogger);
+		sut.register(sysOutAdapter);
+		assertThat(sut.isEnabled(null, LogLevel.DEBUG), is(true));
+		verify(disabledLogger, times(1)).isEnabled(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC), eq(LogLevel.DEBUG));
+	}
+
+	/**
+	 * Verifies that a log level is considered as disabled when none of the registered loggers enables it.
+	 */
+	@Test
+	void givenNoLoggerEnablingLevel_whenIsEnabled_returnsFalse() {
+		final LoggerInterface disabledLogger = mock(LoggerInterface.class);
+		when(disabledLogger.isEnabled(anyString(), any(LogLevel.class))).thenReturn(false);
+		sut.register(disabledLogger);
+		assertThat(sut.isEnabled("Test", LogLevel.TRACE), is(false));
+	}
+
+	/**
+	 * Verifies that a log level is considered as enabled when a registered logger fails to check it.
+	 */
+	@Test
+	void givenFailingLoggerInterface_whenIsEnabled_returnsTrue() {
+		final LoggerInterface failingLogger = mock(LoggerInterface.class);
+		when(failingLogger.isEnabled(anyString(), any(LogLevel.class)))
+			.thenThrow(new IllegalStateException("Logger failure."));
+		sut.register(failingLogger);
+		assertThat(sut.isEnabled("Test", LogLevel.INFO), is(true));
+	}
+
+	/**
+	 * Verifies that the log events are dispatched to the registered loggers by the consumer threads when the
+	 * asynchronous dispatch is started, and the pending events are dispatched when it is stopped.
+	 */
+	@Test
+	void givenAsyncDispatch_whenLog_dispatchesInConsumerThreads() {
+		final LoggerInterface loggerInterface = mock(LoggerInterface.class);
+		final Set<String> dispatchingThreads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> dispatchingThreads.add(Thread.currentThread().getName())).when(loggerInterface)
+			.info(anyString(), anyString(), any());
+		sut.register(loggerInterface);
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder()
+			.bufferSize(16)
+			.waitStrategy(WaitStrategy.YIELD)
+			.build());
+
+		for (int i = 0; i < 100; i++) {
+			sut.logWithLevel(LogLevel.INFO, "This is a test: {}.", i);
+		}
+		final AsyncDispatchStatistics statistics = sut.getAsyncDispatchStatistics().orElseThrow();
+		assertThat(statistics.getBufferCapacity(), is(16));
+		assertThat(statistics.getPublishedEvents(), is(100L));
+
+		sut.stopAsyncDispatch();
+		verify(loggerInterface, times(100)).info(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC), eq("This is a test: {}."),
+			any());
+		assertThat(dispatchingThreads, is(not(empty())));
+		assertThat(dispatchingThreads, everyItem(startsWith("autolog-async-dispatcher-")));
+		assertFalse(sut.getAsyncDispatchStatistics().isPresent());
+	}
+
+	/**
+	 * Verifies that the log events are dispatched synchronously once the asynchronous dispatch is stopped.
+	 */
+	@Test
+	void givenStoppedAsyncDispatch_whenLog_dispatchesSynchronously() {
+		final LoggerInterface loggerInterface = mock(LoggerInterface.class);
+		sut.register(loggerInterface);
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().build());
+		sut.stopAsyncDispatch();
+		sut.logWithLevel(LogLevel.INFO, "This is a test.");
+		verify(loggerInterface, times(1)).info(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC),
+			eq("This is a test."));
+	}
+
+	/**
+	 * Verifies that, when the loggers are isolated, a blocked logger becomes degraded and sheds the load while the
+	 * other loggers keep receiving the log events.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenIsolatedLoggersAndBlockedLogger_whenLog_otherLoggersKeepReceivingEvents() throws InterruptedException {
+		final CountDownLatch blockedLoggerReleased = new CountDownLatch(1);
+		final LoggerInterface blockedLogger = mock(LoggerInterface.class);
+		doAnswer(invocation -> {
+			blockedLoggerReleased.await();
+			return null;
+		}).when(blockedLogger).info(anyString(), anyString(), any());
+		sut.register(blockedLogger);
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder()
+			.loggersIsolated(true)
+			.bufferSize(2)
+			.dispatchTimeoutInMs(50)
+			.build());
+		// Register a logger once the asynchronous dispatch is started.
+		sut.register(sysOutAdapter);
+
+		for (int i = 0; i < 10; i++) {
+			sut.logWithLevel(LogLevel.INFO, "This is a test: {}.", i);
+		}
+		verify(sysOutAdapter, timeout(5000).times(10)).info(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC),
+			eq("This is a test: {}."), any());
+		final Map<String, AsyncDispatchStatistics> statistics = sut.getAsyncDispatchStatisticsByLogger();
+		assertThat(statistics.size(), is(2));
+		final AsyncDispatchStatistics blockedLoggerStatistics = statistics.get(blockedLogger.getClass().getName());
+		assertThat(blockedLoggerStatistics.getHealth(), is(DispatchHealth.DEGRADED));
+		assertThat(blockedLoggerStatistics.getDroppedEvents(), is(7L));
+		assertThat(statistics.get(sysOutAdapter.getClass().getName()).getHealth(), is(DispatchHealth.HEALTHY));
+		assertFalse(sut.getAsyncDispatchStatistics().isPresent());
+
+		blockedLoggerReleased.countDown();
+		sut.stopAsyncDispatch();
+		verify(blockedLogger, times(3)).info(eq(LoggingUtils.AUTOLOG_DEFAULT_TOPIC), eq("This is a test: {}."),
+			any());
+		assertThat(sut.getAsyncDispatchStatisticsByLogger().size(), is(0));
+	}
+
+	/**
+	 * Verifies that unregistering a logger when the loggers are isolated stops its dedicated dispatcher.
+	 */
+	@Test
+	void givenIsolatedLoggers_whenUnregister_stopsDedicatedDispatcher() {
+		sut.register(Slf4jAdapter.getInstance());
+		sut.register(SystemOutAdapter.getInstance());
+		sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().loggersIsolated(true).build());
+		assertThat(sut.getAsyncDispatchStatisticsByLogger().size(), is(2));
+		sut.unregister(Slf4jAdapter.class);
+		assertThat(sut.getAsyncDispatchStatisticsByLogger().keySet(), is(Set.of(SystemOutAdapter.class.getName())));
+		sut.stopAsyncDispatch();
+	}
+
+	/**
+	 * Verifies that starting the asynchronous dispatch with an invalid configuration throws an
+	 * {@link IllegalArgumentException}.
+	 */
+	@Test
+	void givenInvalidAsyncConfiguration_whenStartAsyncDispatch_throwsException() {
+		assertThrows(IllegalArgumentException.class, () ->
+			sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().bufferSize(0).build()));
+		assertThrows(IllegalArgumentException.class, () ->
+			sut.startAsyncDispatch(AsyncLoggingConfiguration.builder().consumerThreads(0).build()));
+		assertFalse(sut.getAsyncDispatchStatistics().isPresent());
+	}
+
 	/**
 	 * Registers all the available loggers in the {@link LoggerManager} then logs a message with a specified level.
 	 *
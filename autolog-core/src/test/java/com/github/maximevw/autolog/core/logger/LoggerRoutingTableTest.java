@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.LoggerRoute;
+import com.github.maximevw.autolog.core.logger.adapters.JavaLoggerAdapter;
+import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
+import com.github.maximevw.autolog.core.logger.adapters.SystemOutAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the class {@link LoggerRoutingTable}.
+ */
+class LoggerRoutingTableTest {
+
+	private static final LoggerInterface SYSTEM_OUT_ADAPTER = SystemOutAdapter.getInstance();
+	private static final LoggerInterface SLF4J_ADAPTER = Slf4jAdapter.getInstance();
+	private static final LoggerInterface JAVA_LOGGER_ADAPTER = JavaLoggerAdapter.getInstance();
+	private static final LoggerInterface[] LOGGERS = {SYSTEM_OUT_ADAPTER, SLF4J_ADAPTER, JAVA_LOGGER_ADAPTER};
+
+	/**
+	 * Verifies that, without any route, the log events are dispatched to all the registered loggers.
+	 */
+	@Test
+	void givenNoRoute_whenResolve_returnsAllLoggers() {
+		final LoggerRoutingTable sut = new LoggerRoutingTable(Collections.emptyList(), LOGGERS);
+		assertThat(sut.resolve("com.acme.Test", LogLevel.INFO), sameInstance(LOGGERS));
+	}
+
+	/**
+	 * Verifies that the most specific route matching the topic and the level of a log event is applied, and that the
+	 * log events not matched by any route are dispatched to all the registered loggers.
+	 */
+	@Test
+	void givenRoutes_whenResolve_appliesMostSpecificRoute() {
+		final LoggerRoutingTable sut = new LoggerRoutingTable(List.of(
+			route("com.acme.*", Set.of(LogLevel.values()), SystemOutAdapter.class),
+			route("com.acme.batch.*", Set.of(LogLevel.DEBUG), Slf4jAdapter.class),
+			route("com.acme.batch.Job", Set.of(LogLevel.DEBUG), JavaLoggerAdapter.class),
+			route("com.acme.batch.*", Set.of(LogLevel.DEBUG), JavaLoggerAdapter.class)
+		), LOGGERS);
+
+		assertThat(sut.resolve("org.test.Test", LogLevel.DEBUG), sameInstance(LOGGERS));
+		assertThat(sut.resolve("com.acmeTest", LogLevel.DEBUG), sameInstance(LOGGERS));
+		assertThat(sut.resolve("com.acme", LogLevel.DEBUG), arrayContaining(SYSTEM_OUT_ADAPTER));
+		assertThat(sut.resolve("com.acme.api.Test", LogLevel.DEBUG), arrayContaining(SYSTEM_OUT_ADAPTER));
+		assertThat(sut.resolve("com.acme.batch.Test", LogLevel.INFO), arrayContaining(SYSTEM_OUT_ADAPTER));
+		assertThat(sut.resolve("com.acme.batch.Test", LogLevel.DEBUG),
+			arrayContaining(SLF4J_ADAPTER, JAVA_LOGGER_ADAPTER));
+		assertThat(sut.resolve("com.acme.batch.Job", LogLevel.DEBUG), arrayContaining(JAVA_LOGGER_ADAPTER));
+		// Check the cached routes.
+		assertThat(sut.resolve("com.acme.batch.Job", LogLevel.DEBUG), arrayContaining(JAVA_LOGGER_ADAPTER));
+		assertThat(sut.resolve("com.acme.batch.Job", LogLevel.WARN), arrayContaining(SYSTEM_OUT_ADAPTER));
+	}
+
+	/**
+	 * Verifies that a route matching all the topics applies to any topic and that a route without registered loggers
+	 * discards the log events.
+	 */
+	@Test
+	void givenWildcardRoute_whenResolve_appliesToAllTopics() {
+		final LoggerRoutingTable sut = new LoggerRoutingTable(List.of(
+			route("*", Set.of(LogLevel.TRACE), Slf4jAdapter.class),
+			route("Autolog", Set.of(LogLevel.TRACE))
+		), LOGGERS);
+
+		assertThat(sut.resolve("com.acme.Test", LogLevel.TRACE), arrayContaining(SLF4J_ADAPTER));
+		assertThat(sut.resolve("com.acme.Test", LogLevel.INFO), sameInstance(LOGGERS));
+		assertThat(sut.resolve("Autolog", LogLevel.TRACE), emptyArray());
+	}
+
+	@SafeVarargs
+	private static LoggerRoute route(final String topicPattern, final Set<LogLevel> levels,
+									 final Class<? extends LoggerInterface>... loggerTypes) {
+		return LoggerRoute.builder()
+			.topicPattern(topicPattern)
+			.levels(levels)
+			.loggerTypes(Set.of(loggerTypes))
+			.build();
+	}
+
+}
@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+import com.github.maximevw.autolog.core.logger.adapters.SystemOutAdapter;
+import com.github.maximevw.autolog.test.LogTestingClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the class {@link LoggingKillSwitch}.
+ */
+class LoggingKillSwitchTest {
+
+	private final LoggingKillSwitch sut = LoggingKillSwitch.getInstance();
+
+	/**
+	 * Removes all the disabling rules after each test case.
+	 */
+	@AfterEach
+	void enableAll() {
+		sut.enableAll();
+	}
+
+	/**
+	 * Verifies that, without any disabling rule, nothing is disabled.
+	 *
+	 * @throws NoSuchMethodException if the tested method does not exist.
+	 */
+	@Test
+	void givenNoRule_whenCheckDisabled_returnsFalse() throws NoSuchMethodException {
+		assertFalse(sut.isDisabled(loggedMethod(), AutoLogMethodInOut.class));
+		assertFalse(sut.isTopicDisabled(LoggingUtils.AUTOLOG_DEFAULT_TOPIC));
+	}
+
+	/**
+	 * Verifies that disabling a method, its declaring class or a type of annotation disables the logging of the
+	 * method, and that re-enabling them resumes it.
+	 *
+	 * @throws NoSuchMethodException if the tested method does not exist.
+	 */
+	@Test
+	void givenDisablingRules_whenCheckDisabled_returnsExpectedState() throws NoSuchMethodException {
+		final Method method = loggedMethod();
+
+		sut.disableMethod(method);
+		assertTrue(sut.isDisabled(method, AutoLogMethodInOut.class));
+		assertFalse(sut.isDisabled(Object.class.getMethod("toString"), AutoLogMethodInOut.class));
+		sut.enableMethod(method);
+		assertFalse(sut.isDisabled(method, AutoLogMethodInOut.class));
+
+		sut.disableClass(LogTestingClass.class);
+		assertTrue(sut.isDisabled(method, AutoLogPerformance.class));
+		sut.enableClass(LogTestingClass.class);
+		assertFalse(sut.isDisabled(method, AutoLogPerformance.class));
+
+		sut.disableAnnotationType(AutoLogPerformance.class);
+		assertTrue(sut.isDisabled(method, AutoLogPerformance.class));
+		assertFalse(sut.isDisabled(method, AutoLogMethodInOut.class));
+		sut.enableAnnotationType(AutoLogPerformance.class);
+		assertFalse(sut.isDisabled(method, AutoLogPerformance.class));
+	}
+
+	/**
+	 * Verifies that the log events of a disabled topic are considered as disabled by {@link LoggerManager}, and that a
+	 * blank topic is considered as the default one.
+	 */
+	@Test
+	void givenDisabledTopic_whenCheckLoggerManagerEnabled_returnsFalse() {
+		final LoggerManager loggerManager = new LoggerManager().register(SystemOutAdapter.getInstance());
+
+		sut.disableTopic(" ");
+		assertTrue(sut.isTopicDisabled(LoggingUtils.AUTOLOG_DEFAULT_TOPIC));
+		assertFalse(loggerManager.isEnabled(null, LogLevel.ERROR));
+		assertTrue(loggerManager.isEnabled("custom-logger", LogLevel.ERROR));
+
+		sut.enableTopic(LoggingUtils.AUTOLOG_DEFAULT_TOPIC);
+		assertTrue(loggerManager.isEnabled(null, LogLevel.ERROR));
+	}
+
+	private static Method loggedMethod() throws NoSuchMethodException {
+		return LogTestingClass.class.getMethod("noOp");
+	}
+}
@@ -123,6 +123,35 @@ class LoggingUtilsTest {
 		);
 	}
 
+	/**
+	 * Verifies that formatting a duration in nanoseconds returns the expected formatted value.
+	 *
+	 * @param durationInNs		The duration (in nanoseconds) to format.
+	 * @param expectedResult	The expected formatted value.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideNanoDurations")
+	void givenNanoDuration_whenFormatNanoDuration_returnsExpectedValue(final long durationInNs,
+																	   final String expectedResult) {
+		final String result = LoggingUtils.formatNanoDuration(durationInNs);
+		assertThat(result, is(expectedResult));
+	}
+
+	/**
+	 * Builds arguments for the parameterized test relative to the formatting of durations in nanoseconds:
+	 * {@link #givenNanoDuration_whenFormatNanoDuration_returnsExpectedValue(long, String)}.
+	 *
+	 * @return The duration in nanoseconds and the corresponding formatted value for the parameterized tests.
+	 */
+	private static Stream<Arguments> provideNanoDurations() {
+		return Stream.of(
+			Arguments.of(850, "850 ns"),
+			Arguments.of(153_200, "153 \u00b5s"),
+			Arguments.of(10_400_000, "10 ms"),
+			Arguments.of(1_010_000_000, "1 s 010 ms")
+		);
+	}
+
 	/**
 	 * Verifies that getting the qualified method name with a null method name throws a {@link NullPointerException}.
 	 *
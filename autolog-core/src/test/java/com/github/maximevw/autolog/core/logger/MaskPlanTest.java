@@ -0,0 +1,65 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import org.junit.jupiter.api.Test;
+
+import static com.github.maximevw.autolog.core.logger.MaskingUtilsTest.getMaskAnnotationInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the class {@link MaskPlan}.
+ */
+class MaskPlanTest {
+
+	/**
+	 * Verifies that the plan of a {@link Mask} annotation is compiled once and reused for the values of any length.
+	 */
+	@Test
+	void givenMaskAnnotation_whenGetPlan_compilesPlanOnce() {
+		final Mask mask = getMaskAnnotationInstance("0:4, :4, [ -]");
+		final MaskPlan plan = MaskPlan.of(mask);
+
+		assertThat(MaskPlan.of(mask), is(sameInstance(plan)));
+		assertThat(plan.mask("4970 1012 3456 7890"), is("4970 **** **** 7890"));
+		assertThat(plan.mask("4970-1012-3456-789"), is("4970-****-****-789"));
+		assertThat(plan.mask("12345678"), is("1234*678"));
+	}
+
+	/**
+	 * Verifies that the overlapping ranges and the preserved characters out of the ASCII range are applied.
+	 */
+	@Test
+	void givenOverlappingRangesAndNonAsciiCharacters_whenMask_appliesAllRules() {
+		assertThat(MaskPlan.of(getMaskAnnotationInstance("0:3, 2:3, [é€]")).mask("abcdefé€gh"), is("abcde*é€**"));
+	}
+
+	/**
+	 * Verifies that an empty value remains empty when characters must be preserved.
+	 */
+	@Test
+	void givenEmptyValue_whenMask_returnsEmptyValue() {
+		assertThat(MaskPlan.of(getMaskAnnotationInstance("0:1, :1")).mask(""), is(""));
+	}
+}
@@ -0,0 +1,107 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.maximevw.autolog.core.annotations.Mask;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the masking of the fields annotated with {@link Mask} in the logged objects (class
+ * {@link MaskingSerializerModifier} and masking plans of {@link ObjectGraphRenderer}).
+ */
+class MaskingSerializerModifierTest {
+
+	private static final String EXPECTED_JSON = "{\"id\":\"request\",\"credentials\":"
+		+ "{\"login\":\"john\",\"cardNumber\":\"************3456\",\"pin\":\"****\"}}";
+
+	/**
+	 * Verifies that the masked fields of a nested object are masked when rendered in JSON by
+	 * {@link ObjectGraphRenderer}.
+	 */
+	@Test
+	void givenNestedObjectWithMaskedFields_whenRenderInJson_masksFields() {
+		final StringBuilder builder = new StringBuilder();
+		DataRenderer.getInstance().render(builder, buildRequest(), PrettyDataFormat.JSON);
+		assertThat(builder.toString(), is(EXPECTED_JSON));
+	}
+
+	/**
+	 * Verifies that the masked fields of a nested object are masked when serialized by the Jackson mappers used to
+	 * prettify the logged data, in JSON and XML formats.
+	 *
+	 * @throws Exception in case of test failure.
+	 */
+	@Test
+	void givenNestedObjectWithMaskedFields_whenSerializeWithJackson_masksFields() throws Exception {
+		final Request request = buildRequest();
+		assertThat(LoggingUtils.OBJECT_MAPPER.writeValueAsString(request), is(EXPECTED_JSON));
+		assertThat(LoggingUtils.XML_MAPPER.writeValueAsString(request), is("<Request><id>request</id><credentials>"
+			+ "<login>john</login><cardNumber>************3456</cardNumber><pin>****</pin></credentials></Request>"));
+	}
+
+	/**
+	 * Verifies that the masked fields of an object customizing its serialization with Jackson annotations (so
+	 * delegated to Jackson by {@link ObjectGraphRenderer}) are masked when rendered in JSON.
+	 */
+	@Test
+	void givenJacksonCustomizedObjectWithMaskedFields_whenRenderInJson_masksFields() {
+		final StringBuilder builder = new StringBuilder();
+		DataRenderer.getInstance().render(builder, new OrderedCredentials("secret", "john"), PrettyDataFormat.JSON);
+		assertThat(builder.toString(), is("{\"login\":\"john\",\"password\":\"******\"}"));
+	}
+
+	private static Request buildRequest() {
+		return new Request("request", new Credentials("john", "1234567890123456", 1234));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Request {
+		private final String id;
+		private final Credentials credentials;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Credentials {
+		private final String login;
+		@Mask(preservedCharacters = ":4")
+		private final String cardNumber;
+		@Mask
+		private final Integer pin;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	@JsonPropertyOrder({"login", "password"})
+	public static class OrderedCredentials {
+		@Mask
+		private final String password;
+		private final String login;
+	}
+}
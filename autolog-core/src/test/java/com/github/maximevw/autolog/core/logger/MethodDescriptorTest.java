@@ -0,0 +1,234 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.annotations.Mask;
+import com.github.maximevw.autolog.core.annotations.processors.AutoLogDescriptorProcessor;
+import com.github.maximevw.autolog.core.configuration.MethodInputLoggingConfiguration;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.testing.compile.Compiler.javac;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the class {@link MethodDescriptor}.
+ */
+class MethodDescriptorTest {
+
+	/**
+	 * Verifies that the descriptor of a method is built once and contains the expected metadata.
+	 *
+	 * @throws NoSuchMethodException if the test method cannot be found.
+	 */
+	@Test
+	void givenMethod_whenGetDescriptor_returnsCachedDescriptor() throws NoSuchMethodException {
+		final Method method = TestClass.class.getMethod("testMethod", String.class, String.class);
+		final MethodDescriptor descriptor = MethodDescriptor.of(method);
+		assertThat(MethodDescriptor.of(TestClass.class.getMethod("testMethod", String.class, String.class)),
+			sameInstance(descriptor));
+
+		assertThat(descriptor.getMethodName(false), is("testMethod"));
+		assertThat(descriptor.getMethodName(true), is("TestClass.testMethod"));
+		assertThat(descriptor.getTopic(null, false), is(LoggingUtils.AUTOLOG_DEFAULT_TOPIC));
+		assertThat(descriptor.getTopic(null, true), is(TestClass.class.getCanonicalName()));
+		assertThat(descriptor.getTopic("custom", true), is("custom"));
+		assertTrue(descriptor.isVoidReturned());
+		assertThat(descriptor.getParametersCount(), is(2));
+		assertThat(descriptor.getParameterName(0), is("login"));
+		assertThat(descriptor.getParameterName(1), is("password"));
+		assertThat(descriptor.maskArgument(0, "user"), is("user"));
+		assertThat(descriptor.maskArgument(1, "secret"), is("******"));
+	}
+
+	/**
+	 * Verifies that the names of the parameters are read from the descriptor generated at compile time when the class
+	 * is compiled without the argument {@code -parameters}.
+	 *
+	 * @throws ReflectiveOperationException if the test class cannot be loaded.
+	 */
+	@Test
+	void givenClassCompiledWithoutParametersNames_whenGetDescriptor_usesGeneratedDescriptor()
+		throws ReflectiveOperationException {
+		final Compilation compilation =
+			javac()
+				.withProcessors(new AutoLogDescriptorProcessor())
+				.compile(JavaFileObjects.forResource("DescriptorAnnotatedTestClass.java"));
+		final ClassLoader classLoader = new CompilationClassLoader(compilation);
+		final Class<?> testClass = classLoader.loadClass("DescriptorAnnotatedTestClass");
+		final Method method = testClass.getMethod("annotatedMethod", String.class, int[].class, List.class);
+		assertFalse(method.getParameters()[0].isNamePresent());
+
+		final MethodDescriptor descriptor = MethodDescriptor.of(method);
+		assertThat(descriptor.getParameterName(0), is("firstArg"));
+		assertThat(descriptor.getParameterName(1), is("secondArg"));
+		assertThat(descriptor.getParameterName(2), is("thirdArg"));
+
+		final Class<?> nestedClass = classLoader.loadClass("DescriptorAnnotatedTestClass$NestedClass");
+		assertThat(MethodDescriptor.getGeneratedParametersNames(nestedClass.getMethod("nestedMethod", nestedClass)),
+			arrayContaining("nestedArg"));
+		assertThat(MethodDescriptor.getGeneratedParametersNames(TestClass.class.getMethod("testMethod", String.class,
+			String.class)), emptyArray());
+	}
+
+	/**
+	 * Verifies that the arguments plan of a method is resolved according to the input logging configuration and reused
+	 * as long as the configuration does not change.
+	 *
+	 * @throws NoSuchMethodException if the test method cannot be found.
+	 */
+	@Test
+	void givenConfiguration_whenGetArgumentsPlan_resolvesLoggedArguments() throws NoSuchMethodException {
+		final MethodDescriptor descriptor =
+			MethodDescriptor.of(TestClass.class.getMethod("testMethod", String.class, String.class));
+		final MethodInputLoggingConfiguration configuration = MethodInputLoggingConfiguration.builder()
+			.excludedArguments(Set.of("password"))
+			.prettifiedValues(Set.of("login"))
+			.build();
+
+		final MethodDescriptor.ArgumentsPlan argumentsPlan = descriptor.getArgumentsPlan(configuration);
+		assertTrue(argumentsPlan.isLogged(0));
+		assertTrue(argumentsPlan.isPrettified(0));
+		assertFalse(argumentsPlan.isLogged(1));
+		assertFalse(argumentsPlan.isPrettified(1));
+		assertThat(descriptor.getArgumentsPlan(configuration), sameInstance(argumentsPlan));
+
+		configuration.setExcludedArguments(Set.of("login"));
+		final MethodDescriptor.ArgumentsPlan updatedArgumentsPlan = descriptor.getArgumentsPlan(configuration);
+		assertThat(updatedArgumentsPlan, not(sameInstance(argumentsPlan)));
+		assertFalse(updatedArgumentsPlan.isLogged(0));
+		assertTrue(updatedArgumentsPlan.isLogged(1));
+	}
+
+	/**
+	 * Verifies that the arguments plan of a method is resolved again when a set of the input logging configuration is
+	 * modified in place.
+	 *
+	 * @throws NoSuchMethodException if the test method cannot be found.
+	 */
+	@Test
+	void givenSetModifiedInPlace_whenGetArgumentsPlan_resolvesPlanAgain() throws NoSuchMethodException {
+		final MethodDescriptor descriptor =
+			MethodDescriptor.of(TestClass.class.getMethod("testMethod", String.class, String.class));
+		final MethodInputLoggingConfiguration configuration = MethodInputLoggingConfiguration.builder().build();
+
+		final MethodDescriptor.ArgumentsPlan argumentsPlan = descriptor.getArgumentsPlan(configuration);
+		assertTrue(argumentsPlan.isLogged(1));
+
+		configuration.getExcludedArguments().add("password");
+		final MethodDescriptor.ArgumentsPlan updatedArgumentsPlan = descriptor.getArgumentsPlan(configuration);
+		assertThat(updatedArgumentsPlan, not(sameInstance(argumentsPlan)));
+		assertTrue(updatedArgumentsPlan.isLogged(0));
+		assertFalse(updatedArgumentsPlan.isLogged(1));
+		assertThat(descriptor.getArgumentsPlan(configuration), sameInstance(updatedArgumentsPlan));
+	}
+
+	/**
+	 * Verifies that the API endpoint corresponding to a method is resolved once.
+	 *
+	 * @throws NoSuchMethodException if the test method cannot be found.
+	 */
+	@Test
+	void givenApiMethod_whenGetApiEndpoint_returnsCachedApiEndpoint() throws NoSuchMethodException {
+		final MethodDescriptor descriptor = MethodDescriptor.of(TestClass.class.getMethod("apiMethod"));
+		final MethodDescriptor.ApiEndpoint apiEndpoint = descriptor.getApiEndpoint();
+		assertThat(apiEndpoint.getPath(), is("/test/api"));
+		assertThat(apiEndpoint.getHttpMethod(), is("POST"));
+		assertThat(descriptor.getApiEndpoint(), sameInstance(apiEndpoint));
+
+		final MethodDescriptor.ApiEndpoint noApiEndpoint =
+			MethodDescriptor.of(Object.class.getMethod("toString")).getApiEndpoint();
+		assertThat(noApiEndpoint.getPath(), is(StringUtils.EMPTY));
+		assertNull(noApiEndpoint.getHttpMethod());
+	}
+
+	/**
+	 * Class used for testing purpose.
+	 */
+	@RequestMapping("/test")
+	public static class TestClass {
+
+		/**
+		 * API endpoint used for testing purpose.
+		 */
+		@PostMapping("/api")
+		public void apiMethod() {
+			// Do nothing.
+		}
+
+		/**
+		 * Method used for testing purpose.
+		 *
+		 * @param login		The login.
+		 * @param password	The password.
+		 */
+		public void testMethod(final String login, @Mask final String password) {
+			// Do nothing.
+		}
+	}
+
+	/**
+	 * Class loader loading the classes generated by a compilation.
+	 */
+	private static class CompilationClassLoader extends ClassLoader {
+
+		private final Compilation compilation;
+
+		CompilationClassLoader(final Compilation compilation) {
+			super(MethodDescriptorTest.class.getClassLoader());
+			this.compilation = compilation;
+		}
+
+		@Override
+		protected Class<?> findClass(final String name) throws ClassNotFoundException {
+			final JavaFileObject classFile = this.compilation
+				.generatedFile(StandardLocation.CLASS_OUTPUT, StringUtils.EMPTY, name.replace('.', '/') + ".class")
+				.orElseThrow(() -> new ClassNotFoundException(name));
+			try (InputStream inputStream = classFile.openInputStream()) {
+				final byte[] bytes = inputStream.readAllBytes();
+				return defineClass(name, bytes, 0, bytes.length);
+			} catch (final IOException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+}
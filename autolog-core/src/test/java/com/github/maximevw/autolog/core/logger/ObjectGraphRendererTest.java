@@ -0,0 +1,172 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+import com.github.maximevw.autolog.test.TestObject;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the class {@link ObjectGraphRenderer}.
+ */
+class ObjectGraphRendererTest {
+
+	private final DataRenderer dataRenderer = DataRenderer.getInstance();
+
+	/**
+	 * Restores the default limits after each test case.
+	 */
+	@AfterEach
+	void restoreDefaultLimits() {
+		dataRenderer.setLimits(RenderingLimits.builder().build());
+	}
+
+	/**
+	 * Verifies that the simple beans, collections and maps are rendered in JSON exactly as Jackson serializes them.
+	 *
+	 * @throws Exception in case of test failure.
+	 */
+	@Test
+	void givenSimpleData_whenRenderInJson_rendersLikeJackson() throws Exception {
+		final ObjectMapper objectMapper = new ObjectMapper();
+		final TestObject testObject = new TestObject("test", 1.5);
+		final List<Object> list = List.of(testObject, "str", 2, true, Map.of("key", testObject));
+
+		assertThat(render(testObject), is(objectMapper.writeValueAsString(testObject)));
+		assertThat(render(list), is(objectMapper.writeValueAsString(list)));
+		assertThat(render(new int[] {1, 2}), is(objectMapper.writeValueAsString(new int[] {1, 2})));
+	}
+
+	/**
+	 * Verifies that a bidirectional object graph is rendered in JSON, replacing the references to the objects already
+	 * being rendered by a cycle marker, while the objects shared without cycle are fully rendered.
+	 */
+	@Test
+	void givenCyclicGraph_whenRenderInJson_replacesCyclesByMarker() {
+		final Parent parent = new Parent();
+		parent.setName("parent");
+		final Child child = new Child();
+		child.setName("child");
+		child.setParent(parent);
+		parent.getChildren().add(child);
+		parent.getChildren().add(child);
+
+		assertThat(render(parent), is("{\"name\":\"parent\",\"children\":["
+			+ "{\"name\":\"child\",\"parent\":\"(cycle: Parent)\"},"
+			+ "{\"name\":\"child\",\"parent\":\"(cycle: Parent)\"}]}"));
+	}
+
+	/**
+	 * Verifies that the depth and the number of properties of the rendered beans are limited.
+	 */
+	@Test
+	void givenDeepAndWideBeans_whenRenderInJson_appliesLimits() {
+		final Parent parent = new Parent();
+		parent.setName("parent");
+		final Child child = new Child();
+		child.setName("child");
+		parent.getChildren().add(child);
+
+		dataRenderer.setLimits(RenderingLimits.builder().maxDepth(2).build());
+		assertThat(render(parent), is("{\"name\":\"parent\",\"children\":[\"{...}\"]}"));
+
+		dataRenderer.setLimits(RenderingLimits.builder().maxCollectionItems(1).build());
+		assertThat(render(parent), is("{\"name\":\"parent\",\"...\":\"(1 more)\"}"));
+	}
+
+	/**
+	 * Verifies that the annotations {@link JsonIgnore} and {@link JsonProperty} are honoured, that the types using
+	 * other Jackson annotations are serialized by Jackson and that the exceptions thrown by the getters are replaced
+	 * by an error marker.
+	 */
+	@Test
+	void givenAnnotatedBean_whenRenderInJson_honoursAnnotations() {
+		assertThat(render(new AnnotatedBean()),
+			is("{\"renamed\":\"visible\",\"failing\":\"(error: IllegalStateException)\",\"value\":\"custom\"}"));
+		assertThat(ObjectGraphRenderer.countProperties(AnnotatedBean.class), is(3));
+		assertThat(ObjectGraphRenderer.countProperties(CustomValue.class), is(-1));
+	}
+
+	private String render(final Object data) {
+		final StringBuilder builder = new StringBuilder();
+		dataRenderer.render(builder, data, PrettyDataFormat.JSON);
+		return builder.toString();
+	}
+
+	@Getter
+	@Setter
+	public static class Parent {
+		private String name;
+		private List<Child> children = new ArrayList<>();
+	}
+
+	@Getter
+	@Setter
+	public static class Child {
+		private String name;
+		private Parent parent;
+	}
+
+	public static class AnnotatedBean {
+		@JsonProperty("renamed")
+		private final String visible = "visible";
+		@JsonIgnore
+		private final String hidden = "hidden";
+
+		public String getVisible() {
+			return visible;
+		}
+
+		public String getHidden() {
+			return hidden;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("Lazy loading failed");
+		}
+
+		public CustomValue getValue() {
+			return new CustomValue();
+		}
+	}
+
+	public static class CustomValue {
+		@JsonValue
+		public String toValue() {
+			return "custom";
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.github.maximevw.autolog.core.configuration.PiiScanningConfiguration;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the class {@link PiiScanner} and its usage by {@link DataRenderer}.
+ */
+class PiiScannerTest {
+
+	private final PiiScanner sut = new PiiScanner(PiiScanningConfiguration.builder()
+		.secretKeywords(List.of("api_key="))
+		.build());
+
+	/**
+	 * Disables the scanning in {@link DataRenderer} after each test case.
+	 */
+	@AfterEach
+	void disableScanning() {
+		DataRenderer.getInstance().setPiiScanning(null);
+	}
+
+	/**
+	 * Verifies that the personal and sensitive data are redacted in the scanned data.
+	 *
+	 * @param data			The scanned data.
+	 * @param expectedData	The expected redacted data.
+	 */
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+		"card=4111111111111111|card=************1111",
+		"Card: 4111 1111 1111 1111.|Card: **** **** **** 1111.",
+		"[\"5500-0000-0000-0004\"]|[\"****-****-****-0004\"]",
+		"IBAN GB82 WEST 1234 5698 7654 32 used|IBAN **** **** **** **** **54 32 used",
+		"{\"iban\":\"DE89370400440532013000\"}|{\"iban\":\"******************3000\"}",
+		"Contact john.doe+test@example.com.|Contact *************@example.com.",
+		"Authorization: Bearer eyJhbGciOi.abc-123, next|Authorization: Bearer ******************, next",
+		"GET /path?API_KEY=XYZ123&x=1|GET /path?API_KEY=******&x=1"
+	})
+	void givenSensitiveData_whenScan_redactsData(final String data, final String expectedData) {
+		final StringBuilder builder = new StringBuilder("prefix ").append(data);
+		assertThat(sut.scan(builder, "prefix ".length()), is(true));
+		assertThat(builder.toString(), is("prefix " + expectedData));
+	}
+
+	/**
+	 * Verifies that the data looking like sensitive data but not valid are not redacted.
+	 *
+	 * @param data The scanned data.
+	 */
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+		"card=4111111111111112",
+		"id=123456789012345678901234",
+		"ref=A4111111111111111",
+		"IBAN GB82 WEST 1234 5698 7654 33",
+		"user@localhost",
+		"@example.com",
+		"Bearer"
+	})
+	void givenInvalidSensitiveData_whenScan_keepsData(final String data) {
+		final StringBuilder builder = new StringBuilder(data);
+		assertThat(sut.scan(builder, 0), is(false));
+		assertThat(builder.toString(), is(data));
+	}
+
+	/**
+	 * Verifies that the disabled detections are not applied and that invalid keywords are rejected.
+	 */
+	@Test
+	void givenDisabledDetections_whenScan_keepsData() {
+		final PiiScanner scanner = new PiiScanner(PiiScanningConfiguration.builder()
+			.cardNumbersRedacted(false)
+			.ibansRedacted(false)
+			.emailsRedacted(false)
+			.bearerTokensRedacted(false)
+			.build());
+		final String data = "4111111111111111 DE89370400440532013000 john@example.com Bearer token";
+		final StringBuilder builder = new StringBuilder(data);
+		assertThat(scanner.scan(builder, 0), is(false));
+		assertThat(builder.toString(), is(data));
+
+		assertThrows(IllegalArgumentException.class, () -> new PiiScanner(PiiScanningConfiguration.builder()
+			.secretKeywords(List.of("clé=")).build()));
+	}
+
+	/**
+	 * Verifies that the data rendered by {@link DataRenderer} are redacted when the scanning is enabled, and that a
+	 * redacted JSON value is not reported as fully rendered (a redacted number is not valid JSON).
+	 */
+	@Test
+	void givenScanningEnabled_whenRenderData_redactsData() {
+		final DataRenderer dataRenderer = DataRenderer.getInstance();
+		dataRenderer.setPiiScanning(PiiScanningConfiguration.builder().build());
+
+		final StringBuilder builder = new StringBuilder();
+		assertThat(dataRenderer.render(builder, Map.of("card", 4111111111111111L), PrettyDataFormat.JSON), is(false));
+		assertThat(builder.toString(), is("{\"card\":************1111}"));
+		assertThat(LoggingUtils.formatData(4111111111111111L, null, false), is("************1111"));
+		assertThat(LoggingUtils.formatData("john@example.com", null, false), is("****@example.com"));
+
+		dataRenderer.setPiiScanning(null);
+		assertThat(LoggingUtils.formatData("john@example.com", null, false), is("john@example.com"));
+	}
+}
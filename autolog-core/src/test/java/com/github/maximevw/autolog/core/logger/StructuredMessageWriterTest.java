@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
+import com.github.maximevw.autolog.test.TestObject;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the class {@link StructuredMessageWriter}.
+ */
+class StructuredMessageWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Restores the default limits after each test case.
+	 */
+	@AfterEach
+	void restoreDefaultLimits() {
+		DataRenderer.getInstance().setLimits(RenderingLimits.builder().build());
+	}
+
+	/**
+	 * Verifies that the arguments prettified in JSON are written as nested JSON values in the structured message of
+	 * the method input, instead of escaped strings.
+	 *
+	 * @throws Exception in case of test failure.
+	 */
+	@Test
+	void givenArgumentsInJson_whenWriteMethodInput_nestsJsonValues() throws Exception {
+		final TestObject testObject = new TestObject("test", 1.5);
+		final Map<String, Object> inputParameters = new LinkedHashMap<>();
+		inputParameters.put("object", testObject);
+		inputParameters.put("list", List.of(1, 2));
+		inputParameters.put("str", "a \"quoted\" string");
+		inputParameters.put("nullValue", null);
+
+		final String message = StructuredMessageWriter.writeMethodInput("TestClass.method", inputParameters,
+			PrettyDataFormat.JSON, true, null);
+
+		assertThat(message, is("{\"calledMethod\":\"TestClass.method\",\"inputParameters\":{"
+			+ "\"object\":" + objectMapper.writeValueAsString(testObject) + ",\"list\":[1,2],"
+			+ "\"str\":\"a \\\"quoted\\\" string\",\"nullValue\":null}}"));
+	}
+
+	/**
+	 * Verifies that the collections and maps which are not expanded and the values which are not prettified are
+	 * written as JSON strings in the structured message.
+	 *
+	 * @throws Exception in case of test failure.
+	 */
+	@Test
+	void givenCollapsedOrTextValues_whenWriteMethodInput_writesStrings() throws Exception {
+		final Map<String, Object> inputParameters = new LinkedHashMap<>();
+		inputParameters.put("list", List.of(1, 2));
+		inputParameters.put("object", new TestObject("test", 1.5));
+
+		final JsonNode collapsedMessage = objectMapper.readTree(StructuredMessageWriter.writeMethodInput(
+			"TestClass.method", inputParameters, PrettyDataFormat.JSON, false, 2.0));
+		assertThat(collapsedMessage.at("/inputParameters/list").asText(), is("2 item(s)"));
+		assertThat(collapsedMessage.at("/inputParameters/object/fieldStr").asText(), is("test"));
+		assertThat(collapsedMessage.at("/samplingWeight").asDouble(), is(2.0));
+
+		final JsonNode textMessage = objectMapper.readTree(StructuredMessageWriter.writeMethodInput(
+			"TestClass.method", inputParameters, null, true, null));
+		assertThat(textMessage.at("/inputParameters/list").asText(), is("2 item(s): [1, 2]"));
+	}
+
+	/**
+	 * Verifies that the structured message of the method output remains valid JSON when the output value is
+	 * truncated.
+	 *
+	 * @throws Exception in case of test failure.
+	 */
+	@Test
+	void givenTruncatedOutputValue_whenWriteMethodOutput_writesValidJson() throws Exception {
+		DataRenderer.getInstance().setLimits(RenderingLimits.builder().maxCharacters(10).build());
+
+		final String message = StructuredMessageWriter.writeMethodOutput("TestClass.method",
+			List.of(StringUtils.repeat('a', 20)), PrettyDataFormat.JSON, true, null);
+
+		final JsonNode outputValue = objectMapper.readTree(message).get("outputValue");
+		assertThat(outputValue.isTextual(), is(true));
+		assertThat(outputValue.asText(), endsWith(DataRenderer.TRUNCATION_MARKER));
+	}
+}
@@ -0,0 +1,153 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the class {@link ThrowableMessageMasker}.
+ */
+class ThrowableMessageMaskerTest {
+
+	private final ThrowableMessageMasker sut = ThrowableMessageMasker.getInstance();
+
+	/**
+	 * Removes the registered patterns after each test case.
+	 */
+	@AfterEach
+	void removePatterns() {
+		sut.removeAllPatterns();
+	}
+
+	/**
+	 * Verifies that the matches of the registered patterns (or their first capturing group) are masked in the
+	 * messages, and that the messages are returned as is when nothing matches.
+	 */
+	@Test
+	void givenPatterns_whenMaskMessage_masksMatches() {
+		final String message = "Invalid token=abc123 for user john";
+		assertThat(sut.mask(message), sameInstance(message));
+
+		sut.addPattern("token=(\\w+)");
+		sut.addPattern("john");
+		assertThat(sut.mask(message), is("Invalid token=****** for user ****"));
+		assertThat(sut.mask("Nothing sensitive"), is("Nothing sensitive"));
+		assertThat(sut.mask((String) null), nullValue());
+	}
+
+	/**
+	 * Verifies that setting the patterns replaces the registered ones, and that the registered patterns are left
+	 * unchanged when one of the new patterns is invalid.
+	 */
+	@Test
+	void givenRegisteredPatterns_whenSetPatterns_replacesRegisteredPatterns() {
+		final String message = "Invalid token=abc123 for user john";
+		sut.addPattern("token=(\\w+)");
+
+		sut.setPatterns(Collections.singletonList("john"));
+		assertThat(sut.mask(message), is("Invalid token=abc123 for user ****"));
+
+		assertThrows(PatternSyntaxException.class, () -> sut.setPatterns(Arrays.asList("token=(\\w+)", "(")));
+		assertThat(sut.mask(message), is("Invalid token=abc123 for user ****"));
+
+		sut.setPatterns(Collections.emptyList());
+		assertThat(sut.mask(message), sameInstance(message));
+	}
+
+	/**
+	 * Verifies that a throwable whose message or the message of its cause is masked is replaced by a surrogate
+	 * having the masked messages and the original stack traces, and that the other throwables are returned as is.
+	 */
+	@Test
+	void givenPatterns_whenMaskThrowable_replacesThrowableBySurrogate() {
+		sut.addPattern("password=(\\S+)");
+		final IllegalStateException cause = new IllegalStateException("Login failed with password=secret");
+		final RuntimeException throwable = new RuntimeException("Authentication error", cause);
+
+		final Throwable masked = sut.mask(throwable);
+		assertThat(masked.getMessage(), is("java.lang.RuntimeException: Authentication error"));
+		assertThat(masked.getStackTrace(), arrayContaining(throwable.getStackTrace()));
+		assertThat(masked.getCause().toString(), is("java.lang.IllegalStateException: Login failed with "
+			+ "password=******"));
+		assertThat(masked.getCause().getStackTrace(), arrayContaining(cause.getStackTrace()));
+
+		final Throwable notMasked = new RuntimeException("Authentication error");
+		assertThat(sut.mask(notMasked), sameInstance(notMasked));
+	}
+
+	/**
+	 * Verifies that the suppressed throwables of a masked throwable are kept in the surrogate, masked if required,
+	 * and that a throwable is masked when only one of its suppressed throwables has a message to mask.
+	 */
+	@Test
+	void givenSuppressedThrowables_whenMaskThrowable_keepsMaskedSuppressedThrowables() {
+		sut.addPattern("password=(\\S+)");
+		final IllegalStateException suppressed = new IllegalStateException("Rollback failed");
+		final RuntimeException throwable = new RuntimeException("Login failed with password=secret");
+		throwable.addSuppressed(suppressed);
+
+		final Throwable masked = sut.mask(throwable);
+		assertThat(masked.getSuppressed(), arrayContaining(sameInstance(suppressed)));
+
+		final RuntimeException throwableWithSensitiveSuppressed = new RuntimeException("Authentication error");
+		throwableWithSensitiveSuppressed.addSuppressed(new IllegalStateException("Retry with password=secret"));
+		final Throwable maskedWithSuppressed = sut.mask(throwableWithSensitiveSuppressed);
+		assertThat(maskedWithSuppressed.getSuppressed()[0].toString(),
+			is("java.lang.IllegalStateException: Retry with password=******"));
+	}
+
+	/**
+	 * Verifies that the stack trace of a masked throwable, as printed by {@link Throwable#printStackTrace()}, starts
+	 * with the class name of the original throwable followed by the masked message, and includes the suppressed
+	 * throwables.
+	 */
+	@Test
+	void givenMaskedThrowable_whenPrintStackTrace_rendersOriginalClassName() {
+		sut.addPattern("password=(\\S+)");
+		final RuntimeException throwable = new IllegalStateException("Login failed with password=secret");
+		throwable.addSuppressed(new IllegalArgumentException("Rollback failed"));
+
+		final StringWriter stackTrace = new StringWriter();
+		sut.mask(throwable).printStackTrace(new PrintWriter(stackTrace));
+		final String[] lines = stackTrace.toString().split(System.lineSeparator());
+
+		assertThat(lines[0], is("java.lang.IllegalStateException: Login failed with password=******"));
+		assertThat(stackTrace.toString(),
+			containsString("Suppressed: java.lang.IllegalArgumentException: Rollback failed"));
+		assertThat(stackTrace.toString(), not(containsString("secret")));
+	}
+}
@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the class {@link TokenBucket}.
+ */
+class TokenBucketTest {
+
+	private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+	/**
+	 * Verifies that the number of events defined as burst is accepted at once, the following ones being suppressed and
+	 * counted.
+	 */
+	@Test
+	void givenEmptyBucket_whenTryAcquire_acceptsBurstOnly() {
+		final TokenBucket sut = new TokenBucket(10, 3, clock::get);
+
+		assertTrue(sut.tryAcquire());
+		assertTrue(sut.tryAcquire());
+		assertTrue(sut.tryAcquire());
+		assertFalse(sut.tryAcquire());
+		assertFalse(sut.tryAcquire());
+		assertThat(sut.getSuppressedEvents(), is(2L));
+	}
+
+	/**
+	 * Verifies that the burst is equal to the number of events per second when it is not specified.
+	 */
+	@Test
+	void givenNoBurst_whenCreateBucket_usesEventsPerSecondAsBurst() {
+		final TokenBucket sut = new TokenBucket(5, 0, clock::get);
+
+		assertThat(sut.getBurst(), is(5));
+		for (int i = 0; i < 5; i++) {
+			assertTrue(sut.tryAcquire());
+		}
+		assertFalse(sut.tryAcquire());
+	}
+
+	/**
+	 * Verifies that the tokens are refilled at the configured rate.
+	 */
+	@Test
+	void givenFullBucket_whenTimeElapses_acceptsNewEventsAtConfiguredRate() {
+		final TokenBucket sut = new TokenBucket(10, 1, clock::get);
+
+		assertTrue(sut.tryAcquire());
+		assertFalse(sut.tryAcquire());
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+		assertFalse(sut.tryAcquire());
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+		assertTrue(sut.tryAcquire());
+		assertFalse(sut.tryAcquire());
+	}
+
+	/**
+	 * Verifies that a released token can be acquired again.
+	 */
+	@Test
+	void givenReleasedToken_whenTryAcquire_acceptsEvent() {
+		final TokenBucket sut = new TokenBucket(10, 2, clock::get);
+
+		assertTrue(sut.tryAcquire());
+		assertTrue(sut.tryAcquire());
+		sut.release();
+		assertTrue(sut.tryAcquire());
+		assertFalse(sut.tryAcquire());
+		assertThat(sut.getSuppressedEvents(), is(1L));
+	}
+
+	/**
+	 * Verifies that the suppressed events are only reported once the summary interval has elapsed, and that the
+	 * counter is reset when reported.
+	 */
+	@Test
+	void givenSuppressedEvents_whenPollSuppressedEvents_reportsThemOncePerInterval() {
+		final long summaryInterval = TimeUnit.SECONDS.toNanos(10);
+		final TokenBucket sut = new TokenBucket(1, 1, clock::get);
+		sut.tryAcquire();
+		sut.tryAcquire();
+		sut.tryAcquire();
+
+		assertThat(sut.pollSuppressedEvents(summaryInterval), is(0L));
+
+		clock.addAndGet(summaryInterval);
+		assertThat(sut.pollSuppressedEvents(summaryInterval), is(2L));
+		assertThat(sut.getSuppressedEvents(), is(0L));
+		assertThat(sut.pollSuppressedEvents(summaryInterval), is(0L));
+	}
+}
@@ -0,0 +1,226 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the class {@link AsyncLogDispatcher}.
+ */
+class AsyncLogDispatcherTest {
+
+	private static final String TOPIC = "Test";
+
+	private final List<String> dispatchedMessages = new CopyOnWriteArrayList<>();
+	private final CountDownLatch sinkEntered = new CountDownLatch(1);
+	private final CountDownLatch sinkReleased = new CountDownLatch(1);
+
+	private AsyncLogDispatcher sut;
+
+	/**
+	 * Stops the dispatcher after each test case.
+	 */
+	@AfterEach
+	void tearDown() {
+		sinkReleased.countDown();
+		if (sut != null) {
+			sut.stop();
+		}
+	}
+
+	/**
+	 * Verifies that the published events are dropped when the ring buffer is full and the overflow policy is
+	 * {@link OverflowPolicy#DROP_NEWEST}.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenDropNewestPolicy_whenBufferFull_dropsPublishedEvents() throws InterruptedException {
+		startSaturatedDispatcher(OverflowPolicy.DROP_NEWEST, 0L);
+		assertTrue(publish(LogLevel.INFO, "3"));
+		assertTrue(publish(LogLevel.ERROR, "4"));
+
+		sinkReleased.countDown();
+		sut.stop();
+		assertThat(dispatchedMessages, contains("0", "1", "2"));
+		final AsyncDispatchStatistics statistics = sut.getStatistics();
+		assertThat(statistics.getDroppedEvents(), is(2L));
+		assertThat(statistics.getDroppedEventsByTopic(),
+			hasEntry(is(TOPIC), is(Map.of(LogLevel.INFO, 1L, LogLevel.ERROR, 1L))));
+	}
+
+	/**
+	 * Verifies that the oldest pending events are dropped when the ring buffer is full and the overflow policy is
+	 * {@link OverflowPolicy#DROP_OLDEST}.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenDropOldestPolicy_whenBufferFull_dropsOldestPendingEvents() throws InterruptedException {
+		startSaturatedDispatcher(OverflowPolicy.DROP_OLDEST, 0L);
+		assertTrue(publish(LogLevel.INFO, "3"));
+		assertTrue(publish(LogLevel.INFO, "4"));
+
+		sinkReleased.countDown();
+		sut.stop();
+		assertThat(dispatchedMessages, contains("0", "3", "4"));
+		assertThat(sut.getStatistics().getDroppedEvents(), is(2L));
+		assertThat(sut.getStatistics().getDroppedEventsByTopic(), hasEntry(is(TOPIC), is(Map.of(LogLevel.DEBUG, 2L))));
+	}
+
+	/**
+	 * Verifies that only the events having a droppable level are dropped when the ring buffer is full and the
+	 * overflow policy is {@link OverflowPolicy#DROP_BY_LEVEL}, and the other ones wait for a free slot.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenDropByLevelPolicy_whenBufferFull_dropsOnlyLowLevelEvents() throws InterruptedException {
+		startSaturatedDispatcher(OverflowPolicy.DROP_BY_LEVEL, 0L);
+		assertTrue(publish(LogLevel.TRACE, "3"));
+		assertTrue(publish(LogLevel.DEBUG, "4"));
+
+		final Thread publisher = new Thread(() -> publish(LogLevel.WARN, "5"));
+		publisher.start();
+		publisher.join(100);
+		assertTrue(publisher.isAlive());
+
+		sinkReleased.countDown();
+		publisher.join();
+		sut.stop();
+		assertThat(dispatchedMessages, contains("0", "1", "2", "5"));
+		assertThat(sut.getStatistics().getDroppedEventsByTopic(),
+			hasEntry(is(TOPIC), is(Map.of(LogLevel.TRACE, 1L, LogLevel.DEBUG, 1L))));
+	}
+
+	/**
+	 * Verifies that the published events are dropped once the maximal blocking time is elapsed when the ring buffer
+	 * is full and the overflow policy is {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenBlockPolicyWithMaxBlockingTime_whenBufferFull_dropsEventsAfterTimeout() throws InterruptedException {
+		startSaturatedDispatcher(OverflowPolicy.BLOCK, 50L);
+		final long start = System.nanoTime();
+		assertTrue(publish(LogLevel.ERROR, "3"));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+		sinkReleased.countDown();
+		sut.stop();
+		assertThat(dispatchedMessages, contains("0", "1", "2"));
+		assertThat(sut.getStatistics().getDroppedEvents(), is(1L));
+	}
+
+	/**
+	 * Verifies that all the events dispatched concurrently with the stop of the dispatcher are delivered to the sink,
+	 * either by the consumer threads, the final drain of the stop or the publishing threads themselves.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenConcurrentPublishers_whenStop_deliversAllEvents() throws InterruptedException {
+		final int publishersCount = 4;
+		final int eventsByPublisher = 2_000;
+		for (int round = 0; round < 20; round++) {
+			final AtomicInteger deliveredEvents = new AtomicInteger();
+			sut = new AsyncLogDispatcher("test-dispatcher", AsyncLoggingConfiguration.builder()
+				.bufferSize(64)
+				.build(),
+				(logLevel, topic, message, contextualData, arguments) -> deliveredEvents.incrementAndGet()).start();
+			final CountDownLatch publishersStarted = new CountDownLatch(publishersCount);
+			final List<Thread> publishers = new ArrayList<>();
+			for (int i = 0; i < publishersCount; i++) {
+				final Thread publisher = new Thread(() -> {
+					publishersStarted.countDown();
+					for (int j = 0; j < eventsByPublisher; j++) {
+						sut.dispatch(LogLevel.INFO, TOPIC, "Event", null, new Object[0]);
+					}
+				});
+				publishers.add(publisher);
+				publisher.start();
+			}
+			assertTrue(publishersStarted.await(5, TimeUnit.SECONDS));
+			sut.stop();
+			for (final Thread publisher : publishers) {
+				publisher.join();
+			}
+			assertThat(deliveredEvents.get(), is(publishersCount * eventsByPublisher));
+		}
+	}
+
+	/**
+	 * Starts a dispatcher with a ring buffer of two slots, whose single consumer thread is blocked while dispatching
+	 * a first event, then fills the ring buffer.
+	 * <p>
+	 *     The events published for this purpose are {@code "0"} (blocked in the sink) and {@code "1"} and {@code "2"}
+	 *     (pending in the ring buffer), at level {@code DEBUG}.
+	 * </p>
+	 *
+	 * @param overflowPolicy		The overflow policy to use.
+	 * @param maxBlockingTimeInMs	The maximal blocking time to use.
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	private void startSaturatedDispatcher(final OverflowPolicy overflowPolicy, final long maxBlockingTimeInMs)
+		throws InterruptedException {
+		sut = new AsyncLogDispatcher("test-dispatcher", AsyncLoggingConfiguration.builder()
+			.bufferSize(2)
+			.overflowPolicy(overflowPolicy)
+			.maxBlockingTimeInMs(maxBlockingTimeInMs)
+			// The first event is blocked in the sink on purpose: do not flag the dispatcher as degraded meanwhile.
+			.dispatchTimeoutInMs(0L)
+			.build(),
+			(logLevel, topic, message, contextualData, arguments) -> {
+				sinkEntered.countDown();
+				try {
+					sinkReleased.await();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				dispatchedMessages.add(message);
+			}).start();
+		assertTrue(publish(LogLevel.DEBUG, "0"));
+		assertTrue(sinkEntered.await(5, TimeUnit.SECONDS));
+		assertTrue(publish(LogLevel.DEBUG, "1"));
+		assertTrue(publish(LogLevel.DEBUG, "2"));
+	}
+
+	private boolean publish(final LogLevel logLevel, final String message) {
+		return sut.publish(logLevel, TOPIC, message, null, new Object[0]);
+	}
+}
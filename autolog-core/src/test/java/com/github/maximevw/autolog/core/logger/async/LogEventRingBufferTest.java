@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.async;
+
+import com.github.maximevw.autolog.core.logger.LogLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the class {@link LogEventRingBuffer}.
+ */
+class LogEventRingBufferTest {
+
+	/**
+	 * Verifies that the capacity of the ring buffer is rounded up to the next power of two.
+	 */
+	@Test
+	void givenCapacity_whenCreateRingBuffer_roundsUpToPowerOfTwo() {
+		assertThat(new LogEventRingBuffer(1).getCapacity(), is(1));
+		assertThat(new LogEventRingBuffer(8).getCapacity(), is(8));
+		assertThat(new LogEventRingBuffer(1000).getCapacity(), is(1024));
+	}
+
+	/**
+	 * Verifies that creating a ring buffer with an invalid capacity throws an {@link IllegalArgumentException}.
+	 */
+	@Test
+	void givenInvalidCapacity_whenCreateRingBuffer_throwsException() {
+		assertThrows(IllegalArgumentException.class, () -> new LogEventRingBuffer(0));
+		assertThrows(IllegalArgumentException.class, () -> new LogEventRingBuffer(LogEventRingBuffer.MAX_CAPACITY + 1));
+	}
+
+	/**
+	 * Verifies that publishing an event into a full ring buffer fails.
+	 */
+	@Test
+	void givenFullRingBuffer_whenTryPublish_returnsFalse() {
+		final LogEventRingBuffer sut = new LogEventRingBuffer(2);
+		assertTrue(publish(sut, "1"));
+		assertTrue(publish(sut, "2"));
+		assertFalse(publish(sut, "3"));
+		assertThat(sut.size(), is(2));
+	}
+
+	/**
+	 * Verifies that the events are drained in their publication order, by batches of the given maximal size, and the
+	 * slots are reused once drained.
+	 */
+	@Test
+	void givenPublishedEvents_whenDrain_consumesEventsInOrder() {
+		final LogEventRingBuffer sut = new LogEventRingBuffer(4);
+		final List<String> messages = new ArrayList<>();
+		for (int lap = 0; lap < 3; lap++) {
+			messages.clear();
+			publish(sut, "A");
+			publish(sut, "B");
+			publish(sut, "C");
+			assertThat(sut.drain(event -> messages.add(event.getMessage()), 2, new LogEvent()), is(2));
+			assertThat(sut.drain(event -> messages.add(event.getMessage()), 2, new LogEvent()), is(1));
+			assertThat(sut.drain(event -> messages.add(event.getMessage()), 2, new LogEvent()), is(0));
+			assertThat(messages, contains("A", "B", "C"));
+		}
+		final LogEvent holder = new LogEvent();
+		publish(sut, "D");
+		sut.drain(event -> assertThat(event.getMessage(), is("D")), 1, holder);
+		assertNull(holder.getMessage());
+	}
+
+	/**
+	 * Verifies that the events published concurrently by several producers are all consumed exactly once by several
+	 * consumers.
+	 *
+	 * @throws InterruptedException if the test is interrupted.
+	 */
+	@Test
+	void givenConcurrentProducersAndConsumers_whenPublishAndDrain_consumesEachEventOnce()
+		throws InterruptedException {
+		final int producers = 4;
+		final int eventsPerProducer = 10_000;
+		final LogEventRingBuffer sut = new LogEventRingBuffer(64);
+		final Set<String> consumedMessages = ConcurrentHashMap.newKeySet();
+		final CountDownLatch producersDone = new CountDownLatch(producers);
+		final ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+
+		for (int p = 0; p < producers; p++) {
+			final int producerId = p;
+			executor.execute(() -> {
+				for (int i = 0; i < eventsPerProducer; i++) {
+					final String message = producerId + "-" + i;
+					while (!publish(sut, message)) {
+						Thread.onSpinWait();
+					}
+				}
+				producersDone.countDown();
+			});
+		}
+		for (int c = 0; c < 2; c++) {
+			executor.execute(() -> {
+				final LogEvent holder = new LogEvent();
+				while (producersDone.getCount() > 0 || sut.size() > 0) {
+					sut.drain(event -> consumedMessages.add(event.getMessage()), 16, holder);
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		assertThat(consumedMessages.size(), is(producers * eventsPerProducer));
+	}
+
+	private static boolean publish(final LogEventRingBuffer ringBuffer, final String message) {
+		return ringBuffer.tryPublish(LogLevel.INFO, "Test", message, null, new Object[0], System.nanoTime());
+	}
+}
@@ -20,13 +20,15 @@
 
 package com.github.maximevw.autolog.core.logger.performance;
 
-import org.apache.commons.lang3.time.StopWatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -55,10 +57,9 @@ class PerformanceTimerTest {
 	 */
 	private static PerformanceTimer initPerformanceTimerForTesting(final boolean running) {
 		final PerformanceTimer timer = new PerformanceTimer();
-		timer.setTimer(new StopWatch());
 		timer.setRunning(running);
 		if (running) {
-			timer.getTimer().start();
+			timer.setStartNanoTime(System.nanoTime());
 		}
 		return timer;
 	}
@@ -85,6 +86,20 @@ class PerformanceTimerTest {
 		assertNull(PerformanceTimerContext.current());
 	}
 
+	/**
+	 * Verifies that stopping a timer freezes its elapsed time.
+	 */
+	@Test
+	void givenRunningTimer_whenStop_freezesElapsedTime() {
+		final PerformanceTimer sut = PerformanceTimerContext.current();
+		sut.setStartNanoTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+		sut.stop();
+
+		final long elapsedTimeInNs = sut.getElapsedTimeInNs();
+		assertThat(elapsedTimeInNs, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5)));
+		assertThat(sut.getElapsedTimeInNs(), is(elapsedTimeInNs));
+	}
+
 	/**
 	 * Verifies that stopping a timer with a running parent updates the current context with the parent timer.
 	 */
@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * Autolog core module
+ * %%
+ * Copyright (C) 2019 Maxime WIEWIORA
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package com.github.maximevw.autolog.core.logger.sampling;
+
+import com.github.maximevw.autolog.core.configuration.SamplingConfiguration;
+import com.github.maximevw.autolog.core.configuration.SamplingMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the class {@link InvocationSampler}.
+ */
+class InvocationSamplerTest {
+
+	private static final int INVOCATIONS = 10_000;
+
+	/**
+	 * Provides the sampling configurations for which all the invocations are logged.
+	 *
+	 * @return The sampling configurations.
+	 */
+	private static Stream<Arguments> provideNotSamplingConfigurations() {
+		return Stream.of(
+			Arguments.of((SamplingConfiguration) null),
+			Arguments.of(SamplingConfiguration.builder().build()),
+			Arguments.of(SamplingConfiguration.builder().mode(SamplingMode.FIXED_RATE).oneIn(1).build()),
+			Arguments.of(SamplingConfiguration.builder().mode(SamplingMode.FIXED_RATE).oneIn(0).build()),
+			Arguments.of(SamplingConfiguration.builder().mode(SamplingMode.PROBABILISTIC).probability(0).build()),
+			Arguments.of(SamplingConfiguration.builder().mode(SamplingMode.PROBABILISTIC).probability(1.5).build()),
+			Arguments.of(SamplingConfiguration.builder().mode(SamplingMode.ADAPTIVE).maxEventsPerSecond(0).build())
+		);
+	}
+
+	/**
+	 * Verifies that no sampling is applied when the sampling is disabled or the configuration is invalid.
+	 *
+	 * @param configuration The sampling configuration.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideNotSamplingConfigurations")
+	void givenNoOrInvalidSampling_whenBuildSampler_returnsSamplerLoggingAllInvocations(
+		final SamplingConfiguration configuration) {
+		final InvocationSampler sampler = InvocationSampler.of(configuration);
+		assertThat(sampler, is(sameInstance(InvocationSampler.ALWAYS)));
+		assertEquals(1, sampler.sample());
+	}
+
+	/**
+	 * Verifies that the fixed rate sampler logs exactly one invocation out of N with a weight of N.
+	 */
+	@Test
+	void givenFixedRateSampling_whenSample_logsOneInvocationOutOfN() {
+		final InvocationSampler sampler = InvocationSampler.of(
+			SamplingConfiguration.builder().mode(SamplingMode.FIXED_RATE).oneIn(4).build());
+		assertThat(sampler, is(instanceOf(InvocationSampler.FixedRateSampler.class)));
+
+		final double[] weights = IntStream.range(0, 8).mapToDouble(i -> sampler.sample()).toArray();
+		assertEquals(4, weights[0]);
+		assertEquals(InvocationSampler.NOT_SAMPLED, weights[1]);
+		assertEquals(InvocationSampler.NOT_SAMPLED, weights[2]);
+		assertEquals(InvocationSampler.NOT_SAMPLED, weights[3]);
+		assertEquals(4, weights[4]);
+		assertEquals(2, IntStream.range(0, 8).filter(i -> weights[i] != InvocationSampler.NOT_SAMPLED).count());
+	}
+
+	/**
+	 * Verifies that the probabilistic sampler logs approximately the expected proportion of invocations with a weight
+	 * of 1/p.
+	 */
+	@Test
+	void givenProbabilisticSampling_whenSample_logsExpectedProportionOfInvocations() {
+		final InvocationSampler sampler = InvocationSampler.of(
+			SamplingConfiguration.builder().mode(SamplingMode.PROBABILISTIC).probability(0.25).build());
+		assertThat(sampler, is(instanceOf(InvocationSampler.ProbabilisticSampler.class)));
+
+		long sampled = 0;
+		for (int i = 0; i < INVOCATIONS; i++) {
+			final double weight = sampler.sample();
+			if (weight != InvocationSampler.NOT_SAMPLED) {
+				assertEquals(4, weight);
+				sampled++;
+			}
+		}
+		// The expected number of logged invocations is 2500 (with a standard deviation around 43).
+		assertThat(sampled, is(allOf(greaterThan(2000L), lessThan(3000L))));
+	}
+
+	/**
+	 * Verifies that the adaptive sampler logs all the invocations during the first window, then adjusts the probability
+	 * to the rate observed during the previous window without exceeding the maximal number of events per second.
+	 */
+	@Test
+	void givenAdaptiveSampling_whenSample_limitsLoggedInvocationsPerSecond() {
+		final AtomicLong clock = new AtomicLong();
+		final InvocationSampler sampler = new InvocationSampler.AdaptiveSampler(100, clock::get);
+
+		// First window: all the invocations are logged up to the maximal number of events.
+		long sampled = IntStream.range(0, 1000).filter(i -> sampler.sample() != InvocationSampler.NOT_SAMPLED).count();
+		assertEquals(100, sampled);
+
+		// Second window: the probability is adjusted to 100 / 1000 and the weight of each logged invocation is 10,
+		// except the first one which also carries the weights of the 900 invocations dropped by the cap.
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		sampled = 0;
+		for (int i = 0; i < 1000; i++) {
+			final double weight = sampler.sample();
+			if (weight != InvocationSampler.NOT_SAMPLED) {
+				if (sampled == 0) {
+					assertEquals(910, weight, 1e-9);
+				} else {
+					assertEquals(10, weight, 1e-9);
+				}
+				sampled++;
+			}
+		}
+		assertThat(sampled, is(allOf(greaterThan(50L), lessThanOrEqualTo(100L))));
+
+		// Third window: the load decreased, so all the invocations are logged again.
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		sampler.sample();
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(sampler.sample(), greaterThanOrEqualTo(1d));
+		assertEquals(1, sampler.sample());
+	}
+
+	/**
+	 * Verifies that the sum of the weights of the invocations logged by the adaptive sampler matches the number of
+	 * invocations under a burst, the weights of the invocations dropped by the cap being carried over to the next
+	 * logged invocation.
+	 */
+	@Test
+	void givenBurst_whenAdaptiveSample_sumOfWeightsMatchesInvocations() {
+		final AtomicLong clock = new AtomicLong();
+		final InvocationSampler sampler = new InvocationSampler.AdaptiveSampler(100, clock::get);
+
+		// Burst of 10000 invocations during the first window: only 100 invocations are logged.
+		double sumOfWeights = 0;
+		for (int i = 0; i < 10_000; i++) {
+			sumOfWeights += sampler.sample();
+		}
+		assertEquals(100, sumOfWeights, 1e-9);
+
+		// Second window: the probability is adjusted to 100 / 10000, so the single invocation of this window is
+		// logged with a weight of 100 (plus the carried weights) or not logged at all.
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		double expectedSumOfWeights = 10_000;
+		final double secondWindowWeight = sampler.sample();
+		if (secondWindowWeight != InvocationSampler.NOT_SAMPLED) {
+			expectedSumOfWeights += 100;
+		}
+		sumOfWeights += secondWindowWeight;
+
+		// Third window: the load decreased, so all the invocations are logged again. The weights of the 9900
+		// invocations dropped during the burst have been reported with the first invocation logged after the burst.
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		sumOfWeights += sampler.sample();
+		expectedSumOfWeights += 1;
+		assertEquals(expectedSumOfWeights, sumOfWeights, 1e-6);
+	}
+}
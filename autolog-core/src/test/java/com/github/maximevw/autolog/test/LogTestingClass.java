@@ -142,6 +142,17 @@ public class LogTestingClass {
 		return "test";
 	}
 
+	/**
+	 * Test method without input arguments and returning a masked value.
+	 *
+	 * @return A string value.
+	 */
+	@Mask(preservedCharacters = ":4")
+	public String methodMaskedOutputData() {
+		// Method for testing purpose only.
+		return "secret-token-1234";
+	}
+
 	/**
 	 * Test method without input arguments and throwing a {@link Throwable}.
 	 *
@@ -0,0 +1,27 @@
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
+
+import java.util.List;
+
+@AutoLogPerformance
+public class DescriptorAnnotatedTestClass {
+
+	@AutoLogMethodInOut
+	public String annotatedMethod(final String firstArg, final int[] secondArg, final List<String> thirdArg) {
+		// Method for testing purpose only.
+		return firstArg;
+	}
+
+	public void methodWithoutParameter() {
+		// Method for testing purpose only.
+	}
+
+	public static class NestedClass {
+
+		@AutoLogMethodInOut
+		public void nestedMethod(final NestedClass nestedArg) {
+			// Method for testing purpose only.
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.util.List;
+
+public class DescriptorTypeUseAnnotatedTestClass {
+
+	@Target(ElementType.TYPE_USE)
+	public @interface NotNull {
+	}
+
+	@AutoLogMethodInOut
+	public void typeUseAnnotatedMethod(final @NotNull String firstArg, final List<@NotNull String> secondArg,
+									   final int @NotNull [] thirdArg, final @NotNull String... otherArgs) {
+		// Method for testing purpose only.
+	}
+
+}
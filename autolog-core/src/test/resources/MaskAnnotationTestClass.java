@@ -2,6 +2,22 @@ import com.github.maximevw.autolog.core.annotations.Mask;
 
 public class MaskAnnotationTestClass {
 
+	@Mask
+	private String maskedField;
+
+	@Mask
+	private Object maskedFieldWithInvalidType;
+
+	@Mask
+	public String maskedOutput() {
+		return null;
+	}
+
+	@Mask
+	public Object maskedOutputWithInvalidType() {
+		return null;
+	}
+
 	public void maskOnInvalidType(@Mask final Object argObj, @Mask final String argStr, @Mask final int argInt,
 								  final boolean argBool) {
 		// Method for testing purpose only.
@@ -20,8 +20,12 @@
 
 package com.github.maximevw.autolog.spring.configuration;
 
+import com.github.maximevw.autolog.core.logger.DataRenderer;
+import com.github.maximevw.autolog.core.logger.LogRateLimiter;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
+import com.github.maximevw.autolog.core.logger.ThrowableMessageMasker;
 import com.github.maximevw.autolog.core.logger.adapters.SystemOutAdapter;
 import com.github.maximevw.autolog.spring.configuration.converters.LoggerInterfaceConverter;
 import org.apiguardian.api.API;
@@ -32,6 +36,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,10 +59,14 @@ public class AutologAutoConfiguration {
 	 *     By default, if the provided properties don't contain any specific or valid loggers the default logger
 	 *     interface used by Autolog will be {@link SystemOutAdapter}.
 	 * </p>
+	 * <p>
+	 *     If configured, the garbage-free mode or the lazy rendering of the logged data is enabled and the asynchronous
+	 *     dispatch of the log events is started, and stopped when the bean is destroyed.
+	 * </p>
 	 *
 	 * @return An instance of {@link LoggerManager} based on the Spring application properties.
 	 */
-	@Bean
+	@Bean(destroyMethod = "stopAsyncDispatch")
 	public LoggerManager loggerManager() {
 		final LoggerManager loggerManager = new LoggerManager();
 		final List<LoggerInterface> loggersToRegister = autologProperties.getLoggers();
@@ -75,6 +84,88 @@ public class AutologAutoConfiguration {
 			loggerManager.register(SystemOutAdapter.getInstance());
 		}
 
+		loggerManager.setGarbageFree(autologProperties.isGarbageFree());
+		loggerManager.setLazyRendering(autologProperties.isLazyRendering());
+		if (autologProperties.getAsync() != null) {
+			loggerManager.startAsyncDispatch(autologProperties.getAsync());
+		}
+
 		return loggerManager;
 	}
+
+	/**
+	 * The {@link LoggingKillSwitch} bean, allowing to disable and re-enable at runtime the automatic logging of
+	 * methods, classes, topics or types of Autolog annotations.
+	 *
+	 * @return The singleton instance of {@link LoggingKillSwitch}.
+	 */
+	@Bean
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public LoggingKillSwitch loggingKillSwitch() {
+		return LoggingKillSwitch.getInstance();
+	}
+
+	/**
+	 * The {@link LogRateLimiter} bean, limiting the rate of the log events generated by Autolog.
+	 * <p>
+	 *     The rate limits per topic defined in the property {@code autolog.rate-limits} are applied when the bean is
+	 *     created.
+	 * </p>
+	 *
+	 * @return The singleton instance of {@link LogRateLimiter}.
+	 */
+	@Bean
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public LogRateLimiter logRateLimiter() {
+		final LogRateLimiter logRateLimiter = LogRateLimiter.getInstance();
+		if (autologProperties.getRateLimits() != null) {
+			autologProperties.getRateLimits().forEach(logRateLimiter::limitTopic);
+		}
+		return logRateLimiter;
+	}
+
+	/**
+	 * The {@link DataRenderer} bean, rendering the logged data within the configured limits.
+	 * <p>
+	 *     The limits defined in the property {@code autolog.rendering-limits} and the scanning of the rendered data
+	 *     defined in the property {@code autolog.pii-scanning} are applied when the bean is created.
+	 * </p>
+	 *
+	 * @return The singleton instance of {@link DataRenderer}.
+	 */
+	@Bean
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public DataRenderer dataRenderer() {
+		final DataRenderer dataRenderer = DataRenderer.getInstance();
+		if (autologProperties.getRenderingLimits() != null) {
+			dataRenderer.setLimits(autologProperties.getRenderingLimits());
+		}
+		if (autologProperties.getPiiScanning() != null) {
+			dataRenderer.setPiiScanning(autologProperties.getPiiScanning());
+		}
+		return dataRenderer;
+	}
+
+	/**
+	 * The {@link ThrowableMessageMasker} bean, masking the sensitive parts of the messages of the logged exceptions and
+	 * errors.
+	 * <p>
+	 *     The patterns defined in the property {@code autolog.masked-throwable-patterns} replace the registered ones
+	 *     when the bean is created, so the patterns of an application context do not leak to the other contexts
+	 *     sharing the singleton instance.
+	 * </p>
+	 *
+	 * @return The singleton instance of {@link ThrowableMessageMasker}.
+	 */
+	@Bean
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	public ThrowableMessageMasker throwableMessageMasker() {
+		final ThrowableMessageMasker throwableMessageMasker = ThrowableMessageMasker.getInstance();
+		if (autologProperties.getMaskedThrowablePatterns() != null) {
+			throwableMessageMasker.setPatterns(autologProperties.getMaskedThrowablePatterns());
+		} else {
+			throwableMessageMasker.setPatterns(Collections.emptyList());
+		}
+		return throwableMessageMasker;
+	}
 }
@@ -20,15 +20,23 @@
 
 package com.github.maximevw.autolog.spring.configuration;
 
+import com.github.maximevw.autolog.core.configuration.AsyncLoggingConfiguration;
+import com.github.maximevw.autolog.core.configuration.PiiScanningConfiguration;
+import com.github.maximevw.autolog.core.configuration.RateLimitConfiguration;
+import com.github.maximevw.autolog.core.configuration.RenderingLimits;
 import com.github.maximevw.autolog.core.logger.ConfigurableLoggerInterface;
+import com.github.maximevw.autolog.core.logger.DataRenderer;
+import com.github.maximevw.autolog.core.logger.LogRateLimiter;
 import com.github.maximevw.autolog.core.logger.LoggerInterface;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.ThrowableMessageMasker;
 import lombok.Getter;
 import lombok.Setter;
 import org.apiguardian.api.API;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring configuration properties used to configure Autolog.
@@ -61,4 +69,78 @@ public class AutologProperties {
 	 */
 	private List<LoggerInterface> loggers;
 
+	/**
+	 * The configuration of the asynchronous dispatch of the log events by the {@link LoggerManager} bean.
+	 * <p>
+	 *     If not defined, the log events are dispatched synchronously. Otherwise, the properties
+	 *     {@code autolog.async.*} are mapped to {@link AsyncLoggingConfiguration}, for example:
+	 *     <code>autolog.async.buffer-size=16384</code>.
+	 * </p>
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private AsyncLoggingConfiguration async;
+
+	/**
+	 * Whether the garbage-free mode of the {@link LoggerManager} bean is enabled (ignored if the asynchronous dispatch
+	 * is configured). By default: {@code false}.
+	 *
+	 * @see LoggerManager#setGarbageFree(boolean)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private boolean garbageFree;
+
+	/**
+	 * Whether the lazy rendering of the logged data by the {@link LoggerManager} bean is enabled (ignored if the
+	 * asynchronous dispatch is configured or the garbage-free mode is enabled). By default: {@code false}.
+	 *
+	 * @see LoggerManager#setLazyRendering(boolean)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private boolean lazyRendering;
+
+	/**
+	 * The maximal rates of the log events per topic (i.e. logger name), applied by the {@link LogRateLimiter} bean.
+	 * <p>
+	 *     The properties {@code autolog.rate-limits.<topic>.*} are mapped to {@link RateLimitConfiguration}, for
+	 *     example: <code>autolog.rate-limits.Autolog.events-per-second=100</code>.
+	 * </p>
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private Map<String, RateLimitConfiguration> rateLimits;
+
+	/**
+	 * The limits applied by the {@link DataRenderer} bean when rendering the logged data.
+	 * <p>
+	 *     The properties {@code autolog.rendering-limits.*} are mapped to {@link RenderingLimits}, for example:
+	 *     <code>autolog.rendering-limits.max-characters=5000</code>. If not set, the rendered data are not limited.
+	 * </p>
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private RenderingLimits renderingLimits;
+
+	/**
+	 * The configuration of the scanning of the rendered data by the {@link DataRenderer} bean, redacting the personal
+	 * and sensitive data not explicitly masked.
+	 * <p>
+	 *     If not set, the rendered data are not scanned. Otherwise, the properties {@code autolog.pii-scanning.*} are
+	 *     mapped to {@link PiiScanningConfiguration}, for example:
+	 *     <code>autolog.pii-scanning.ibans-redacted=false</code>.
+	 * </p>
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private PiiScanningConfiguration piiScanning;
+
+	/**
+	 * The regular expressions identifying the sensitive parts to mask in the messages of the logged exceptions and
+	 * errors, registered in the {@link ThrowableMessageMasker} bean.
+	 * <p>
+	 *     Example of value for the property {@code autolog.masked-throwable-patterns}:
+	 *     <code>token=(\S+),password=(\S+)</code>
+	 * </p>
+	 *
+	 * @see ThrowableMessageMasker#addPattern(String)
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.3.0")
+	private List<String> maskedThrowablePatterns;
+
 }
@@ -25,6 +25,7 @@ import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
 import com.github.maximevw.autolog.core.configuration.MethodOutputLoggingConfiguration;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
 import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
 import com.github.maximevw.autolog.test.MethodInOutAnnotatedTestClass;
 import com.github.maximevw.autolog.test.MethodInOutNotAnnotatedTestClass;
@@ -51,8 +52,11 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.IsIterableContaining.hasItem;
@@ -657,4 +661,110 @@ class AutoLogMethodInOutSpringAspectTest {
 			hasProperty("level", is(Level.INFO))
 		)));
 	}
+
+	/**
+	 * Verifies that nothing is logged by aspect for a method disabled in {@link LoggingKillSwitch} and that the logging
+	 * is resumed once the method is re-enabled.
+	 *
+	 * @throws NoSuchMethodException if the tested method does not exist.
+	 * @see MethodInOutAnnotatedTestClass#testMethodReturningString(String, int)
+	 */
+	@Test
+	void givenDisabledMethod_whenLogDataInOutByAspect_generateNoLog() throws NoSuchMethodException {
+		final LoggingKillSwitch killSwitch = LoggingKillSwitch.getInstance();
+		killSwitch.disableMethod(
+			MethodInOutAnnotatedTestClass.class.getMethod("testMethodReturningString", String.class, int.class));
+		try {
+			assertEquals("abc123", proxyAnnotatedTestClass.testMethodReturningString("abc", 123));
+			assertThat(logger.getLoggingEvents(), is(empty()));
+
+			proxyAnnotatedTestClass.testMethodReturningVoid("abc", 123);
+			assertThat(logger.getLoggingEvents(), is(not(empty())));
+		} finally {
+			killSwitch.enableAll();
+		}
+
+		TestLoggerFactory.clear();
+		proxyAnnotatedTestClass.testMethodReturningString("abc", 123);
+		assertThat(logger.getLoggingEvents(), hasItem(
+			hasProperty("message", is(AutoLogMethodInOut.OUTPUT_DEFAULT_MESSAGE_TEMPLATE))
+		));
+	}
+
+	/**
+	 * Verifies that nothing is logged by aspect for the methods logged because of a type of annotation disabled in
+	 * {@link LoggingKillSwitch}, while the other types of annotation are still handled.
+	 *
+	 * @see MethodInputAnnotatedTestClass#testNotAnnotatedMethodReturningVoid(String, int)
+	 * @see MethodOutputAnnotatedTestClass#testNotAnnotatedMethodReturningString(String, int)
+	 */
+	@Test
+	void givenDisabledAnnotationType_whenLogDataInOutByAspect_generateNoLogForThisType() {
+		final LoggingKillSwitch killSwitch = LoggingKillSwitch.getInstance();
+		killSwitch.disableAnnotationType(AutoLogMethodInput.class);
+		try {
+			proxyInputAnnotatedTestClass.testNotAnnotatedMethodReturningVoid("abc", 123);
+			assertThat(logger.getLoggingEvents(), is(empty()));
+
+			proxyOutputAnnotatedTestClass.testNotAnnotatedMethodReturningString("abc", 123);
+			assertThat(logger.getLoggingEvents(), hasItem(
+				hasProperty("message", is(AutoLogMethodInOut.OUTPUT_DEFAULT_MESSAGE_TEMPLATE))
+			));
+		} finally {
+			killSwitch.enableAll();
+		}
+	}
+
+	/**
+	 * Verifies that nothing is logged by aspect for a method using a topic disabled in {@link LoggingKillSwitch}.
+	 *
+	 * @see MethodInOutNotAnnotatedTestClass#testMethodWithCustomLogger()
+	 */
+	@Test
+	void givenDisabledTopic_whenLogDataInOutByAspect_generateNoLog() {
+		final LoggingKillSwitch killSwitch = LoggingKillSwitch.getInstance();
+		final TestLogger targetLogger = TestLoggerFactory.getTestLogger("custom-logger");
+		killSwitch.disableTopic("custom-logger");
+		try {
+			proxyNotAnnotatedTestClass.testMethodWithCustomLogger();
+			assertThat(targetLogger.getLoggingEvents(), is(empty()));
+		} finally {
+			killSwitch.enableAll();
+		}
+	}
+
+	/**
+	 * Verifies that only the sampled invocations of a method are logged by aspect, both input and output data being
+	 * logged with the sampling weight of the invocation.
+	 *
+	 * @see MethodInOutNotAnnotatedTestClass#testSampledMethodReturningString(String)
+	 */
+	@Test
+	void givenSampledMethod_whenLogDataInOutByAspect_generateLogsForSampledInvocationsOnly() {
+		for (int i = 0; i < 4; i++) {
+			assertEquals("abc", proxyNotAnnotatedTestClass.testSampledMethodReturningString("abc"));
+		}
+		// Two invocations out of four are logged, each one generating an input and an output log entry.
+		assertThat(logger.getLoggingEvents(), hasSize(4));
+		assertThat(logger.getLoggingEvents(), everyItem(
+			hasProperty("message", containsString("\"samplingWeight\":2.0"))
+		));
+	}
+
+	/**
+	 * Verifies that the input and output log events generated by aspect for a method annotated with
+	 * {@link AutoLogMethodInOut} share the same rate limit.
+	 *
+	 * @see MethodInOutNotAnnotatedTestClass#testRateLimitedMethodReturningString(String)
+	 */
+	@Test
+	void givenRateLimitedMethod_whenLogDataInOutByAspect_inputAndOutputShareTheLimit() {
+		for (int i = 0; i < 5; i++) {
+			assertEquals("abc", proxyNotAnnotatedTestClass.testRateLimitedMethodReturningString("abc"));
+		}
+		// The burst of 2 events is shared by the input and output log entries of the first invocation.
+		assertEquals(2, logger.getLoggingEvents().stream()
+			.filter(event -> event.getMessage().startsWith("Entering") || event.getMessage().startsWith("Exiting"))
+			.count());
+	}
 }
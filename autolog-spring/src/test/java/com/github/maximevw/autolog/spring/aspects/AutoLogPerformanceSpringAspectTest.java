@@ -22,6 +22,7 @@ package com.github.maximevw.autolog.spring.aspects;
 
 import com.github.maximevw.autolog.core.annotations.AutoLogPerformance;
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.LoggingKillSwitch;
 import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
 import com.github.maximevw.autolog.core.logger.performance.AdditionalDataProvider;
 import com.github.maximevw.autolog.core.logger.performance.PerformanceTimerContext;
@@ -71,8 +72,8 @@ class AutoLogPerformanceSpringAspectTest {
 	private static TestLogger logger;
 	private static ByteArrayOutputStream stdOut = new ByteArrayOutputStream();
 
-	private static final String TIMESTAMP_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{0,6}";
-	private static final String DURATION_REGEX = "(\\d+ s )?\\d+ ms";
+	private static final String TIMESTAMP_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d{1,6})?";
+	private static final String DURATION_REGEX = "(\\d+ s )?\\d+ (ms|\u00b5s|ns)";
 
 	// Proxies on which the test are run.
 	private static MethodPerformanceAnnotatedTestClass proxyAnnotatedTestClass;
@@ -525,4 +526,21 @@ class AutoLogPerformanceSpringAspectTest {
 			hasProperty("level", is(Level.DEBUG))
 		)));
 	}
+
+	/**
+	 * Verifies that nothing is logged by aspect for the methods of a class disabled in {@link LoggingKillSwitch}.
+	 *
+	 * @see MethodPerformanceAnnotatedTestClass#testMethodToMonitor()
+	 */
+	@Test
+	void givenDisabledClass_whenLogPerformanceByAspect_generateNoLog() {
+		final LoggingKillSwitch killSwitch = LoggingKillSwitch.getInstance();
+		killSwitch.disableClass(MethodPerformanceAnnotatedTestClass.class);
+		try {
+			proxyAnnotatedTestClass.testMethodToMonitor();
+			assertThat(logger.getLoggingEvents(), is(empty()));
+		} finally {
+			killSwitch.enableAll();
+		}
+	}
 }
@@ -21,6 +21,8 @@
 package com.github.maximevw.autolog.spring.configuration;
 
 import com.github.maximevw.autolog.core.logger.LoggerManager;
+import com.github.maximevw.autolog.core.logger.MethodCallLogger;
+import com.github.maximevw.autolog.core.logger.async.WaitStrategy;
 import com.github.maximevw.autolog.core.logger.adapters.JdbcAdapter;
 import com.github.maximevw.autolog.core.logger.adapters.Log4j2Adapter;
 import com.github.maximevw.autolog.core.logger.adapters.Slf4jAdapter;
@@ -33,6 +35,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import uk.org.lidalia.slf4jtest.TestLogger;
+import uk.org.lidalia.slf4jtest.TestLoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -42,7 +46,9 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for the Spring auto-configuration class {@link AutologAutoConfiguration}.
@@ -86,6 +92,68 @@ class AutologAutoConfigurationTest {
 		});
 	}
 
+	/**
+	 * Verifies that the asynchronous dispatch of the log events is not started by default when the Autolog
+	 * auto-configuration is performed.
+	 */
+	@Test
+	public void givenNoAsyncConfiguration_whenAutoconfigureLoggerManager_dispatchesSynchronously() {
+		this.contextRunner.run(context -> {
+			final LoggerManager loggerManager = context.getBean(LoggerManager.class);
+			assertFalse(loggerManager.getAsyncDispatchStatistics().isPresent());
+		});
+	}
+
+	/**
+	 * Verifies that the asynchronous dispatch of the log events is started with the configured properties when the
+	 * Autolog auto-configuration is performed.
+	 */
+	@Test
+	public void givenAsyncConfiguration_whenAutoconfigureLoggerManager_startsAsyncDispatch() {
+		this.contextRunner
+			.withPropertyValues("autolog.async.buffer-size:1000", "autolog.async.wait-strategy:YIELD")
+			.run(context -> {
+				final LoggerManager loggerManager = context.getBean(LoggerManager.class);
+				assertTrue(loggerManager.getAsyncDispatchStatistics().isPresent());
+				assertThat(loggerManager.getAsyncDispatchStatistics().get().getBufferCapacity(), is(1024));
+				assertThat(context.getBean(AutologProperties.class).getAsync().getWaitStrategy(),
+					is(WaitStrategy.YIELD));
+			});
+	}
+
+	/**
+	 * Verifies that the patterns masking the messages of the logged throwables are replaced by the ones configured
+	 * in each application context, so they do not leak from a context to another one.
+	 */
+	@Test
+	public void givenMaskedThrowablePatterns_whenAutoconfigureThrowableMessageMasker_replacesRegisteredPatterns() {
+		final String message = "Invalid token=abc123 with password=secret";
+		this.contextRunner
+			.withPropertyValues("autolog.masked-throwable-patterns:token=(\\w+)")
+			.run(context -> assertThat(logThrowableAndGetLoggedMessage(message),
+				is("Invalid token=****** with password=secret")));
+		this.contextRunner
+			.withPropertyValues("autolog.masked-throwable-patterns:password=(\\w+)")
+			.run(context -> assertThat(logThrowableAndGetLoggedMessage(message),
+				is("Invalid token=abc123 with password=******")));
+		this.contextRunner
+			.run(context -> assertThat(logThrowableAndGetLoggedMessage(message), is(message)));
+	}
+
+	/**
+	 * Logs an exception with the given message and gets the message effectively logged.
+	 *
+	 * @param message The message of the exception.
+	 * @return The logged message of the exception.
+	 */
+	private static Object logThrowableAndGetLoggedMessage(final String message) {
+		final TestLogger logger = TestLoggerFactory.getTestLogger("Autolog");
+		logger.clear();
+		new MethodCallLogger(new LoggerManager().register(Slf4jAdapter.getInstance()))
+			.logThrowable(new IllegalStateException(message));
+		return logger.getLoggingEvents().get(0).getArguments().get(1);
+	}
+
 	/**
 	 * Verifies that the valid configured loggers are registered in the {@link LoggerManager} and the invalid ones are
 	 * ignored when the Autolog auto-configuration is performed.
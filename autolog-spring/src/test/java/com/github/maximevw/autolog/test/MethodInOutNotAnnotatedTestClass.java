@@ -23,7 +23,10 @@ package com.github.maximevw.autolog.test;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodInOut;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodInput;
 import com.github.maximevw.autolog.core.annotations.AutoLogMethodOutput;
+import com.github.maximevw.autolog.core.annotations.RateLimit;
+import com.github.maximevw.autolog.core.annotations.Sampling;
 import com.github.maximevw.autolog.core.configuration.PrettyDataFormat;
+import com.github.maximevw.autolog.core.configuration.SamplingMode;
 import com.github.maximevw.autolog.core.logger.LogLevel;
 import com.github.maximevw.autolog.spring.aspects.AutoLogMethodInOutSpringAspect;
 
@@ -297,4 +300,46 @@ public class MethodInOutNotAnnotatedTestClass {
 	public void testTwiceAnnotatedMethodWithCallerClassLogger() {
 		// Do nothing: for test purpose only.
 	}
+
+	/**
+	 * Test annotated method in a non-annotated class with sampled invocations.
+	 * <ul>
+	 *     <li>Input: String</li>
+	 *     <li>Output: String</li>
+	 *     <li>@AutoLogMethodInOut at method level with specific parameters:
+	 *         <ul>
+	 *             <li>Structured messages.</li>
+	 *             <li>Logging of one invocation out of two.</li>
+	 *         </ul>
+	 *     </li>
+	 * </ul>
+	 *
+	 * @param strArg String argument.
+	 * @return The value of the argument.
+	 */
+	@AutoLogMethodInOut(structuredMessage = true,
+		sampling = @Sampling(mode = SamplingMode.FIXED_RATE, oneIn = 2))
+	public String testSampledMethodReturningString(final String strArg) {
+		return strArg;
+	}
+
+	/**
+	 * Test annotated method in a non-annotated class with rate-limited log events.
+	 * <ul>
+	 *     <li>Input: String</li>
+	 *     <li>Output: String</li>
+	 *     <li>@AutoLogMethodInOut at method level with specific parameters:
+	 *         <ul>
+	 *             <li>Logging of at most 2 events at once, then 1 event per second.</li>
+	 *         </ul>
+	 *     </li>
+	 * </ul>
+	 *
+	 * @param strArg String argument.
+	 * @return The value of the argument.
+	 */
+	@AutoLogMethodInOut(rateLimit = @RateLimit(eventsPerSecond = 1, burst = 2))
+	public String testRateLimitedMethodReturningString(final String strArg) {
+		return strArg;
+	}
 }